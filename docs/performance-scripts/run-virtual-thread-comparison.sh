@@ -0,0 +1,162 @@
+#!/bin/bash
+
+# ============================================
+# 플랫폼 스레드 vs 가상 스레드 주문 API 비교 (order-basic-test.js)
+# ============================================
+#
+# 같은 부하(order-basic-test.js)를 두 실행 모드에 각각 걸고 결과를 비교합니다.
+# 모드 전환은 애플리케이션 재시작이 필요하므로 모드별로 한 번씩 실행합니다.
+#
+# 사용법:
+#   1) 플랫폼 스레드 모드로 애플리케이션 실행 후
+#      ./run-virtual-thread-comparison.sh platform
+#   2) 가상 스레드 모드로 재시작 후 (--spring.threads.virtual.enabled=true, 데이터는 init.sql로 다시 초기화)
+#      ./run-virtual-thread-comparison.sh virtual
+#   3) 두 결과 비교
+#      ./run-virtual-thread-comparison.sh compare results/k6-vt-platform-{ts}.json results/k6-vt-virtual-{ts}.json
+#
+# 필요 환경변수 (선택):
+#   BASE_URL=http://localhost:8080
+#
+# 출력 파일:
+#   - k6-vt-{모드}-{타임스탬프}.json: K6 요약 (처리량, 응답 시간, 에러율)
+#   - metrics-vt-{모드}-{타임스탬프}.txt: 테스트 종료 시점 스레드/가상 스레드 고정/커넥션 풀 메트릭
+#
+# 측정 현황:
+#   아직 실행하지 않았습니다. (Java 21 전환/가상 스레드 모드 추가 시점에 부하 테스트 환경이 없었음)
+#   가상 스레드 모드의 처리량/지연 개선 여부는 측정 전이므로 기본값은 플랫폼 스레드(false)로 유지합니다.
+#   측정 후 compare 출력을 docs/order-performance-test-report.md에 추가합니다.
+# ============================================
+
+set -e
+
+MODE=${1:-}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+RESULTS_DIR="$SCRIPT_DIR/results"
+TIMESTAMP=$(date +%Y%m%d_%H%M%S)
+
+mkdir -p "$RESULTS_DIR"
+
+# ============================================
+# 결과 비교
+# ============================================
+
+# K6 요약 JSON에서 지표 추출 (소수점 둘째 자리, 없으면 -)
+metric() {
+  local file=$1
+  local query=$2
+  jq -r "($query) as \$v | if (\$v | type) == \"number\" then (\$v * 100 | round / 100) else \"-\" end" "$file"
+}
+
+compare() {
+  local platform_file=$1
+  local virtual_file=$2
+
+  if [ ! -f "$platform_file" ] || [ ! -f "$virtual_file" ]; then
+    echo "❌ 비교할 결과 파일을 찾을 수 없습니다."
+    echo "사용법: $0 compare <platform 결과.json> <virtual 결과.json>"
+    exit 1
+  fi
+
+  if ! command -v jq &> /dev/null; then
+    echo "❌ jq가 설치되어 있지 않습니다!"
+    exit 1
+  fi
+
+  local labels=("처리량 (req/s)" "평균 응답 (ms)" "P95 응답 (ms)" "P99 응답 (ms)" "최대 응답 (ms)" "에러율" "주문 성공률")
+  local queries=(
+    '.metrics.http_reqs.rate'
+    '.metrics.http_req_duration.avg'
+    '.metrics.http_req_duration["p(95)"]'
+    '.metrics.http_req_duration["p(99)"]'
+    '.metrics.http_req_duration.max'
+    '.metrics.http_req_failed.value'
+    '.metrics.order_creation_success.value'
+  )
+
+  echo "=========================================="
+  echo "📊 플랫폼 스레드 vs 가상 스레드 (order-basic-test.js)"
+  echo "=========================================="
+  printf "%-18s %15s %15s\n" "지표" "platform" "virtual"
+  echo "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"
+  for i in "${!labels[@]}"; do
+    printf "%-18s %15s %15s\n" "${labels[$i]}" \
+      "$(metric "$platform_file" "${queries[$i]}")" \
+      "$(metric "$virtual_file" "${queries[$i]}")"
+  done
+  echo ""
+  echo "📁 메트릭 스냅샷 (가상 스레드 고정, 스레드 수, 커넥션 풀 대기)은 metrics-vt-*.txt를 비교하세요."
+}
+
+# 테스트 종료 시점 메트릭 스냅샷
+snapshot_metrics() {
+  local output=$1
+
+  curl -s "$BASE_URL/actuator/prometheus" | \
+    grep -E "^(virtual_thread_pinned|jvm_threads_live|jvm_threads_peak|jvm_threads_states|hikaricp_connections_pending|hikaricp_connections_acquire|executor_|payment_gateway)" \
+    > "$output" || true
+}
+
+if [ "$MODE" = "compare" ]; then
+  compare "$2" "$3"
+  exit 0
+fi
+
+if [ "$MODE" != "platform" ] && [ "$MODE" != "virtual" ]; then
+  echo "사용법: $0 <platform|virtual>"
+  echo "       $0 compare <platform 결과.json> <virtual 결과.json>"
+  exit 1
+fi
+
+# ============================================
+# 부하 테스트 실행
+# ============================================
+
+K6_RESULT_FILE="$RESULTS_DIR/k6-vt-${MODE}-${TIMESTAMP}.json"
+METRICS_FILE="$RESULTS_DIR/metrics-vt-${MODE}-${TIMESTAMP}.txt"
+
+if ! command -v k6 &> /dev/null; then
+  echo "❌ K6가 설치되어 있지 않습니다!"
+  echo "설치 방법: https://k6.io/docs/getting-started/installation/"
+  exit 1
+fi
+
+if ! curl -sf "$BASE_URL/actuator/health" > /dev/null; then
+  echo "❌ 애플리케이션에 연결할 수 없습니다: $BASE_URL"
+  exit 1
+fi
+
+echo "=========================================="
+echo "🚀 order-basic-test.js 실행 (모드: $MODE)"
+echo "=========================================="
+echo "⚠️  애플리케이션이 spring.threads.virtual.enabled=$([ "$MODE" = "virtual" ] && echo true || echo false)로 실행 중인지 확인하세요."
+echo "결과 저장 위치: $K6_RESULT_FILE"
+echo ""
+
+cd "$SCRIPT_DIR"
+if k6 run order-basic-test.js \
+    --summary-trend-stats "avg,min,med,max,p(90),p(95),p(99)" \
+    --summary-export "$K6_RESULT_FILE"; then
+  echo ""
+  echo "✅ K6 부하 테스트 완료"
+else
+  echo ""
+  echo "⚠️  K6 부하 테스트가 threshold 실패 또는 오류로 종료되었습니다."
+fi
+
+# handleSummary가 만든 HTML 리포트를 모드별 이름으로 보관
+if [ -f order-basic-test-summary.html ]; then
+  mv order-basic-test-summary.html "$RESULTS_DIR/order-basic-test-summary-vt-${MODE}-${TIMESTAMP}.html"
+fi
+
+snapshot_metrics "$METRICS_FILE"
+
+echo ""
+echo "📁 결과 파일:"
+echo "  - K6 요약: $K6_RESULT_FILE"
+echo "  - 메트릭 스냅샷: $METRICS_FILE"
+echo ""
+echo "📋 다음 단계:"
+echo "  $0 compare <platform 결과.json> <virtual 결과.json>"
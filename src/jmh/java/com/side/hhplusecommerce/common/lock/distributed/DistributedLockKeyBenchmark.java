@@ -0,0 +1,112 @@
+package com.side.hhplusecommerce.common.lock.distributed;
+
+import com.side.hhplusecommerce.common.lock.LockKeyResolver;
+import com.side.hhplusecommerce.common.lock.LockKeyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistributedLockAspect 락 키 생성 비용 벤치마크 (락 획득/해제 제외, 호출당 오버헤드만 측정)
+ *
+ * - legacy*: 기존 방식 (매 호출 getBean + SpEL 파싱 + StandardEvaluationContext 생성)
+ * - cached*: 메서드별 메타데이터 재사용 (단순 파라미터 키는 SpEL 없이 추출, 그 외는 컴파일된 SpEL)
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=DistributedLockKeyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistributedLockKeyBenchmark {
+
+    private static final String RESOLVER_BEAN_NAME = "itemStockLockKeyResolver";
+    private static final String[] SIMPLE_PARAMETER_NAMES = {"itemId", "quantity"};
+    private static final String[] REQUEST_PARAMETER_NAMES = {"request"};
+
+    private final Object[] simpleArgs = {42L, 1};
+    private final Object[] requestArgs = {new PointRequest(42L, 1000)};
+
+    private GenericApplicationContext applicationContext;
+    private ExpressionParser parser;
+    private DistributedLockMetadata simpleKeyMetadata;
+    private DistributedLockMetadata nestedKeyMetadata;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean(RESOLVER_BEAN_NAME, LockKeyResolver.class,
+                () -> LockKeyType.ITEM_STOCK::getPrefix);
+        applicationContext.refresh();
+        parser = new SpelExpressionParser();
+
+        String keyPrefix = applicationContext.getBean(RESOLVER_BEAN_NAME, LockKeyResolver.class).getKeyPrefix();
+        simpleKeyMetadata = DistributedLockMetadata.of(keyPrefix, "#itemId", SIMPLE_PARAMETER_NAMES);
+        nestedKeyMetadata = DistributedLockMetadata.of(keyPrefix, "#request.userId", REQUEST_PARAMETER_NAMES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public String legacySimpleKey() {
+        return legacyLockKey("#itemId", SIMPLE_PARAMETER_NAMES, simpleArgs);
+    }
+
+    @Benchmark
+    public String cachedSimpleKey() {
+        return simpleKeyMetadata.resolveLockKey(simpleArgs);
+    }
+
+    @Benchmark
+    public String legacyNestedKey() {
+        return legacyLockKey("#request.userId", REQUEST_PARAMETER_NAMES, requestArgs);
+    }
+
+    @Benchmark
+    public String cachedNestedKey() {
+        return nestedKeyMetadata.resolveLockKey(requestArgs);
+    }
+
+    private String legacyLockKey(String expression, String[] parameterNames, Object[] args) {
+        LockKeyResolver keyResolver = applicationContext.getBean(RESOLVER_BEAN_NAME, LockKeyResolver.class);
+
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        Object value = parser.parseExpression(expression).getValue(context);
+
+        return keyResolver.getKeyPrefix() + ":" + value;
+    }
+
+    public static class PointRequest {
+        private final Long userId;
+        private final int amount;
+
+        public PointRequest(Long userId, int amount) {
+            this.userId = userId;
+            this.amount = amount;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+    }
+}
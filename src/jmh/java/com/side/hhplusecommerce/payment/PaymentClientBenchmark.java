@@ -0,0 +1,87 @@
+package com.side.hhplusecommerce.payment;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 응답 지연에 따른 결제 처리량 벤치마크 (LatencyStubPaymentClient)
+ * 결제 컨슈머 poll 한 번(max-poll-records: 50)에 해당하는 결제 요청을 처리하는 시간을 측정합니다.
+ *
+ * - blockingBatch: 컨슈머 스레드에서 pay를 순서대로 호출 (PG 지연 × 건수만큼 컨슈머 점유)
+ * - asyncBatch: payAsync로 bulkhead 스레드(또는 가상 스레드)에 분산한 뒤 한 번에 대기
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=PaymentClientBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class PaymentClientBenchmark {
+
+    private static final int POLL_SIZE = 50;
+
+    @Param({"20", "100"})
+    private long latencyMillis;
+
+    @Param({"8", "32"})
+    private int bulkheadThreads;
+
+    // true면 bulkheadThreads 대신 호출마다 가상 스레드 생성
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private PaymentBulkhead paymentBulkhead;
+    private LatencyStubPaymentClient paymentClient;
+
+    @Setup
+    public void setUp() {
+        paymentBulkhead = new PaymentBulkhead(bulkheadThreads, 1000, 10_000L, 50, 50, 10_000L, 5, virtualThreads,
+                new CustomMetrics(new SimpleMeterRegistry()));
+        paymentClient = new LatencyStubPaymentClient(latencyMillis, 0L, 0.0, paymentBulkhead);
+    }
+
+    @TearDown
+    public void tearDown() {
+        paymentBulkhead.shutdown();
+    }
+
+    @Benchmark
+    public int blockingBatch() {
+        int paid = 0;
+        for (long orderId = 1; orderId <= POLL_SIZE; orderId++) {
+            if (paymentClient.pay(orderId, orderId, 1000).isSuccess()) {
+                paid++;
+            }
+        }
+        return paid;
+    }
+
+    @Benchmark
+    public int asyncBatch() {
+        List<CompletableFuture<PaymentResult>> futures = new ArrayList<>(POLL_SIZE);
+        for (long orderId = 1; orderId <= POLL_SIZE; orderId++) {
+            futures.add(paymentClient.payAsync(orderId, orderId, 1000));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        return (int) futures.stream().filter(future -> future.join().isSuccess()).count();
+    }
+}
@@ -1,5 +1,6 @@
 package com.side.hhplusecommerce.cart.controller.dto;
 
+import com.side.hhplusecommerce.cart.dto.CartLineSnapshot;
 import com.side.hhplusecommerce.item.domain.Item;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -59,19 +60,22 @@ public class CartResponse {
     }
 
     public static CartResponse of(List<com.side.hhplusecommerce.cart.domain.CartItem> cartItems, Map<Long, Item> itemMap) {
-        List<CartItem> items = cartItems.stream()
-                .map(cartItem -> {
-                    Item item = itemMap.get(cartItem.getItemId());
-                    return new CartItem(
-                            cartItem.getCartItemId(),
-                            item.getItemId(),
-                            item.getName(),
-                            item.getPrice(),
-                            cartItem.getQuantity(),
-                            cartItem.calculateTotalPrice(item.getPrice()),
-                            item.getStock()
-                    );
-                })
+        return from(cartItems.stream()
+                .map(cartItem -> CartLineSnapshot.of(cartItem, itemMap.get(cartItem.getItemId())))
+                .toList());
+    }
+
+    public static CartResponse from(List<CartLineSnapshot> lines) {
+        List<CartItem> items = lines.stream()
+                .map(line -> new CartItem(
+                        line.cartItemId(),
+                        line.itemId(),
+                        line.itemName(),
+                        line.price(),
+                        line.quantity(),
+                        line.totalPrice(),
+                        line.stock()
+                ))
                 .toList();
 
         Integer totalItems = items.size();
@@ -0,0 +1,44 @@
+package com.side.hhplusecommerce.cart.dto;
+
+import com.side.hhplusecommerce.cart.domain.CartItem;
+import com.side.hhplusecommerce.item.domain.Item;
+import com.side.hhplusecommerce.item.dto.ItemDto;
+
+/**
+ * 장바구니 조회용 비정규화 항목 (장바구니 항목 + 상품 정보)
+ * 사용자별 장바구니 스냅샷(Redis Hash)의 값으로 저장됩니다.
+ */
+public record CartLineSnapshot(
+        Long cartItemId,
+        Long itemId,
+        String itemName,
+        Integer price,
+        Integer quantity,
+        Integer stock
+) {
+    public static CartLineSnapshot of(CartItem cartItem, Item item) {
+        return new CartLineSnapshot(
+                cartItem.getCartItemId(),
+                item.getItemId(),
+                item.getName(),
+                item.getPrice(),
+                cartItem.getQuantity(),
+                item.getStock()
+        );
+    }
+
+    public static CartLineSnapshot of(CartItem cartItem, ItemDto item) {
+        return new CartLineSnapshot(
+                cartItem.getCartItemId(),
+                item.getItemId(),
+                item.getName(),
+                item.getPrice(),
+                cartItem.getQuantity(),
+                item.getStock()
+        );
+    }
+
+    public int totalPrice() {
+        return price * quantity;
+    }
+}
@@ -0,0 +1,190 @@
+package com.side.hhplusecommerce.cart.infrastructure.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.side.hhplusecommerce.cart.dto.CartLineSnapshot;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 장바구니 스냅샷 (Redis Hash)
+ *
+ * Key: cart:snapshot:{userId}, Field: cartItemId, Value: CartLineSnapshot(JSON)
+ * - 장바구니 조회 시 HGETALL 1회로 응답 (스냅샷이 없으면 DB로 만든 뒤 저장)
+ * - 장바구니 추가/수량 수정 시 스냅샷이 있을 때만 해당 항목 갱신 (부분 스냅샷 방지)
+ * - 추가/수정/삭제마다 버전(cart:snapshot:version:{userId})을 올리고, DB로 만든 스냅샷은
+ *   DB 조회 전에 읽은 버전이 그대로일 때만 저장 (조회 중 변경된 장바구니가 오래된 스냅샷으로 남지 않도록)
+ * - 상품 재고/가격은 스냅샷 시점 값이므로 TTL로 주기적으로 다시 만듦
+ *
+ * 스냅샷 읽기/쓰기 실패는 조회 성능에만 영향을 주므로 예외를 던지지 않고 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartSnapshotStore {
+
+    public static final String KEY_PREFIX = "cart:snapshot:";
+    private static final String VERSION_KEY_PREFIX = KEY_PREFIX + "version:";
+
+    /**
+     * 버전을 읽지 못했을 때의 값 (어떤 버전과도 일치하지 않아 스냅샷을 저장하지 않음)
+     */
+    public static final long UNKNOWN_VERSION = -1L;
+
+    /**
+     * 버전이 그대로일 때만 스냅샷 전체 교체 (DEL → HSET → EXPIRE)
+     * KEYS[1]: 스냅샷 키, KEYS[2]: 버전 키
+     * ARGV[1]: TTL(초), ARGV[2]: DB 조회 전에 읽은 버전, ARGV[3..]: field, value 쌍
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 버전을 올리고, 스냅샷이 있을 때만 항목 갱신
+     * KEYS[1]: 스냅샷 키, KEYS[2]: 버전 키, ARGV[1]: field, ARGV[2]: value, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> PUT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    /**
+     * 스냅샷 삭제 + 버전 올리기
+     * KEYS[1]: 스냅샷 키, KEYS[2]: 버전 키, ARGV[1]: TTL(초)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cart.snapshot.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * 스냅샷 조회
+     *
+     * @return 장바구니 항목 목록 (cartItemId 순), 스냅샷이 없으면 empty
+     */
+    public Optional<List<CartLineSnapshot>> find(Long userId) {
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(userId));
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<CartLineSnapshot> lines = new ArrayList<>(entries.size());
+            for (Object value : entries.values()) {
+                lines.add(objectMapper.readValue(value.toString(), CartLineSnapshot.class));
+            }
+            lines.sort(Comparator.comparing(CartLineSnapshot::cartItemId));
+            return Optional.of(lines);
+        } catch (Exception e) {
+            log.warn("Failed to read cart snapshot: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷 버전 조회 (DB로 스냅샷을 만들기 전에 호출)
+     *
+     * @return 현재 버전, 읽지 못하면 UNKNOWN_VERSION
+     */
+    public long currentVersion(Long userId) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(versionKey(userId));
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to read cart snapshot version: userId={}", userId, e);
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    /**
+     * 스냅샷 전체 저장 (DB로 만든 장바구니)
+     * 그 사이 장바구니가 변경되어 버전이 달라졌으면 저장하지 않습니다. (다음 조회 시 DB로 다시 만듦)
+     *
+     * @param expectedVersion DB 조회 전에 읽은 버전 (currentVersion)
+     */
+    public void replace(Long userId, List<CartLineSnapshot> lines, long expectedVersion) {
+        if (lines.isEmpty() || expectedVersion == UNKNOWN_VERSION) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>(lines.size() * 2 + 2);
+            args.add(String.valueOf(ttlSeconds));
+            args.add(String.valueOf(expectedVersion));
+            for (CartLineSnapshot line : lines) {
+                args.add(line.cartItemId().toString());
+                args.add(objectMapper.writeValueAsString(line));
+            }
+            stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(key(userId), versionKey(userId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to write cart snapshot: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 장바구니 항목 추가/수정 반영 (스냅샷이 없으면 다음 조회 시 DB로 만듦)
+     */
+    public void putIfPresent(Long userId, CartLineSnapshot line) {
+        try {
+            stringRedisTemplate.execute(PUT_IF_PRESENT_SCRIPT, List.of(key(userId), versionKey(userId)),
+                    line.cartItemId().toString(), objectMapper.writeValueAsString(line), String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            // 갱신하지 못한 스냅샷이 남지 않도록 삭제 (다음 조회 시 DB로 다시 만듦)
+            log.warn("Failed to update cart snapshot: userId={}, cartItemId={}", userId, line.cartItemId(), e);
+            evict(userId);
+        }
+    }
+
+    /**
+     * 스냅샷 삭제 (장바구니 비우기 등)
+     * 버전도 올려 삭제 전에 DB를 읽은 조회가 스냅샷을 다시 저장하지 않도록 합니다.
+     */
+    public void evict(Long userId) {
+        try {
+            stringRedisTemplate.execute(EVICT_SCRIPT, List.of(key(userId), versionKey(userId)),
+                    String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to evict cart snapshot: userId={}", userId, e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+}
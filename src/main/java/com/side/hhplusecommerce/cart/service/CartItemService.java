@@ -1,7 +1,9 @@
 package com.side.hhplusecommerce.cart.service;
 
 import com.side.hhplusecommerce.cart.domain.CartItem;
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
 import com.side.hhplusecommerce.cart.repository.CartItemRepository;
+import com.side.hhplusecommerce.cart.repository.CartRepository;
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
 import com.side.hhplusecommerce.item.domain.Item;
@@ -10,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +25,8 @@ import java.util.stream.Collectors;
 public class CartItemService {
 
     private final CartItemRepository cartItemRepository;
+    private final CartRepository cartRepository;
+    private final CartSnapshotStore cartSnapshotStore;
 
     public Integer calculateTotalAmount(List<CartItem> cartItems, List<Item> items) {
         Map<Long, Item> itemMap = items.stream()
@@ -41,5 +47,24 @@ public class CartItemService {
     @Transactional
     public void deleteCartItemsAsync(Long cartId) {
         cartItemRepository.deleteByCartId(cartId);
+        cartRepository.findById(cartId)
+                .ifPresent(cart -> evictSnapshotAfterCommit(cart.getUserId()));
+    }
+
+    /**
+     * 삭제가 커밋된 뒤 스냅샷 삭제
+     * 커밋 전에 지우면 그 사이 조회가 삭제 전 항목으로 스냅샷을 다시 만들 수 있습니다.
+     */
+    private void evictSnapshotAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cartSnapshotStore.evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cartSnapshotStore.evict(userId);
+            }
+        });
     }
 }
@@ -7,6 +7,8 @@ import com.side.hhplusecommerce.item.domain.ItemValidator;
 import com.side.hhplusecommerce.cart.controller.dto.CartItemResponse;
 import com.side.hhplusecommerce.cart.domain.Cart;
 import com.side.hhplusecommerce.cart.domain.CartItem;
+import com.side.hhplusecommerce.cart.dto.CartLineSnapshot;
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
 import com.side.hhplusecommerce.cart.repository.CartItemRepository;
 import com.side.hhplusecommerce.cart.repository.CartRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ public class CartAddUseCase {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final ItemValidator itemValidator;
+    private final CartSnapshotStore cartSnapshotStore;
 
     public CartItemResponse add(Long userId, Long itemId, Integer quantity) {
         Item item = itemValidator.validateExistence(itemId);
@@ -33,6 +36,7 @@ public class CartAddUseCase {
 
         CartItem cartItem = CartItem.create(cart.getCartId(), itemId, quantity);
         CartItem savedCartItem = cartItemRepository.save(cartItem);
+        cartSnapshotStore.putIfPresent(userId, CartLineSnapshot.of(savedCartItem, item));
 
         return CartItemResponse.of(savedCartItem, item);
     }
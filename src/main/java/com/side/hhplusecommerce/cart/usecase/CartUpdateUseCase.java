@@ -7,6 +7,8 @@ import com.side.hhplusecommerce.item.domain.ItemValidator;
 import com.side.hhplusecommerce.cart.controller.dto.CartItemResponse;
 import com.side.hhplusecommerce.cart.domain.CartItem;
 import com.side.hhplusecommerce.cart.domain.CartItemValidator;
+import com.side.hhplusecommerce.cart.dto.CartLineSnapshot;
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
 import com.side.hhplusecommerce.cart.repository.CartItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ public class CartUpdateUseCase {
     private final CartItemRepository cartItemRepository;
     private final ItemValidator itemValidator;
     private final CartItemValidator cartItemValidator;
+    private final CartSnapshotStore cartSnapshotStore;
 
     public CartItemResponse update(Long cartItemId, Long userId, Integer quantity) {
         CartItem validCartItem = cartItemValidator.validateOwnership(userId, cartItemId);
@@ -29,6 +32,7 @@ public class CartUpdateUseCase {
 
         validCartItem.updateQuantity(quantity);
         CartItem updatedCartItem = cartItemRepository.save(validCartItem);
+        cartSnapshotStore.putIfPresent(userId, CartLineSnapshot.of(updatedCartItem, item));
 
         return CartItemResponse.of(updatedCartItem, item);
     }
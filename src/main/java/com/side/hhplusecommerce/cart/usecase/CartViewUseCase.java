@@ -1,13 +1,14 @@
 package com.side.hhplusecommerce.cart.usecase;
 
-import com.side.hhplusecommerce.item.domain.Item;
-import com.side.hhplusecommerce.item.repository.ItemRepository;
+import com.side.hhplusecommerce.cart.dto.CartLineSnapshot;
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
+import com.side.hhplusecommerce.item.domain.ItemValidator;
+import com.side.hhplusecommerce.item.dto.ItemDto;
 import com.side.hhplusecommerce.cart.controller.dto.CartResponse;
 import com.side.hhplusecommerce.cart.domain.Cart;
 import com.side.hhplusecommerce.cart.domain.CartItem;
 import com.side.hhplusecommerce.cart.repository.CartItemRepository;
 import com.side.hhplusecommerce.cart.repository.CartRepository;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,16 +16,25 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CartViewUseCase {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
-    private final ItemRepository itemRepository;
+    private final ItemValidator itemValidator;
+    private final CartSnapshotStore cartSnapshotStore;
 
     public CartResponse view(Long userId) {
+        // 스냅샷이 있으면 Redis 조회 1회로 응답
+        Optional<List<CartLineSnapshot>> snapshot = cartSnapshotStore.find(userId);
+        if (snapshot.isPresent()) {
+            return CartResponse.from(snapshot.get());
+        }
+        // DB 조회 전 버전 - 조회 중 장바구니가 변경되면 스냅샷을 저장하지 않음
+        long snapshotVersion = cartSnapshotStore.currentVersion(userId);
+
         Cart cart = cartRepository.findByUserId(userId)
                 .orElse(null);
 
@@ -48,12 +58,15 @@ public class CartViewUseCase {
                 .map(CartItem::getItemId)
                 .toList();
 
-        Map<Long, Item> itemMap = itemIds.stream()
-                .map(itemRepository::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toMap(Item::getItemId, item -> item));
+        // 상품 다건 조회 (상품 캐시 + IN 조회 1회)
+        Map<Long, ItemDto> itemMap = itemValidator.findAllByIds(itemIds);
+
+        List<CartLineSnapshot> lines = cartItems.stream()
+                .filter(cartItem -> itemMap.containsKey(cartItem.getItemId()))
+                .map(cartItem -> CartLineSnapshot.of(cartItem, itemMap.get(cartItem.getItemId())))
+                .toList();
+        cartSnapshotStore.replace(userId, lines, snapshotVersion);
 
-        return CartResponse.of(cartItems, itemMap);
+        return CartResponse.from(lines);
     }
 }
@@ -1,6 +1,7 @@
 package com.side.hhplusecommerce.cart.usecase;
 
-import com.side.hhplusecommerce.coupon.controller.dto.IssueCouponResponse;
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.controller.dto.CouponIssueStatusResponse;
 import com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueProducer;
 import com.side.hhplusecommerce.coupon.service.CouponService;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +13,10 @@ import org.springframework.stereotype.Service;
  * Kafka를 이용한 비동기 방식으로 쿠폰 발급을 처리합니다.
  *
  * 흐름:
- * 1. Producer에서 Kafka에 발급 요청 전송 (Redis Set 중복 검사, Redis INC 재고 필터링)
- * 2. 응답 즉시 반환 (발급 요청 접수됨)
- * 3. Consumer에서 비동기로 실제 발급 처리 (MySQL 저장 후 커밋)
+ * 1. Producer에서 Redis 예약 스크립트(중복 확인 + 재고 확인 + 예약)를 통과한 요청만 Kafka에 전송
+ * 2. 발급 요청 ID와 PENDING 상태를 즉시 반환 (발급 요청 접수됨)
+ * 3. Consumer에서 비동기로 실제 발급 처리 (MySQL 저장 후 커밋, 실패 시 Redis 예약 취소)
+ * 4. 사용자는 발급 요청 ID로 처리 결과(ISSUED / FAILED)를 조회하거나 대기(long-poll)
  */
 @Service
 @RequiredArgsConstructor
@@ -29,19 +31,18 @@ public class CouponIssueUseCase {
      *
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
-     * @return 발급 요청 접수 응답 (null - 비동기 처리)
+     * @return 발급 요청 접수 응답 (발급 요청 ID, PENDING)
      */
-    public IssueCouponResponse issue(Long couponId, Long userId) {
+    public CouponIssueStatusResponse issue(Long couponId, Long userId) {
         // 쿠폰 유효성 검증 및 남은 재고 조회
         Integer remainingQuantity = couponService.validateAndGetRemainingQuantity(couponId);
 
         // Kafka에 발급 요청 전송 (remainingQuantity 사용)
-        couponIssueProducer.enqueue(couponId, userId, remainingQuantity);
+        String requestId = couponIssueProducer.enqueue(couponId, userId, remainingQuantity);
 
-        log.info("쿠폰 발급 요청 접수: couponId={}, userId={}", couponId, userId);
+        log.info("쿠폰 발급 요청 접수: requestId={}, couponId={}, userId={}", requestId, couponId, userId);
 
-        // 비동기 처리이므로 null 반환
-        // 실제 발급은 Consumer에서 처리되며, 사용자는 발급된 쿠폰을 조회 API로 확인
-        return null;
+        // 실제 발급은 Consumer에서 처리되며, 사용자는 발급 요청 상태 조회 API로 결과를 확인
+        return new CouponIssueStatusResponse(requestId, couponId, userId, CouponIssueStatus.PENDING, null);
     }
 }
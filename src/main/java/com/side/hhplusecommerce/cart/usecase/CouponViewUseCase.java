@@ -2,6 +2,7 @@ package com.side.hhplusecommerce.cart.usecase;
 
 import com.side.hhplusecommerce.coupon.domain.Coupon;
 import com.side.hhplusecommerce.coupon.domain.UserCoupon;
+import com.side.hhplusecommerce.coupon.infrastructure.cache.CouponMetadataCache;
 import com.side.hhplusecommerce.coupon.repository.CouponRepository;
 import com.side.hhplusecommerce.coupon.repository.UserCouponRepository;
 import com.side.hhplusecommerce.coupon.controller.dto.UserCouponsResponse;
@@ -11,14 +12,13 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CouponViewUseCase {
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
+    private final CouponMetadataCache couponMetadataCache;
 
     public UserCouponsResponse viewUserCoupons(Long userId) {
         List<UserCoupon> userCoupons = userCouponRepository.findByUserId(userId);
@@ -31,11 +31,8 @@ public class CouponViewUseCase {
                 .map(UserCoupon::getCouponId)
                 .toList();
 
-        Map<Long, Coupon> couponMap = couponIds.stream()
-                .map(couponRepository::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toMap(Coupon::getCouponId, coupon -> coupon));
+        // 쿠폰 다건 조회 (로컬 캐시 → 캐시에 없는 쿠폰만 IN 조회 1회)
+        Map<Long, Coupon> couponMap = couponMetadataCache.getAll(couponIds, couponRepository::findAllById);
 
         return UserCouponsResponse.of(userCoupons, couponMap);
     }
@@ -2,16 +2,40 @@ package com.side.hhplusecommerce.common.config;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * @Async 실행기 설정
+ *
+ * - 기본: 플랫폼 스레드 풀 (100~500, 큐 초과 시 AbortPolicy로 거절)
+ * - spring.threads.virtual.enabled=true: 작업마다 가상 스레드 생성
+ *   스레드 수 대신 async.virtual.concurrency-limit으로 동시 실행 수를 제한합니다. (초과 시 대기)
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${async.virtual.concurrency-limit:2000}")
+    private int virtualConcurrencyLimit;
+
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskTerminationTimeout(60_000L);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(100);
         executor.setMaxPoolSize(500);
@@ -14,6 +14,8 @@ public enum ErrorCode {
     INSUFFICIENT_STOCK("ITEM_001", "재고가 부족합니다.", HttpStatus.CONFLICT),
     INVALID_STOCK_QUANTITY("ITEM_002", "차감할 수량은 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
     INVALID_SALES_QUANTITY("ITEM_003", "판매 수량은 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
+    ITEM_STOCK_LEDGER_NOT_INITIALIZED("ITEM_004", "재고 원장이 초기화되지 않았습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_PAGE_SIZE("ITEM_005", "조회할 상품 수는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST),
 
     // Order
     INVALID_ORDER_AMOUNT("ORDER_001", "주문 금액은 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
@@ -32,6 +34,8 @@ public enum ErrorCode {
     EXPIRED_COUPON("COUPON_003", "만료된 쿠폰입니다.", HttpStatus.BAD_REQUEST),
     ALREADY_ISSUED_COUPON("COUPON_004", "이미 발급받은 쿠폰입니다.", HttpStatus.CONFLICT),
     ISSUE_COUPON_FAIL("COUPON_005", "쿠폰 발급에 실패하였습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    COUPON_ISSUE_REQUEST_NOT_FOUND("COUPON_006", "쿠폰 발급 요청을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_COUPON_ISSUE_WAIT_TIMEOUT("COUPON_007", "대기 시간은 1ms 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
 
     // Cart
     INVALID_CART_ITEM_QUANTITY("CART_001", "수량은 1개 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
@@ -44,6 +48,10 @@ public enum ErrorCode {
     INSUFFICIENT_POINT("Point_002", "포인트가 부족합니다.", HttpStatus.CONFLICT),
     USER_POINT_NOT_FOUND("POINT_003", "사용자 포인트를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
+    // Payment
+    PAYMENT_GATEWAY_UNAVAILABLE("PAYMENT_001", "결제 요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    PAYMENT_GATEWAY_TIMEOUT("PAYMENT_002", "결제 대행사 응답 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
+
     // Lock
     LOCK_TIMEOUT("LOCK_001", "락 획득 시간이 초과되었습니다.", HttpStatus.CONFLICT),
     LOCK_INTERRUPTED("LOCK_002", "락 처리 중 인터럽트가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
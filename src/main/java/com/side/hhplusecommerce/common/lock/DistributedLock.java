@@ -43,4 +43,20 @@ public @interface DistributedLock {
      * 기본값: 초(SECONDS)
      */
     TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 노드 로컬 대기열 사용 여부 (hot key용)
+     * true이면 같은 노드의 대기자 중 맨 앞 스레드만 Redis 락을 경쟁하고,
+     * 락을 Redis에 반납하지 않고 다음 로컬 대기자에게 넘길 수 있습니다. (CoalescingLockExecutor)
+     * 기본값: false
+     */
+    boolean coalesce() default false;
+
+    /**
+     * Redis에 반납하지 않고 로컬 대기자에게 연속으로 넘길 수 있는 최대 횟수
+     * 한도에 도달하면 Redis에 반납하여 다른 노드에도 락 획득 기회를 줍니다. (0이면 매번 반납)
+     * coalesce = true인 경우에만 사용
+     * 기본값: 8
+     */
+    int maxLocalHandoffs() default 8;
 }
@@ -0,0 +1,217 @@
+package com.side.hhplusecommerce.common.lock.distributed;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 로컬 대기열 기반 분산 락 (lock coalescing)
+ *
+ * 같은 키를 기다리는 스레드를 노드 안의 공정(fair) 대기열에 세우고, 대기열 맨 앞 스레드만 Redisson 락을 경쟁합니다.
+ * - 수백 개 스레드가 같은 키로 Redis를 두드리던 것을 노드당 1개로 줄임
+ * - 락 보유자는 로컬 대기자가 있으면 Redis에 반납하지 않고 다음 대기자에게 넘김 (최대 maxLocalHandoffs회 연속)
+ * - 한도에 도달하면 Redis에 반납하여 다른 노드에도 획득 기회를 줌
+ *
+ * Redis 락의 소유자는 스레드가 아닌 키별 가상 소유자 ID이므로, 같은 노드의 다른 스레드가 이어받아 해제할 수 있습니다.
+ * 넘겨받은 스레드는 대기 없는 재진입 획득으로 소유 여부를 확인하고 lease를 갱신하며,
+ * lease 만료로 이미 락을 잃었다면 일반 경쟁으로 다시 획득합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoalescingLockExecutor {
+
+    public static final String MODE = "coalesced";
+
+    // 실제 스레드 ID(양수)와 겹치지 않도록 음수 사용
+    private static final AtomicLong OWNER_SEQUENCE = new AtomicLong();
+
+    private final RedissonClient redissonClient;
+    private final CustomMetrics customMetrics;
+
+    private final ConcurrentHashMap<String, LocalLockQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 락을 보유한 상태로 실행되는 작업
+     */
+    @FunctionalInterface
+    public interface LockedCall {
+        Object proceed() throws Throwable;
+    }
+
+    /**
+     * 로컬 대기열 → Redis 락 순서로 획득한 뒤 작업을 실행합니다.
+     *
+     * @param lockKey 락 키 (prefix:value)
+     * @param keyPrefix 메트릭 태그용 락 키 프리픽스
+     * @param distributedLock 대기 시간, lease 시간, 로컬 인계 한도
+     * @param call 실행할 작업
+     */
+    public Object execute(String lockKey, String keyPrefix, DistributedLock distributedLock, LockedCall call) throws Throwable {
+        TimeUnit unit = distributedLock.timeUnit();
+        long waitNanos = unit.toNanos(distributedLock.waitTime());
+        long leaseMillis = unit.toMillis(distributedLock.leaseTime());
+        long startedAt = System.nanoTime();
+
+        LocalLockQueue queue = join(lockKey);
+        boolean locallyAcquired = false;
+        try {
+            // 1. 노드 로컬 대기열 (공정 모드, 먼저 온 스레드부터)
+            locallyAcquired = queue.localLock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+            if (!locallyAcquired) {
+                log.warn("Failed to acquire lock (local queue): {}", lockKey);
+                throw new IllegalStateException("락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            // 2. Redis 락 (대기열 맨 앞 스레드만 경쟁, 넘겨받은 경우 재진입 획득)
+            boolean handedOff = queue.redisHolds > 0;
+            long remainingNanos = waitNanos - (System.nanoTime() - startedAt);
+            if (!queue.acquireRedisLock(remainingNanos, leaseMillis)) {
+                log.warn("Failed to acquire lock: {}", lockKey);
+                throw new IllegalStateException("락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            customMetrics.recordLockWaitTime(keyPrefix, MODE, System.nanoTime() - startedAt);
+            if (handedOff && queue.redisHolds > 1) {
+                customMetrics.incrementLockHandoff(keyPrefix);
+            }
+            log.debug("Lock acquired: {} (handedOff={})", lockKey, handedOff);
+
+            long acquiredAt = System.nanoTime();
+            try {
+                return call.proceed();
+            } finally {
+                customMetrics.recordLockHoldTime(keyPrefix, MODE, System.nanoTime() - acquiredAt);
+                queue.releaseRedisLock(distributedLock.maxLocalHandoffs());
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Thread interrupted while acquiring lock: {}", lockKey, e);
+            throw new IllegalStateException("락 획득 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            if (locallyAcquired) {
+                queue.localLock.unlock();
+            }
+            leave(lockKey, queue);
+        }
+    }
+
+    private LocalLockQueue join(String lockKey) {
+        return queues.compute(lockKey, (key, queue) -> {
+            LocalLockQueue joined = queue != null ? queue : new LocalLockQueue(redissonClient.getLock(key));
+            joined.users++;
+            return joined;
+        });
+    }
+
+    private void leave(String lockKey, LocalLockQueue queue) {
+        LocalLockQueue remaining = queues.computeIfPresent(lockKey, (key, current) -> --current.users == 0 ? null : current);
+        if (remaining == null) {
+            // 넘겨받을 대기자가 시간 초과로 떠난 경우 남아 있는 Redis 락 해제
+            queue.releaseOrphanedHolds();
+        }
+    }
+
+    /**
+     * 키별 로컬 대기열
+     * users는 queues.compute 안에서만, redisHolds/handoffs는 localLock을 보유한 스레드만 변경합니다.
+     */
+    private static final class LocalLockQueue {
+        private final ReentrantLock localLock = new ReentrantLock(true);
+        private final RLock redisLock;
+        private final long ownerId = -OWNER_SEQUENCE.incrementAndGet();
+
+        private int users;      // 대기 중 + 보유 중인 로컬 스레드 수
+        private int redisHolds; // 가상 소유자 ID로 잡은 Redis 락 재진입 횟수
+        private int handoffs;   // Redis 반납 없이 연속으로 넘긴 횟수
+
+        private LocalLockQueue(RLock redisLock) {
+            this.redisLock = redisLock;
+        }
+
+        private boolean acquireRedisLock(long waitNanos, long leaseMillis) throws InterruptedException {
+            if (redisHolds > 0) {
+                // 넘겨받은 락: 소유 확인 + lease 갱신 (재진입이므로 대기 없음)
+                if (tryLock(0L, leaseMillis)) {
+                    redisHolds++;
+                    return true;
+                }
+                log.warn("Handed-off lock lost before use (lease expired): {}", redisLock.getName());
+                redisHolds = 0;
+            }
+
+            handoffs = 0;
+            if (tryLock(TimeUnit.NANOSECONDS.toMillis(Math.max(0L, waitNanos)), leaseMillis)) {
+                redisHolds = 1;
+                return true;
+            }
+            return false;
+        }
+
+        private void releaseRedisLock(int maxLocalHandoffs) {
+            if (localLock.hasQueuedThreads() && handoffs < maxLocalHandoffs) {
+                // 다음 로컬 대기자에게 인계: 재진입으로 늘어난 보유 횟수만 되돌리고 1회는 유지
+                handoffs++;
+                while (redisHolds > 1) {
+                    unlock();
+                }
+                return;
+            }
+            while (redisHolds > 0) {
+                unlock();
+            }
+            handoffs = 0;
+        }
+
+        private void releaseOrphanedHolds() {
+            localLock.lock();
+            try {
+                while (redisHolds > 0) {
+                    unlock();
+                }
+                handoffs = 0;
+            } finally {
+                localLock.unlock();
+            }
+        }
+
+        private boolean tryLock(long waitMillis, long leaseMillis) throws InterruptedException {
+            RFuture<Boolean> future = redisLock.tryLockAsync(waitMillis, leaseMillis, TimeUnit.MILLISECONDS, ownerId);
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                // 대기 중 인터럽트: 뒤늦게 획득되면 바로 해제 (같은 소유자 ID의 보유 횟수를 늘리지 않도록)
+                future.whenComplete((acquired, ex) -> {
+                    if (Boolean.TRUE.equals(acquired)) {
+                        redisLock.unlockAsync(ownerId);
+                    }
+                });
+                throw e;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("락 획득 중 오류가 발생했습니다.", e.getCause());
+            }
+        }
+
+        private void unlock() {
+            redisHolds--;
+            try {
+                redisLock.unlockAsync(ownerId).toCompletableFuture().join();
+            } catch (CompletionException e) {
+                // lease 만료로 이미 다른 소유자에게 넘어간 경우
+                log.warn("Failed to release lock: {}", redisLock.getName(), e.getCause());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.side.hhplusecommerce.common.lock.distributed;
 
 import com.side.hhplusecommerce.common.lock.LockKeyResolver;
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,14 +12,16 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 분산 락 AOP
  * @DistributedLock 어노테이션이 붙은 메서드에 대해 Redisson을 사용한 분산 락을 적용합니다.
+ * coalesce = true인 경우 노드 로컬 대기열을 거쳐 획득합니다. (CoalescingLockExecutor)
  */
 @Slf4j
 @Aspect
@@ -27,25 +30,35 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class DistributedLockAspect {
 
+    private static final String MODE = "redis";
+
     private final RedissonClient redissonClient;
     private final ApplicationContext applicationContext;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final CoalescingLockExecutor coalescingLockExecutor;
+    private final CustomMetrics customMetrics;
+    private final Map<Method, DistributedLockMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(distributedLock)")
     public Object lock(ProceedingJoinPoint joinPoint, com.side.hhplusecommerce.common.lock.distributed.DistributedLock distributedLock) throws Throwable {
-        // LockKeyResolver 빈을 가져와서 프리픽스 획득
-        LockKeyResolver keyResolver = applicationContext.getBean(
-                distributedLock.keyResolver(),
-                LockKeyResolver.class
+        // 메서드별 메타데이터(프리픽스, 키 추출 방식)는 첫 호출 시 한 번만 생성
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        DistributedLockMetadata metadata = metadataCache.computeIfAbsent(
+                signature.getMethod(),
+                method -> createMetadata(signature, distributedLock)
         );
-        String keyPrefix = keyResolver.getKeyPrefix();
-
-        // SpEL을 사용하여 키 값 추출
-        String keyValue = parseSpELExpression(joinPoint, distributedLock.key());
+        String keyPrefix = metadata.getKeyPrefix();
 
         // 최종 락 키 생성: prefix:value
-        String lockKey = keyPrefix + ":" + keyValue;
+        String lockKey = metadata.resolveLockKey(joinPoint.getArgs());
+
+        // hot key: 같은 노드의 대기자는 로컬 대기열에서 기다리고 맨 앞 스레드만 Redis 락을 경쟁
+        if (distributedLock.coalesce()) {
+            return coalescingLockExecutor.execute(lockKey, keyPrefix, distributedLock, joinPoint::proceed);
+        }
+
         RLock lock = redissonClient.getLock(lockKey);
+        long startedAt = System.nanoTime();
+        long acquiredAt = 0L;
 
         try {
             boolean acquired = lock.tryLock(
@@ -59,6 +72,8 @@ public class DistributedLockAspect {
                 throw new IllegalStateException("락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.");
             }
 
+            acquiredAt = System.nanoTime();
+            customMetrics.recordLockWaitTime(keyPrefix, MODE, acquiredAt - startedAt);
             log.debug("Lock acquired: {}", lockKey);
             return joinPoint.proceed();
 
@@ -67,35 +82,29 @@ public class DistributedLockAspect {
             log.error("Thread interrupted while acquiring lock: {}", lockKey, e);
             throw new IllegalStateException("락 획득 중 인터럽트가 발생했습니다.", e);
         } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.debug("Lock released: {}", lockKey);
+            // 획득하지 못한 경우 보유 여부 확인(Redis 호출)을 생략
+            if (acquiredAt > 0L) {
+                customMetrics.recordLockHoldTime(keyPrefix, MODE, System.nanoTime() - acquiredAt);
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                    log.debug("Lock released: {}", lockKey);
+                }
             }
         }
     }
 
     /**
-     * SpEL 표현식을 파싱하여 실제 값을 추출합니다.
-     *
-     * @param joinPoint 메서드 실행 정보
-     * @param expression SpEL 표현식 (예: "#userId", "#request.userId")
-     * @return 파싱된 값의 문자열 표현
+     * LockKeyResolver 빈을 조회하고 키 표현식을 분석하여 메서드별 메타데이터를 생성합니다.
      */
-    private String parseSpELExpression(ProceedingJoinPoint joinPoint, String expression) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String[] parameterNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
-
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        for (int i = 0; i < parameterNames.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
-        }
-
-        Object value = parser.parseExpression(expression).getValue(context);
-        if (value == null) {
-            throw new IllegalArgumentException("락 키 값이 null입니다: " + expression);
-        }
-
-        return value.toString();
+    private DistributedLockMetadata createMetadata(MethodSignature signature, DistributedLock distributedLock) {
+        LockKeyResolver keyResolver = applicationContext.getBean(
+                distributedLock.keyResolver(),
+                LockKeyResolver.class
+        );
+        return DistributedLockMetadata.of(
+                keyResolver.getKeyPrefix(),
+                distributedLock.key(),
+                signature.getParameterNames()
+        );
     }
 }
@@ -0,0 +1,87 @@
+package com.side.hhplusecommerce.common.lock.distributed;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @DistributedLock 메서드별 락 키 메타데이터
+ * 첫 호출 시 한 번 만들어 DistributedLockAspect가 메서드별로 재사용합니다.
+ *
+ * - 락 키 프리픽스: LockKeyResolver 빈 조회 결과
+ * - "#userId"처럼 파라미터 하나를 그대로 쓰는 키: 파라미터 위치만 기억하고 SpEL 평가 없이 인자에서 바로 추출
+ * - 그 외 키("#request.userId" 등): 파싱한 SpEL을 재사용하며 IMMEDIATE 모드로 바이트코드 컴파일
+ */
+final class DistributedLockMetadata {
+
+    private static final Pattern SIMPLE_PARAMETER_KEY = Pattern.compile("#([A-Za-z_$][A-Za-z0-9_$]*)");
+
+    private static final ExpressionParser COMPILING_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, DistributedLockMetadata.class.getClassLoader())
+    );
+
+    private final String keyPrefix;
+    private final String keyExpression;
+    private final String[] parameterNames;
+    private final int parameterIndex;     // 단순 파라미터 키의 인자 위치 (-1이면 SpEL 평가)
+    private final Expression expression;  // parameterIndex가 -1인 경우에만 사용
+
+    private DistributedLockMetadata(String keyPrefix, String keyExpression, String[] parameterNames,
+                                    int parameterIndex, Expression expression) {
+        this.keyPrefix = keyPrefix;
+        this.keyExpression = keyExpression;
+        this.parameterNames = parameterNames;
+        this.parameterIndex = parameterIndex;
+        this.expression = expression;
+    }
+
+    /**
+     * @param keyPrefix 락 키 프리픽스 (LockKeyResolver)
+     * @param keyExpression 락 키 SpEL 표현식 (예: "#userId", "#request.userId")
+     * @param parameterNames 메서드 파라미터 이름
+     */
+    static DistributedLockMetadata of(String keyPrefix, String keyExpression, String[] parameterNames) {
+        Matcher matcher = SIMPLE_PARAMETER_KEY.matcher(keyExpression.trim());
+        if (matcher.matches()) {
+            String name = matcher.group(1);
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals(name)) {
+                    return new DistributedLockMetadata(keyPrefix, keyExpression, parameterNames, i, null);
+                }
+            }
+        }
+        return new DistributedLockMetadata(keyPrefix, keyExpression, parameterNames, -1,
+                COMPILING_PARSER.parseExpression(keyExpression));
+    }
+
+    String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * 최종 락 키 생성: prefix:value
+     *
+     * @param args 메서드 실행 인자
+     */
+    String resolveLockKey(Object[] args) {
+        Object value = parameterIndex >= 0 ? args[parameterIndex] : evaluate(args);
+        if (value == null) {
+            throw new IllegalArgumentException("락 키 값이 null입니다: " + keyExpression);
+        }
+        return keyPrefix + ":" + value;
+    }
+
+    private Object evaluate(Object[] args) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return expression.getValue(context);
+    }
+}
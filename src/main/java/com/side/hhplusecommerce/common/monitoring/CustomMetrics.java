@@ -68,6 +68,64 @@ public class CustomMetrics {
                 .record(timeMs, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * 쿠폰 메타데이터 캐시 조회 수 증가 (hit / (hit + miss) = 적중률)
+     *
+     * @param result hit / miss
+     */
+    public void incrementCouponCacheRequest(String result) {
+        Counter.builder("coupon.cache.requests")
+                .description("쿠폰 메타데이터 로컬 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ============================================
+    // 분산 락 관련 메트릭
+    // ============================================
+
+    /**
+     * 분산 락 대기 시간 기록 (획득 성공 기준)
+     *
+     * @param keyPrefix 락 키 프리픽스 (예: item-stock)
+     * @param mode redis (매 호출 Redis 경쟁) / coalesced (노드 로컬 대기열)
+     */
+    public void recordLockWaitTime(String keyPrefix, String mode, long waitNanos) {
+        Timer.builder("lock.wait")
+                .description("분산 락 대기 시간")
+                .tag("key_prefix", keyPrefix)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 분산 락 보유 시간 기록
+     *
+     * @param keyPrefix 락 키 프리픽스 (예: item-stock)
+     * @param mode redis / coalesced
+     */
+    public void recordLockHoldTime(String keyPrefix, String mode, long holdNanos) {
+        Timer.builder("lock.hold")
+                .description("분산 락 보유 시간")
+                .tag("key_prefix", keyPrefix)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 분산 락 로컬 인계 카운터 증가 (Redis에 반납하지 않고 같은 노드의 다음 대기자에게 넘긴 횟수)
+     */
+    public void incrementLockHandoff(String keyPrefix) {
+        Counter.builder("lock.handoffs")
+                .description("분산 락 로컬 인계 수")
+                .tag("key_prefix", keyPrefix)
+                .register(meterRegistry)
+                .increment();
+    }
+
     // ============================================
     // 주문 관련 메트릭
     // ============================================
@@ -103,6 +161,62 @@ public class CustomMetrics {
                 .record(timeMs, TimeUnit.MILLISECONDS);
     }
 
+    // ============================================
+    // 결제 대행사(PG) 호출 관련 메트릭
+    // ============================================
+
+    /**
+     * 결제 대행사 호출 시간 기록 (bulkhead 대기 포함)
+     *
+     * @param outcome success / declined / error / timeout
+     */
+    public void recordPaymentGatewayCall(String outcome, long elapsedNanos) {
+        Timer.builder("payment.gateway.calls")
+                .description("결제 대행사 호출 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 결제 대행사 호출 거절 카운터 증가 (호출하지 않고 즉시 실패)
+     *
+     * @param reason bulkhead_full / circuit_open
+     */
+    public void incrementPaymentGatewayRejected(String reason) {
+        Counter.builder("payment.gateway.rejected")
+                .description("결제 대행사 호출 거절 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ============================================
+    // 주문 이벤트 추적(Redis) 관련 메트릭
+    // ============================================
+
+    /**
+     * 주문 이벤트 추적 Redis round trip 카운터 증가
+     * order.create 대비 비율로 주문당 round trip 수를 확인합니다.
+     */
+    public void incrementOrderEventTrackerRoundTrip(String operation) {
+        Counter.builder("order.event.tracker.round_trips")
+                .description("주문 이벤트 추적 Redis round trip 수")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 결제 준비 완료 전이 카운터 증가 (주문당 1회)
+     */
+    public void incrementOrderEventTrackerReady() {
+        Counter.builder("order.event.tracker.ready")
+                .description("결제 준비 완료 전이 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
     // ============================================
     // 재고 관련 메트릭
     // ============================================
@@ -129,6 +243,48 @@ public class CustomMetrics {
                 .increment();
     }
 
+    // ============================================
+    // 상품 캐시 관련 메트릭
+    // ============================================
+
+    /**
+     * 상품 캐시 조회 결과 카운터 증가
+     *
+     * @param tier 캐시 계층 (l1: Caffeine, l2: Redis)
+     * @param result hit / miss
+     */
+    public void incrementItemCacheRequest(String tier, String result) {
+        Counter.builder("item.cache.requests")
+                .description("상품 캐시 계층별 조회 수")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 인기 상품 응답 캐시 조회 수 증가
+     *
+     * @param result hit / stale (이전 랭킹 응답 반환 후 재구성) / miss
+     */
+    public void incrementPopularItemsCacheRequest(String result) {
+        Counter.builder("popular.items.cache.requests")
+                .description("인기 상품 응답 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 상품 조회 이력 버퍼 초과로 버린 조회 수 증가
+     */
+    public void incrementItemViewDropped() {
+        Counter.builder("item.view.buffer.dropped")
+                .description("버퍼가 가득 차 버려진 상품 조회 이력 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
     // ============================================
     // Kafka Consumer 관련 메트릭
     // ============================================
@@ -168,4 +324,22 @@ public class CustomMetrics {
                 .register(meterRegistry)
                 .record(timeMs, TimeUnit.MILLISECONDS);
     }
-}
\ No newline at end of file
+
+    // ============================================
+    // 가상 스레드 관련 메트릭
+    // ============================================
+
+    /**
+     * 가상 스레드 carrier 고정(pinning) 시간 기록
+     * synchronized 블록 안에서 I/O를 기다리는 동안 carrier 스레드가 다른 가상 스레드를 실행하지 못한 시간입니다.
+     *
+     * @param source 고정을 일으킨 코드의 패키지 (예: org.redisson, com.mysql)
+     */
+    public void recordVirtualThreadPinned(String source, long elapsedNanos) {
+        Timer.builder("virtual.thread.pinned")
+                .description("가상 스레드 carrier 고정 시간")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,144 @@
+package com.side.hhplusecommerce.common.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kafka Consumer Lag 메트릭
+ *
+ * 리스너 컨테이너 팩토리(워크로드)별로 컨슈머 그룹을 등록해두고,
+ * 주기적으로 (파티션 끝 오프셋 - 커밋 오프셋) 합계를 계산해 Gauge로 노출합니다.
+ * - kafka.consumer.lag{workload="order-saga"}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaConsumerLagMonitor {
+
+    private static final long ADMIN_TIMEOUT_MS = 5000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    private final Map<String, Set<String>> groupIdsByWorkload = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lagByWorkload = new ConcurrentHashMap<>();
+
+    private volatile AdminClient adminClient;
+
+    /**
+     * 워크로드에 컨슈머 그룹 등록 (리스너 컨테이너 생성 시 호출)
+     *
+     * @param workload 리스너 컨테이너 팩토리 구분 (예: coupon-issue, order-saga)
+     * @param groupId 컨슈머 그룹 ID
+     */
+    public void register(String workload, String groupId) {
+        if (groupId == null) {
+            return;
+        }
+        groupIdsByWorkload.computeIfAbsent(workload, key -> ConcurrentHashMap.newKeySet()).add(groupId);
+        lagByWorkload.computeIfAbsent(workload, key -> {
+            AtomicLong lag = new AtomicLong();
+            Gauge.builder("kafka.consumer.lag", lag, AtomicLong::get)
+                    .description("워크로드별 Kafka 컨슈머 랙 (미처리 메시지 수)")
+                    .tag("workload", key)
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+
+    /**
+     * 등록된 모든 워크로드의 랙 갱신
+     * 브로커에 연결할 수 없으면 이전 값을 유지합니다.
+     */
+    public void refresh() {
+        groupIdsByWorkload.forEach((workload, groupIds) -> {
+            try {
+                long lag = 0;
+                for (String groupId : groupIds) {
+                    lag += calculateLag(groupId);
+                }
+                lagByWorkload.get(workload).set(lag);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Kafka 컨슈머 랙 조회 실패: workload={}, reason={}", workload, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 워크로드 랙 조회 (마지막 갱신 값)
+     */
+    public long getLag(String workload) {
+        AtomicLong lag = lagByWorkload.get(workload);
+        return lag != null ? lag.get() : 0L;
+    }
+
+    private long calculateLag(String groupId) throws Exception {
+        AdminClient admin = getAdminClient();
+
+        Map<TopicPartition, OffsetAndMetadata> committedOffsets = admin.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (committedOffsets.isEmpty()) {
+            return 0L;
+        }
+
+        Map<TopicPartition, OffsetSpec> latestRequest = new HashMap<>();
+        committedOffsets.keySet().forEach(partition -> latestRequest.put(partition, OffsetSpec.latest()));
+        Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin.listOffsets(latestRequest)
+                .all()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        long lag = 0;
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : committedOffsets.entrySet()) {
+            ListOffsetsResultInfo endOffset = endOffsets.get(entry.getKey());
+            if (endOffset != null && entry.getValue() != null) {
+                lag += Math.max(0L, endOffset.offset() - entry.getValue().offset());
+            }
+        }
+        return lag;
+    }
+
+    private AdminClient getAdminClient() {
+        if (adminClient == null) {
+            synchronized (this) {
+                if (adminClient == null) {
+                    adminClient = AdminClient.create(Map.of(
+                            AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                            AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) ADMIN_TIMEOUT_MS,
+                            AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) ADMIN_TIMEOUT_MS
+                    ));
+                }
+            }
+        }
+        return adminClient;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.side.hhplusecommerce.common.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 carrier 고정(pinning) 감지 (spring.threads.virtual.enabled=true일 때만 동작)
+ *
+ * Java 21에서는 synchronized 블록 안에서 블로킹되면 가상 스레드가 carrier 스레드에서 내려오지 못합니다.
+ * (Redisson, JDBC 드라이버 등 라이브러리 내부 synchronized 포함)
+ * JFR jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 스트리밍해 다음과 같이 남깁니다.
+ * - virtual.thread.pinned{source="org.redisson"} 타이머: 고정을 일으킨 첫 번째 비 JDK 프레임의 패키지별 횟수/시간
+ * - WARN 로그: 해당 프레임 위치
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinnedMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String UNKNOWN_SOURCE = "unknown";
+
+    private final CustomMetrics customMetrics;
+
+    @Value("${monitoring.virtual-thread.pinned-threshold-ms:20}")
+    private long pinnedThresholdMillis;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinnedThresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinned monitor started: thresholdMs={}", pinnedThresholdMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedFrame frame = firstApplicationFrame(event.getStackTrace());
+        String source = frame != null ? packageOf(frame.getMethod().getType().getName()) : UNKNOWN_SOURCE;
+
+        customMetrics.recordVirtualThreadPinned(source, event.getDuration().toNanos());
+        log.warn("Virtual thread pinned: durationMs={}, at={}",
+                event.getDuration().toMillis(),
+                frame != null ? frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber() : UNKNOWN_SOURCE);
+    }
+
+    /**
+     * JDK 내부(java.*, jdk.*, sun.*) 프레임을 건너뛴 첫 번째 프레임
+     */
+    private RecordedFrame firstApplicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (!className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 태그 수가 늘어나지 않도록 상위 두 단계 패키지만 사용 (org.redisson.client.RedisConnection → org.redisson)
+     */
+    private String packageOf(String className) {
+        int first = className.indexOf('.');
+        if (first < 0) {
+            return UNKNOWN_SOURCE;
+        }
+        int second = className.indexOf('.', first + 1);
+        return second < 0 ? className.substring(0, first) : className.substring(0, second);
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +16,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -45,7 +47,8 @@ public class RedisCacheConfig {
     public static final int LOW_STOCK_THRESHOLD = 10;
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     @Value("${item.cache.remote.ttl-seconds:60}") long itemTtlSeconds) {
         // ObjectMapper 설정 (LocalDateTime 등 Java 8 시간 API 직렬화 지원)
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -77,8 +80,9 @@ public class RedisCacheConfig {
         cacheConfigurations.put(POPULAR_ITEMS,
                 defaultConfig.entryTtl(Duration.ofDays(1)));
 
+        // 재고 변경(원장 반영, 보상 증가 등)마다 무효화하지 않으므로 L1 TTL과 같은 수준으로 짧게 유지
         cacheConfigurations.put(ITEM,
-                defaultConfig.entryTtl(Duration.ofDays(1)));
+                defaultConfig.entryTtl(Duration.ofSeconds(itemTtlSeconds)));
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
@@ -86,4 +90,13 @@ public class RedisCacheConfig {
                 .build();
     }
 
+    /**
+     * Redis Pub/Sub 리스너 컨테이너 (상품 L1 캐시 무효화 브로드캐스트 수신용)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -1,5 +1,6 @@
 package com.side.hhplusecommerce.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
@@ -10,15 +11,20 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 @EnableScheduling
 public class SchedulerConfig implements SchedulingConfigurer {
 
+    // 스케줄러 작업(Outbox 릴레이, 원장 반영 등)은 대부분 DB/Kafka I/O 대기이므로 가상 스레드 모드에서는 가상 스레드로 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
         taskScheduler.setPoolSize(5);
         taskScheduler.setThreadNamePrefix("scheduled-task-");
+        taskScheduler.setVirtualThreads(virtualThreads);
         taskScheduler.setAwaitTerminationSeconds(60);
         taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
         taskScheduler.initialize();
 
         taskRegistrar.setTaskScheduler(taskScheduler);
     }
-}
\ No newline at end of file
+}
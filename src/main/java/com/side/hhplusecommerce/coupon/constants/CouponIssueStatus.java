@@ -0,0 +1,22 @@
+package com.side.hhplusecommerce.coupon.constants;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쿠폰 발급 요청 처리 상태
+ * Producer가 예약 후 PENDING으로 기록하고, Consumer가 MySQL 처리 결과로 갱신합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CouponIssueStatus {
+    PENDING("발급 대기"),
+    ISSUED("발급 완료"),
+    FAILED("발급 실패");
+
+    private final String description;
+
+    public boolean isFinished() {
+        return this != PENDING;
+    }
+}
@@ -2,10 +2,14 @@ package com.side.hhplusecommerce.coupon.controller;
 
 import com.side.hhplusecommerce.cart.usecase.CouponIssueUseCase;
 import com.side.hhplusecommerce.cart.usecase.CouponViewUseCase;
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.coupon.controller.dto.CouponIssueStatusResponse;
 import com.side.hhplusecommerce.coupon.controller.dto.IssueCouponRequest;
-import com.side.hhplusecommerce.coupon.controller.dto.IssueCouponResponse;
 import com.side.hhplusecommerce.coupon.controller.dto.UserCouponsResponse;
+import com.side.hhplusecommerce.coupon.service.CouponIssueStatusWaiter;
 import jakarta.validation.Valid;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,13 +17,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequiredArgsConstructor
 public class CouponController implements CouponControllerDocs {
     private final CouponViewUseCase couponViewUseCase;
     private final CouponIssueUseCase couponIssueUseCase;
+    private final CouponIssueStatusWaiter couponIssueStatusWaiter;
 
     @Override
     @GetMapping("/api/users/{userId}/coupons")
@@ -30,13 +37,35 @@ public class CouponController implements CouponControllerDocs {
 
     @Override
     @PostMapping("/api/coupons/{couponId}/issue")
-    public ResponseEntity<IssueCouponResponse> issueCoupon(
+    public ResponseEntity<CouponIssueStatusResponse> issueCoupon(
             @PathVariable Long couponId,
             @Valid @RequestBody IssueCouponRequest request
     ) {
         // 비동기 큐 방식으로 변경되어 즉시 응답 반환
-        couponIssueUseCase.issue(couponId, request.getUserId());
-        // 202 Accepted: 요청이 접수되었으나 처리가 완료되지 않음
-        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        CouponIssueStatusResponse response = couponIssueUseCase.issue(couponId, request.getUserId());
+        // 202 Accepted: 요청이 접수되었으나 처리가 완료되지 않음 (Location: 발급 요청 상태 조회 URI)
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/coupons/issue-requests/" + response.getRequestId()))
+                .body(response);
+    }
+
+    @Override
+    @GetMapping("/api/coupons/issue-requests/{requestId}")
+    public ResponseEntity<CouponIssueStatusResponse> getIssueStatus(@PathVariable String requestId) {
+        CouponIssueStatusResponse response = couponIssueStatusWaiter.getStatus(requestId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @GetMapping("/api/coupons/issue-requests/{requestId}/wait")
+    public DeferredResult<CouponIssueStatusResponse> waitIssueStatus(
+            @PathVariable String requestId,
+            @RequestParam(defaultValue = "10000") long timeoutMs
+    ) {
+        // 0 이하이면 DeferredResult가 타임아웃 없이 대기하므로 거절 (상한은 max-wait-ms로 제한)
+        if (timeoutMs < 1) {
+            throw new CustomException(ErrorCode.INVALID_COUPON_ISSUE_WAIT_TIMEOUT);
+        }
+        return couponIssueStatusWaiter.await(requestId, timeoutMs);
     }
 }
@@ -1,7 +1,7 @@
 package com.side.hhplusecommerce.coupon.controller;
 
+import com.side.hhplusecommerce.coupon.controller.dto.CouponIssueStatusResponse;
 import com.side.hhplusecommerce.coupon.controller.dto.IssueCouponRequest;
-import com.side.hhplusecommerce.coupon.controller.dto.IssueCouponResponse;
 import com.side.hhplusecommerce.coupon.controller.dto.UserCouponsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Tag(name = "쿠폰", description = "쿠폰 API")
 public interface CouponControllerDocs {
@@ -24,17 +25,42 @@ public interface CouponControllerDocs {
             Long userId
     );
 
-    @Operation(summary = "쿠폰 발급", description = "특정 쿠폰을 사용자에게 발급합니다.")
+    @Operation(summary = "쿠폰 발급", description = "특정 쿠폰 발급을 요청합니다. 발급은 비동기로 처리되며, 응답의 발급 요청 ID로 결과를 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "발급 성공"),
+            @ApiResponse(responseCode = "202", description = "발급 요청 접수"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 쿠폰"),
             @ApiResponse(responseCode = "409", description = "쿠폰 재고 소진 또는 이미 발급받은 쿠폰"),
             @ApiResponse(responseCode = "410", description = "만료된 쿠폰"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    ResponseEntity<IssueCouponResponse> issueCoupon(
+    ResponseEntity<CouponIssueStatusResponse> issueCoupon(
             @Parameter(description = "발급받을 쿠폰 ID", required = true)
             Long couponId,
             @RequestBody IssueCouponRequest request
     );
+
+    @Operation(summary = "쿠폰 발급 요청 상태 조회", description = "발급 요청의 처리 상태(PENDING, ISSUED, FAILED)를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 발급 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    ResponseEntity<CouponIssueStatusResponse> getIssueStatus(
+            @Parameter(description = "발급 요청 ID", required = true)
+            String requestId
+    );
+
+    @Operation(summary = "쿠폰 발급 결과 대기", description = "발급 결과가 나오거나 대기 시간이 지날 때까지 응답을 보류합니다 (long-poll).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 결과 또는 대기 시간 경과 시점의 상태"),
+            @ApiResponse(responseCode = "400", description = "대기 시간이 1ms 미만"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 발급 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    DeferredResult<CouponIssueStatusResponse> waitIssueStatus(
+            @Parameter(description = "발급 요청 ID", required = true)
+            String requestId,
+            @Parameter(description = "최대 대기 시간(ms), 1 이상이며 서버 설정값을 넘을 수 없음")
+            long timeoutMs
+    );
 }
@@ -0,0 +1,37 @@
+package com.side.hhplusecommerce.coupon.controller.dto;
+
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueStatusEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "쿠폰 발급 요청 상태 응답")
+public class CouponIssueStatusResponse {
+    @Schema(description = "발급 요청 ID", example = "6f1c2a4e-3b7d-4c1e-9a52-0f6d8e2b7c11")
+    private String requestId;
+
+    @Schema(description = "쿠폰 ID", example = "1")
+    private Long couponId;
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "처리 상태 (PENDING, ISSUED, FAILED)", example = "PENDING")
+    private CouponIssueStatus status;
+
+    @Schema(description = "실패 사유 (FAILED인 경우)", example = "COUPON_SOLD_OUT")
+    private String reason;
+
+    public static CouponIssueStatusResponse from(CouponIssueStatusEntry entry) {
+        return new CouponIssueStatusResponse(
+                entry.requestId(),
+                entry.couponId(),
+                entry.userId(),
+                entry.status(),
+                entry.reason()
+        );
+    }
+}
@@ -12,10 +12,14 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "user_coupons", indexes = {
-        @Index(name = "idx_user_coupons_user_id", columnList = "user_id"),
-        @Index(name = "idx_user_coupons_coupon_id", columnList = "coupon_id")
-})
+@Table(name = "user_coupons",
+        uniqueConstraints = {
+                // 중복 발급 방지 (일괄 발급 시 INSERT IGNORE 기준), user_id 단독 조회도 이 인덱스를 사용
+                @UniqueConstraint(name = "uk_user_coupons_user_id_coupon_id", columnNames = {"user_id", "coupon_id"})
+        },
+        indexes = {
+                @Index(name = "idx_user_coupons_coupon_id", columnList = "coupon_id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserCoupon {
 
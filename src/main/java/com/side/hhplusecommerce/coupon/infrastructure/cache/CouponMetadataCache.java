@@ -0,0 +1,162 @@
+package com.side.hhplusecommerce.coupon.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import com.side.hhplusecommerce.coupon.domain.Coupon;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 메타데이터 로컬 캐시 (Caffeine)
+ *
+ * 쿠폰 이름/할인 금액/만료일시는 발급 이후 바뀌지 않으므로 인스턴스 메모리에 캐싱합니다.
+ * - 항목별 만료: min(쿠폰 만료일시까지 남은 시간, max-ttl-seconds)
+ *   → 만료된 쿠폰은 캐시에서 사라져 다음 조회 시 DB 기준으로 만료 검증
+ *   → 이미 만료된 쿠폰은 캐싱하지 않음
+ * - 재고(CouponStock)와 사용자 쿠폰(UserCoupon)은 변하는 값이므로 캐싱하지 않음
+ *
+ * 캐시된 Coupon은 여러 요청이 공유하므로 조회 용도로만 사용해야 합니다.
+ */
+@Component
+public class CouponMetadataCache {
+
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+
+    private final CustomMetrics customMetrics;
+    private final long maxTtlSeconds;
+    private final Clock clock;
+    private final Cache<Long, Coupon> localCache;
+
+    @Autowired
+    public CouponMetadataCache(CustomMetrics customMetrics,
+                               @Value("${coupon.cache.local.maximum-size:10000}") long maximumSize,
+                               @Value("${coupon.cache.local.max-ttl-seconds:3600}") long maxTtlSeconds) {
+        this(customMetrics, maximumSize, maxTtlSeconds, Ticker.systemTicker(), Clock.systemDefaultZone());
+    }
+
+    /**
+     * 만료 계산에 사용할 시계 지정 (테스트에서 가짜 ticker/clock 주입)
+     */
+    CouponMetadataCache(CustomMetrics customMetrics, long maximumSize, long maxTtlSeconds,
+                        Ticker ticker, Clock clock) {
+        this.customMetrics = customMetrics;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.clock = clock;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new CouponExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 쿠폰 조회 (캐시 → loader)
+     *
+     * @param couponId 쿠폰 ID
+     * @param loader 캐시 미스 시 DB 조회
+     * @return 쿠폰 (없으면 empty)
+     */
+    public Optional<Coupon> get(Long couponId, Supplier<Optional<Coupon>> loader) {
+        Coupon cached = localCache.getIfPresent(couponId);
+        if (cached != null) {
+            customMetrics.incrementCouponCacheRequest(HIT);
+            return Optional.of(cached);
+        }
+        customMetrics.incrementCouponCacheRequest(MISS);
+
+        Optional<Coupon> loaded = loader.get();
+        loaded.filter(coupon -> !ttl(coupon).isZero())
+                .ifPresent(coupon -> localCache.put(couponId, coupon));
+        return loaded;
+    }
+
+    /**
+     * 쿠폰 다건 조회 (캐시 → loader)
+     * 캐시에 없는 쿠폰만 모아 loader를 한 번 호출합니다. (hit/miss는 쿠폰 ID별로 기록)
+     *
+     * @param couponIds 쿠폰 ID 목록 (중복 허용)
+     * @param loader 캐시 미스 쿠폰 ID로 DB 다건 조회
+     * @return 쿠폰 ID별 쿠폰 (없는 쿠폰은 제외)
+     */
+    public Map<Long, Coupon> getAll(Collection<Long> couponIds, Function<Set<Long>, List<Coupon>> loader) {
+        Map<Long, Coupon> coupons = new HashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long couponId : new LinkedHashSet<>(couponIds)) {
+            Coupon cached = localCache.getIfPresent(couponId);
+            if (cached != null) {
+                customMetrics.incrementCouponCacheRequest(HIT);
+                coupons.put(couponId, cached);
+            } else {
+                customMetrics.incrementCouponCacheRequest(MISS);
+                missingIds.add(couponId);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return coupons;
+        }
+
+        for (Coupon coupon : loader.apply(missingIds)) {
+            coupons.put(coupon.getCouponId(), coupon);
+            if (!ttl(coupon).isZero()) {
+                localCache.put(coupon.getCouponId(), coupon);
+            }
+        }
+        return coupons;
+    }
+
+    /**
+     * 캐시 전체 비우기
+     */
+    public void clear() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 캐시 유지 시간: min(쿠폰 만료일시까지 남은 시간, max-ttl-seconds), 이미 만료되었으면 0
+     */
+    private Duration ttl(Coupon coupon) {
+        Duration untilExpiry = Duration.between(LocalDateTime.now(clock), coupon.getExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        Duration maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    /**
+     * 쿠폰 만료일시에 맞춰 항목 만료 (최대 max-ttl-seconds)
+     */
+    private class CouponExpiry implements Expiry<Long, Coupon> {
+        @Override
+        public long expireAfterCreate(Long couponId, Coupon coupon, long currentTime) {
+            return ttl(coupon).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long couponId, Coupon coupon, long currentTime, long currentDuration) {
+            return expireAfterCreate(couponId, coupon, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long couponId, Coupon coupon, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,29 +1,43 @@
 package com.side.hhplusecommerce.coupon.infrastructure.kafka;
 
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
 import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
 import com.side.hhplusecommerce.coupon.service.CouponIssueTransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.*;
 
 /**
  * 쿠폰 발급 Kafka Consumer
- * Kafka에서 쿠폰 발급 메시지를 읽어 처리합니다.
+ * Kafka에서 쿠폰 발급 메시지를 poll 단위로 읽어 쿠폰별로 일괄 처리합니다.
  *
  * 처리 흐름:
- * 1. Kafka에서 메시지 읽기 (파티션당 1개의 컨슈머)
- * 2. MySQL에서 쿠폰 발급 처리 (CouponIssueTransactionService)
- * 3. MySQL 저장 성공 후 Redis Set에 사용자 추가 (중복 발급 방지용)
- * 4. Kafka 메시지 커밋 (ACK)
- * 5. 실패 시 커밋하지 않음 (재처리 대상)
+ * 1. Kafka에서 메시지 배치 읽기 (파티션당 1개의 컨슈머)
+ * 2. couponId(샤딩 모드에서는 couponId + shard)별로 사용자를 묶어 MySQL 일괄 발급
+ *    (multi-row INSERT 1회 + 조건부 UPDATE 1회)
+ *    - Redis Set 추가(예약)는 Producer의 예약 스크립트에서 이미 수행됨
+ * 3. MySQL 재고 부족 시 해당 쿠폰만 메시지 순서대로 1건씩 발급 (선착순 유지)
+ *    1건씩 발급도 같은 조건부 UPDATE 경로를 사용하므로, 리밸런스/재전달로 같은 쿠폰을 여러 스레드가 처리해도 초과 발급되지 않음
+ * 4. 비즈니스 실패(재고 소진, 만료 등) 시 Redis 예약 취소 (예약된 샤드로 재고 복구)
+ * 5. 요청별 처리 결과를 상태 저장소에 기록 (ISSUED / FAILED, 쿠폰 배치당 한 번)
+ * 6. 배치당 1회 Kafka 커밋 (ACK)
+ * 7. 그 외 실패 시 예외를 던져 배치 재처리 (이미 발급된 사용자는 유니크 제약으로 무시되므로 재처리에 안전)
+ *    재시도를 모두 소진하면 CouponIssueRecoverer가 레코드별로 예약 취소 + FAILED 기록
  */
 @Slf4j
 @Component
@@ -31,66 +45,101 @@ import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKa
 public class CouponIssueConsumer {
 
     private final CouponIssueTransactionService couponIssueTransactionService;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponRedisStockService couponRedisStockService;
+    private final CouponIssueStatusStore couponIssueStatusStore;
 
     /**
-     * 쿠폰 발급 메시지 처리
+     * 쿠폰 발급 메시지 배치 처리
      *
-     * @param message 쿠폰 발급 메시지
-     * @param partition 파티션 번호
-     * @param offset 오프셋
+     * @param records 쿠폰 발급 메시지 배치
      * @param acknowledgment ACK 객체
      */
     @KafkaListener(
             topics = TOPIC_COUPON_ISSUE,
             groupId = CONSUMER_GROUP,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "couponIssueListenerContainerFactory"
     )
-    public void listen(
-            @Payload CouponIssueMessage message,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        Long couponId = message.getCouponId();
-        Long userId = message.getUserId();
+    public void listen(List<ConsumerRecord<String, CouponIssueMessage>> records, Acknowledgment acknowledgment) {
+        log.info("쿠폰 발급 메시지 배치 수신: size={}", records.size());
 
-        log.info("쿠폰 발급 메시지 수신: couponId={}, userId={}, partition={}, offset={}",
-                couponId, userId, partition, offset);
+        for (Map.Entry<CouponShard, Map<Long, String>> entry : groupByCouponShard(records).entrySet()) {
+            issueCoupons(entry.getKey(), entry.getValue());
+        }
 
-        try {
-            // MySQL에서 쿠폰 발급 처리 (트랜잭션)
-            couponIssueTransactionService.issueCoupon(couponId, userId);
+        // 배치당 1회 커밋
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    /**
+     * 쿠폰 샤드별 사용자 ID → 발급 요청 ID (메시지 순서 유지, 같은 사용자의 중복 메시지 제거)
+     */
+    private Map<CouponShard, Map<Long, String>> groupByCouponShard(List<ConsumerRecord<String, CouponIssueMessage>> records) {
+        Map<CouponShard, Map<Long, String>> requestIdsByCoupon = new LinkedHashMap<>();
+        for (ConsumerRecord<String, CouponIssueMessage> record : records) {
+            CouponIssueMessage message = record.value();
+            if (message == null) {
+                log.error("쿠폰 발급 메시지 역직렬화 실패, 건너뜀: partition={}, offset={}",
+                        record.partition(), record.offset());
+                continue;
+            }
+            requestIdsByCoupon.computeIfAbsent(new CouponShard(message.getCouponId(), message.getShard()),
+                            couponShard -> new LinkedHashMap<>())
+                    .putIfAbsent(message.getUserId(), message.getRequestId());
+        }
+        return requestIdsByCoupon;
+    }
 
-            // MySQL 저장 성공 후 Redis Set에 사용자 추가 (중복 발급 방지용)
-            addIssuedUser(couponId, userId);
+    private void issueCoupons(CouponShard couponShard, Map<Long, String> requestIdsByUser) {
+        Long couponId = couponShard.couponId();
+        int shard = couponShard.shard();
+        List<Long> userIds = new ArrayList<>(requestIdsByUser.keySet());
+        try {
+            int issuedCount = couponIssueTransactionService.issueCoupons(couponId, userIds);
+            // INSERT IGNORE로 건너뛴 사용자도 이미 발급된 상태이므로 모두 ISSUED
+            couponIssueStatusStore.markAll(requestIdsByUser.values(), CouponIssueStatus.ISSUED, null);
+            log.info("쿠폰 일괄 발급 성공: couponId={}, requested={}, issued={}",
+                    couponId, userIds.size(), issuedCount);
 
-            // Kafka 메시지 커밋 (ACK)
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.COUPON_SOLD_OUT) {
+                // MySQL 재고가 배치보다 적으면 남은 재고만큼 선착순으로 발급
+                log.warn("쿠폰 일괄 발급 재고 부족, 1건씩 발급: couponId={}, requested={}", couponId, userIds.size());
+                requestIdsByUser.forEach((userId, requestId) -> issueCoupon(couponId, shard, userId, requestId));
+                return;
             }
+            // 만료, 쿠폰 없음 등 재시도해도 성공할 수 없는 실패는 예약 취소
+            couponRedisStockService.cancelReservations(couponId, shard, userIds);
+            couponIssueStatusStore.markAll(requestIdsByUser.values(), CouponIssueStatus.FAILED,
+                    e.getErrorCode().name());
+            log.warn("쿠폰 일괄 발급 실패 (예약 취소): couponId={}, userIds={}, reason={}",
+                    couponId, userIds, e.getErrorCode());
+        }
+    }
 
-            log.info("쿠폰 발급 성공 및 커밋: couponId={}, userId={}, partition={}, offset={}",
-                    couponId, userId, partition, offset);
+    /**
+     * 1건 발급 (락 없이 조건부 UPDATE + INSERT IGNORE 경로 사용)
+     * 이미 발급된 사용자(INSERT 0건)는 Set의 사용자가 실제 발급 내역이므로 예약을 유지합니다.
+     */
+    private void issueCoupon(Long couponId, int shard, Long userId, String requestId) {
+        try {
+            int issuedCount = couponIssueTransactionService.issueCoupons(couponId, List.of(userId));
+            couponIssueStatusStore.markAll(Collections.singletonList(requestId), CouponIssueStatus.ISSUED, null);
+            log.info("쿠폰 발급 성공: couponId={}, userId={}, issued={}", couponId, userId, issuedCount);
 
-        } catch (Exception e) {
-            log.error("쿠폰 발급 실패 (재처리 대상): couponId={}, userId={}, partition={}, offset={}",
-                    couponId, userId, partition, offset, e);
-            // 실패 시 ACK하지 않음 -> Kafka에서 재처리
-            // acknowledgment.acknowledge()를 호출하지 않으면 메시지가 커밋되지 않음
+        } catch (CustomException e) {
+            couponRedisStockService.cancelReservation(couponId, shard, userId);
+            couponIssueStatusStore.markAll(Collections.singletonList(requestId), CouponIssueStatus.FAILED,
+                    e.getErrorCode().name());
+            log.warn("쿠폰 발급 실패 (예약 취소): couponId={}, userId={}, reason={}",
+                    couponId, userId, e.getErrorCode());
         }
     }
 
     /**
-     * Redis Set에 발급된 사용자 추가 (중복 발급 방지용)
-     * Consumer에서 MySQL 저장 성공 후 호출됩니다.
-     *
-     * @param couponId 쿠폰 ID
-     * @param userId 사용자 ID
+     * 일괄 발급 단위 (쿠폰 + 예약된 재고 샤드)
      */
-    private void addIssuedUser(Long couponId, Long userId) {
-        String issuedUsersKey = COUPON_ISSUED_USERS_PREFIX + couponId;
-        redisTemplate.opsForSet().add(issuedUsersKey, userId.toString());
-        log.debug("Redis Set에 발급 사용자 추가: couponId={}, userId={}", couponId, userId);
+    private record CouponShard(Long couponId, int shard) {
     }
 }
@@ -21,8 +21,11 @@ public class CouponIssueKafkaConstants {
 
     /**
      * Redis 키: 쿠폰 재고 (필터링용)
-     * Key: coupon:stock:{couponId}
-     * Value: Integer (남은 재고 수)
+     * Key: coupon:stock:{couponId} (샤딩 모드: coupon:stock:{couponId}:{shard})
+     * Value: Integer (남은 예약 가능 수량, 예약 시 차감 / 예약 취소 시 복구)
+     *
+     * couponId는 중괄호를 포함한 해시 태그로 감싸므로 (예: coupon:stock:{7}:2)
+     * Redis Cluster에서도 같은 쿠폰의 재고/발급 사용자 키가 한 슬롯에 모여 예약 스크립트가 CROSSSLOT 없이 실행됩니다.
      */
     public static final String COUPON_STOCK_PREFIX = "coupon:stock:";
 
@@ -31,13 +34,33 @@ public class CouponIssueKafkaConstants {
      * Key: coupon:issued:users:{couponId}
      * Value: Set<String> (userId 목록)
      *
-     * Producer: SET 크기(SCARD)로 발급 개수 확인 및 중복 검사
-     * Consumer: SET에 userId 추가
+     * Producer: 예약 스크립트에서 중복 검사 후 userId 추가 (예약)
+     * Consumer: MySQL 발급 실패 시 userId 제거 (예약 취소)
      */
     public static final String COUPON_ISSUED_USERS_PREFIX = "coupon:issued:users:";
 
     /**
-     * 재고 배율 (실제 재고의 2배까지 큐에 추가)
+     * 쿠폰 재고 키 (샤딩 미사용)
+     */
+    public static String couponStockKey(Long couponId) {
+        return COUPON_STOCK_PREFIX + hashTag(couponId);
+    }
+
+    /**
+     * 샤드별 쿠폰 재고 키
+     */
+    public static String couponStockKey(Long couponId, int shard) {
+        return couponStockKey(couponId) + ":" + shard;
+    }
+
+    /**
+     * 쿠폰 발급 사용자 Set 키
      */
-    public static final int STOCK_MULTIPLIER = 2;
+    public static String couponIssuedUsersKey(Long couponId) {
+        return COUPON_ISSUED_USERS_PREFIX + hashTag(couponId);
+    }
+
+    private static String hashTag(Long couponId) {
+        return "{" + couponId + "}";
+    }
 }
\ No newline at end of file
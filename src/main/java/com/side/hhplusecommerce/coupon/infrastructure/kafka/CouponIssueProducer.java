@@ -2,13 +2,20 @@ package com.side.hhplusecommerce.coupon.infrastructure.kafka;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservation;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservationResult;
 import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
 import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.*;
 
 /**
@@ -16,16 +23,20 @@ import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKa
  * Kafka에 쿠폰 발급 요청을 전송합니다.
  *
  * 역할:
- * 1. Redis Set 중복 발급 확인 (1차 필터링 - 조회만)
- * 2. Redis SET 크기 확인으로 재고 필터링 (2차 필터링)
- * 3. Kafka에 메시지 전송 (couponId 기준 파티셔닝)
+ * 1. Redis 예약 스크립트로 중복 확인 + 재고 확인 + 예약을 원자적으로 처리
+ *    (조회와 Set 추가 사이의 경합이 없으므로 중복/초과 요청이 Kafka까지 가지 않음)
+ * 2. 예약에 성공한 요청만 발급 요청 ID를 만들어 PENDING 상태 기록 후 Kafka에 메시지 전송
+ *    (couponId 기준 파티셔닝, 샤딩 모드에서는 couponId:shard)
+ * 3. PENDING 기록 또는 Kafka 전송 실패 시 예약 취소 및 FAILED 상태 기록
+ *    (PENDING을 기록하지 못한 요청은 상태 조회가 불가능하므로 요청 ID를 반환하지 않고 실패 처리)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponIssueProducer {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponRedisStockService couponRedisStockService;
+    private final CouponIssueStatusStore couponIssueStatusStore;
     private final KafkaTemplate<String, CouponIssueMessage> kafkaTemplate;
 
     /**
@@ -33,33 +44,39 @@ public class CouponIssueProducer {
      *
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
-     * @param remainingQuantity 쿠폰 남은 재고 수량 (CouponStock)
-     * @return 성공 여부
+     * @param remainingQuantity 쿠폰 남은 재고 수량 (CouponStock, Redis 재고 키가 없을 때 초기값으로 사용)
+     * @return 발급 요청 ID (상태 조회용)
      */
-    public boolean enqueue(Long couponId, Long userId, Integer remainingQuantity) {
-        // 1. Redis Set 중복 발급 확인 (1차 필터링 - 조회만)
-        if (isAlreadyIssued(couponId, userId)) {
+    public String enqueue(Long couponId, Long userId, Integer remainingQuantity) {
+        // 1. Redis 예약 (중복 확인 + 재고 확인 + 예약을 원자적으로 처리)
+        CouponReservation reservation = couponRedisStockService.reserve(couponId, userId, remainingQuantity);
+        if (reservation.result() == CouponReservationResult.ALREADY_ISSUED) {
             log.warn("이미 발급된 쿠폰 (Redis 필터링): couponId={}, userId={}", couponId, userId);
             throw new CustomException(ErrorCode.ALREADY_ISSUED_COUPON);
         }
-
-        // 2. Redis SET 크기로 재고 확인 (2차 필터링)
-        Long issuedCount = getIssuedCount(couponId);
-        if (issuedCount >= remainingQuantity) {
-            log.warn("쿠폰 재고 부족 (Redis 필터링): couponId={}, issuedCount={}, remainingQuantity={}",
-                    couponId, issuedCount, remainingQuantity);
+        if (reservation.result() == CouponReservationResult.SOLD_OUT) {
+            log.warn("쿠폰 재고 부족 (Redis 필터링): couponId={}, userId={}", couponId, userId);
             throw new CustomException(ErrorCode.COUPON_SOLD_OUT);
         }
 
-        // 3. Kafka에 메시지 전송 (couponId를 key로 사용하여 파티셔닝)
+        // 2. Kafka에 메시지 전송 (couponId(:shard)를 key로 사용하여 파티셔닝)
+        int shard = reservation.shard();
+        String requestId = UUID.randomUUID().toString();
         try {
-            CouponIssueMessage message = CouponIssueMessage.of(userId, couponId);
+            couponIssueStatusStore.markPending(requestId, couponId, userId);
+            CouponIssueMessage message = CouponIssueMessage.of(requestId, userId, couponId, shard);
 
-            // couponId를 key로 사용하여 같은 쿠폰은 같은 파티션으로 전송 (선착순 보장)
-            kafkaTemplate.send(TOPIC_COUPON_ISSUE, couponId.toString(), message)
+            // 같은 쿠폰(샤드)은 같은 파티션으로 전송 (파티션 내 선착순 보장)
+            // 샤딩 모드에서는 샤드별로 다른 파티션/컨슈머가 병렬로 발급
+            String key = message.partitionKey(couponRedisStockService.getShardCount());
+            kafkaTemplate.send(TOPIC_COUPON_ISSUE, key, message)
                     .whenComplete((result, ex) -> {
                         if (ex != null) {
                             log.error("Kafka 메시지 전송 실패: couponId={}, userId={}", couponId, userId, ex);
+                            // 메시지가 전달되지 않았으므로 예약을 되돌려 재시도/다른 사용자에게 재고를 돌려줌
+                            couponRedisStockService.cancelReservation(couponId, shard, userId);
+                            couponIssueStatusStore.markAll(List.of(requestId), CouponIssueStatus.FAILED,
+                                    ErrorCode.ISSUE_COUPON_FAIL.name());
                         } else {
                             log.info("Kafka 메시지 전송 성공: couponId={}, userId={}, partition={}, offset={}",
                                     couponId, userId,
@@ -68,38 +85,16 @@ public class CouponIssueProducer {
                         }
                     });
 
-            log.info("쿠폰 발급 요청 Kafka 전송: couponId={}, userId={}, issuedCount={}",
-                    couponId, userId, issuedCount);
-            return true;
+            log.info("쿠폰 발급 요청 Kafka 전송: requestId={}, couponId={}, userId={}, shard={}",
+                    requestId, couponId, userId, shard);
+            return requestId;
 
         } catch (Exception e) {
             log.error("쿠폰 발급 요청 Kafka 전송 실패: couponId={}, userId={}", couponId, userId, e);
+            couponRedisStockService.cancelReservation(couponId, shard, userId);
+            couponIssueStatusStore.markAll(List.of(requestId), CouponIssueStatus.FAILED,
+                    ErrorCode.ISSUE_COUPON_FAIL.name());
             throw new CustomException(ErrorCode.ISSUE_COUPON_FAIL);
         }
     }
-
-    /**
-     * 중복 발급 확인 (1차 필터링 - 조회만)
-     * Redis Set을 조회만 하고 추가하지 않습니다.
-     * 실제 Set 추가는 Consumer에서 MySQL 성공 후 수행됩니다.
-     */
-    private boolean isAlreadyIssued(Long couponId, Long userId) {
-        String issuedUsersKey = COUPON_ISSUED_USERS_PREFIX + couponId;
-        Boolean isIssued = redisTemplate.opsForSet().isMember(issuedUsersKey, userId.toString());
-        return isIssued != null && isIssued;
-    }
-
-    /**
-     * 현재 발급된 쿠폰 개수 조회 (2차 필터링)
-     * Redis SET의 크기(SCARD)를 사용하여 현재까지 발급된 쿠폰 개수를 확인합니다.
-     *
-     * @param couponId 쿠폰 ID
-     * @return 발급된 쿠폰 개수
-     */
-    private Long getIssuedCount(Long couponId) {
-        String issuedUsersKey = COUPON_ISSUED_USERS_PREFIX + couponId;
-        Long count = redisTemplate.opsForSet().size(issuedUsersKey);
-        log.debug("현재 발급된 쿠폰 개수: couponId={}, count={}", couponId, count);
-        return count != null ? count : 0L;
-    }
 }
@@ -0,0 +1,60 @@
+package com.side.hhplusecommerce.coupon.infrastructure.kafka;
+
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
+import com.side.hhplusecommerce.coupon.service.CouponIssueTransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+
+/**
+ * 쿠폰 발급 재시도 초과 레코드 복구
+ * 배치 재시도를 모두 소진해 건너뛰는 레코드마다 호출되어, Redis 예약과 요청 상태가 남지 않도록 정리합니다.
+ *
+ * 1. MySQL에 이미 발급된 경우 (같은 배치의 다른 쿠폰 처리 중 실패한 경우) ISSUED로 기록하고 예약 유지
+ * 2. 발급되지 않은 경우 Redis 예약 취소 (예약된 샤드로 재고 복구) 후 FAILED로 기록
+ *
+ * 발급 여부 조회 자체가 실패하면 예외를 그대로 던져 레코드를 건너뛰지 않고 다시 전달받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueRecoverer implements ConsumerRecordRecoverer {
+
+    public static final String RETRY_EXHAUSTED = "RETRY_EXHAUSTED";
+
+    private final CouponIssueTransactionService couponIssueTransactionService;
+    private final CouponRedisStockService couponRedisStockService;
+    private final CouponIssueStatusStore couponIssueStatusStore;
+
+    @Override
+    public void accept(ConsumerRecord<?, ?> record, Exception exception) {
+        if (!(record.value() instanceof CouponIssueMessage message)) {
+            log.error("쿠폰 발급 재시도 초과, 메시지를 읽을 수 없어 건너뜀: partition={}, offset={}",
+                    record.partition(), record.offset(), exception);
+            return;
+        }
+
+        Long couponId = message.getCouponId();
+        Long userId = message.getUserId();
+        if (couponIssueTransactionService.isIssued(couponId, userId)) {
+            couponIssueStatusStore.markAll(Collections.singletonList(message.getRequestId()),
+                    CouponIssueStatus.ISSUED, null);
+            log.warn("쿠폰 발급 재시도 초과, 이미 발급되어 건너뜀: couponId={}, userId={}, partition={}, offset={}",
+                    couponId, userId, record.partition(), record.offset());
+            return;
+        }
+
+        couponRedisStockService.cancelReservation(couponId, message.getShard(), userId);
+        couponIssueStatusStore.markAll(Collections.singletonList(message.getRequestId()),
+                CouponIssueStatus.FAILED, RETRY_EXHAUSTED);
+        log.error("쿠폰 발급 재시도 초과 (예약 취소): couponId={}, userId={}, partition={}, offset={}",
+                couponId, userId, record.partition(), record.offset(), exception);
+    }
+}
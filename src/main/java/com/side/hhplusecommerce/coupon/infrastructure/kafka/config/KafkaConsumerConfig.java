@@ -1,18 +1,26 @@
 package com.side.hhplusecommerce.coupon.infrastructure.kafka.config;
 
+import com.side.hhplusecommerce.common.monitoring.KafkaConsumerLagMonitor;
+import com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueRecoverer;
 import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,16 +29,51 @@ import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKa
 
 /**
  * Kafka Consumer 설정
+ *
+ * 워크로드별로 리스너 컨테이너 팩토리를 분리해 서로의 처리 속도에 영향을 주지 않도록 합니다.
+ * - coupon-issue : 선착순 쿠폰 발급
+ * - order-saga : 주문 Saga (재고 예약, 쿠폰 사용, 결과 이벤트, 보상 명령)
+ * - payment : 결제 처리 (지연에 민감, 작은 poll)
+ * - post-process : 주문 완료 후처리 (처리량 우선)
+ * - external-data : 외부 데이터 플랫폼 전송 (느린 외부 호출, 격리)
+ *
+ * 각 팩토리의 concurrency / max.poll.records / fetch.min.bytes / fetch.max.wait.ms는
+ * kafka.listener.{workload}.* 설정으로 조정할 수 있습니다.
+ * 컨슈머 스레드 이름은 "{workload}-listener-N" 형태이며, 워크로드별 랙은 kafka.consumer.lag 게이지로 노출됩니다.
+ * spring.threads.virtual.enabled=true이면 컨슈머 스레드를 가상 스레드로 생성합니다.
  */
+@Slf4j
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConsumerConfig {
 
+    public static final String WORKLOAD_COUPON_ISSUE = "coupon-issue";
+    public static final String WORKLOAD_ORDER_SAGA = "order-saga";
+    public static final String WORKLOAD_PAYMENT = "payment";
+    public static final String WORKLOAD_POST_PROCESS = "post-process";
+    public static final String WORKLOAD_EXTERNAL_DATA = "external-data";
+
+    private static final ListenerTuning COUPON_ISSUE_DEFAULTS = new ListenerTuning(3, 500, 1, 100);
+    private static final ListenerTuning ORDER_SAGA_DEFAULTS = new ListenerTuning(3, 200, 1, 100);
+    private static final ListenerTuning PAYMENT_DEFAULTS = new ListenerTuning(3, 50, 1, 50);
+    private static final ListenerTuning POST_PROCESS_DEFAULTS = new ListenerTuning(2, 500, 16384, 500);
+    private static final ListenerTuning EXTERNAL_DATA_DEFAULTS = new ListenerTuning(1, 100, 65536, 1000);
+
+    private final Environment environment;
+    private final KafkaConsumerLagMonitor kafkaConsumerLagMonitor;
+    private final CouponIssueRecoverer couponIssueRecoverer;
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public ConsumerFactory<String, CouponIssueMessage> consumerFactory() {
+        ListenerTuning tuning = tuning(WORKLOAD_COUPON_ISSUE, COUPON_ISSUE_DEFAULTS);
+
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, CONSUMER_GROUP);
@@ -43,18 +86,148 @@ public class KafkaConsumerConfig {
         // Consumer 설정
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 수동 커밋
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"); // 처음부터 읽기
-        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100); // 한 번에 가져올 레코드 수
+        tuning.applyTo(configProps);
 
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
+    /**
+     * 선착순 쿠폰 발급 배치 리스너 컨테이너 팩토리
+     * - poll 단위로 레코드를 받아 쿠폰별로 일괄 발급하고, 배치당 한 번 커밋
+     * - 처리 실패 시 배치 전체를 재시도 (이미 발급된 사용자는 유니크 제약으로 무시되어 중복 차감 없음)
+     * - 2회 재시도 후에도 실패하면 레코드별로 Redis 예약을 취소하고 FAILED로 기록 (CouponIssueRecoverer)
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueMessage> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueMessage> couponIssueListenerContainerFactory() {
+        ListenerTuning tuning = tuning(WORKLOAD_COUPON_ISSUE, COUPON_ISSUE_DEFAULTS);
+
         ConcurrentKafkaListenerContainerFactory<String, CouponIssueMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 수동 커밋
-        factory.setConcurrency(1); // 파티션당 1개의 컨슈머
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 배치당 1회 커밋
+        factory.setCommonErrorHandler(new DefaultErrorHandler(couponIssueRecoverer, new FixedBackOff(1000L, 2L)));
+        configureWorkload(factory, WORKLOAD_COUPON_ISSUE, tuning);
+        return factory;
+    }
+
+    /**
+     * 주문 Saga 배치 리스너 컨테이너 팩토리
+     * - poll 단위로 레코드 목록을 받아 한 번에 조회/처리하고, 배치당 한 번 커밋
+     * - 파티션은 컨슈머 스레드 하나에만 할당되므로 파티션 내 순서는 유지
+     * - 레코드 처리 실패 시 BatchListenerFailedException으로 실패 지점 이전까지만 커밋하고
+     *   실패 레코드부터 재시도 (2회 재시도 후 로그 남기고 건너뜀)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> orderSagaBatchListenerContainerFactory() {
+        return orderEventBatchListenerContainerFactory(WORKLOAD_ORDER_SAGA, ORDER_SAGA_DEFAULTS);
+    }
+
+    /**
+     * 결제 배치 리스너 컨테이너 팩토리
+     * 레코드마다 포인트 차감(동기)이 수행되므로 poll을 작게 유지해 배치 처리 시간을 짧게 합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> paymentBatchListenerContainerFactory() {
+        return orderEventBatchListenerContainerFactory(WORKLOAD_PAYMENT, PAYMENT_DEFAULTS);
+    }
+
+    /**
+     * 주문 완료 후처리 배치 리스너 컨테이너 팩토리
+     * 지연보다 처리량이 중요하므로 fetch를 모아서 가져옵니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> postProcessBatchListenerContainerFactory() {
+        return orderEventBatchListenerContainerFactory(WORKLOAD_POST_PROCESS, POST_PROCESS_DEFAULTS);
+    }
+
+    /**
+     * 외부 데이터 플랫폼 전송 리스너 컨테이너 팩토리
+     * 외부 호출이 느려도 결제/주문 Saga 컨슈머에 영향을 주지 않도록 분리합니다.
+     * 리스너가 예외를 직접 처리하므로 레코드 단위로 자동 커밋합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> externalDataListenerContainerFactory() {
+        ListenerTuning tuning = tuning(WORKLOAD_EXTERNAL_DATA, EXTERNAL_DATA_DEFAULTS);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderEventConsumerFactory(tuning));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        configureWorkload(factory, WORKLOAD_EXTERNAL_DATA, tuning);
+        return factory;
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, Object> orderEventBatchListenerContainerFactory(
+            String workload, ListenerTuning defaults) {
+        ListenerTuning tuning = tuning(workload, defaults);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderEventConsumerFactory(tuning));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 배치당 1회 커밋
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, ex) -> log.error("주문 이벤트 재시도 초과, 건너뜀: topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset(), ex),
+                new FixedBackOff(1000L, 2L)
+        ));
+        configureWorkload(factory, workload, tuning);
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 이벤트 Consumer Factory
+     * Producer(JsonSerializer)가 넣어주는 타입 헤더로 이벤트 타입을 결정합니다.
+     */
+    private ConsumerFactory<String, Object> orderEventConsumerFactory(ListenerTuning tuning) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+
+        // Consumer 설정
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 수동 커밋
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        tuning.applyTo(configProps);
+
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * 워크로드 공통 설정: 동시성, 컨슈머 스레드(이름, 가상 스레드 여부), 랙 메트릭 등록
+     */
+    private <V> void configureWorkload(ConcurrentKafkaListenerContainerFactory<String, V> factory,
+                                       String workload, ListenerTuning tuning) {
+        factory.setConcurrency(tuning.concurrency());
+        SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor(workload + "-listener-");
+        listenerTaskExecutor.setVirtualThreads(virtualThreads);
+        factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        factory.setContainerCustomizer(container ->
+                kafkaConsumerLagMonitor.register(workload, container.getGroupId()));
+    }
+
+    private ListenerTuning tuning(String workload, ListenerTuning defaults) {
+        String prefix = "kafka.listener." + workload + ".";
+        return new ListenerTuning(
+                environment.getProperty(prefix + "concurrency", Integer.class, defaults.concurrency()),
+                environment.getProperty(prefix + "max-poll-records", Integer.class, defaults.maxPollRecords()),
+                environment.getProperty(prefix + "fetch-min-bytes", Integer.class, defaults.fetchMinBytes()),
+                environment.getProperty(prefix + "fetch-max-wait-ms", Integer.class, defaults.fetchMaxWaitMs())
+        );
+    }
+
+    /**
+     * 워크로드별 리스너 튜닝 값
+     */
+    private record ListenerTuning(int concurrency, int maxPollRecords, int fetchMinBytes, int fetchMaxWaitMs) {
+
+        void applyTo(Map<String, Object> configProps) {
+            configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords); // 한 번에 가져올 레코드 수
+            configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+            configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
@@ -65,7 +66,40 @@ public class KafkaProducerConfig {
      * Object 타입 지원하는 KafkaTemplate (주문 이벤트용)
      */
     @Bean
+    @Primary
     public KafkaTemplate<String, Object> objectKafkaTemplate() {
         return new KafkaTemplate<>(objectProducerFactory());
     }
+
+    /**
+     * 주문 Outbox 릴레이 전용 Producer Factory
+     * 배치 단위로 한꺼번에 전송하므로 linger/batch-size를 늘리고 압축을 사용해 처리량을 높입니다.
+     */
+    @Bean
+    public ProducerFactory<String, Object> outboxProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+
+        // Producer 설정
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        // 배치 전송 튜닝
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10); // 최대 10ms 동안 모아서 전송
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024); // 파티션별 배치 64KB
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * 주문 Outbox 릴레이 전용 KafkaTemplate
+     */
+    @Bean
+    public KafkaTemplate<String, Object> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
 }
\ No newline at end of file
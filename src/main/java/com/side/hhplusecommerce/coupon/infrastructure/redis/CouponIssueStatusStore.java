@@ -0,0 +1,168 @@
+package com.side.hhplusecommerce.coupon.infrastructure.redis;
+
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueStatusEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 요청 상태 저장소 (Redis Hash)
+ *
+ * Key: coupon:issue:status:{requestId}, Field: status / couponId / userId / reason
+ * - Producer: 예약 성공 후 PENDING 기록
+ * - Consumer: MySQL 처리 후 ISSUED / FAILED로 갱신 (쿠폰 배치당 한 번의 round trip)
+ * - 상태 조회 API는 키 하나만 읽으므로 사용자 쿠폰 목록 조회(findByUserId + 쿠폰 조회)를 폴링하지 않아도 됨
+ *
+ * PENDING 기록 실패는 예외를 던져 요청 자체를 실패시킵니다. (접수된 요청의 상태 조회가 404가 되지 않도록)
+ * 처리 결과 기록 실패는 발급 결과에 영향을 주지 않으므로 예외를 던지지 않고 로그만 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStatusStore {
+
+    public static final String KEY_PREFIX = "coupon:issue:status:";
+
+    /**
+     * 발급 대기 상태 기록 (DEL → HSET → EXPIRE)
+     * KEYS[1]: 상태 키, ARGV[1]: couponId, ARGV[2]: userId, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> PENDING_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'status', 'PENDING', 'couponId', ARGV[1], 'userId', ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 처리 결과 기록 (PENDING 기록이 남아 있는 요청만 갱신)
+     * KEYS[1..n]: 상태 키, ARGV[1]: status, ARGV[2]: reason(없으면 빈 문자열), ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('HSET', KEYS[i], 'status', ARGV[1], 'reason', ARGV[2]) " +
+            "    redis.call('EXPIRE', KEYS[i], ARGV[3]) " +
+            "    updated = updated + 1 " +
+            "  end " +
+            "end " +
+            "return updated",
+            Long.class
+    );
+
+    /**
+     * 여러 요청 상태 조회 (요청당 4개 필드, 없는 필드는 빈 문자열)
+     * KEYS[1..n]: 상태 키
+     */
+    private static final RedisScript<List> FIND_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i = 1, #KEYS do " +
+            "  local values = redis.call('HMGET', KEYS[i], 'status', 'couponId', 'userId', 'reason') " +
+            "  for j = 1, 4 do " +
+            "    result[(i - 1) * 4 + j] = values[j] or '' " +
+            "  end " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${coupon.issue.status.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * 발급 대기 상태 기록
+     * 기록에 실패하면 Redis 예외를 그대로 던집니다. (호출 측이 예약을 취소하고 요청을 실패 처리)
+     */
+    public void markPending(String requestId, Long couponId, Long userId) {
+        stringRedisTemplate.execute(PENDING_SCRIPT, List.of(key(requestId)),
+                couponId.toString(), userId.toString(), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 처리 결과 일괄 기록
+     *
+     * @param requestIds 발급 요청 ID 목록 (null은 무시 - 상태 기록 이전에 발행된 메시지)
+     * @param status ISSUED / FAILED
+     * @param reason 실패 사유 (없으면 null)
+     */
+    public void markAll(Collection<String> requestIds, CouponIssueStatus status, String reason) {
+        List<String> keys = requestIds.stream()
+                .filter(Objects::nonNull)
+                .map(this::key)
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(COMPLETE_SCRIPT, keys,
+                    status.name(), reason != null ? reason : "", String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to write coupon issue status: requestIds={}, status={}", requestIds, status, e);
+        }
+    }
+
+    /**
+     * 요청 상태 조회
+     *
+     * @return 요청 상태, 없거나 TTL이 지났으면 empty
+     */
+    public Optional<CouponIssueStatusEntry> find(String requestId) {
+        return Optional.ofNullable(findAll(List.of(requestId)).get(requestId));
+    }
+
+    /**
+     * 여러 요청 상태 조회 (한 번의 round trip)
+     *
+     * @return 요청 ID별 상태 (없는 요청은 제외)
+     */
+    public Map<String, CouponIssueStatusEntry> findAll(List<String> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(requestIds.size());
+        requestIds.forEach(requestId -> keys.add(key(requestId)));
+        List<?> values = stringRedisTemplate.execute(FIND_ALL_SCRIPT, keys);
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<String, CouponIssueStatusEntry> entries = new HashMap<>();
+        for (int i = 0; i < requestIds.size(); i++) {
+            String status = String.valueOf(values.get(i * 4));
+            if (status.isEmpty()) {
+                continue;
+            }
+            String reason = String.valueOf(values.get(i * 4 + 3));
+            entries.put(requestIds.get(i), new CouponIssueStatusEntry(
+                    requestIds.get(i),
+                    Long.valueOf(String.valueOf(values.get(i * 4 + 1))),
+                    Long.valueOf(String.valueOf(values.get(i * 4 + 2))),
+                    CouponIssueStatus.valueOf(status),
+                    reason.isEmpty() ? null : reason
+            ));
+        }
+        return entries;
+    }
+
+    private String key(String requestId) {
+        return KEY_PREFIX + requestId;
+    }
+}
@@ -2,9 +2,16 @@ package com.side.hhplusecommerce.coupon.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.*;
 
 /**
@@ -12,68 +19,187 @@ import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKa
  *
  * 역할:
  * 1. MySQL의 쿠폰 재고를 Redis에 캐싱 (필터링용)
- * 2. Consumer에서 MySQL 저장 성공 후 Redis 재고 차감
- * 3. Redis Set에 발급된 사용자 추가 (중복 발급 방지용)
+ * 2. 발급 요청 시 중복 확인 + 재고 확인 + 예약을 하나의 Lua 스크립트로 원자적으로 처리
+ * 3. Consumer에서 MySQL 발급 실패 시 예약 취소 (Set 제거 + 재고 복구)
+ *
+ * 샤딩 모드 (coupon.issue.shard-count > 1):
+ * - 재고를 K개의 샤드 키(coupon:stock:{couponId}:{shard})로 나누어 보관
+ *   (couponId 해시 태그로 모든 샤드 키와 발급 사용자 Set이 Redis Cluster의 한 슬롯에 위치)
+ * - 사용자는 userId % K 샤드에서 먼저 예약하고, 해당 샤드가 소진되면 다른 샤드의 남은 재고를 사용
+ *   (매진 직전에 샤드 간 재고가 남아 있어도 거절되지 않도록 재분배)
+ * - 발급 사용자 Set은 쿠폰당 하나로 유지하여 중복 발급은 샤드와 무관하게 차단
+ * - 샤드 수는 쿠폰 재고가 초기화된 뒤에 변경하지 않아야 합니다.
+ * - 샤딩은 Redis 예약과 Kafka 파티션 소비만 병렬화합니다. MySQL 재고(coupon_stocks)는 쿠폰당 한 행이므로
+ *   발급 UPDATE는 여전히 같은 행 잠금에서 직렬화됩니다. (배치 발급으로 잠금 횟수만 줄임)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponRedisStockService {
 
+    /**
+     * 쿠폰 발급 예약 스크립트
+     * SISMEMBER(중복 확인) → 샤드별 남은 재고 확인 → DECR + SADD(예약)를 원자적으로 실행합니다.
+     * 재고 키가 없으면 ARGV[2](MySQL 남은 재고)를 샤드 수로 나누어 초기화한 뒤 확인합니다.
+     * KEYS[1..K]: 샤드별 재고 키, KEYS[K+1]: 발급 사용자 Set 키
+     * ARGV[1]: userId, ARGV[2]: 재고 키가 없을 때 사용할 초기 재고, ARGV[3]: 우선 샤드(0부터)
+     * 반환값: {결과 코드, 예약된 샤드} - 결과 코드는 0(예약 성공), 1(이미 발급/예약됨), 2(재고 소진)
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local users = KEYS[#KEYS] " +
+            "local n = #KEYS - 1 " +
+            "if redis.call('SISMEMBER', users, ARGV[1]) == 1 then " +
+            "  return {1, -1} " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "  local total = tonumber(ARGV[2]) " +
+            "  local base = math.floor(total / n) " +
+            "  local extra = total % n " +
+            "  for i = 1, n do " +
+            "    local share = base " +
+            "    if i <= extra then share = share + 1 end " +
+            "    redis.call('SET', KEYS[i], share) " +
+            "  end " +
+            "end " +
+            "local start = tonumber(ARGV[3]) " +
+            "for k = 0, n - 1 do " +
+            "  local i = (start + k) % n + 1 " +
+            "  local stock = tonumber(redis.call('GET', KEYS[i]) or '0') " +
+            "  if stock > 0 then " +
+            "    redis.call('DECR', KEYS[i]) " +
+            "    redis.call('SADD', users, ARGV[1]) " +
+            "    return {0, i - 1} " +
+            "  end " +
+            "end " +
+            "return {2, -1}",
+            List.class
+    );
+
+    /**
+     * 쿠폰 발급 예약 취소 스크립트
+     * 예약된 사용자만 Set에서 제거하고, 제거된 수만큼 재고를 복구합니다. (중복 취소 시 재고가 늘어나지 않음)
+     * KEYS[1]: 재고 키, KEYS[2]: 발급 사용자 Set 키
+     * ARGV[1..n]: userId
+     * 반환값: 취소된 예약 수
+     */
+    private static final RedisScript<Long> CANCEL_RESERVATION_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for i = 1, #ARGV do " +
+            "  removed = removed + redis.call('SREM', KEYS[2], ARGV[i]) " +
+            "end " +
+            "if removed > 0 and redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('INCRBY', KEYS[1], removed) " +
+            "end " +
+            "return removed",
+            Long.class
+    );
+
     private final RedisTemplate<String, Object> redisTemplate;
 
+    @Value("${coupon.issue.shard-count:1}")
+    private int shardCount;
+
     /**
      * MySQL의 쿠폰 재고를 Redis에 초기화
-     * 실제 재고의 2배만큼 설정 (여유있게 큐에 받기 위함)
+     * 예약 스크립트가 재고를 정확히 차감하므로 MySQL 남은 재고와 동일하게 설정합니다.
+     * 샤딩 모드에서는 샤드 수로 나누어 설정합니다. (나머지는 앞쪽 샤드부터 1개씩)
      *
      * @param couponId 쿠폰 ID
      * @param totalQuantity MySQL의 총 재고 수량
      */
     public void initializeStock(Long couponId, Integer totalQuantity) {
-        String stockKey = COUPON_STOCK_PREFIX + couponId;
-        Integer redisStock = totalQuantity * STOCK_MULTIPLIER;
+        List<String> stockKeys = stockKeys(couponId);
+        int shards = stockKeys.size();
+        for (int shard = 0; shard < shards; shard++) {
+            int redisStock = totalQuantity / shards + (shard < totalQuantity % shards ? 1 : 0);
+            redisTemplate.opsForValue().set(stockKeys.get(shard), redisStock);
+        }
+        log.info("Redis 쿠폰 재고 초기화: couponId={}, totalQuantity={}, shards={}",
+                couponId, totalQuantity, shards);
+    }
 
-        redisTemplate.opsForValue().set(stockKey, redisStock);
-        log.info("Redis 쿠폰 재고 초기화: couponId={}, totalQuantity={}, redisStock={}",
-                couponId, totalQuantity, redisStock);
+    /**
+     * 쿠폰 발급 예약 (중복 확인 + 재고 확인 + 예약을 한 번의 round trip으로 처리)
+     * 예약에 성공한 요청만 Kafka로 전송되도록 Producer에서 호출합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param fallbackStock 재고 키가 없을 때 초기화할 재고 (MySQL 남은 재고)
+     * @return 예약 결과와 예약된 샤드
+     */
+    public CouponReservation reserve(Long couponId, Long userId, Integer fallbackStock) {
+        List<String> keys = new ArrayList<>(stockKeys(couponId));
+        keys.add(couponIssuedUsersKey(couponId));
+        long preferredShard = Math.floorMod(userId, (long) shardCount);
+
+        List<?> result = redisTemplate.execute(RESERVE_SCRIPT, keys,
+                userId.toString(), fallbackStock, preferredShard);
+        Objects.requireNonNull(result, "쿠폰 예약 스크립트 결과가 없습니다.");
+        return new CouponReservation(
+                CouponReservationResult.fromCode((Long) result.get(0)),
+                ((Long) result.get(1)).intValue()
+        );
     }
 
     /**
-     * Redis 재고 조회
+     * 쿠폰 발급 예약 취소
+     * Consumer에서 MySQL 발급이 실패했을 때 호출되어 사용자와 재고를 되돌립니다.
      *
      * @param couponId 쿠폰 ID
-     * @return 남은 재고 수량
+     * @param shard 예약된 샤드
+     * @param userId 사용자 ID
+     * @return 예약이 있어 취소된 경우 true
      */
-    public Integer getStock(Long couponId) {
-        String stockKey = COUPON_STOCK_PREFIX + couponId;
-        Integer stock = (Integer) redisTemplate.opsForValue().get(stockKey);
-        return stock != null ? stock : 0;
+    public boolean cancelReservation(Long couponId, int shard, Long userId) {
+        return cancelReservations(couponId, shard, List.of(userId)) == 1L;
     }
 
     /**
-     * Redis 재고 차감
-     * Consumer에서 MySQL 저장 성공 후 호출됩니다.
+     * 쿠폰 발급 예약 일괄 취소 (한 번의 round trip)
+     * 재고는 예약된 샤드로 복구됩니다.
      *
      * @param couponId 쿠폰 ID
-     * @return 차감 후 재고 수량
+     * @param shard 예약된 샤드
+     * @param userIds 사용자 ID 목록
+     * @return 취소된 예약 수
      */
-    public Long decreaseStock(Long couponId) {
-        String stockKey = COUPON_STOCK_PREFIX + couponId;
-        Long remainingStock = redisTemplate.opsForValue().decrement(stockKey);
+    public long cancelReservations(Long couponId, int shard, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0L;
+        }
 
-        log.debug("Redis 쿠폰 재고 차감: couponId={}, remainingStock={}", couponId, remainingStock);
-        return remainingStock != null ? remainingStock : 0L;
+        Object[] args = userIds.stream().map(String::valueOf).toArray();
+        Long cancelled = redisTemplate.execute(CANCEL_RESERVATION_SCRIPT,
+                List.of(stockKey(couponId, shard), couponIssuedUsersKey(couponId)),
+                args);
+        log.info("쿠폰 발급 예약 취소: couponId={}, shard={}, userIds={}, cancelled={}",
+                couponId, shard, userIds, cancelled);
+        return cancelled != null ? cancelled : 0L;
+    }
+
+    /**
+     * Redis 재고 조회 (샤딩 모드에서는 모든 샤드의 합)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 남은 재고 수량
+     */
+    public Integer getStock(Long couponId) {
+        int total = 0;
+        for (String stockKey : stockKeys(couponId)) {
+            Integer stock = (Integer) redisTemplate.opsForValue().get(stockKey);
+            total += stock != null ? stock : 0;
+        }
+        return total;
     }
 
     /**
      * Redis Set에 발급된 사용자 추가 (중복 발급 방지용)
-     * Consumer에서 MySQL 저장 성공 후 호출됩니다.
      *
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
      */
     public void addIssuedUser(Long couponId, Long userId) {
-        String issuedUsersKey = COUPON_ISSUED_USERS_PREFIX + couponId;
+        String issuedUsersKey = couponIssuedUsersKey(couponId);
         redisTemplate.opsForSet().add(issuedUsersKey, userId.toString());
 
         log.debug("Redis Set에 발급 사용자 추가: couponId={}, userId={}", couponId, userId);
@@ -87,7 +213,7 @@ public class CouponRedisStockService {
      * @return 이미 발급된 경우 true
      */
     public boolean isAlreadyIssued(Long couponId, Long userId) {
-        String issuedUsersKey = COUPON_ISSUED_USERS_PREFIX + couponId;
+        String issuedUsersKey = couponIssuedUsersKey(couponId);
         Boolean isMember = redisTemplate.opsForSet().isMember(issuedUsersKey, userId.toString());
         return isMember != null && isMember;
     }
@@ -99,12 +225,35 @@ public class CouponRedisStockService {
      * @param couponId 쿠폰 ID
      */
     public void clearCouponData(Long couponId) {
-        String stockKey = COUPON_STOCK_PREFIX + couponId;
-        String issuedUsersKey = COUPON_ISSUED_USERS_PREFIX + couponId;
+        List<String> keys = new ArrayList<>(stockKeys(couponId));
+        keys.add(couponIssuedUsersKey(couponId));
 
-        redisTemplate.delete(stockKey);
-        redisTemplate.delete(issuedUsersKey);
+        redisTemplate.delete(keys);
 
         log.info("Redis 쿠폰 데이터 삭제: couponId={}", couponId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 쿠폰의 샤드 수 (1이면 샤딩 미사용)
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 샤드별 재고 키 (샤딩 미사용 시 기존 키 coupon:stock:{couponId} 하나)
+     */
+    private List<String> stockKeys(Long couponId) {
+        List<String> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(stockKey(couponId, shard));
+        }
+        return keys;
+    }
+
+    private String stockKey(Long couponId, int shard) {
+        return shardCount > 1
+                ? couponStockKey(couponId, shard)
+                : couponStockKey(couponId);
+    }
+}
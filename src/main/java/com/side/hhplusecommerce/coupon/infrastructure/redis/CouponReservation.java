@@ -0,0 +1,14 @@
+package com.side.hhplusecommerce.coupon.infrastructure.redis;
+
+/**
+ * 쿠폰 발급 예약 결과
+ *
+ * @param result 예약 결과 코드
+ * @param shard 예약된 재고 샤드 (예약 실패 시 -1, 샤딩 미사용 시 0)
+ */
+public record CouponReservation(CouponReservationResult result, int shard) {
+
+    public boolean isReserved() {
+        return result == CouponReservationResult.RESERVED;
+    }
+}
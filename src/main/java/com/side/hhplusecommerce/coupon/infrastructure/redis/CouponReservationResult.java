@@ -0,0 +1,27 @@
+package com.side.hhplusecommerce.coupon.infrastructure.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쿠폰 발급 예약 스크립트 결과 코드
+ * Lua 스크립트의 반환값과 1:1로 매핑됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CouponReservationResult {
+    RESERVED(0L),
+    ALREADY_ISSUED(1L),
+    SOLD_OUT(2L);
+
+    private final long code;
+
+    public static CouponReservationResult fromCode(Long code) {
+        for (CouponReservationResult result : values()) {
+            if (code != null && result.code == code) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("알 수 없는 쿠폰 예약 결과 코드: " + code);
+    }
+}
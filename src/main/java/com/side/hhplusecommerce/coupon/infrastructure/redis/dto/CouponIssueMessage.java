@@ -12,15 +12,31 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class CouponIssueMessage {
+    private String requestId; // 발급 요청 상태 조회용 ID (CouponIssueStatusStore)
     private Long userId;
     private Long couponId;
+    private int shard; // 예약된 재고 샤드 (샤딩 미사용 시 0)
     private LocalDateTime requestTime;
 
     public static CouponIssueMessage of(Long userId, Long couponId) {
+        return of(null, userId, couponId, 0);
+    }
+
+    public static CouponIssueMessage of(String requestId, Long userId, Long couponId, int shard) {
         return CouponIssueMessage.builder()
+                .requestId(requestId)
                 .userId(userId)
                 .couponId(couponId)
+                .shard(shard)
                 .requestTime(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * Kafka 메시지 key
+     * 샤딩 미사용 시 couponId, 샤딩 시 couponId:shard로 샤드별로 다른 파티션에 분산됩니다.
+     */
+    public String partitionKey(int shardCount) {
+        return shardCount > 1 ? couponId + ":" + shard : couponId.toString();
+    }
 }
@@ -0,0 +1,17 @@
+package com.side.hhplusecommerce.coupon.infrastructure.redis.dto;
+
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+
+/**
+ * 쿠폰 발급 요청 상태 (Redis Hash coupon:issue:status:{requestId})
+ *
+ * @param reason 실패 사유 (ErrorCode 이름, 실패가 아니면 null)
+ */
+public record CouponIssueStatusEntry(
+        String requestId,
+        Long couponId,
+        Long userId,
+        CouponIssueStatus status,
+        String reason
+) {
+}
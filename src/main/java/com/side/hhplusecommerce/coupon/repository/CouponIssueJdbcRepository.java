@@ -0,0 +1,67 @@
+package com.side.hhplusecommerce.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 쿠폰 일괄 발급 JDBC 리포지토리
+ * 같은 쿠폰의 발급 요청 N건을 multi-row INSERT 한 번과 조건부 UPDATE 한 번으로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueJdbcRepository {
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE coupon_stocks SET remaining_quantity = remaining_quantity - ?, updated_at = ? " +
+            "WHERE coupon_id = ? AND remaining_quantity >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 쿠폰 multi-row INSERT
+     * (user_id, coupon_id) 유니크 제약에 걸리는 이미 발급된 사용자는 INSERT IGNORE로 건너뜁니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 발급 대상 사용자 ID 목록 (중복 없음)
+     * @return 실제로 발급(INSERT)된 건수
+     */
+    public int insertUserCouponsIgnoringDuplicates(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String values = String.join(",", Collections.nCopies(userIds.size(), "(?, ?, false, ?)"));
+        List<Object> args = new ArrayList<>(userIds.size() * 3);
+        for (Long userId : userIds) {
+            args.add(userId);
+            args.add(couponId);
+            args.add(now);
+        }
+
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO user_coupons (user_id, coupon_id, is_used, issued_at) VALUES " + values,
+                args.toArray()
+        );
+    }
+
+    /**
+     * 조건부 쿠폰 재고 차감
+     * 남은 재고가 quantity 이상인 경우에만 한 번에 차감합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param quantity 차감 수량
+     * @return 영향 받은 행 수 (0이면 재고 부족 또는 쿠폰 없음)
+     */
+    public int decreaseStockIfEnough(Long couponId, int quantity) {
+        return jdbcTemplate.update(DECREASE_STOCK_SQL,
+                quantity, Timestamp.valueOf(LocalDateTime.now()), couponId, quantity);
+    }
+}
@@ -23,6 +23,6 @@ public class CouponIssueLockService {
      */
     @DistributedLock(keyResolver = "couponIssueLockKeyResolver", key = "#couponId")
     public IssueCouponResponse issueCouponWithDistributedLock(Long couponId, Long userId) {
-        return couponIssueTransactionService.issueCoupon(couponId, userId);
+        return couponIssueTransactionService.issueCouponUnderLock(couponId, userId);
     }
 }
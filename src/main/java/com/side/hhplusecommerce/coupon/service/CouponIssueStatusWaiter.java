@@ -0,0 +1,123 @@
+package com.side.hhplusecommerce.coupon.service;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.coupon.controller.dto.CouponIssueStatusResponse;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueStatusEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 발급 결과 long-poll 대기열
+ *
+ * 발급 대기(PENDING) 중인 요청의 응답을 DeferredResult로 보류하고, 주기적으로(CouponIssueStatusWaitScheduler)
+ * 대기 중인 모든 요청의 상태를 한 번의 Redis 호출로 확인해 결과가 나온 요청부터 응답합니다.
+ * - 요청 스레드를 점유하지 않으며, 어느 인스턴스의 Consumer가 처리했는지와 무관하게 동작
+ * - 대기 시간이 지나면 그 시점의 상태(PENDING)로 응답
+ * - 대기 수가 max-waiters를 넘으면 기다리지 않고 현재 상태로 즉시 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStatusWaiter {
+
+    private final CouponIssueStatusStore couponIssueStatusStore;
+
+    private final Map<String, List<DeferredResult<CouponIssueStatusResponse>>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    @Value("${coupon.issue.status.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    @Value("${coupon.issue.status.max-waiters:10000}")
+    private int maxWaiters;
+
+    /**
+     * 요청 상태 조회
+     *
+     * @throws CustomException 요청이 없거나 TTL이 지난 경우
+     */
+    public CouponIssueStatusResponse getStatus(String requestId) {
+        return CouponIssueStatusResponse.from(findStatus(requestId));
+    }
+
+    /**
+     * 발급 결과가 나올 때까지 대기 (long-poll)
+     *
+     * @param requestId 발급 요청 ID
+     * @param timeoutMs 최대 대기 시간 (max-wait-ms를 넘을 수 없음)
+     * @return 결과가 나오거나 대기 시간이 지나면 완료되는 응답
+     */
+    public DeferredResult<CouponIssueStatusResponse> await(String requestId, long timeoutMs) {
+        CouponIssueStatusEntry current = findStatus(requestId);
+        DeferredResult<CouponIssueStatusResponse> result = new DeferredResult<>(Math.min(timeoutMs, maxWaitMs));
+
+        if (current.status().isFinished() || waiterCount.get() >= maxWaiters) {
+            result.setResult(CouponIssueStatusResponse.from(current));
+            return result;
+        }
+
+        // 등록과 제거(remove)가 같은 키 잠금 안에서 일어나도록 compute 안에서 추가
+        waiters.compute(requestId, (id, list) -> {
+            List<DeferredResult<CouponIssueStatusResponse>> results = list != null ? list : new CopyOnWriteArrayList<>();
+            results.add(result);
+            return results;
+        });
+        waiterCount.incrementAndGet();
+        result.onTimeout(() -> result.setResult(CouponIssueStatusResponse.from(current)));
+        result.onCompletion(() -> remove(requestId, result));
+        return result;
+    }
+
+    /**
+     * 대기 중인 요청 중 처리가 끝난 요청에 응답
+     *
+     * @return 응답한 요청 수
+     */
+    public int completeFinishedWaiters() {
+        if (waiters.isEmpty()) {
+            return 0;
+        }
+
+        List<String> requestIds = new ArrayList<>(waiters.keySet());
+        Map<String, CouponIssueStatusEntry> entries = couponIssueStatusStore.findAll(requestIds);
+
+        int completed = 0;
+        for (CouponIssueStatusEntry entry : entries.values()) {
+            if (!entry.status().isFinished()) {
+                continue;
+            }
+            for (DeferredResult<CouponIssueStatusResponse> waiter : waiters.getOrDefault(entry.requestId(), List.of())) {
+                if (waiter.setResult(CouponIssueStatusResponse.from(entry))) {
+                    completed++;
+                }
+            }
+        }
+        return completed;
+    }
+
+    private CouponIssueStatusEntry findStatus(String requestId) {
+        return couponIssueStatusStore.find(requestId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND));
+    }
+
+    private void remove(String requestId, DeferredResult<CouponIssueStatusResponse> waiter) {
+        waiters.computeIfPresent(requestId, (id, list) -> {
+            if (list.remove(waiter)) {
+                waiterCount.decrementAndGet();
+            }
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
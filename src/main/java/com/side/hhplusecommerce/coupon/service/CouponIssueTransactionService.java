@@ -7,6 +7,9 @@ import com.side.hhplusecommerce.coupon.domain.Coupon;
 import com.side.hhplusecommerce.coupon.domain.CouponIssueValidator;
 import com.side.hhplusecommerce.coupon.domain.CouponStock;
 import com.side.hhplusecommerce.coupon.domain.UserCoupon;
+import com.side.hhplusecommerce.coupon.exception.CouponSoldOutException;
+import com.side.hhplusecommerce.coupon.infrastructure.cache.CouponMetadataCache;
+import com.side.hhplusecommerce.coupon.repository.CouponIssueJdbcRepository;
 import com.side.hhplusecommerce.coupon.repository.CouponRepository;
 import com.side.hhplusecommerce.coupon.repository.CouponStockRepository;
 import com.side.hhplusecommerce.coupon.repository.UserCouponRepository;
@@ -28,21 +31,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CouponIssueTransactionService {
     private final CouponRepository couponRepository;
+    private final CouponMetadataCache couponMetadataCache;
     private final CouponStockRepository couponStockRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponIssueValidator couponIssueValidator;
+    private final CouponIssueJdbcRepository couponIssueJdbcRepository;
 
     /**
      * 쿠폰 발급 (트랜잭션 처리)
-     * 분산락이 외부에서 적용되므로, 비관적 락 없이 일반 조회를 사용합니다.
+     * 재고를 조회 후 저장하므로 반드시 쿠폰 분산락(CouponIssueLockService) 안에서만 호출해야 합니다.
+     * 락 없이 발급할 때는 조건부 UPDATE를 사용하는 issueCoupons를 사용합니다.
      */
     @Transactional
-    public IssueCouponResponse issueCoupon(Long couponId, Long userId) {
+    public IssueCouponResponse issueCouponUnderLock(Long couponId, Long userId) {
         // 쿠폰 재고 조회 (분산락으로 동시성 제어되므로 비관적 락 불필요)
         CouponStock couponStock = couponStockRepository.findByCouponId(couponId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
 
-        Coupon coupon = couponRepository.findById(couponId)
+        Coupon coupon = couponMetadataCache.get(couponId, () -> couponRepository.findById(couponId))
                 .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
 
         // 쿠폰 만료 검증
@@ -65,6 +71,46 @@ public class CouponIssueTransactionService {
         return IssueCouponResponse.of(savedUserCoupon, coupon);
     }
 
+    /**
+     * 같은 쿠폰의 발급 요청 일괄 처리 (트랜잭션 처리)
+     * 1. 쿠폰 만료 검증 (쿠폰당 1회)
+     * 2. user_coupons multi-row INSERT IGNORE - (user_id, coupon_id) 유니크 제약으로 이미 발급된 사용자 제외
+     * 3. 실제 INSERT된 건수만큼 조건부 UPDATE로 재고 차감 (재고 부족 시 전체 롤백)
+     *
+     * 재고 행 잠금은 마지막 UPDATE에서만 잡히므로 인기 쿠폰에서도 잠금 보유 시간이 짧습니다.
+     * 같은 배치가 재전달되어도 INSERT가 모두 무시되어 재고가 다시 차감되지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 발급 대상 사용자 ID 목록 (중복 없음)
+     * @return 새로 발급된 건수
+     * @throws CouponSoldOutException MySQL 재고가 발급 건수보다 부족한 경우
+     */
+    @Transactional
+    public int issueCoupons(Long couponId, List<Long> userIds) {
+        Coupon coupon = couponMetadataCache.get(couponId, () -> couponRepository.findById(couponId))
+                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+
+        if (isExpired(coupon.getExpiresAt())) {
+            throw new CustomException(ErrorCode.EXPIRED_COUPON);
+        }
+
+        int issuedCount = couponIssueJdbcRepository.insertUserCouponsIgnoringDuplicates(couponId, userIds);
+        if (issuedCount > 0 && couponIssueJdbcRepository.decreaseStockIfEnough(couponId, issuedCount) == 0) {
+            throw new CouponSoldOutException();
+        }
+
+        return issuedCount;
+    }
+
+    /**
+     * 사용자의 쿠폰 발급 여부 (MySQL 기준)
+     * 재시도를 모두 소진한 발급 메시지가 실제로 발급되었는지 확인할 때 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isIssued(Long couponId, Long userId) {
+        return userCouponRepository.findByUserIdAndCouponId(userId, couponId).isPresent();
+    }
+
     private boolean isExpired(LocalDateTime expiresAt) {
         return LocalDateTime.now().isAfter(expiresAt);
     }
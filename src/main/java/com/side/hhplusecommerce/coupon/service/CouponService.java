@@ -5,6 +5,7 @@ import com.side.hhplusecommerce.common.exception.ErrorCode;
 import com.side.hhplusecommerce.coupon.domain.Coupon;
 import com.side.hhplusecommerce.coupon.domain.CouponStock;
 import com.side.hhplusecommerce.coupon.domain.UserCoupon;
+import com.side.hhplusecommerce.coupon.infrastructure.cache.CouponMetadataCache;
 import com.side.hhplusecommerce.coupon.repository.CouponRepository;
 import com.side.hhplusecommerce.coupon.repository.CouponStockRepository;
 import com.side.hhplusecommerce.coupon.repository.UserCouponRepository;
@@ -30,6 +31,7 @@ import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafk
 public class CouponService {
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
+    private final CouponMetadataCache couponMetadataCache;
     private final CouponStockRepository couponStockRepository;
     private final OrderEventKafkaProducer kafkaProducer;
 
@@ -38,8 +40,7 @@ public class CouponService {
         UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
 
-        Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
-                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+        Coupon coupon = getCoupon(userCoupon.getCouponId());
 
         userCoupon.use(coupon.getExpiresAt());
         userCouponRepository.save(userCoupon);
@@ -57,14 +58,14 @@ public class CouponService {
     }
 
     /**
-     * 쿠폰 할인 금액 계산 (검증만 수행, 실제 사용은 하지 않음)
+     * 주문에 적용할 쿠폰 조회 및 할인 금액 계산 (검증만 수행, 실제 사용은 하지 않음)
+     * 주문 생성 시 사용자 쿠폰/쿠폰을 한 번씩만 조회하도록 쿠폰과 할인 금액을 함께 반환합니다.
      */
-    public Integer calculateDiscount(Long userCouponId, Integer totalAmount) {
+    public CouponUseResult getApplicableCoupon(Long userCouponId) {
         UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
 
-        Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
-                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+        Coupon coupon = getCoupon(userCoupon.getCouponId());
 
         // 쿠폰 유효성 검증 (이미 사용했는지, 만료되었는지 확인)
         if (Boolean.TRUE.equals(userCoupon.getIsUsed())) {
@@ -74,17 +75,14 @@ public class CouponService {
             throw new CustomException(ErrorCode.EXPIRED_COUPON);
         }
 
-        return coupon.getDiscountAmount();
+        return new CouponUseResult(coupon, coupon.getDiscountAmount());
     }
 
     /**
-     * UserCouponId로 Coupon 정보 조회
+     * 쿠폰 메타데이터 조회 (로컬 캐시 → DB)
      */
-    public Coupon getCouponByUserCouponId(Long userCouponId) {
-        UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
-                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
-
-        return couponRepository.findById(userCoupon.getCouponId())
+    public Coupon getCoupon(Long couponId) {
+        return couponMetadataCache.get(couponId, () -> couponRepository.findById(couponId))
                 .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
     }
 
@@ -97,8 +95,7 @@ public class CouponService {
      */
     public Integer validateAndGetRemainingQuantity(Long couponId) {
         // 쿠폰 조회 및 만료 검증
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+        Coupon coupon = getCoupon(couponId);
 
         // 쿠폰 만료 검증
         if (isExpired(coupon.getExpiresAt())) {
@@ -136,8 +133,7 @@ public class CouponService {
             UserCoupon userCoupon = userCouponRepository.findById(event.getUserCouponId())
                     .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
 
-            Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.COUPON_NOT_FOUND));
+            Coupon coupon = getCoupon(userCoupon.getCouponId());
 
             userCoupon.use(coupon.getExpiresAt());
 
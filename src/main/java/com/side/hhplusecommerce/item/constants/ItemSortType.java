@@ -0,0 +1,19 @@
+package com.side.hhplusecommerce.item.constants;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 정렬 기준
+ * 정렬 값이 같은 상품은 item_id로 순서를 고정합니다. (커서 = 마지막 상품 ID)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ItemSortType {
+    ID("item_id", "상품 ID"),
+    PRICE("price", "가격"),
+    CREATED_AT("created_at", "등록일시");
+
+    private final String column;
+    private final String description;
+}
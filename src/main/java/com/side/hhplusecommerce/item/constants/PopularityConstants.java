@@ -19,6 +19,17 @@ public final class PopularityConstants {
      */
     public static final String POPULAR_ITEMS_WEEKLY_KEY = "popular:items:weekly";
 
+    /**
+     * Redis Sorted Set 키 접두사 - 시간별 인기도 버킷 (popular:items:bucket:yyyyMMddHH)
+     * 조회/판매 발생 시 실시간으로 누적되고, 일간/주간 랭킹은 최근 버킷들의 합집합으로 계산
+     */
+    public static final String POPULAR_ITEMS_BUCKET_KEY_PREFIX = "popular:items:bucket:";
+
+    /**
+     * 시간별 버킷 보관 시간 (주간 랭킹 168시간 + 여유 1시간)
+     */
+    public static final long POPULAR_ITEMS_BUCKET_TTL_SECONDS = 169L * 60 * 60;
+
     /**
      * 인기 상품 랭킹에 저장할 상품 개수
      */
@@ -12,9 +12,10 @@ import static com.side.hhplusecommerce.item.constants.PopularityConstants.POPULA
 @Getter
 @RequiredArgsConstructor
 public enum PopularityPeriod {
-    DAILY(POPULAR_ITEMS_DAILY_KEY, "일간"),
-    WEEKLY(POPULAR_ITEMS_WEEKLY_KEY, "주간");
+    DAILY(POPULAR_ITEMS_DAILY_KEY, "일간", 24),
+    WEEKLY(POPULAR_ITEMS_WEEKLY_KEY, "주간", 168);
 
     private final String redisKey;
     private final String description;
+    private final int bucketHours; // 랭킹 계산에 사용할 최근 시간별 버킷 수
 }
@@ -1,6 +1,7 @@
 package com.side.hhplusecommerce.item.controller;
 
 import com.side.hhplusecommerce.common.dto.CursorRequest;
+import com.side.hhplusecommerce.item.constants.ItemSortType;
 import com.side.hhplusecommerce.item.constants.PopularityPeriod;
 import com.side.hhplusecommerce.item.controller.dto.ItemResponse;
 import com.side.hhplusecommerce.item.controller.dto.ItemStockResponse;
@@ -8,6 +9,7 @@ import com.side.hhplusecommerce.item.controller.dto.ItemsResponse;
 import com.side.hhplusecommerce.item.controller.dto.PopularItemsResponse;
 import com.side.hhplusecommerce.item.usecase.ItemViewUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,11 +22,13 @@ public class ItemController implements ItemControllerDocs {
     @Override
     @GetMapping
     public ResponseEntity<ItemsResponse> getItems(
-            @RequestParam(required = false, defaultValue = "1") Long cursor,
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "ID") ItemSortType sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction
     ) {
         CursorRequest cursorRequest = CursorRequest.of(cursor, size);
-        ItemsResponse response = itemViewUseCase.view(cursorRequest);
+        ItemsResponse response = itemViewUseCase.view(cursorRequest, sort, direction);
         return ResponseEntity.ok(response);
     }
 
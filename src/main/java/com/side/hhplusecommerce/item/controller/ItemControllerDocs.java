@@ -1,5 +1,6 @@
 package com.side.hhplusecommerce.item.controller;
 
+import com.side.hhplusecommerce.item.constants.ItemSortType;
 import com.side.hhplusecommerce.item.constants.PopularityPeriod;
 import com.side.hhplusecommerce.item.controller.dto.ItemResponse;
 import com.side.hhplusecommerce.item.controller.dto.ItemStockResponse;
@@ -10,13 +11,14 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "상품 관리", description = "상품 관리 API")
 public interface ItemControllerDocs {
 
-    @Operation(summary = "상품 목록 조회", description = "상품 목록을 커서 기반 무한 스크롤 방식으로 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "상품 목록을 커서 기반 무한 스크롤 방식으로 조회합니다. ID/가격/등록일시 기준 오름차순·내림차순 정렬을 지원합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
@@ -25,8 +27,12 @@ public interface ItemControllerDocs {
     ResponseEntity<ItemsResponse> getItems(
             @Parameter(description = "마지막으로 조회한 상품 ID (다음 페이지 조회 시 사용)")
             Long cursor,
-            @Parameter(description = "조회할 상품 수 (기본값: 20)")
-            Integer size
+            @Parameter(description = "조회할 상품 수 (1~100, 기본값: 20)")
+            Integer size,
+            @Parameter(description = "정렬 기준 (ID, PRICE, CREATED_AT, 기본값: ID)")
+            ItemSortType sort,
+            @Parameter(description = "정렬 방향 (ASC, DESC, 기본값: ASC)")
+            Sort.Direction direction
     );
 
     @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다.")
@@ -41,6 +41,17 @@ public class ItemResponse {
         );
     }
 
+    public static ItemResponse from(ItemDto itemDto, boolean isPopular) {
+        return new ItemResponse(
+                itemDto.getItemId(),
+                itemDto.getName(),
+                itemDto.getPrice(),
+                itemDto.getStock(),
+                itemDto.getCreatedAt(),
+                isPopular
+        );
+    }
+
     public static ItemResponse from(ItemDto itemDto) {
         return new ItemResponse(
                 itemDto.getItemId(),
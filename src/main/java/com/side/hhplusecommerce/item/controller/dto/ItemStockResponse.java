@@ -25,4 +25,12 @@ public class ItemStockResponse {
                 item.getStock()
         );
     }
+
+    public static ItemStockResponse of(Item item, Integer stock) {
+        return new ItemStockResponse(
+                item.getItemId(),
+                item.getName(),
+                stock
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package com.side.hhplusecommerce.item.controller.dto;
 
 import com.side.hhplusecommerce.item.domain.Item;
+import com.side.hhplusecommerce.item.dto.ItemSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -49,6 +50,16 @@ public class ItemsResponse {
                     item.getCreatedAt()
             );
         }
+
+        public static ItemInfo from(ItemSummary item) {
+            return new ItemInfo(
+                    item.itemId(),
+                    item.name(),
+                    item.price(),
+                    item.stock(),
+                    item.createdAt()
+            );
+        }
     }
 
     public static ItemsResponse of(List<ItemInfo> items, Long nextCursor, Boolean hasNext) {
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_price_item_id", columnList = "price, item_id"),
+        @Index(name = "idx_items_created_at_item_id", columnList = "created_at, item_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Item extends BaseEntity {
 
@@ -0,0 +1,29 @@
+package com.side.hhplusecommerce.item.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장(Redis) 델타의 MySQL 반영 이력
+ * 재고 반영과 같은 트랜잭션에서 기록되어, 같은 flush가 다시 반영되지 않도록 합니다.
+ * (기록은 ItemStockJdbcRepository에서 INSERT IGNORE로 수행)
+ */
+@Getter
+@Entity
+@Table(name = "item_stock_ledger_flush_history", indexes = {
+        @Index(name = "idx_item_stock_ledger_flush_history_applied_at", columnList = "applied_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemStockLedgerFlushHistory {
+
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
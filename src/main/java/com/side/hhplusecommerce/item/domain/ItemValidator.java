@@ -2,11 +2,15 @@ package com.side.hhplusecommerce.item.domain;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.dto.ItemDto;
+import com.side.hhplusecommerce.item.infrastructure.cache.ItemNearCache;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -14,12 +18,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ItemValidator {
     private final ItemRepository itemRepository;
+    private final ItemNearCache itemNearCache;
 
+    /**
+     * 단일 상품 존재 검증 (DB 조회, 재고 검증이 필요한 흐름에서 사용)
+     */
     public Item validateExistence(Long itemId) {
         return itemRepository.findById(itemId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
     }
 
+    /**
+     * 단일 상품 존재 검증 (상품 2단 캐시 사용, 재고 임계값 이하 상품은 항상 DB 조회)
+     * 캐시된 재고는 최신이 아닐 수 있으므로 조회 응답 용도로만 사용합니다.
+     */
+    public ItemDto validateExistenceCached(Long itemId) {
+        return itemNearCache.get(itemId, () -> itemRepository.findById(itemId).map(ItemDto::from))
+                .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
+    }
+
+    /**
+     * 상품 다건 조회 (상품 L1 캐시 + IN 조회 1회, 존재하지 않는 상품은 제외)
+     */
+    public Map<Long, ItemDto> findAllByIds(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return itemNearCache.getAll(itemIds, missingItemIds -> itemRepository.findAllByItemIdIn(missingItemIds).stream()
+                .map(ItemDto::from)
+                .toList());
+    }
+
     public List<Item> validateExistence(List<Long> itemIds) {
         List<Item> items = itemRepository.findAllByItemIdIn(itemIds);
 
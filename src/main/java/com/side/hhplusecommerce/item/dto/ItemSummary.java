@@ -0,0 +1,14 @@
+package com.side.hhplusecommerce.item.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회용 읽기 모델 (엔티티/영속성 컨텍스트를 거치지 않는 프로젝션)
+ */
+public record ItemSummary(
+        Long itemId,
+        String name,
+        Integer price,
+        Integer stock,
+        LocalDateTime createdAt
+) {}
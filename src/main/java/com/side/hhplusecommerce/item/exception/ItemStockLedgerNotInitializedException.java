@@ -0,0 +1,10 @@
+package com.side.hhplusecommerce.item.exception;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+
+public class ItemStockLedgerNotInitializedException extends CustomException {
+    public ItemStockLedgerNotInitializedException() {
+        super(ErrorCode.ITEM_STOCK_LEDGER_NOT_INITIALIZED);
+    }
+}
@@ -0,0 +1,77 @@
+package com.side.hhplusecommerce.item.infrastructure.buffer;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회 이력 인메모리 버퍼
+ *
+ * 상품 상세 조회 요청은 조회 이력을 버퍼에 넣고 바로 반환하며,
+ * ItemViewFlushScheduler가 주기적으로 꺼내 MySQL 배치 INSERT + ZSET 집계 반영을 수행합니다.
+ * - 버퍼는 고정 크기이며 가득 차면 요청을 막지 않고 버림 (item.view.buffer.dropped 카운터)
+ * - 버퍼에 남은 조회 이력은 종료 시 flush되지만, 비정상 종료 시에는 유실될 수 있음 (조회수는 근사치 허용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemViewBuffer {
+
+    private final MeterRegistry meterRegistry;
+    private final CustomMetrics customMetrics;
+
+    @Value("${item.view.buffer.capacity:100000}")
+    private int capacity;
+
+    private BlockingQueue<BufferedItemView> queue;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("item.view.buffer.size", queue, BlockingQueue::size)
+                .description("MySQL 반영 대기 중인 상품 조회 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 이력 추가 (논블로킹)
+     *
+     * @return 버퍼가 가득 차서 버린 경우 false
+     */
+    public boolean offer(Long itemId, Long userId) {
+        boolean accepted = queue.offer(new BufferedItemView(itemId, userId, LocalDateTime.now()));
+        if (!accepted) {
+            customMetrics.incrementItemViewDropped();
+            log.debug("Item view buffer full, dropped: itemId={}, userId={}", itemId, userId);
+        }
+        return accepted;
+    }
+
+    /**
+     * 버퍼에서 최대 maxSize개 꺼내기
+     */
+    public List<BufferedItemView> drain(int maxSize) {
+        List<BufferedItemView> views = new ArrayList<>(Math.min(maxSize, queue.size()));
+        queue.drainTo(views, maxSize);
+        return views;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 버퍼에 담긴 조회 이력
+     */
+    public record BufferedItemView(Long itemId, Long userId, LocalDateTime viewedAt) {}
+}
@@ -0,0 +1,218 @@
+package com.side.hhplusecommerce.item.infrastructure.cache;
+
+import static com.side.hhplusecommerce.config.RedisCacheConfig.ITEM;
+import static com.side.hhplusecommerce.config.RedisCacheConfig.LOW_STOCK_THRESHOLD;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import com.side.hhplusecommerce.item.dto.ItemDto;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 2단 캐시 (L1: Caffeine, L2: Redis ITEM 캐시)
+ *
+ * 조회 순서: L1 → L2 → DB (조회 결과는 L2, L1 순으로 채움)
+ * - 재고가 LOW_STOCK_THRESHOLD 이하인 상품은 실시간 정확도를 위해 어느 계층에도 캐싱하지 않음
+ * - 무효화 시 Redis Pub/Sub으로 브로드캐스트하여 모든 인스턴스의 L1 항목을 제거
+ * - L1은 크기와 TTL로 제한 (무효화 메시지를 놓친 경우에도 TTL 이후 갱신)
+ * - L2 TTL도 item.cache.remote.ttl-seconds(기본 60초)로 짧게 유지
+ *   (원장 반영/보상 증가 등 재고 변경마다 무효화하지 않으므로 캐시된 재고가 오래 남지 않도록 함)
+ *
+ * 엔티티 대신 불변 ItemDto를 캐싱하므로 여러 요청이 같은 인스턴스를 공유해도 안전합니다.
+ * 캐시된 재고는 최신이 아닐 수 있으므로 재고 검증이 필요한 흐름(장바구니 담기/수정, 주문)은 DB를 직접 조회해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemNearCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "item:cache:evict";
+
+    private static final String TIER_L1 = "l1";
+    private static final String TIER_L2 = "l2";
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CustomMetrics customMetrics;
+
+    @Value("${item.cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${item.cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    private Cache<Long, ItemDto> localCache;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 상품 조회 (L1 → L2 → loader)
+     *
+     * @param itemId 상품 ID
+     * @param loader 캐시 미스 시 DB 조회
+     * @return 상품 (없으면 empty)
+     */
+    public Optional<ItemDto> get(Long itemId, Supplier<Optional<ItemDto>> loader) {
+        ItemDto localItem = localCache.getIfPresent(itemId);
+        if (localItem != null) {
+            customMetrics.incrementItemCacheRequest(TIER_L1, HIT);
+            return Optional.of(localItem);
+        }
+        customMetrics.incrementItemCacheRequest(TIER_L1, MISS);
+
+        ItemDto remoteItem = getFromRemote(itemId);
+        if (remoteItem != null) {
+            customMetrics.incrementItemCacheRequest(TIER_L2, HIT);
+            putLocal(remoteItem);
+            return Optional.of(remoteItem);
+        }
+        customMetrics.incrementItemCacheRequest(TIER_L2, MISS);
+
+        Optional<ItemDto> loadedItem = loader.get();
+        loadedItem.ifPresent(item -> {
+            putRemote(item);
+            putLocal(item);
+        });
+        return loadedItem;
+    }
+
+    /**
+     * 상품 다건 조회 (L1 → loader)
+     * L1에 없는 상품은 loader로 한 번에 조회합니다. (L2는 다건 조회를 지원하지 않아
+     * 상품 수만큼 Redis 왕복이 생기므로 건너뛰고, IN 조회 1회로 대체)
+     *
+     * @param itemIds 상품 ID 목록 (중복 허용)
+     * @param loader L1 미스 상품 ID로 DB 다건 조회
+     * @return 상품 ID별 상품 (존재하지 않는 상품은 제외)
+     */
+    public Map<Long, ItemDto> getAll(Collection<Long> itemIds, Function<List<Long>, List<ItemDto>> loader) {
+        Set<Long> distinctItemIds = new LinkedHashSet<>(itemIds);
+        Map<Long, ItemDto> items = new HashMap<>(localCache.getAllPresent(distinctItemIds));
+        items.values().forEach(item -> customMetrics.incrementItemCacheRequest(TIER_L1, HIT));
+
+        List<Long> missingItemIds = distinctItemIds.stream()
+                .filter(itemId -> !items.containsKey(itemId))
+                .toList();
+        if (missingItemIds.isEmpty()) {
+            return items;
+        }
+        missingItemIds.forEach(itemId -> customMetrics.incrementItemCacheRequest(TIER_L1, MISS));
+
+        for (ItemDto item : loader.apply(missingItemIds)) {
+            items.put(item.getItemId(), item);
+            putLocal(item);
+        }
+        return items;
+    }
+
+    /**
+     * 상품 캐시 무효화 (L1 + L2, 다른 인스턴스의 L1은 Pub/Sub으로 무효화)
+     */
+    public void evict(Long itemId) {
+        localCache.invalidate(itemId);
+        try {
+            org.springframework.cache.Cache remoteCache = cacheManager.getCache(ITEM);
+            if (remoteCache != null) {
+                remoteCache.evict(itemId);
+            }
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, itemId.toString());
+            log.debug("Successfully evicted cache for itemId={}", itemId);
+        } catch (Exception e) {
+            // 캐시 무효화 실패는 치명적이지 않으므로 예외를 던지지 않음 (L1은 TTL 이후 갱신)
+            log.warn("Failed to evict cache for itemId={}", itemId, e);
+        }
+    }
+
+    /**
+     * 상품 캐시 전체 비우기 (L1 + L2)
+     */
+    public void clear() {
+        localCache.invalidateAll();
+        org.springframework.cache.Cache remoteCache = cacheManager.getCache(ITEM);
+        if (remoteCache != null) {
+            remoteCache.clear();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 → L1 항목 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid item cache evict message: {}", body);
+        }
+    }
+
+    private ItemDto getFromRemote(Long itemId) {
+        try {
+            org.springframework.cache.Cache remoteCache = cacheManager.getCache(ITEM);
+            return remoteCache != null ? remoteCache.get(itemId, ItemDto.class) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read item cache: itemId={}", itemId, e);
+            return null;
+        }
+    }
+
+    private void putRemote(ItemDto item) {
+        if (!isCacheable(item)) {
+            return;
+        }
+        try {
+            org.springframework.cache.Cache remoteCache = cacheManager.getCache(ITEM);
+            if (remoteCache != null) {
+                remoteCache.put(item.getItemId(), item);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write item cache: itemId={}", item.getItemId(), e);
+        }
+    }
+
+    private void putLocal(ItemDto item) {
+        if (isCacheable(item)) {
+            localCache.put(item.getItemId(), item);
+        }
+    }
+
+    /**
+     * 재고가 임계값 이하인 상품은 캐싱하지 않음 (실시간 정확도 중요)
+     */
+    private boolean isCacheable(ItemDto item) {
+        return item.getStock() > LOW_STOCK_THRESHOLD;
+    }
+}
@@ -0,0 +1,197 @@
+package com.side.hhplusecommerce.item.infrastructure.cache;
+
+import static com.side.hhplusecommerce.config.RedisCacheConfig.POPULAR_ITEMS;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import com.side.hhplusecommerce.item.constants.PopularityPeriod;
+import com.side.hhplusecommerce.item.dto.PopularItemsDto;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 상품 응답 캐시 (L1: 메모리, L2: Redis POPULAR_ITEMS 캐시)
+ *
+ * 완성된 PopularItemsDto를 기간별로 보관하고, 랭킹이 바뀔 때만 다시 만듭니다.
+ * - 랭킹 버전: 랭킹 갱신(RENAME) 시 증가하는 Redis 카운터 (popular:items:{기간}:version)
+ * - L1 스냅샷은 version-check-interval-ms 동안 버전 확인 없이 응답
+ * - 버전이 바뀌면 이전 스냅샷을 바로 응답하고 백그라운드에서 재구성 (stale-while-revalidate)
+ * - 재구성은 기간별로 한 번만 실행 (single-flight) → 캐시 미스가 몰려도 DB 조회는 1회
+ * - 재구성 시 L2에 같은 버전의 스냅샷이 있으면 DB 조회 없이 사용 (다른 인스턴스가 만든 응답 공유)
+ * - 재구성이 실패하면 아무것도 캐싱하지 않고 이전 스냅샷을 유지 (다음 버전 확인 시 다시 재구성)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularItemsCache {
+
+    private static final String VERSION_SUFFIX = ":version";
+
+    private static final String HIT = "hit";
+    private static final String STALE = "stale";
+    private static final String MISS = "miss";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CustomMetrics customMetrics;
+
+    private final SimpleAsyncTaskExecutor refreshExecutor = new SimpleAsyncTaskExecutor("popular-items-refresh-");
+    private final Map<PopularityPeriod, LocalEntry> localSnapshots = new ConcurrentHashMap<>();
+    private final Map<PopularityPeriod, CompletableFuture<PopularItemsSnapshot>> inFlightRefreshes = new ConcurrentHashMap<>();
+
+    @Value("${item.popularity.response-cache.version-check-interval-ms:1000}")
+    private long versionCheckIntervalMs;
+
+    /**
+     * 인기 상품 응답 조회
+     *
+     * @param period 랭킹 기간
+     * @param builder 랭킹 변경 시 응답 재구성 (ZSET + DB 조회, 실패 시 예외를 던져야 빈 응답이 캐싱되지 않음)
+     * @return 인기 상품 목록 (스냅샷이 없는데 재구성이 실패하면 빈 목록)
+     */
+    public PopularItemsDto get(PopularityPeriod period, Supplier<PopularItemsDto> builder) {
+        LocalEntry local = localSnapshots.get(period);
+        long now = System.currentTimeMillis();
+        if (local != null && now - local.checkedAtMillis() < versionCheckIntervalMs) {
+            customMetrics.incrementPopularItemsCacheRequest(HIT);
+            return local.snapshot().getPopularItems();
+        }
+
+        long currentVersion = getRankingVersion(period);
+        if (local != null && local.snapshot().getRankingVersion() == currentVersion) {
+            localSnapshots.put(period, new LocalEntry(local.snapshot(), now));
+            customMetrics.incrementPopularItemsCacheRequest(HIT);
+            return local.snapshot().getPopularItems();
+        }
+
+        CompletableFuture<PopularItemsSnapshot> refresh = refresh(period, currentVersion, builder);
+        if (local != null) {
+            // 이전 랭킹 응답을 바로 반환하고 재구성은 백그라운드에서 진행
+            customMetrics.incrementPopularItemsCacheRequest(STALE);
+            return local.snapshot().getPopularItems();
+        }
+
+        customMetrics.incrementPopularItemsCacheRequest(MISS);
+        try {
+            return refresh.join().getPopularItems();
+        } catch (CompletionException e) {
+            // 재구성 실패 응답은 캐싱하지 않음 (다음 요청에서 다시 재구성)
+            return PopularItemsDto.of(List.of());
+        }
+    }
+
+    /**
+     * 랭킹 변경 알림 (랭킹 갱신 직후 호출)
+     * 버전을 올려 모든 인스턴스가 다음 버전 확인 시 응답을 재구성하도록 합니다.
+     */
+    public void markRankingChanged(PopularityPeriod period) {
+        try {
+            stringRedisTemplate.opsForValue().increment(versionKey(period));
+        } catch (Exception e) {
+            log.warn("Failed to bump popular items ranking version: period={}", period, e);
+        }
+        // 현재 인스턴스는 다음 요청에서 바로 버전을 확인 (재구성이 끝날 때까지 이전 스냅샷으로 응답)
+        localSnapshots.computeIfPresent(period, (key, local) -> new LocalEntry(local.snapshot(), 0L));
+    }
+
+    /**
+     * 인기 상품 응답 캐시 전체 비우기 (L1 + L2)
+     */
+    public void clear() {
+        localSnapshots.clear();
+        Cache remoteCache = cacheManager.getCache(POPULAR_ITEMS);
+        if (remoteCache != null) {
+            remoteCache.clear();
+        }
+    }
+
+    /**
+     * 기간별 재구성 single-flight
+     * 이미 진행 중인 재구성이 있으면 그 결과를 공유합니다.
+     */
+    private CompletableFuture<PopularItemsSnapshot> refresh(PopularityPeriod period, long version,
+                                                           Supplier<PopularItemsDto> builder) {
+        CompletableFuture<PopularItemsSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<PopularItemsSnapshot> existing = inFlightRefreshes.putIfAbsent(period, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                PopularItemsSnapshot snapshot = load(period, version, builder);
+                localSnapshots.put(period, new LocalEntry(snapshot, System.currentTimeMillis()));
+                created.complete(snapshot);
+            } catch (Throwable e) {
+                log.error("Failed to refresh popular items response: period={}", period, e);
+                created.completeExceptionally(e);
+            } finally {
+                inFlightRefreshes.remove(period, created);
+            }
+        });
+        return created;
+    }
+
+    private PopularItemsSnapshot load(PopularityPeriod period, long version, Supplier<PopularItemsDto> builder) {
+        PopularItemsSnapshot remoteSnapshot = getFromRemote(period);
+        if (remoteSnapshot != null && remoteSnapshot.getRankingVersion() == version) {
+            return remoteSnapshot;
+        }
+
+        PopularItemsSnapshot snapshot = new PopularItemsSnapshot(version, builder.get());
+        putRemote(period, snapshot);
+        log.debug("Rebuilt popular items response: period={}, rankingVersion={}, size={}",
+                period, version, snapshot.getPopularItems().getItems().size());
+        return snapshot;
+    }
+
+    private long getRankingVersion(PopularityPeriod period) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(versionKey(period));
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to read popular items ranking version: period={}", period, e);
+            // 버전 확인 실패 시 현재 스냅샷 유지
+            LocalEntry local = localSnapshots.get(period);
+            return local != null ? local.snapshot().getRankingVersion() : 0L;
+        }
+    }
+
+    private PopularItemsSnapshot getFromRemote(PopularityPeriod period) {
+        try {
+            Cache remoteCache = cacheManager.getCache(POPULAR_ITEMS);
+            return remoteCache != null ? remoteCache.get(period.name(), PopularItemsSnapshot.class) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read popular items cache: period={}", period, e);
+            return null;
+        }
+    }
+
+    private void putRemote(PopularityPeriod period, PopularItemsSnapshot snapshot) {
+        try {
+            Cache remoteCache = cacheManager.getCache(POPULAR_ITEMS);
+            if (remoteCache != null) {
+                remoteCache.put(period.name(), snapshot);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write popular items cache: period={}", period, e);
+        }
+    }
+
+    private String versionKey(PopularityPeriod period) {
+        return period.getRedisKey() + VERSION_SUFFIX;
+    }
+
+    private record LocalEntry(PopularItemsSnapshot snapshot, long checkedAtMillis) {}
+}
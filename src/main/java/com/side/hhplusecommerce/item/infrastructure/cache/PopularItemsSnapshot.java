@@ -0,0 +1,18 @@
+package com.side.hhplusecommerce.item.infrastructure.cache;
+
+import com.side.hhplusecommerce.item.dto.PopularItemsDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 상품 응답 스냅샷 (Redis POPULAR_ITEMS 캐시 저장 단위)
+ * 어떤 랭킹 버전으로 만들어진 응답인지 함께 저장합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularItemsSnapshot {
+    private long rankingVersion;
+    private PopularItemsDto popularItems;
+}
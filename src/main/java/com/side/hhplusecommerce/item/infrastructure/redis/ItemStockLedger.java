@@ -0,0 +1,280 @@
+package com.side.hhplusecommerce.item.infrastructure.redis;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.exception.InsufficientStockException;
+import com.side.hhplusecommerce.item.exception.ItemStockLedgerNotInitializedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Redis 기반 상품 재고 원장 (opt-in)
+ *
+ * 설정으로 지정된 상품(또는 전체 상품)의 재고를 Redis 카운터로 관리합니다.
+ * - 재고 차감/복구는 Lua 스크립트로 원자적으로 처리 (락 없음, 부족 시 전체 거절)
+ * - 차감/복구량은 pending 델타 Hash에 누적되고, 스케줄러가 주기적으로 MySQL items.stock에 반영 (write-behind)
+ *
+ * Redis 키 구조:
+ * - item:stock:ledger:{itemId} (String) : 현재 가용 재고
+ * - item:stock:ledger:delta (Hash) : itemId → MySQL에 아직 반영되지 않은 차감량
+ * - item:stock:ledger:delta:flushing (Hash) : MySQL 반영 중인 차감량
+ * - item:stock:ledger:delta:flushing:id (String) : 반영 중인 델타의 flush ID (MySQL 중복 반영 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemStockLedger {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${item.stock.redis-ledger.enabled:false}")
+    private boolean enabledForAllItems;
+
+    @Value("${item.stock.redis-ledger.item-ids:}")
+    private Set<Long> ledgerItemIds;
+
+    private static final String STOCK_KEY_PREFIX = "item:stock:ledger:";
+    private static final String PENDING_DELTA_KEY = "item:stock:ledger:delta";
+    private static final String FLUSHING_DELTA_KEY = "item:stock:ledger:delta:flushing";
+    private static final String FLUSHING_ID_KEY = "item:stock:ledger:delta:flushing:id";
+
+    private static final long RESULT_SUCCESS = 1L;
+    private static final long RESULT_INSUFFICIENT = 0L;
+
+    /**
+     * 다건 재고 차감 스크립트
+     * KEYS[1..n]: 재고 키, KEYS[n+1]: pending 델타 키
+     * ARGV[1..n]: 차감 수량, ARGV[n+1..2n]: 상품 ID
+     * 반환값: {1, 남은 재고...} 성공, {0, index} 재고 부족, {-1, index} 원장 미초기화
+     */
+    private static final RedisScript<List> DECREASE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #ARGV / 2 " +
+            "for i = 1, n do " +
+            "  local stock = redis.call('GET', KEYS[i]) " +
+            "  if not stock then return {-1, i} end " +
+            "  if tonumber(stock) < tonumber(ARGV[i]) then return {0, i} end " +
+            "end " +
+            "local result = {1} " +
+            "for i = 1, n do " +
+            "  result[i + 1] = redis.call('DECRBY', KEYS[i], ARGV[i]) " +
+            "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i]) " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    /**
+     * 다건 재고 복구 스크립트
+     * 원장이 없는 상품은 카운터를 건드리지 않고 델타만 기록합니다. (다음 초기화 시 MySQL 재고로 반영)
+     */
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #ARGV / 2 " +
+            "for i = 1, n do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[i]) end " +
+            "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i])) " +
+            "end " +
+            "return n",
+            Long.class
+    );
+
+    /**
+     * 원장 초기화 스크립트 (이미 존재하면 유지)
+     * MySQL 재고에서 아직 반영되지 않은 델타(pending + flushing)를 뺀 값으로 초기화합니다.
+     * KEYS[1]: 재고 키, KEYS[2]: pending 델타 키, KEYS[3]: flushing 델타 키
+     * ARGV[1]: 상품 ID, ARGV[2]: MySQL 재고
+     */
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "  + tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0') " +
+            "redis.call('SET', KEYS[1], tonumber(ARGV[2]) - pending) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * pending 델타를 flushing 키로 이동하고 flush ID 부여
+     * 이전 flush가 끝나지 않아 flushing 키가 남아 있으면 기존 flush ID로 그대로 재시도합니다.
+     * KEYS[1]: pending 델타 키, KEYS[2]: flushing 델타 키, KEYS[3]: flush ID 키
+     * ARGV[1]: 새 flush ID
+     * 반환값: flush ID (반영할 델타가 없으면 nil)
+     */
+    private static final RedisScript<String> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  redis.call('SET', KEYS[3], ARGV[1]) " +
+            "  return ARGV[1] " +
+            "end " +
+            "local flushId = redis.call('GET', KEYS[3]) " +
+            "if not flushId then " +
+            "  redis.call('SET', KEYS[3], ARGV[1]) " +
+            "  flushId = ARGV[1] " +
+            "end " +
+            "return flushId",
+            String.class
+    );
+
+    /**
+     * 재고 원장 관리 대상 상품 여부
+     */
+    public boolean isManaged(Long itemId) {
+        return enabledForAllItems || ledgerItemIds.contains(itemId);
+    }
+
+    /**
+     * 재고 원장 사용 여부 (전체 또는 일부 상품)
+     */
+    public boolean isActive() {
+        return enabledForAllItems || !ledgerItemIds.isEmpty();
+    }
+
+    public boolean isEnabledForAllItems() {
+        return enabledForAllItems;
+    }
+
+    public Set<Long> getLedgerItemIds() {
+        return ledgerItemIds;
+    }
+
+    /**
+     * 다건 재고 차감 (전부 성공 또는 전부 거절)
+     *
+     * @param itemQuantities 상품 ID별 차감 수량
+     * @return 차감 후 상품 ID별 남은 재고
+     */
+    public Map<Long, Integer> decrease(Map<Long, Integer> itemQuantities) {
+        TreeMap<Long, Integer> sortedQuantities = new TreeMap<>(itemQuantities);
+        sortedQuantities.values().forEach(quantity -> {
+            if (quantity == null || quantity <= 0) {
+                throw new CustomException(ErrorCode.INVALID_STOCK_QUANTITY);
+            }
+        });
+
+        List<Long> itemIds = new ArrayList<>(sortedQuantities.keySet());
+        List<?> result = stringRedisTemplate.execute(
+                DECREASE_SCRIPT, toKeys(itemIds), toArgs(itemIds, sortedQuantities));
+
+        long status = (Long) result.get(0);
+        if (status == RESULT_INSUFFICIENT) {
+            log.info("Ledger stock reservation rejected: itemId={}", itemIds.get(((Long) result.get(1)).intValue() - 1));
+            throw new InsufficientStockException();
+        }
+        if (status != RESULT_SUCCESS) {
+            throw new ItemStockLedgerNotInitializedException();
+        }
+
+        Map<Long, Integer> remainingStocks = new HashMap<>();
+        for (int i = 0; i < itemIds.size(); i++) {
+            remainingStocks.put(itemIds.get(i), ((Long) result.get(i + 1)).intValue());
+        }
+        return remainingStocks;
+    }
+
+    /**
+     * 다건 재고 복구 (보상 트랜잭션)
+     *
+     * @param itemQuantities 상품 ID별 복구 수량
+     */
+    public void increase(Map<Long, Integer> itemQuantities) {
+        TreeMap<Long, Integer> sortedQuantities = new TreeMap<>(itemQuantities);
+        List<Long> itemIds = new ArrayList<>(sortedQuantities.keySet());
+
+        stringRedisTemplate.execute(INCREASE_SCRIPT, toKeys(itemIds), toArgs(itemIds, sortedQuantities));
+        log.info("Ledger stock increased: itemQuantities={}", sortedQuantities);
+    }
+
+    /**
+     * 원장 재고 조회
+     *
+     * @return 원장 재고 (초기화되지 않은 경우 null)
+     */
+    public Integer getStock(Long itemId) {
+        String stock = stringRedisTemplate.opsForValue().get(STOCK_KEY_PREFIX + itemId);
+        return stock != null ? Integer.valueOf(stock) : null;
+    }
+
+    /**
+     * 원장이 없는 경우에만 MySQL 재고 기준으로 초기화
+     *
+     * @return 새로 초기화한 경우 true
+     */
+    public boolean initializeIfAbsent(Long itemId, int mysqlStock) {
+        Long result = stringRedisTemplate.execute(
+                INITIALIZE_SCRIPT,
+                List.of(STOCK_KEY_PREFIX + itemId, PENDING_DELTA_KEY, FLUSHING_DELTA_KEY),
+                itemId.toString(), String.valueOf(mysqlStock));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * MySQL에 아직 반영되지 않은 상품별 차감량 조회 (pending + flushing)
+     */
+    public int getUnflushedDelta(Long itemId) {
+        Object pending = stringRedisTemplate.opsForHash().get(PENDING_DELTA_KEY, itemId.toString());
+        Object flushing = stringRedisTemplate.opsForHash().get(FLUSHING_DELTA_KEY, itemId.toString());
+        return toInt(pending) + toInt(flushing);
+    }
+
+    /**
+     * MySQL에 반영할 델타를 flushing 키로 옮기고 조회
+     *
+     * @return flush ID와 상품 ID별 차감량 (0인 항목 제외)
+     */
+    public PendingLedgerDeltas drainPendingDeltas() {
+        String flushId = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(PENDING_DELTA_KEY, FLUSHING_DELTA_KEY, FLUSHING_ID_KEY), UUID.randomUUID().toString());
+        if (flushId == null) {
+            return PendingLedgerDeltas.empty();
+        }
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        stringRedisTemplate.opsForHash().entries(FLUSHING_DELTA_KEY).forEach((itemId, delta) -> {
+            int value = toInt(delta);
+            if (value != 0) {
+                deltas.put(Long.valueOf(itemId.toString()), value);
+            }
+        });
+        return new PendingLedgerDeltas(flushId, deltas);
+    }
+
+    /**
+     * MySQL 반영 완료 후 flushing 델타와 flush ID 삭제
+     */
+    public void completeFlush() {
+        stringRedisTemplate.delete(List.of(FLUSHING_DELTA_KEY, FLUSHING_ID_KEY));
+    }
+
+    private List<String> toKeys(List<Long> itemIds) {
+        List<String> keys = new ArrayList<>(itemIds.size() + 1);
+        itemIds.forEach(itemId -> keys.add(STOCK_KEY_PREFIX + itemId));
+        keys.add(PENDING_DELTA_KEY);
+        return keys;
+    }
+
+    private Object[] toArgs(List<Long> itemIds, Map<Long, Integer> itemQuantities) {
+        Object[] args = new Object[itemIds.size() * 2];
+        for (int i = 0; i < itemIds.size(); i++) {
+            args[i] = itemQuantities.get(itemIds.get(i)).toString();
+            args[itemIds.size() + i] = itemIds.get(i).toString();
+        }
+        return args;
+    }
+
+    private int toInt(Object value) {
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+}
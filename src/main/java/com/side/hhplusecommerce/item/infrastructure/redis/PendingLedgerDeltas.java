@@ -0,0 +1,20 @@
+package com.side.hhplusecommerce.item.infrastructure.redis;
+
+import java.util.Map;
+
+/**
+ * MySQL 반영 대상 원장 델타
+ *
+ * @param flushId flushing 키로 옮길 때 발급된 ID (같은 flushing 델타를 재시도하면 같은 ID)
+ * @param itemDeltas 상품 ID별 차감량 (음수면 증가, 0인 항목 제외)
+ */
+public record PendingLedgerDeltas(String flushId, Map<Long, Integer> itemDeltas) {
+
+    public static PendingLedgerDeltas empty() {
+        return new PendingLedgerDeltas(null, Map.of());
+    }
+
+    public boolean isEmpty() {
+        return itemDeltas.isEmpty();
+    }
+}
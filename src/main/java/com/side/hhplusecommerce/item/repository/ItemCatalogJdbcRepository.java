@@ -0,0 +1,92 @@
+package com.side.hhplusecommerce.item.repository;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.constants.ItemSortType;
+import com.side.hhplusecommerce.item.dto.ItemSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 상품 목록 커서 페이징 JDBC 리포지토리
+ *
+ * 엔티티 대신 ItemSummary로 바로 매핑하여 영속성 컨텍스트에 적재하지 않습니다.
+ * - ID 정렬: PK(클러스터드 인덱스) 범위 스캔
+ * - 가격/등록일시 정렬: (정렬 컬럼, item_id) 커버링 인덱스로 페이지의 item_id만 먼저 찾은 뒤
+ *   PK로 필요한 행만 조인 (deferred join)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemCatalogJdbcRepository {
+
+    private static final String COLUMNS = "i.item_id, i.name, i.price, i.stock, i.created_at";
+
+    private static final RowMapper<ItemSummary> ITEM_SUMMARY_ROW_MAPPER = (rs, rowNum) -> new ItemSummary(
+            rs.getLong("item_id"),
+            rs.getString("name"),
+            rs.getInt("price"),
+            rs.getInt("stock"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 커서 다음 페이지 조회
+     *
+     * @param sortType 정렬 기준
+     * @param direction 정렬 방향
+     * @param cursor 마지막으로 조회한 상품 ID (null이면 첫 페이지)
+     * @param limit 조회할 최대 행 수
+     * @return 정렬 순서대로의 상품 목록
+     */
+    public List<ItemSummary> findPage(ItemSortType sortType, Sort.Direction direction, Long cursor, int limit) {
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        String op = direction.isAscending() ? ">" : "<";
+
+        if (sortType == ItemSortType.ID) {
+            String where = cursor != null ? "WHERE i.item_id " + op + " ? " : "";
+            String sql = "SELECT " + COLUMNS + " FROM items i " + where +
+                    "ORDER BY i.item_id " + order + " LIMIT ?";
+            return cursor != null
+                    ? jdbcTemplate.query(sql, ITEM_SUMMARY_ROW_MAPPER, cursor, limit)
+                    : jdbcTemplate.query(sql, ITEM_SUMMARY_ROW_MAPPER, limit);
+        }
+
+        String column = sortType.getColumn();
+        String orderBy = column + " " + order + ", item_id " + order;
+        String pageSql = "SELECT " + COLUMNS + " FROM items i JOIN (" +
+                "SELECT item_id FROM items %s ORDER BY " + orderBy + " LIMIT ?" +
+                ") page ON page.item_id = i.item_id " +
+                "ORDER BY i." + column + " " + order + ", i.item_id " + order;
+
+        if (cursor == null) {
+            return jdbcTemplate.query(String.format(pageSql, ""), ITEM_SUMMARY_ROW_MAPPER, limit);
+        }
+
+        Object cursorValue = findSortValue(column, cursor);
+        String where = "WHERE " + column + " " + op + " ? OR (" + column + " = ? AND item_id " + op + " ?)";
+        return jdbcTemplate.query(String.format(pageSql, where), ITEM_SUMMARY_ROW_MAPPER,
+                cursorValue, cursorValue, cursor, limit);
+    }
+
+    /**
+     * 커서 상품의 정렬 컬럼 값 조회 (PK 조회)
+     */
+    private Object findSortValue(String column, Long cursor) {
+        List<Object> values = jdbcTemplate.query(
+                "SELECT " + column + " FROM items WHERE item_id = ?",
+                (rs, rowNum) -> rs.getObject(1),
+                cursor
+        );
+        if (values.isEmpty()) {
+            throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
+        }
+        return values.get(0);
+    }
+}
@@ -2,7 +2,6 @@ package com.side.hhplusecommerce.item.repository;
 
 import com.side.hhplusecommerce.item.domain.Item;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -13,9 +12,6 @@ import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    @Query("SELECT i FROM Item i WHERE i.itemId > :cursor ORDER BY i.itemId ASC")
-    List<Item> findAllWithCursor(@Param("cursor") Long cursor, Pageable pageable);
-
     @Query("SELECT i FROM Item i WHERE i.itemId IN :itemIds")
     List<Item> findAllByItemIdIn(@Param("itemIds") List<Long> itemIds);
 
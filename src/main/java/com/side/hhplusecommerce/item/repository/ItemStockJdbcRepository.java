@@ -0,0 +1,126 @@
+package com.side.hhplusecommerce.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 재고 JDBC 배치 리포지토리
+ * 다건 재고 차감을 조건부 UPDATE 배치 한 번으로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemStockJdbcRepository {
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE items SET stock = stock - ?, version = version + 1, updated_at = ? " +
+            "WHERE item_id = ? AND stock >= ?";
+
+    private static final String APPLY_STOCK_DELTA_SQL =
+            "UPDATE items SET stock = stock - ?, version = version + 1, updated_at = ? WHERE item_id = ?";
+
+    private static final String INSERT_LEDGER_FLUSH_SQL =
+            "INSERT IGNORE INTO item_stock_ledger_flush_history (flush_id, applied_at) VALUES (?, ?)";
+
+    private static final String DELETE_LEDGER_FLUSHES_BEFORE_SQL =
+            "DELETE FROM item_stock_ledger_flush_history WHERE applied_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건부 재고 차감 배치
+     * 재고가 충분한 행만 차감되며, 전달된 순서대로 행 잠금을 획득합니다.
+     *
+     * @param itemQuantities 상품 ID별 차감 수량 (정렬된 순서로 실행)
+     * @return 각 UPDATE의 영향 받은 행 수 (0이면 재고 부족 또는 상품 없음)
+     */
+    public int[] decreaseStocksIfEnough(Map<Long, Integer> itemQuantities) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(itemQuantities.size());
+        itemQuantities.forEach((itemId, quantity) ->
+                batchArgs.add(new Object[]{quantity, now, itemId, quantity}));
+
+        return jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batchArgs);
+    }
+
+    /**
+     * 재고 원장(Redis) 델타 반영 배치
+     * Redis에서 이미 재고 검증이 끝난 차감량이므로 조건 없이 반영합니다.
+     *
+     * @param itemDeltas 상품 ID별 차감량 (음수면 증가)
+     */
+    public int[] applyStockDeltas(Map<Long, Integer> itemDeltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(itemDeltas.size());
+        itemDeltas.forEach((itemId, delta) ->
+                batchArgs.add(new Object[]{delta, now, itemId}));
+
+        return jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, batchArgs);
+    }
+
+    /**
+     * 재고 원장 flush 반영 이력 기록
+     * 이미 기록된 flush ID는 INSERT IGNORE로 건너뜁니다.
+     *
+     * @param flushId flush ID
+     * @return 새로 기록한 경우 true (이미 반영된 flush면 false)
+     */
+    public boolean insertLedgerFlushIfAbsent(String flushId) {
+        return jdbcTemplate.update(INSERT_LEDGER_FLUSH_SQL, flushId, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+
+    /**
+     * 보관 기간이 지난 재고 원장 flush 반영 이력 삭제
+     *
+     * @param before 이 시각 이전에 반영된 이력 삭제
+     * @return 삭제된 건수
+     */
+    public int deleteLedgerFlushesBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_LEDGER_FLUSHES_BEFORE_SQL, Timestamp.valueOf(before));
+    }
+
+    /**
+     * 전체 상품 재고 조회
+     *
+     * @return 상품 ID별 재고
+     */
+    public Map<Long, Integer> findAllStocks() {
+        Map<Long, Integer> stocks = new HashMap<>();
+        jdbcTemplate.query("SELECT item_id, stock FROM items", rs -> {
+            stocks.put(rs.getLong("item_id"), rs.getInt("stock"));
+        });
+        return stocks;
+    }
+
+    /**
+     * 상품별 현재 재고 조회
+     *
+     * @param itemIds 상품 ID 목록
+     * @return 상품 ID별 재고
+     */
+    public Map<Long, Integer> findStocks(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(itemIds.size(), "?"));
+        Map<Long, Integer> stocks = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT item_id, stock FROM items WHERE item_id IN (" + placeholders + ")",
+                rs -> {
+                    stocks.put(rs.getLong("item_id"), rs.getInt("stock"));
+                },
+                itemIds.toArray()
+        );
+        return stocks;
+    }
+}
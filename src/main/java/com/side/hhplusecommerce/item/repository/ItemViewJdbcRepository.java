@@ -0,0 +1,39 @@
+package com.side.hhplusecommerce.item.repository;
+
+import com.side.hhplusecommerce.item.infrastructure.buffer.ItemViewBuffer.BufferedItemView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 조회 이력 JDBC 배치 리포지토리
+ * rewriteBatchedStatements=true 설정으로 multi-row INSERT 한 번으로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemViewJdbcRepository {
+
+    private static final String INSERT_ITEM_VIEW_SQL =
+            "INSERT INTO item_views (item_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 이력 일괄 저장
+     *
+     * @param views 버퍼에서 꺼낸 조회 이력
+     */
+    public int[] saveAll(List<BufferedItemView> views) {
+        List<Object[]> batchArgs = new ArrayList<>(views.size());
+        views.forEach(view -> {
+            Timestamp viewedAt = Timestamp.valueOf(view.viewedAt());
+            batchArgs.add(new Object[]{view.itemId(), view.userId(), viewedAt, viewedAt});
+        });
+
+        return jdbcTemplate.batchUpdate(INSERT_ITEM_VIEW_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,74 @@
+package com.side.hhplusecommerce.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.constants.ItemSortType;
+import com.side.hhplusecommerce.item.dto.ItemSummary;
+import com.side.hhplusecommerce.item.repository.ItemCatalogJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 상품 목록(카탈로그) 조회 서비스
+ * - 커서 기반 페이징 (정렬 기준: ID / 가격 / 등록일시, 오름차순·내림차순)
+ * - 요청이 몰리는 정렬별 첫 페이지는 짧은 TTL로 메모리에 캐싱
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemCatalogService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ItemCatalogJdbcRepository itemCatalogJdbcRepository;
+
+    @Value("${item.catalog.first-page-cache.ttl-seconds:5}")
+    private long firstPageCacheTtlSeconds;
+
+    private Cache<FirstPageKey, List<ItemSummary>> firstPageCache;
+
+    @PostConstruct
+    public void init() {
+        firstPageCache = Caffeine.newBuilder()
+                .maximumSize(ItemSortType.values().length * Sort.Direction.values().length * 10L)
+                .expireAfterWrite(Duration.ofSeconds(firstPageCacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 상품 목록 조회 (다음 페이지 존재 여부 확인을 위해 size + 1개까지 조회)
+     *
+     * @param sortType 정렬 기준
+     * @param direction 정렬 방향
+     * @param cursor 마지막으로 조회한 상품 ID (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 정렬 순서대로의 상품 목록 (최대 size + 1개)
+     */
+    public List<ItemSummary> getItems(ItemSortType sortType, Sort.Direction direction, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        if (cursor == null) {
+            return firstPageCache.get(new FirstPageKey(sortType, direction, size),
+                    key -> itemCatalogJdbcRepository.findPage(sortType, direction, null, size + 1));
+        }
+        return itemCatalogJdbcRepository.findPage(sortType, direction, cursor, size + 1);
+    }
+
+    /**
+     * 첫 페이지 캐시 비우기
+     */
+    public void clearFirstPageCache() {
+        firstPageCache.invalidateAll();
+    }
+
+    private record FirstPageKey(ItemSortType sortType, Sort.Direction direction, int size) {}
+}
@@ -16,6 +16,7 @@ import com.side.hhplusecommerce.item.dto.ItemDto;
 import com.side.hhplusecommerce.item.dto.ItemViewCountDto;
 import com.side.hhplusecommerce.item.dto.PopularItemDto;
 import com.side.hhplusecommerce.item.dto.PopularItemsDto;
+import com.side.hhplusecommerce.item.infrastructure.cache.PopularItemsCache;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import com.side.hhplusecommerce.item.repository.ItemViewRepository;
 import com.side.hhplusecommerce.order.dto.ItemSalesCountDto;
@@ -23,6 +24,9 @@ import com.side.hhplusecommerce.order.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -30,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -43,61 +48,86 @@ public class ItemPopularityService {
     private final OrderItemRepository orderItemRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final PopularityScoreCalculator scoreCalculator;
+    private final PopularItemsCache popularItemsCache;
 
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    /**
+     * 인기도 score 증가 스크립트
+     * - 일간/주간 ZSET: member가 있는 경우에만 score 증가 (ZSCORE + ZINCRBY를 원자적으로 실행)
+     * - 현재 시간 버킷: 항상 score 증가 후 TTL 설정 (랭킹 재계산의 원천 데이터)
+     * KEYS[1..k-1]: 랭킹 ZSET 키 (일간, 주간), KEYS[k]: 현재 시간 버킷 키
+     * ARGV[1..n]: member(상품 ID), ARGV[n+1..2n]: 증가 가중치, ARGV[2n+1]: 버킷 TTL(초)
+     */
+    private static final RedisScript<Long> INCREMENT_SCORES_SCRIPT = new DefaultRedisScript<>(
+            "local n = (#ARGV - 1) / 2 " +
+            "local bucket = KEYS[#KEYS] " +
+            "local updated = 0 " +
+            "for k = 1, #KEYS - 1 do " +
+            "  for i = 1, n do " +
+            "    if redis.call('ZSCORE', KEYS[k], ARGV[i]) then " +
+            "      redis.call('ZINCRBY', KEYS[k], ARGV[n + i], ARGV[i]) " +
+            "      updated = updated + 1 " +
+            "    end " +
+            "  end " +
+            "end " +
+            "for i = 1, n do " +
+            "  redis.call('ZINCRBY', bucket, ARGV[n + i], ARGV[i]) " +
+            "end " +
+            "redis.call('EXPIRE', bucket, ARGV[2 * n + 1]) " +
+            "return updated",
+            Long.class
+    );
 
     /**
      * Redis ZSET을 사용한 인기 상품 조회 (기간 선택 가능)
      * - Redis Sorted Set에서 score 기준으로 상위 상품 조회
-     * - 실시간 조회수/판매량 반영
+     * - 완성된 응답을 캐싱하고 랭킹 갱신 시에만 재구성 (PopularItemsCache)
      *
      * @param period 조회 기간 (DAILY, WEEKLY)
      * @return 인기 상품 목록
      */
     public PopularItemsDto getPopularItems(PopularityPeriod period) {
-        return getPopularItemsFromZSet(period.getRedisKey(), POPULAR_ITEMS_LIMIT);
+        return popularItemsCache.get(period,
+                () -> getPopularItemsFromZSet(period.getRedisKey(), POPULAR_ITEMS_LIMIT));
     }
 
     /**
      * Redis ZSET에서 인기 상품 조회
+     * 조회 실패는 빈 목록으로 바꾸지 않고 그대로 던집니다. (PopularItemsCache가 이전 응답을 유지하고 실패 결과는 캐싱하지 않음)
      *
      * @param zsetKey Redis ZSET 키
      * @param limit 조회할 인기 상품 개수
      * @return 인기 상품 목록
      */
     private PopularItemsDto getPopularItemsFromZSet(String zsetKey, int limit) {
-        try {
-            // Redis ZSET에서 score 역순으로 상위 limit개 조회
-            Set<Object> topItemIds = redisTemplate.opsForZSet()
-                    .reverseRange(zsetKey, 0, limit - 1);
+        // Redis ZSET에서 score 역순으로 상위 limit개 조회
+        Set<Object> topItemIds = redisTemplate.opsForZSet()
+                .reverseRange(zsetKey, 0, limit - 1);
 
-            if (topItemIds == null || topItemIds.isEmpty()) {
-                log.warn("No popular items found in Redis ZSET: {}", zsetKey);
-                return PopularItemsDto.of(List.of());
-            }
-
-            // String -> Long 변환
-            List<Long> itemIds = topItemIds.stream()
-                    .map(obj -> Long.valueOf(obj.toString()))
-                    .toList();
+        if (topItemIds == null || topItemIds.isEmpty()) {
+            log.warn("No popular items found in Redis ZSET: {}", zsetKey);
+            return PopularItemsDto.of(List.of());
+        }
 
-            // Item 조회 및 DTO 변환
-            List<Item> items = itemRepository.findAllByItemIdIn(itemIds);
-            Map<Long, Item> itemMap = items.stream()
-                    .collect(Collectors.toMap(Item::getItemId, item -> item));
+        // String -> Long 변환
+        List<Long> itemIds = topItemIds.stream()
+                .map(obj -> Long.valueOf(obj.toString()))
+                .toList();
 
-            // 순서 유지하며 DTO 변환
-            List<PopularItemDto> popularItems = itemIds.stream()
-                    .map(itemMap::get)
-                    .filter(Objects::nonNull)
-                    .map(PopularItemDto::from)
-                    .toList();
+        // Item 조회 및 DTO 변환
+        List<Item> items = itemRepository.findAllByItemIdIn(itemIds);
+        Map<Long, Item> itemMap = items.stream()
+                .collect(Collectors.toMap(Item::getItemId, item -> item));
 
-            return PopularItemsDto.of(popularItems);
+        // 순서 유지하며 DTO 변환
+        List<PopularItemDto> popularItems = itemIds.stream()
+                .map(itemMap::get)
+                .filter(Objects::nonNull)
+                .map(PopularItemDto::from)
+                .toList();
 
-        } catch (Exception e) {
-            log.error("Failed to get popular items from Redis ZSET: {}", zsetKey, e);
-            return PopularItemsDto.of(List.of());
-        }
+        return PopularItemsDto.of(popularItems);
     }
 
     /**
@@ -164,7 +194,9 @@ public class ItemPopularityService {
 
 
     /**
-     * Redis Sorted Set에 인기 상품 랭킹 업데이트
+     * DB 집계로 Redis Sorted Set 인기 상품 랭킹 업데이트
+     * 평상시 랭킹은 시간별 버킷(refreshRankingFromBuckets)으로 갱신하며,
+     * 이 메서드는 버킷이 없는 과거 데이터로 랭킹을 복구(백필)할 때 사용합니다.
      *
      * @param zsetKey Redis ZSET 키
      * @param since 집계 시작 시점 (예: 1일 전, 7일 전)
@@ -204,18 +236,24 @@ public class ItemPopularityService {
                     .limit(POPULAR_ITEMS_LIMIT)
                     .toList();
 
-            // 기존 Sorted Set 삭제
-            redisTemplate.delete(zsetKey);
-
-            // 새로운 랭킹 데이터 저장
-            for (ItemPopularity item : topItems) {
-                redisTemplate.opsForZSet().add(
-                        zsetKey,
-                        item.itemId().toString(),
-                        item.popularityScore()
-                );
+            if (topItems.isEmpty()) {
+                redisTemplate.delete(zsetKey);
+                markRankingChanged(zsetKey);
+                log.info("Updated popular items ranking in Redis ZSET: {}. Total items: 0", zsetKey);
+                return;
             }
 
+            // 임시 키에 한 번에 저장한 뒤 RENAME (갱신 중 랭킹이 비어 보이는 구간 제거)
+            String tempKey = zsetKey + TEMP_SUFFIX;
+            Set<ZSetOperations.TypedTuple<Object>> tuples = topItems.stream()
+                    .map(item -> ZSetOperations.TypedTuple.<Object>of(
+                            item.itemId().toString(), (double) item.popularityScore()))
+                    .collect(Collectors.toSet());
+            redisTemplate.delete(tempKey);
+            redisTemplate.opsForZSet().add(tempKey, tuples);
+            redisTemplate.rename(tempKey, zsetKey);
+            markRankingChanged(zsetKey);
+
             log.info("Updated popular items ranking in Redis ZSET: {}. Total items: {}", zsetKey, topItems.size());
 
         } catch (Exception e) {
@@ -229,18 +267,18 @@ public class ItemPopularityService {
      * @param itemId 조회된 상품 ID
      */
     public void incrementViewScore(Long itemId) {
-        int viewWeight = VIEW_SCORE_WEIGHT;
-
-        try {
-            // 일간 ZSET score 증가
-            incrementScoreIfExists(POPULAR_ITEMS_DAILY_KEY, itemId, viewWeight);
-            // 주간 ZSET score 증가
-            incrementScoreIfExists(POPULAR_ITEMS_WEEKLY_KEY, itemId, viewWeight);
+        incrementScores(Map.of(itemId, (long) VIEW_SCORE_WEIGHT));
+    }
 
-            log.debug("Incremented view score for itemId={}, weight={}", itemId, viewWeight);
-        } catch (Exception e) {
-            log.error("Failed to increment view score for itemId={}", itemId, e);
-        }
+    /**
+     * 조회 이력 flush 시 상품별 조회수만큼 일간/주간 ZSET의 score 증가
+     *
+     * @param viewCounts 상품 ID별 조회수
+     */
+    public void incrementViewScores(Map<Long, Long> viewCounts) {
+        Map<Long, Long> itemWeights = new HashMap<>();
+        viewCounts.forEach((itemId, viewCount) -> itemWeights.put(itemId, VIEW_SCORE_WEIGHT * viewCount));
+        incrementScores(itemWeights);
     }
 
     /**
@@ -249,33 +287,97 @@ public class ItemPopularityService {
      * @param itemId 구매된 상품 ID
      */
     public void incrementSalesScore(Long itemId) {
-        int salesWeight = SALES_SCORE_WEIGHT;
+        incrementScores(Map.of(itemId, (long) SALES_SCORE_WEIGHT));
+    }
 
-        try {
-            // 일간 ZSET score 증가
-            incrementScoreIfExists(POPULAR_ITEMS_DAILY_KEY, itemId, salesWeight);
-            // 주간 ZSET score 증가
-            incrementScoreIfExists(POPULAR_ITEMS_WEEKLY_KEY, itemId, salesWeight);
+    /**
+     * 주문 완료 시 주문 상품(라인)별 일간/주간 ZSET의 score 증가
+     * 같은 상품이 여러 라인이면 라인 수만큼 가중치를 합산해 한 번에 반영합니다.
+     *
+     * @param itemIds 주문 라인의 상품 ID 목록
+     */
+    public void incrementSalesScores(Collection<Long> itemIds) {
+        Map<Long, Long> itemWeights = new HashMap<>();
+        itemIds.forEach(itemId -> itemWeights.merge(itemId, (long) SALES_SCORE_WEIGHT, Long::sum));
+        incrementScores(itemWeights);
+    }
 
-            log.debug("Incremented sales score for itemId={}, weight={}", itemId, salesWeight);
+    /**
+     * 인기도 score 증가 (Lua 스크립트 1회 = Redis 왕복 1회)
+     * - 현재 시간 버킷에 누적 (다음 랭킹 재계산 시 반영)
+     * - 일간/주간 랭킹에 이미 있는 상품은 즉시 score 증가
+     *
+     * @param itemWeights 상품 ID별 증가 가중치
+     */
+    public void incrementScores(Map<Long, Long> itemWeights) {
+        if (itemWeights.isEmpty()) {
+            return;
+        }
+
+        List<Long> itemIds = new ArrayList<>(itemWeights.keySet());
+        Object[] args = new Object[itemIds.size() * 2 + 1];
+        for (int i = 0; i < itemIds.size(); i++) {
+            args[i] = itemIds.get(i).toString();
+            args[itemIds.size() + i] = itemWeights.get(itemIds.get(i));
+        }
+        args[itemIds.size() * 2] = POPULAR_ITEMS_BUCKET_TTL_SECONDS;
+
+        try {
+            redisTemplate.execute(INCREMENT_SCORES_SCRIPT,
+                    List.of(POPULAR_ITEMS_DAILY_KEY, POPULAR_ITEMS_WEEKLY_KEY, bucketKey(LocalDateTime.now())),
+                    args);
+            log.debug("Incremented popularity scores: itemWeights={}", itemWeights);
         } catch (Exception e) {
-            log.error("Failed to increment sales score for itemId={}", itemId, e);
+            log.error("Failed to increment popularity scores: itemWeights={}", itemWeights, e);
         }
     }
 
     /**
-     * Redis ZSET에 itemId가 존재하면 score 증가
+     * 시간별 버킷으로 인기 상품 랭킹 재계산 (DB 집계 없음)
+     * 최근 N개 버킷을 임시 키에 ZUNIONSTORE → 상위 POPULAR_ITEMS_LIMIT개만 남김 → RENAME
+     * RENAME은 원자적이므로 갱신 중에도 랭킹이 비어 보이는 구간이 없습니다.
      *
-     * @param zsetKey Redis ZSET 키
-     * @param itemId 상품 ID
-     * @param weight 가중치
+     * @param period 랭킹 기간 (DAILY: 최근 24개 버킷, WEEKLY: 최근 168개 버킷)
      */
-    private void incrementScoreIfExists(String zsetKey, Long itemId, int weight) {
-        Double currentScore = redisTemplate.opsForZSet().score(zsetKey, itemId.toString());
-        if (currentScore != null) {
-            redisTemplate.opsForZSet().incrementScore(zsetKey, itemId.toString(), weight);
+    public void refreshRankingFromBuckets(PopularityPeriod period) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> bucketKeys = new ArrayList<>(period.getBucketHours());
+        for (int i = 0; i < period.getBucketHours(); i++) {
+            bucketKeys.add(bucketKey(now.minusHours(i)));
+        }
+        String tempKey = period.getRedisKey() + TEMP_SUFFIX;
+
+        try {
+            Long size = redisTemplate.opsForZSet()
+                    .unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), tempKey);
+            if (size == null || size == 0) {
+                // 버킷이 아직 쌓이지 않은 경우 (배포 직후 등) 기존 랭킹 유지
+                redisTemplate.delete(tempKey);
+                log.info("No popularity buckets for {} ranking, keeping current ranking", period);
+                return;
+            }
+
+            // 상위 POPULAR_ITEMS_LIMIT개만 유지 (score 오름차순 기준 하위 항목 제거)
+            redisTemplate.opsForZSet().removeRange(tempKey, 0, -(POPULAR_ITEMS_LIMIT + 1));
+            redisTemplate.rename(tempKey, period.getRedisKey());
+            popularItemsCache.markRankingChanged(period);
+
+            log.info("Refreshed {} popular items ranking from {} buckets. Total items: {}",
+                    period, bucketKeys.size(), Math.min(size, POPULAR_ITEMS_LIMIT));
+        } catch (Exception e) {
+            log.error("Failed to refresh {} popular items ranking from buckets", period, e);
         }
     }
 
+    private void markRankingChanged(String zsetKey) {
+        Arrays.stream(PopularityPeriod.values())
+                .filter(period -> period.getRedisKey().equals(zsetKey))
+                .forEach(popularItemsCache::markRankingChanged);
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return POPULAR_ITEMS_BUCKET_KEY_PREFIX + time.format(BUCKET_FORMATTER);
+    }
+
     private record ItemPopularity(Long itemId, Long popularityScore, Long viewCount, Long salesCount) {}
 }
@@ -0,0 +1,140 @@
+package com.side.hhplusecommerce.item.service;
+
+import com.side.hhplusecommerce.item.infrastructure.redis.ItemStockLedger;
+import com.side.hhplusecommerce.item.infrastructure.redis.PendingLedgerDeltas;
+import com.side.hhplusecommerce.item.repository.ItemStockJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 재고 원장(Redis) ↔ MySQL 동기화 서비스
+ * - 애플리케이션 시작 시 MySQL 재고를 기준으로 원장을 초기화 (CouponRedisInitService와 동일한 역할)
+ * - 원장에 누적된 차감량을 주기적으로 MySQL items.stock에 반영 (write-behind)
+ *
+ * 초기화와 반영은 여러 인스턴스 중 하나만 수행하도록 Redisson 락으로 보호합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemStockLedgerSyncService {
+
+    private static final String SYNC_LOCK_KEY = "item:stock:ledger:sync-lock";
+    private static final long STARTUP_LOCK_WAIT_SECONDS = 10;
+
+    private final ItemStockLedger itemStockLedger;
+    private final ItemStockJdbcRepository itemStockJdbcRepository;
+    private final ItemStockTransactionService itemStockTransactionService;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 애플리케이션 시작 시 재고 원장 정합성 맞추기
+     * 1. 이전 실행에서 남은 델타를 MySQL에 반영
+     * 2. 원장이 없는 상품은 MySQL 재고로 초기화 (이미 있는 원장은 Redis 값을 유지하고 차이만 기록)
+     */
+    @PostConstruct
+    public void reconcileOnStartup() {
+        if (!itemStockLedger.isActive()) {
+            return;
+        }
+
+        log.info("상품 재고 원장 초기화 시작");
+        RLock lock = redissonClient.getLock(SYNC_LOCK_KEY);
+        try {
+            if (!lock.tryLock(STARTUP_LOCK_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("상품 재고 원장 초기화 락 획득 실패, 다른 인스턴스에서 처리 중");
+                return;
+            }
+            try {
+                flushPendingDeltas();
+
+                Map<Long, Integer> mysqlStocks = itemStockLedger.isEnabledForAllItems()
+                        ? itemStockJdbcRepository.findAllStocks()
+                        : itemStockJdbcRepository.findStocks(itemStockLedger.getLedgerItemIds());
+
+                int initializedCount = 0;
+                for (Map.Entry<Long, Integer> entry : mysqlStocks.entrySet()) {
+                    if (itemStockLedger.initializeIfAbsent(entry.getKey(), entry.getValue())) {
+                        initializedCount++;
+                    } else {
+                        logDrift(entry.getKey(), entry.getValue());
+                    }
+                }
+
+                log.info("상품 재고 원장 초기화 완료: total={}, initialized={}", mysqlStocks.size(), initializedCount);
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("상품 재고 원장 초기화 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("상품 재고 원장 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 특정 상품들의 원장을 MySQL 재고로 초기화 (원장 미초기화 상태에서 주문이 들어온 경우 사용)
+     *
+     * @param itemIds 상품 ID 목록
+     */
+    public void initializeItemStocks(Collection<Long> itemIds) {
+        RLock lock = redissonClient.getLock(SYNC_LOCK_KEY);
+        lock.lock();
+        try {
+            itemStockJdbcRepository.findStocks(itemIds)
+                    .forEach(itemStockLedger::initializeIfAbsent);
+            log.info("상품 재고 원장 초기화: itemIds={}", itemIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 원장에 누적된 차감량을 MySQL에 반영
+     * 다른 인스턴스가 반영 중이면 이번 주기는 건너뜁니다.
+     */
+    public void flush() {
+        RLock lock = redissonClient.getLock(SYNC_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            flushPendingDeltas();
+        } catch (Exception e) {
+            // flushing 델타는 Redis에 남아 다음 주기에 재시도됨
+            log.error("상품 재고 원장 MySQL 반영 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushPendingDeltas() {
+        PendingLedgerDeltas pending = itemStockLedger.drainPendingDeltas();
+        if (!pending.isEmpty()) {
+            if (itemStockTransactionService.applyLedgerDeltas(pending.flushId(), pending.itemDeltas())) {
+                log.debug("상품 재고 원장 MySQL 반영: flushId={}, itemDeltas={}", pending.flushId(), pending.itemDeltas());
+            } else {
+                // 이전 반영이 커밋된 뒤 flushing 델타를 지우기 전에 중단된 경우
+                log.warn("상품 재고 원장 이미 반영된 flush, 건너뜀: flushId={}", pending.flushId());
+            }
+        }
+        itemStockLedger.completeFlush();
+    }
+
+    private void logDrift(Long itemId, int mysqlStock) {
+        Integer ledgerStock = itemStockLedger.getStock(itemId);
+        int expectedMysqlStock = ledgerStock + itemStockLedger.getUnflushedDelta(itemId);
+        if (expectedMysqlStock != mysqlStock) {
+            log.warn("상품 재고 원장 불일치: itemId={}, ledgerStock={}, mysqlStock={}",
+                    itemId, ledgerStock, mysqlStock);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.side.hhplusecommerce.item.service;
 
-import static com.side.hhplusecommerce.config.RedisCacheConfig.ITEM;
 import static com.side.hhplusecommerce.config.RedisCacheConfig.LOW_STOCK_THRESHOLD;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
 import com.side.hhplusecommerce.common.lock.distributed.DistributedLock;
 import com.side.hhplusecommerce.item.domain.Item;
+import com.side.hhplusecommerce.item.exception.ItemStockLedgerNotInitializedException;
+import com.side.hhplusecommerce.item.infrastructure.cache.ItemNearCache;
+import com.side.hhplusecommerce.item.infrastructure.redis.ItemStockLedger;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import com.side.hhplusecommerce.order.domain.OrderItem;
 import com.side.hhplusecommerce.order.event.CompensateStockCommand;
@@ -17,12 +19,13 @@ import com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaProduc
 import com.side.hhplusecommerce.order.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.*;
 
@@ -38,7 +41,10 @@ public class ItemStockService {
     private final ItemRepository itemRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderEventKafkaProducer kafkaProducer;
-    private final CacheManager cacheManager;
+    private final ItemNearCache itemNearCache;
+    private final ItemStockTransactionService itemStockTransactionService;
+    private final ItemStockLedger itemStockLedger;
+    private final ItemStockLedgerSyncService itemStockLedgerSyncService;
 
     /**
      * 개별 상품 재고 차감
@@ -80,21 +86,43 @@ public class ItemStockService {
 
     /**
      * OrderCreatedEvent 처리 - 재고 예약 처리
+     * 주문의 모든 상품을 하나의 트랜잭션에서 조건부 UPDATE 배치로 차감합니다. (전부 성공 또는 전부 실패)
+     * 재고 원장(Redis) 관리 상품은 MySQL 대신 원장에서 차감합니다.
      */
     public void handleOrderCreatedEvent(OrderCreatedEvent event) {
+        handleOrderCreatedEvent(event, null);
+    }
+
+    /**
+     * OrderCreatedEvent 처리 - 미리 조회한 주문 상품 사용 (배치 리스너에서 poll 단위로 IN 조회)
+     *
+     * @param orderItems 주문 상품 목록 (null이면 주문 ID로 조회)
+     */
+    public void handleOrderCreatedEvent(OrderCreatedEvent event, List<OrderItem> orderItems) {
         log.info("ItemStockService received OrderCreatedEvent: orderId={}, itemIds={}",
                 event.getOrderId(), event.getItemIds());
 
         try {
             // OrderItem에서 각 itemId에 대한 수량 조회
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(event.getOrderId());
-
-            // 각 상품별로 재고 차감
-            for (OrderItem orderItem : orderItems) {
-                decreaseStockForItem(orderItem.getItemId(), orderItem.getQuantity());
-                log.info("Stock decreased: itemId={}, quantity={}", orderItem.getItemId(), orderItem.getQuantity());
+            if (orderItems == null) {
+                orderItems = orderItemRepository.findByOrderId(event.getOrderId());
             }
 
+            Map<Long, Integer> itemQuantities = orderItems.stream()
+                    .collect(Collectors.toMap(OrderItem::getItemId, OrderItem::getQuantity, Integer::sum));
+
+            // 전체 상품 재고 일괄 차감
+            Map<Long, Integer> remainingStocks = reserveStocks(itemQuantities);
+            log.info("Stock decreased: orderId={}, itemQuantities={}", event.getOrderId(), itemQuantities);
+
+            // 재고가 임계값 이하로 떨어진 상품은 캐시 무효화
+            remainingStocks.forEach((itemId, stock) -> {
+                if (stock <= LOW_STOCK_THRESHOLD) {
+                    evictItemCache(itemId);
+                    log.info("Cache evicted for low-stock item: itemId={}, stock={}", itemId, stock);
+                }
+            });
+
             log.info("Stock reservation successful for orderId={}", event.getOrderId());
             StockReservedEvent stockReservedEvent = StockReservedEvent.of(event.getOrderId());
             kafkaProducer.publish(TOPIC_STOCK_RESERVED, event.getOrderId().toString(), stockReservedEvent);
@@ -114,13 +142,24 @@ public class ItemStockService {
                 command.getOrderId(), command.getItemQuantities());
 
         try {
+            Map<Long, Integer> ledgerQuantities = new HashMap<>();
+
             // 각 상품별로 재고 복구
             for (Map.Entry<Long, Integer> entry : command.getItemQuantities().entrySet()) {
                 Long itemId = entry.getKey();
                 Integer quantity = entry.getValue();
+                if (itemStockLedger.isManaged(itemId)) {
+                    ledgerQuantities.put(itemId, quantity);
+                    continue;
+                }
                 increaseStockForItem(itemId, quantity);
                 log.info("Stock compensated: itemId={}, quantity={}", itemId, quantity);
             }
+
+            // 재고 원장 관리 상품 일괄 복구
+            if (!ledgerQuantities.isEmpty()) {
+                itemStockLedger.increase(ledgerQuantities);
+            }
             log.info("Stock compensation completed for orderId={}", command.getOrderId());
 
         } catch (Exception e) {
@@ -129,19 +168,56 @@ public class ItemStockService {
     }
 
     /**
-     * 상품 캐시 무효화
-     * 재고가 임계값 이하로 떨어지거나 중요한 변경 사항이 있을 때 호출
+     * 재고 원장(Redis) 관리 상품과 MySQL 관리 상품을 나누어 차감
+     * 원장을 먼저 차감하고, MySQL 차감이 실패하면 원장을 원복합니다.
      */
-    private void evictItemCache(Long itemId) {
+    private Map<Long, Integer> reserveStocks(Map<Long, Integer> itemQuantities) {
+        Map<Long, Integer> ledgerQuantities = new HashMap<>();
+        Map<Long, Integer> mysqlQuantities = new HashMap<>();
+        itemQuantities.forEach((itemId, quantity) -> {
+            if (itemStockLedger.isManaged(itemId)) {
+                ledgerQuantities.put(itemId, quantity);
+            } else {
+                mysqlQuantities.put(itemId, quantity);
+            }
+        });
+
+        Map<Long, Integer> remainingStocks = new HashMap<>();
+        if (!ledgerQuantities.isEmpty()) {
+            remainingStocks.putAll(decreaseLedgerStocks(ledgerQuantities));
+        }
+        if (mysqlQuantities.isEmpty()) {
+            return remainingStocks;
+        }
+
         try {
-            var cache = cacheManager.getCache(ITEM);
-            if (cache != null) {
-                cache.evict(itemId);
-                log.debug("Successfully evicted cache for itemId={}", itemId);
+            remainingStocks.putAll(itemStockTransactionService.decreaseStocks(mysqlQuantities));
+        } catch (RuntimeException e) {
+            if (!ledgerQuantities.isEmpty()) {
+                itemStockLedger.increase(ledgerQuantities);
             }
-        } catch (Exception e) {
-            log.warn("Failed to evict cache for itemId={}", itemId, e);
-            // 캐시 무효화 실패는 치명적이지 않으므로 예외를 던지지 않음
+            throw e;
         }
+        return remainingStocks;
+    }
+
+    /**
+     * 재고 원장 차감 (원장이 아직 없으면 MySQL 재고로 초기화 후 1회 재시도)
+     */
+    private Map<Long, Integer> decreaseLedgerStocks(Map<Long, Integer> ledgerQuantities) {
+        try {
+            return itemStockLedger.decrease(ledgerQuantities);
+        } catch (ItemStockLedgerNotInitializedException e) {
+            itemStockLedgerSyncService.initializeItemStocks(ledgerQuantities.keySet());
+            return itemStockLedger.decrease(ledgerQuantities);
+        }
+    }
+
+    /**
+     * 상품 캐시 무효화 (L1/L2 모두, 다른 인스턴스 L1은 Pub/Sub으로 전파)
+     * 재고가 임계값 이하로 떨어지거나 중요한 변경 사항이 있을 때 호출
+     */
+    private void evictItemCache(Long itemId) {
+        itemNearCache.evict(itemId);
     }
 }
@@ -0,0 +1,79 @@
+package com.side.hhplusecommerce.item.service;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.exception.InsufficientStockException;
+import com.side.hhplusecommerce.item.repository.ItemStockJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 재고 다건 차감 (트랜잭션 처리)
+ *
+ * 분산락 없이 조건부 UPDATE(stock >= ?)로 재고를 차감합니다.
+ * - 상품 ID 오름차순으로 실행해 동시 주문 간 행 잠금 순서를 고정 (데드락 방지)
+ * - 한 건이라도 재고가 부족하면 예외로 전체 롤백 (all-or-nothing)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemStockTransactionService {
+    private static final Duration LEDGER_FLUSH_HISTORY_RETENTION = Duration.ofDays(1);
+
+    private final ItemStockJdbcRepository itemStockJdbcRepository;
+
+    /**
+     * 주문 상품 전체 재고 차감
+     *
+     * @param itemQuantities 상품 ID별 차감 수량
+     * @return 차감 후 상품 ID별 남은 재고
+     */
+    @Transactional
+    public Map<Long, Integer> decreaseStocks(Map<Long, Integer> itemQuantities) {
+        TreeMap<Long, Integer> sortedQuantities = new TreeMap<>();
+        itemQuantities.forEach((itemId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new CustomException(ErrorCode.INVALID_STOCK_QUANTITY);
+            }
+            sortedQuantities.merge(itemId, quantity, Integer::sum);
+        });
+
+        int[] updatedRows = itemStockJdbcRepository.decreaseStocksIfEnough(sortedQuantities);
+
+        int index = 0;
+        for (Long itemId : sortedQuantities.keySet()) {
+            if (updatedRows[index++] == 0) {
+                log.info("Stock reservation rejected: itemId={}, quantity={}", itemId, sortedQuantities.get(itemId));
+                throw new InsufficientStockException();
+            }
+        }
+
+        return itemStockJdbcRepository.findStocks(sortedQuantities.keySet());
+    }
+
+    /**
+     * 재고 원장(Redis) 델타를 MySQL에 반영 (write-behind)
+     * flush ID를 재고 반영과 같은 트랜잭션에서 기록하므로, 커밋 후 flushing 델타 삭제 전에 중단되어
+     * 같은 델타를 다시 반영하려 해도 한 번만 적용됩니다.
+     *
+     * @param flushId flush ID
+     * @param itemDeltas 상품 ID별 차감량 (음수면 증가)
+     * @return 반영한 경우 true, 이미 반영된 flush면 false
+     */
+    @Transactional
+    public boolean applyLedgerDeltas(String flushId, Map<Long, Integer> itemDeltas) {
+        if (!itemStockJdbcRepository.insertLedgerFlushIfAbsent(flushId)) {
+            return false;
+        }
+        itemStockJdbcRepository.applyStockDeltas(new TreeMap<>(itemDeltas));
+        itemStockJdbcRepository.deleteLedgerFlushesBefore(LocalDateTime.now().minus(LEDGER_FLUSH_HISTORY_RETENTION));
+        return true;
+    }
+}
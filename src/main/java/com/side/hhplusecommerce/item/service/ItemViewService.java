@@ -1,41 +1,82 @@
 package com.side.hhplusecommerce.item.service;
 
-import com.side.hhplusecommerce.item.domain.ItemView;
-import com.side.hhplusecommerce.item.repository.ItemViewRepository;
+import com.side.hhplusecommerce.item.infrastructure.buffer.ItemViewBuffer;
+import com.side.hhplusecommerce.item.infrastructure.buffer.ItemViewBuffer.BufferedItemView;
+import com.side.hhplusecommerce.item.repository.ItemViewJdbcRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemViewService {
 
-    private final ItemViewRepository itemViewRepository;
+    private final ItemViewBuffer itemViewBuffer;
+    private final ItemViewJdbcRepository itemViewJdbcRepository;
     private final ItemPopularityService itemPopularityService;
 
+    @Value("${item.view.buffer.flush-batch-size:1000}")
+    private int flushBatchSize;
+
     /**
-     * 상품 조회 이력을 저장하고, Redis ZSET의 score를 업데이트합니다.
+     * 상품 조회 이력을 버퍼에 기록합니다. (MySQL 저장과 ZSET score 반영은 flush 시 일괄 처리)
      *
      * @param itemId 상품 ID
      * @param userId 사용자 ID
-     * @return 저장된 ItemView 엔티티
+     * @return 버퍼가 가득 차서 버린 경우 false
+     */
+    public boolean recordItemView(Long itemId, Long userId) {
+        return itemViewBuffer.offer(itemId, userId);
+    }
+
+    /**
+     * 버퍼에 쌓인 조회 이력 한 배치를 반영합니다.
+     * 1. item_views 배치 INSERT
+     * 2. 상품별 조회수를 합산해 ZSET score를 상품당 한 번만 증가
+     *
+     * @return 반영한 조회 이력 수
      */
     @Transactional
-    public ItemView recordItemView(Long itemId, Long userId) {
-        ItemView itemView = ItemView.builder()
-                .itemId(itemId)
-                .userId(userId)
-                .build();
+    public int flushBufferedViews() {
+        List<BufferedItemView> views = itemViewBuffer.drain(flushBatchSize);
+        if (views.isEmpty()) {
+            return 0;
+        }
 
-        ItemView savedItemView = itemViewRepository.save(itemView);
-        log.debug("Item view recorded - itemId: {}, userId: {}, itemViewId: {}",
-                itemId, userId, savedItemView.getItemViewId());
+        itemViewJdbcRepository.saveAll(views);
 
-        // Redis ZSET score 업데이트 (조회수 가중치 적용)
-        itemPopularityService.incrementViewScore(itemId);
+        // Redis ZSET score 업데이트 (상품별 조회수 합산 후 가중치 적용)
+        Map<Long, Long> viewCounts = views.stream()
+                .collect(Collectors.groupingBy(BufferedItemView::itemId, Collectors.counting()));
+        itemPopularityService.incrementViewScores(viewCounts);
 
-        return savedItemView;
+        log.debug("Item views flushed - count: {}, items: {}", views.size(), viewCounts.size());
+        return views.size();
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 조회 이력 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            while (itemViewBuffer.size() > 0) {
+                flushBufferedViews();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to flush item views on shutdown: remaining={}", itemViewBuffer.size(), e);
+        }
     }
 }
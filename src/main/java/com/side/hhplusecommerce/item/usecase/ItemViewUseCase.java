@@ -1,6 +1,9 @@
 package com.side.hhplusecommerce.item.usecase;
 
 import com.side.hhplusecommerce.common.dto.CursorRequest;
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.constants.ItemSortType;
 import com.side.hhplusecommerce.item.constants.PopularityPeriod;
 import com.side.hhplusecommerce.item.controller.dto.ItemResponse;
 import com.side.hhplusecommerce.item.controller.dto.ItemStockResponse;
@@ -9,14 +12,17 @@ import com.side.hhplusecommerce.item.controller.dto.ItemsResponse.ItemInfo;
 import com.side.hhplusecommerce.item.controller.dto.PopularItemsResponse;
 import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.item.domain.ItemValidator;
+import com.side.hhplusecommerce.item.dto.ItemDto;
+import com.side.hhplusecommerce.item.dto.ItemSummary;
 import com.side.hhplusecommerce.item.dto.PopularItemsDto;
+import com.side.hhplusecommerce.item.infrastructure.redis.ItemStockLedger;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
+import com.side.hhplusecommerce.item.service.ItemCatalogService;
 import com.side.hhplusecommerce.item.service.ItemPopularityService;
 import com.side.hhplusecommerce.item.service.ItemViewService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,21 +32,27 @@ public class ItemViewUseCase {
     private final ItemPopularityService itemPopularityService;
     private final ItemValidator itemValidator;
     private final ItemViewService itemViewService;
+    private final ItemStockLedger itemStockLedger;
+    private final ItemCatalogService itemCatalogService;
 
     public ItemResponse view(Long itemId, Long userId) {
-        // 상품 조회 이력 기록
+        ItemDto item = itemValidator.validateExistenceCached(itemId);
+        // 상품 조회 이력 기록 (버퍼에 넣고 바로 반환, 존재하는 상품만 기록)
         itemViewService.recordItemView(itemId, userId);
-        Item item = itemValidator.validateExistence(itemId);
-        return ItemResponse.from(item);
+        return ItemResponse.from(item, false);
     }
 
     public ItemsResponse view(CursorRequest cursorRequest) {
-        Pageable pageable =
-            PageRequest.of(0, cursorRequest.getSize() + 1);
+        return view(cursorRequest, ItemSortType.ID, Sort.Direction.ASC);
+    }
 
-        List<Item> items = itemRepository.findAllWithCursor(
+    public ItemsResponse view(CursorRequest cursorRequest, ItemSortType sortType, Sort.Direction direction) {
+        // 엔티티 대신 프로젝션으로 조회 (목록 조회가 영속성 컨텍스트를 채우지 않도록)
+        List<ItemSummary> items = itemCatalogService.getItems(
+                sortType,
+                direction,
                 cursorRequest.getCursor(),
-                pageable
+                cursorRequest.getSize()
         );
 
         boolean hasNext = items.size() > cursorRequest.getSize();
@@ -58,7 +70,17 @@ public class ItemViewUseCase {
     }
 
     public ItemStockResponse viewStock(Long itemId) {
-        Item item = itemValidator.validateExistence(itemId);
+        // 재고 조회는 캐시를 거치지 않고 DB에서 최신 재고를 조회
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
+
+        // 재고 원장 관리 상품은 MySQL 반영 전 차감분까지 포함된 원장 재고를 응답
+        if (itemStockLedger.isManaged(itemId)) {
+            Integer ledgerStock = itemStockLedger.getStock(itemId);
+            if (ledgerStock != null) {
+                return ItemStockResponse.of(item, ledgerStock);
+            }
+        }
 
         return ItemStockResponse.from(item);
     }
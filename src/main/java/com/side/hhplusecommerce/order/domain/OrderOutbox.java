@@ -0,0 +1,79 @@
+package com.side.hhplusecommerce.order.domain;
+
+import com.side.hhplusecommerce.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 Outbox
+ * 주문 상태 변경과 같은 트랜잭션에서 기록되고, OrderOutboxRelay가 Kafka로 발행합니다.
+ *
+ * - attemptCount: 릴레이가 발행을 위해 가져간(claim) 횟수
+ * - availableAt: 이 시각 이후에 다시 가져갈 수 있음 (발행 중 리스 / 실패 후 재시도 대기, null이면 즉시)
+ */
+@Getter
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_status_outbox_id", columnList = "status, outbox_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", nullable = false, length = 100)
+    private String messageKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderOutboxStatus status;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempt_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int attemptCount;
+
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private OrderOutbox(Long outboxId, String topic, String messageKey, String eventType, String payload,
+                        OrderOutboxStatus status, LocalDateTime publishedAt) {
+        super();
+        this.outboxId = outboxId;
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = status;
+        this.publishedAt = publishedAt;
+    }
+
+    public static OrderOutbox create(String topic, String messageKey, String eventType, String payload) {
+        return OrderOutbox.builder()
+                .topic(topic)
+                .messageKey(messageKey)
+                .eventType(eventType)
+                .payload(payload)
+                .status(OrderOutboxStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.side.hhplusecommerce.order.domain;
+
+public enum OrderOutboxStatus {
+    PENDING,
+    PUBLISHED,
+    DEAD // 역직렬화 불가 또는 최대 발행 시도 초과 (수동 확인 대상, 정리하지 않음)
+}
@@ -0,0 +1,71 @@
+package com.side.hhplusecommerce.order.infrastructure.kafka.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 배치 리스너 레코드 처리 유틸리티
+ */
+@Slf4j
+public final class KafkaBatchRecords {
+
+    private KafkaBatchRecords() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 레코드를 순서대로 처리
+     * 실패한 레코드에서 BatchListenerFailedException을 던져, 이전 레코드까지만 커밋되고
+     * 실패 레코드부터 재전달되도록 합니다. (배치 전체 재처리 방지)
+     */
+    public static <T> void processEach(List<ConsumerRecord<String, T>> records,
+                                       Consumer<ConsumerRecord<String, T>> handler) {
+        for (ConsumerRecord<String, T> record : records) {
+            try {
+                handler.accept(record);
+            } catch (Exception e) {
+                log.error("배치 레코드 처리 실패: topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset(), e);
+                throw new BatchListenerFailedException("배치 레코드 처리 실패", e, record);
+            }
+        }
+    }
+
+    /**
+     * 레코드 값에서 ID 목록 추출 (배치 단위 IN 조회용)
+     * 역직렬화에 실패한 레코드(ErrorHandlingDeserializer가 값을 null로 전달)는 제외합니다.
+     * 해당 레코드는 processEach에서 레코드 단위로 실패 처리됩니다.
+     */
+    public static <T, R> List<R> collect(Collection<ConsumerRecord<String, T>> records, Function<T, R> mapper) {
+        return records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 배치 단위 사전 조회 (실패 시 빈 결과)
+     * processEach 밖에서 던진 예외는 배치 전체 재시도 후 전체 레코드를 건너뛰게 하므로,
+     * 사전 조회에 실패하면 빈 결과를 반환하고 각 레코드 처리에서 개별 조회하도록 합니다.
+     */
+    public static <K, V> Map<K, V> prefetch(Supplier<Map<K, V>> loader) {
+        try {
+            return loader.get();
+        } catch (Exception e) {
+            log.warn("배치 사전 조회 실패, 레코드 단위 조회로 대체합니다.", e);
+            return Map.of();
+        }
+    }
+}
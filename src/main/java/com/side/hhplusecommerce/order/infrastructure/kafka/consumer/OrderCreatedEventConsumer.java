@@ -2,21 +2,24 @@ package com.side.hhplusecommerce.order.infrastructure.kafka.consumer;
 
 import com.side.hhplusecommerce.coupon.service.CouponService;
 import com.side.hhplusecommerce.item.service.ItemStockService;
+import com.side.hhplusecommerce.order.domain.OrderItem;
 import com.side.hhplusecommerce.order.event.OrderCreatedEvent;
+import com.side.hhplusecommerce.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.*;
 
 /**
- * OrderCreatedEvent Kafka Consumer (재고 예약용)
- * ItemStockService에서 재고를 예약합니다.
+ * OrderCreatedEvent Kafka Consumer (재고 예약/쿠폰 사용, 배치 리스너)
+ * 오프셋은 배치당 한 번 커밋하고, 레코드 처리 실패 시 실패 레코드부터 재처리합니다.
  */
 @Slf4j
 @Component
@@ -25,66 +28,43 @@ public class OrderCreatedEventConsumer {
 
     private final ItemStockService itemStockService;
     private final CouponService couponService;
+    private final OrderService orderService;
 
     @KafkaListener(
             topics = TOPIC_ORDER_CREATED,
             groupId = GROUP_COUPON_SERVICE,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "orderSagaBatchListenerContainerFactory"
     )
-    public void consumeForCoupon(
-            @Payload OrderCreatedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("OrderCreatedEvent 수신 (쿠폰 사용): orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
-
-        try {
-            // 쿠폰 사용 처리 (비동기)
-            couponService.handleOrderCreatedEvent(event);
+    public void consumeForCoupon(List<ConsumerRecord<String, OrderCreatedEvent>> records,
+                                 Acknowledgment acknowledgment) {
+        log.info("OrderCreatedEvent 배치 수신 (쿠폰 사용): size={}", records.size());
 
-            // Kafka 커밋
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-            }
+        // 쿠폰 사용 처리 (쿠폰 엔티티는 레코드별 트랜잭션에서 변경 감지로 갱신되므로 레코드 단위 조회 유지)
+        KafkaBatchRecords.processEach(records, record ->
+                couponService.handleOrderCreatedEvent(record.value()));
 
-            log.info("OrderCreatedEvent 처리 완료 (쿠폰 사용): orderId={}", event.getOrderId());
-
-        } catch (Exception e) {
-            log.error("OrderCreatedEvent 처리 실패 (쿠폰 사용): orderId={}", event.getOrderId(), e);
-            // 실패 시 ACK하지 않음 -> 재처리
-        }
+        acknowledgment.acknowledge();
     }
 
     @KafkaListener(
             topics = TOPIC_ORDER_CREATED,
             groupId = GROUP_STOCK_SERVICE,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "orderSagaBatchListenerContainerFactory"
     )
-    public void consumeForStock(
-            @Payload OrderCreatedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("OrderCreatedEvent 수신 (재고 예약): orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
-
-        try {
-            // 재고 예약 처리 (비동기)
-            itemStockService.handleOrderCreatedEvent(event);
+    public void consumeForStock(List<ConsumerRecord<String, OrderCreatedEvent>> records,
+                                Acknowledgment acknowledgment) {
+        log.info("OrderCreatedEvent 배치 수신 (재고 예약): size={}", records.size());
 
-            // Kafka 커밋
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-            }
+        // 배치의 주문 상품 일괄 조회 (IN 쿼리 1회, 실패 시 레코드별 조회)
+        List<Long> orderIds = KafkaBatchRecords.collect(records, OrderCreatedEvent::getOrderId);
+        Map<Long, List<OrderItem>> orderItemsByOrderId = KafkaBatchRecords.prefetch(() ->
+                orderService.findOrderItemsByOrderIds(orderIds));
 
-            log.info("OrderCreatedEvent 처리 완료 (재고 예약): orderId={}", event.getOrderId());
+        KafkaBatchRecords.processEach(records, record -> {
+            OrderCreatedEvent event = record.value();
+            itemStockService.handleOrderCreatedEvent(event, orderItemsByOrderId.get(event.getOrderId()));
+        });
 
-        } catch (Exception e) {
-            log.error("OrderCreatedEvent 처리 실패 (재고 예약): orderId={}", event.getOrderId(), e);
-            // 실패 시 ACK하지 않음 -> 재처리
-        }
+        acknowledgment.acknowledge();
     }
 }
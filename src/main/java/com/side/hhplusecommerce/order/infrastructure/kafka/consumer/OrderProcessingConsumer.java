@@ -1,21 +1,34 @@
 package com.side.hhplusecommerce.order.infrastructure.kafka.consumer;
 
+import com.side.hhplusecommerce.order.domain.Order;
+import com.side.hhplusecommerce.order.domain.OrderItem;
 import com.side.hhplusecommerce.order.event.*;
+import com.side.hhplusecommerce.order.service.OrderService;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
 import com.side.hhplusecommerce.order.usecase.OrderProcessingManager;
+import com.side.hhplusecommerce.order.usecase.PaymentGroupCommitProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.*;
 
 /**
- * 주문 플로우 관리 Kafka Consumer
- * OrderCreateFlowManager에서 처리할 모든 이벤트를 수신합니다.
+ * 주문 플로우 관리 Kafka Consumer (배치 리스너)
+ * OrderCreateFlowManager에서 처리할 모든 이벤트를 poll 단위로 수신합니다.
+ * - 배치에서 참조하는 주문/주문 상품은 IN 쿼리 한 번으로 미리 조회
+ * - 오프셋은 배치당 한 번 커밋
+ * - 레코드 처리 실패 시 실패 레코드부터 재처리 (KafkaBatchRecords 참고)
  */
 @Slf4j
 @Component
@@ -23,140 +36,103 @@ import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafk
 public class OrderProcessingConsumer {
 
     private final OrderProcessingManager orderProcessingManager;
+    private final PaymentGroupCommitProcessor paymentGroupCommitProcessor;
+    private final OrderService orderService;
 
     /**
-     * StockReservedEvent 수신
+     * 재고/쿠폰 처리 결과 이벤트 수신 (StockReserved, CouponUsed, StockFailed, CouponFailed)
+     * 같은 주문의 이벤트는 같은 키로 발행되므로 파티션 내 순서대로 처리합니다.
+     * 결제 준비가 완료된 주문은 모아서 주문 IN 조회 한 번으로 ProcessPaymentEvent를 발행합니다.
      */
     @KafkaListener(
-            topics = TOPIC_STOCK_RESERVED,
+            topics = {TOPIC_STOCK_RESERVED, TOPIC_COUPON_USED, TOPIC_STOCK_FAILED, TOPIC_COUPON_FAILED},
             groupId = GROUP_ORDER_FLOW_MANAGER,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "orderSagaBatchListenerContainerFactory"
     )
-    public void consumeStockReserved(
-            @Payload StockReservedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("StockReservedEvent 수신: orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
-
-        try {
-            orderProcessingManager.handleStockReservedEvent(event);
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
+    public void consumeOrderFlowEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        log.info("주문 플로우 이벤트 배치 수신: size={}", records.size());
+
+        // 보상 처리에 필요한 주문 상품 일괄 조회 (실패 이벤트만, 조회 실패 시 레코드별 조회)
+        Set<Long> failedOrderIds = new LinkedHashSet<>();
+        records.forEach(record -> {
+            if (record.value() instanceof StockFailedEvent event) {
+                failedOrderIds.add(event.getOrderId());
+            } else if (record.value() instanceof CouponFailedEvent event) {
+                failedOrderIds.add(event.getOrderId());
             }
-        } catch (Exception e) {
-            log.error("StockReservedEvent 처리 실패: orderId={}", event.getOrderId(), e);
-        }
-    }
-
-    /**
-     * CouponUsedEvent 수신
-     */
-    @KafkaListener(
-            topics = TOPIC_COUPON_USED,
-            groupId = GROUP_ORDER_FLOW_MANAGER,
-            containerFactory = "kafkaListenerContainerFactory"
-    )
-    public void consumeCouponUsed(
-            @Payload CouponUsedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("CouponUsedEvent 수신: orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
+        });
+        Map<Long, List<OrderItem>> orderItemsByOrderId = KafkaBatchRecords.prefetch(() ->
+                orderService.findOrderItemsByOrderIds(failedOrderIds));
 
+        Set<Long> readyOrderIds = new LinkedHashSet<>();
         try {
-            orderProcessingManager.handleCouponUsedEvent(event);
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-            }
-        } catch (Exception e) {
-            log.error("CouponUsedEvent 처리 실패: orderId={}", event.getOrderId(), e);
+            KafkaBatchRecords.processEach(records, record -> {
+                Object value = record.value();
+                if (value instanceof StockReservedEvent event) {
+                    if (orderProcessingManager.markStockReserved(event)) {
+                        readyOrderIds.add(event.getOrderId());
+                    }
+                } else if (value instanceof CouponUsedEvent event) {
+                    if (orderProcessingManager.markCouponUsed(event)) {
+                        readyOrderIds.add(event.getOrderId());
+                    }
+                } else if (value instanceof StockFailedEvent event) {
+                    orderProcessingManager.handleStockFailedEvent(event, orderItemsByOrderId.get(event.getOrderId()));
+                } else if (value instanceof CouponFailedEvent event) {
+                    orderProcessingManager.handleCouponFailedEvent(event, orderItemsByOrderId.get(event.getOrderId()));
+                } else {
+                    log.warn("알 수 없는 주문 플로우 이벤트: topic={}, offset={}", record.topic(), record.offset());
+                }
+            });
+        } finally {
+            // 실패 레코드 이전까지 결제 준비가 완료된 주문은 재처리 시 다시 준비 완료로 판정되지 않으므로 반드시 발행
+            orderProcessingManager.publishProcessPaymentEvents(readyOrderIds);
         }
-    }
 
-    /**
-     * StockFailedEvent 수신
-     */
-    @KafkaListener(
-            topics = TOPIC_STOCK_FAILED,
-            groupId = GROUP_ORDER_FLOW_MANAGER,
-            containerFactory = "kafkaListenerContainerFactory"
-    )
-    public void consumeStockFailed(
-            @Payload StockFailedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("StockFailedEvent 수신: orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
-
-        try {
-            orderProcessingManager.handleStockFailedEvent(event);
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-            }
-        } catch (Exception e) {
-            log.error("StockFailedEvent 처리 실패: orderId={}", event.getOrderId(), e);
-        }
-    }
-
-    /**
-     * CouponFailedEvent 수신
-     */
-    @KafkaListener(
-            topics = TOPIC_COUPON_FAILED,
-            groupId = GROUP_ORDER_FLOW_MANAGER,
-            containerFactory = "kafkaListenerContainerFactory"
-    )
-    public void consumeCouponFailed(
-            @Payload CouponFailedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("CouponFailedEvent 수신: orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
-
-        try {
-            orderProcessingManager.handleCouponFailedEvent(event);
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-            }
-        } catch (Exception e) {
-            log.error("CouponFailedEvent 처리 실패: orderId={}", event.getOrderId(), e);
-        }
+        acknowledgment.acknowledge();
     }
 
     /**
      * ProcessPaymentEvent 수신
+     *
+     * group commit 사용 시 poll 단위로 결제를 일괄 처리하고(PaymentGroupCommitProcessor),
+     * 결제 실패 주문의 보상과 재처리 대상 주문의 주문별 결제만 레코드 단위로 수행합니다.
      */
     @KafkaListener(
             topics = TOPIC_PROCESS_PAYMENT,
             groupId = GROUP_PAYMENT_SERVICE,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "paymentBatchListenerContainerFactory"
     )
-    public void consumeProcessPayment(
-            @Payload ProcessPaymentEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("ProcessPaymentEvent 수신: orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
+    public void consumeProcessPayment(List<ConsumerRecord<String, ProcessPaymentEvent>> records,
+                                      Acknowledgment acknowledgment) {
+        log.info("ProcessPaymentEvent 배치 수신: size={}", records.size());
+
+        if (!paymentGroupCommitProcessor.isEnabled()) {
+            KafkaBatchRecords.processEach(records, record ->
+                    orderProcessingManager.handleProcessPaymentEvent(record.value()));
+            acknowledgment.acknowledge();
+            return;
+        }
 
-        try {
-            orderProcessingManager.handleProcessPaymentEvent(event);
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
+        // 역직렬화 실패 레코드(null)는 group commit에서 제외하고 아래 레코드 단위 처리에서 실패시킴
+        PaymentBatchResult result = paymentGroupCommitProcessor.process(
+                records.stream().map(ConsumerRecord::value).filter(Objects::nonNull).toList());
+
+        // 결제 완료 주문은 이미 커밋됨 - 실패 레코드부터 재전달되어도 PENDING이 아니므로 다시 차감하지 않음
+        Set<Long> handledOrderIds = new HashSet<>();
+        KafkaBatchRecords.processEach(records, record -> {
+            ProcessPaymentEvent event = record.value();
+            if (!handledOrderIds.add(event.getOrderId())) {
+                return;
             }
-        } catch (Exception e) {
-            log.error("ProcessPaymentEvent 처리 실패: orderId={}", event.getOrderId(), e);
-        }
+            if (result.isFailed(event.getOrderId())) {
+                orderProcessingManager.failPayment(event);
+            } else if (result.needsRetry(event.getOrderId())) {
+                orderProcessingManager.handleProcessPaymentEvent(event);
+            }
+        });
+
+        acknowledgment.acknowledge();
     }
 
     /**
@@ -169,32 +145,43 @@ public class OrderProcessingConsumer {
     @KafkaListener(
             topics = TOPIC_ORDER_COMPLETED,
             groupId = GROUP_POST_PROCESS,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "postProcessBatchListenerContainerFactory"
     )
-    public void consumeOrderCompleted(
-            @Payload OrderCompletedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
-        log.info("OrderCompletedEvent 수신: orderId={}, partition={}, offset={}",
-                event.getOrderId(), partition, offset);
-
-        try {
-            orderProcessingManager.handleOrderCompletedEvent(event);
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
+    public void consumeOrderCompleted(List<ConsumerRecord<String, OrderCompletedEvent>> records,
+                                      Acknowledgment acknowledgment) {
+        log.info("OrderCompletedEvent 배치 수신: size={}", records.size());
+
+        // 주문/주문 상품 일괄 조회 (조회 실패 시 레코드별 조회)
+        List<Long> orderIds = KafkaBatchRecords.collect(records, OrderCompletedEvent::getOrderId);
+        Map<Long, Order> orders = KafkaBatchRecords.prefetch(() -> orderService.findAllByIds(orderIds));
+        Map<Long, List<OrderItem>> orderItemsByOrderId = KafkaBatchRecords.prefetch(() ->
+                orderService.findOrderItemsByOrderIds(orderIds));
+
+        for (ConsumerRecord<String, OrderCompletedEvent> record : records) {
+            OrderCompletedEvent event = record.value();
+            if (event == null) {
+                log.error("역직렬화 실패한 OrderCompletedEvent 건너뜀: partition={}, offset={}",
+                        record.partition(), record.offset());
+                continue;
             }
-        } catch (Exception e) {
-            log.error("OrderCompletedEvent 처리 실패: orderId={}", event.getOrderId(), e);
-
-            // 예외 발생 시에도 ACK 처리하여 무한 재시도 방지
-            // 멱등성이 보장되므로 재처리 시 안전하며,
-            // 일시적 장애는 다른 메커니즘(모니터링/알람)으로 대응
-            if (acknowledgment != null) {
-                acknowledgment.acknowledge();
-                log.warn("예외 발생했지만 무한 재시도 방지를 위해 ACK 처리: orderId={}", event.getOrderId());
+            try {
+                Order order = orders.get(event.getOrderId());
+                if (order == null) {
+                    // 사전 조회에서 빠진 주문은 주문 ID로 다시 조회 (없으면 예외 → 로그 후 건너뜀)
+                    orderProcessingManager.handleOrderCompletedEvent(event);
+                    continue;
+                }
+                orderProcessingManager.handleOrderCompletedEvent(
+                        event, order, orderItemsByOrderId.get(event.getOrderId()));
+            } catch (Exception e) {
+                // 예외 발생 시에도 ACK 처리하여 무한 재시도 방지
+                // 멱등성이 보장되므로 재처리 시 안전하며,
+                // 일시적 장애는 다른 메커니즘(모니터링/알람)으로 대응
+                log.error("OrderCompletedEvent 처리 실패 (무한 재시도 방지를 위해 건너뜀): orderId={}",
+                        event.getOrderId(), e);
             }
         }
+
+        acknowledgment.acknowledge();
     }
 }
@@ -24,7 +24,7 @@ public class SendOrderDataEventKafkaConsumer {
     @KafkaListener(
             topics = TOPIC_SEND_ORDER_DATA,
             groupId = GROUP_EXTERNAL_DATA_SERVICE,
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "externalDataListenerContainerFactory"
     )
     public void handleSendOrderDataEvent(SendOrderDataEvent event) {
         log.info("SendOrderDataEvent received: orderId={}", event.getOrderId());
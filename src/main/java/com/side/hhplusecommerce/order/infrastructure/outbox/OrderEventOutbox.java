@@ -0,0 +1,70 @@
+package com.side.hhplusecommerce.order.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.repository.OrderOutboxJdbcRepository;
+import com.side.hhplusecommerce.order.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 이벤트 Outbox 기록기
+ * 호출한 트랜잭션 안에서 이벤트를 order_outbox 테이블에 기록합니다.
+ * 트랜잭션이 커밋되어야만 OrderOutboxRelay가 Kafka로 발행하므로, 상태 변경과 이벤트 발행이 함께 성공하거나 함께 실패합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxJdbcRepository orderOutboxJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 Outbox에 기록 (반드시 기존 트랜잭션 안에서 호출)
+     *
+     * @param topic 토픽 이름
+     * @param key 메시지 키
+     * @param event 이벤트 객체
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String key, Object event) {
+        orderOutboxRepository.save(toOutbox(topic, key, event));
+        log.debug("Outbox 이벤트 기록: topic={}, key={}", topic, key);
+    }
+
+    /**
+     * 같은 토픽의 여러 이벤트를 INSERT 배치 한 번으로 기록 (반드시 기존 트랜잭션 안에서 호출)
+     *
+     * @param topic 토픽 이름
+     * @param events 메시지 키별 이벤트 객체
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(String topic, Map<String, ?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OrderOutbox> outboxes = new ArrayList<>(events.size());
+        events.forEach((key, event) -> outboxes.add(toOutbox(topic, key, event)));
+        orderOutboxJdbcRepository.insertAll(outboxes);
+        log.debug("Outbox 이벤트 일괄 기록: topic={}, count={}", topic, outboxes.size());
+    }
+
+    private OrderOutbox toOutbox(String topic, String key, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            return OrderOutbox.create(topic, key, event.getClass().getName(), payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox 이벤트 직렬화 실패: topic=" + topic, e);
+        }
+    }
+}
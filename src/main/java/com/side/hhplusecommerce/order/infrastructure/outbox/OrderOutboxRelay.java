@@ -0,0 +1,177 @@
+package com.side.hhplusecommerce.order.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.domain.OrderOutboxStatus;
+import com.side.hhplusecommerce.order.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 주문 이벤트 Outbox 릴레이
+ * order_outbox의 발행 대기 이벤트를 배치 단위로 Kafka에 발행합니다.
+ *
+ * - FOR UPDATE SKIP LOCKED + 리스를 짧은 트랜잭션으로 가져와(claim) 여러 인스턴스가 서로 다른 배치를 나눠 처리
+ * - Kafka 전송 완료는 트랜잭션 밖에서 기다리므로 전송이 느려도 행 잠금을 잡고 있지 않음
+ * - 이벤트별로 결과를 기록: 성공한 이벤트는 PUBLISHED, 실패한 이벤트만 retry-backoff-ms 후 재시도 (at-least-once)
+ * - 역직렬화할 수 없거나 max-attempts를 넘긴 이벤트는 DEAD로 격리해 배치 전체가 막히지 않도록 함
+ * - 실패한 이벤트만 늦게 재발행되므로 같은 key의 이벤트 순서는 재시도 시 뒤바뀔 수 있음
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxTransactionService orderOutboxTransactionService;
+    private final KafkaTemplate<String, Object> outboxKafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long leaseMs;
+    private final long retryBackoffMs;
+    private final int maxAttempts;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderOutboxTransactionService orderOutboxTransactionService,
+                            @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, Object> outboxKafkaTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${order.outbox.relay.batch-size:500}") int batchSize,
+                            @Value("${order.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+                            @Value("${order.outbox.relay.lease-ms:60000}") long leaseMs,
+                            @Value("${order.outbox.relay.retry-backoff-ms:1000}") long retryBackoffMs,
+                            @Value("${order.outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderOutboxTransactionService = orderOutboxTransactionService;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.leaseMs = leaseMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 발행 대기 이벤트 한 배치 발행
+     *
+     * @return 발행에 성공한 이벤트 수 (실패가 있으면 batch-size보다 작아 스케줄러가 이번 주기를 끝냄)
+     */
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderOutbox> outboxes = orderOutboxTransactionService.claim(
+                batchSize, now, now.plus(Duration.ofMillis(leaseMs)));
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        Map<OrderOutbox, CompletableFuture<SendResult<String, Object>>> futures = new LinkedHashMap<>();
+        List<Long> deadIds = new ArrayList<>();
+        for (OrderOutbox outbox : outboxes) {
+            Object event = toEvent(outbox);
+            if (event == null) {
+                deadIds.add(outbox.getOutboxId());
+                continue;
+            }
+            futures.put(outbox, send(outbox, event));
+        }
+
+        awaitAll(futures.values());
+
+        List<Long> publishedIds = new ArrayList<>(futures.size());
+        List<Long> retryIds = new ArrayList<>();
+        futures.forEach((outbox, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                publishedIds.add(outbox.getOutboxId());
+            } else if (outbox.getAttemptCount() + 1 >= maxAttempts) {
+                log.error("Outbox 이벤트 최대 발행 시도 초과, DEAD 처리: outboxId={}, topic={}, attempts={}",
+                        outbox.getOutboxId(), outbox.getTopic(), outbox.getAttemptCount() + 1);
+                deadIds.add(outbox.getOutboxId());
+            } else {
+                retryIds.add(outbox.getOutboxId());
+            }
+        });
+
+        orderOutboxTransactionService.markPublished(publishedIds, LocalDateTime.now());
+        orderOutboxTransactionService.retryAt(retryIds, LocalDateTime.now().plus(Duration.ofMillis(retryBackoffMs)));
+        orderOutboxTransactionService.markDead(deadIds);
+
+        if (!retryIds.isEmpty() || !deadIds.isEmpty()) {
+            log.warn("Outbox 이벤트 일부 발행 실패: published={}, retry={}, dead={}",
+                    publishedIds.size(), retryIds.size(), deadIds.size());
+        } else {
+            log.info("Outbox 이벤트 발행 완료: count={}, lastOutboxId={}",
+                    publishedIds.size(), publishedIds.get(publishedIds.size() - 1));
+        }
+        return publishedIds.size();
+    }
+
+    /**
+     * 발행 완료 후 보관 기간이 지난 Outbox 정리
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgePublished(LocalDateTime before) {
+        return orderOutboxRepository.deleteByStatusAndPublishedAtBefore(OrderOutboxStatus.PUBLISHED, before);
+    }
+
+    /**
+     * Outbox 페이로드 역직렬화
+     *
+     * @return 이벤트, 역직렬화할 수 없으면 null (재시도해도 성공할 수 없음)
+     */
+    private Object toEvent(OrderOutbox outbox) {
+        try {
+            return objectMapper.readValue(outbox.getPayload(), Class.forName(outbox.getEventType()));
+        } catch (Exception e) {
+            log.error("Outbox 이벤트 역직렬화 실패, DEAD 처리: outboxId={}, eventType={}",
+                    outbox.getOutboxId(), outbox.getEventType(), e);
+            return null;
+        }
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OrderOutbox outbox, Object event) {
+        try {
+            return outboxKafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(), event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 전체 전송 완료를 send-timeout-ms까지 대기 (실패/미완료 여부는 이벤트별로 판단)
+     */
+    private void awaitAll(Collection<CompletableFuture<SendResult<String, Object>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Outbox 이벤트 발행 대기 중 인터럽트 발생");
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Outbox 이벤트 발행 실패 또는 시간 초과: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.side.hhplusecommerce.order.infrastructure.outbox;
+
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.domain.OrderOutboxStatus;
+import com.side.hhplusecommerce.order.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox 릴레이 트랜잭션 레이어
+ * Kafka 전송 완료를 기다리는 동안 행 잠금을 잡지 않도록, 가져오기(claim)와 결과 기록을 각각 짧은 트랜잭션으로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxTransactionService {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    /**
+     * 발행할 이벤트 가져오기
+     * FOR UPDATE SKIP LOCKED로 조회한 행의 시도 횟수를 올리고 리스를 걸어 커밋합니다.
+     * 릴레이가 결과를 기록하기 전에 종료되어도 리스가 지나면 다시 가져갈 수 있습니다.
+     *
+     * @return 가져온 이벤트 (attemptCount는 이번 시도를 포함하지 않은 값)
+     */
+    @Transactional
+    public List<OrderOutbox> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<OrderOutbox> outboxes = orderOutboxRepository.findAvailableForUpdateSkipLocked(now, limit);
+        if (!outboxes.isEmpty()) {
+            orderOutboxRepository.claim(outboxes.stream().map(OrderOutbox::getOutboxId).toList(), leaseUntil);
+        }
+        return outboxes;
+    }
+
+    @Transactional
+    public void markPublished(List<Long> outboxIds, LocalDateTime publishedAt) {
+        if (!outboxIds.isEmpty()) {
+            orderOutboxRepository.updateStatus(outboxIds, OrderOutboxStatus.PUBLISHED, publishedAt);
+        }
+    }
+
+    @Transactional
+    public void retryAt(List<Long> outboxIds, LocalDateTime availableAt) {
+        if (!outboxIds.isEmpty()) {
+            orderOutboxRepository.updateAvailableAt(outboxIds, availableAt);
+        }
+    }
+
+    @Transactional
+    public void markDead(List<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            orderOutboxRepository.updateStatus(outboxIds, OrderOutboxStatus.DEAD, null);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.side.hhplusecommerce.order.infrastructure.redis;
 
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.TimeUnit;
@@ -11,69 +18,95 @@ import java.util.concurrent.TimeUnit;
 /**
  * Redis 기반 주문 이벤트 추적 서비스
  * 재고 예약(StockReservedEvent)과 쿠폰 사용(CouponUsedEvent) 이벤트의 완료 여부를 Redis에서 추적합니다.
+ *
+ * 남은 이벤트 수(pending)를 카운트다운 래치로 관리하며,
+ * 플래그 설정과 결제 준비 전이 판단을 하나의 Lua 스크립트로 원자적으로 수행합니다.
+ * 따라서 결제 준비 완료(true)는 주문당 정확히 한 번만 반환됩니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventTracker {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CustomMetrics customMetrics;
 
     private static final String KEY_PREFIX = "order:event:tracker:";
     private static final String FIELD_STOCK_RESERVED = "stockReserved";
     private static final String FIELD_COUPON_USED = "couponUsed";
+    private static final String FIELD_PENDING = "pending";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
     private static final long TTL_HOURS = 24; // 24시간 후 자동 삭제
 
+    private static final long RESULT_TRACKER_NOT_FOUND = -1L;
+    private static final long RESULT_READY = 1L;
+
+    /**
+     * 플래그 설정 + 카운트다운 스크립트
+     * KEYS[1]: 추적 키, ARGV[1]: 완료 표시할 필드
+     * 반환값: -1 추적 데이터 없음, 0 대기 중 또는 중복 이벤트, 1 이번 호출로 결제 준비 완료
+     */
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>(
+            "local state = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not state then return -1 end " +
+            "if state == 'true' then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], 'true') " +
+            "if redis.call('HINCRBY', KEYS[1], 'pending', -1) == 0 then return 1 end " +
+            "return 0",
+            Long.class
+    );
+
     /**
-     * 주문 생성 시 이벤트 추적 초기화
+     * 주문 생성 시 이벤트 추적 초기화 (HSET + EXPIRE 파이프라인, 1 round trip)
      * @param orderId 주문 ID
      * @param hasCoupon 쿠폰 사용 여부
      */
     public void initialize(Long orderId, boolean hasCoupon) {
         String key = getKey(orderId);
 
-        // 재고와 쿠폰 모두 false로 초기화
-        redisTemplate.opsForHash().put(key, FIELD_STOCK_RESERVED, "false");
-        redisTemplate.opsForHash().put(key, FIELD_COUPON_USED, hasCoupon ? "false" : "true"); // 쿠폰이 없으면 true
-
-        // TTL 설정 (24시간)
-        redisTemplate.expire(key, TTL_HOURS, TimeUnit.HOURS);
+        // 쿠폰이 없으면 쿠폰 사용은 완료 상태로 시작하고, 남은 이벤트 수는 재고 예약 1건
+        Map<String, String> fields = Map.of(
+                FIELD_STOCK_RESERVED, FALSE,
+                FIELD_COUPON_USED, hasCoupon ? FALSE : TRUE,
+                FIELD_PENDING, hasCoupon ? "2" : "1"
+        );
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().putAll(key, fields);
+                ops.expire(key, TTL_HOURS, TimeUnit.HOURS);
+                return null;
+            }
+        });
+        customMetrics.incrementOrderEventTrackerRoundTrip("initialize");
 
         log.info("OrderEventTracker 초기화: orderId={}, hasCoupon={}", orderId, hasCoupon);
     }
 
     /**
-     * 재고 예약 완료 표시 및 결제 준비 여부 확인
+     * 재고 예약 완료 표시 및 결제 준비 전이 여부 확인
      * @param orderId 주문 ID
-     * @return 결제 준비 완료 여부 (재고 예약 && 쿠폰 사용 모두 완료)
+     * @return 이번 호출로 결제 준비가 완료되었는지 여부 (주문당 한 번만 true)
      */
     public boolean markStockReserved(Long orderId) {
-        String key = getKey(orderId);
-
-        // 재고 예약 완료 표시
-        redisTemplate.opsForHash().put(key, FIELD_STOCK_RESERVED, "true");
-
-        log.info("StockReserved 표시: orderId={}", orderId);
-
-        // 결제 준비 여부 확인
-        return isReadyForPayment(orderId);
+        boolean ready = mark(orderId, FIELD_STOCK_RESERVED);
+        log.info("StockReserved 표시: orderId={}, readyForPayment={}", orderId, ready);
+        return ready;
     }
 
     /**
-     * 쿠폰 사용 완료 표시 및 결제 준비 여부 확인
+     * 쿠폰 사용 완료 표시 및 결제 준비 전이 여부 확인
      * @param orderId 주문 ID
-     * @return 결제 준비 완료 여부 (재고 예약 && 쿠폰 사용 모두 완료)
+     * @return 이번 호출로 결제 준비가 완료되었는지 여부 (주문당 한 번만 true)
      */
     public boolean markCouponUsed(Long orderId) {
-        String key = getKey(orderId);
-
-        // 쿠폰 사용 완료 표시
-        redisTemplate.opsForHash().put(key, FIELD_COUPON_USED, "true");
-
-        log.info("CouponUsed 표시: orderId={}", orderId);
-
-        // 결제 준비 여부 확인
-        return isReadyForPayment(orderId);
+        boolean ready = mark(orderId, FIELD_COUPON_USED);
+        log.info("CouponUsed 표시: orderId={}, readyForPayment={}", orderId, ready);
+        return ready;
     }
 
     /**
@@ -82,12 +115,11 @@ public class OrderEventTracker {
      * @return 결제 준비 완료 여부
      */
     public boolean isReadyForPayment(Long orderId) {
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(getKey(orderId));
-
-        String stockReserved = (String) entries.get(FIELD_STOCK_RESERVED);
-        String couponUsed = (String) entries.get(FIELD_COUPON_USED);
+        List<Object> values = stringRedisTemplate.opsForHash()
+                .multiGet(getKey(orderId), List.of(FIELD_STOCK_RESERVED, FIELD_COUPON_USED));
+        customMetrics.incrementOrderEventTrackerRoundTrip("read");
 
-        return "true".equals(stockReserved) && "true".equals(couponUsed);
+        return TRUE.equals(values.get(0)) && TRUE.equals(values.get(1));
     }
 
     /**
@@ -96,9 +128,7 @@ public class OrderEventTracker {
      * @return 재고 예약 완료 여부
      */
     public boolean isStockReserved(Long orderId) {
-        String key = getKey(orderId);
-        String stockReserved = (String) redisTemplate.opsForHash().get(key, FIELD_STOCK_RESERVED);
-        return "true".equals(stockReserved);
+        return isMarked(orderId, FIELD_STOCK_RESERVED);
     }
 
     /**
@@ -107,9 +137,7 @@ public class OrderEventTracker {
      * @return 쿠폰 사용 완료 여부
      */
     public boolean isCouponUsed(Long orderId) {
-        String key = getKey(orderId);
-        String couponUsed = (String) redisTemplate.opsForHash().get(key, FIELD_COUPON_USED);
-        return "true".equals(couponUsed);
+        return isMarked(orderId, FIELD_COUPON_USED);
     }
 
     /**
@@ -118,10 +146,33 @@ public class OrderEventTracker {
      */
     public void delete(Long orderId) {
         String key = getKey(orderId);
-        redisTemplate.delete(key);
+        stringRedisTemplate.delete(key);
+        customMetrics.incrementOrderEventTrackerRoundTrip("delete");
         log.info("OrderEventTracker 삭제: orderId={}", orderId);
     }
 
+    private boolean mark(Long orderId, String field) {
+        Long result = stringRedisTemplate.execute(MARK_SCRIPT, Collections.singletonList(getKey(orderId)), field);
+        customMetrics.incrementOrderEventTrackerRoundTrip("mark");
+
+        if (result != null && result == RESULT_TRACKER_NOT_FOUND) {
+            log.warn("OrderEventTracker 데이터 없음(만료 또는 삭제): orderId={}, field={}", orderId, field);
+            return false;
+        }
+
+        boolean ready = result != null && result == RESULT_READY;
+        if (ready) {
+            customMetrics.incrementOrderEventTrackerReady();
+        }
+        return ready;
+    }
+
+    private boolean isMarked(Long orderId, String field) {
+        Object value = stringRedisTemplate.opsForHash().get(getKey(orderId), field);
+        customMetrics.incrementOrderEventTrackerRoundTrip("read");
+        return TRUE.equals(value);
+    }
+
     private String getKey(Long orderId) {
         return KEY_PREFIX + orderId;
     }
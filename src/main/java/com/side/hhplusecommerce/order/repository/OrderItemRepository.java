@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -18,4 +19,6 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<ItemSalesCountDto> countSalesByItemIdGrouped(@Param("after") LocalDateTime after);
 
     List<OrderItem> findByOrderId(Long orderId);
+
+    List<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
 }
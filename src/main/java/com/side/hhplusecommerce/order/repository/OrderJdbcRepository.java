@@ -0,0 +1,41 @@
+package com.side.hhplusecommerce.order.repository;
+
+import com.side.hhplusecommerce.order.domain.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 JDBC 배치 리포지토리
+ * 결제 group commit에서 여러 주문의 상태를 UPDATE 배치 한 번으로 변경합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private static final String MARK_PAID_SQL =
+            "UPDATE orders SET status = ?, updated_at = ? WHERE order_id = ? AND status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 결제 대기(PENDING) 주문만 결제 완료(PAID)로 변경
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 각 UPDATE의 영향 받은 행 수 (0이면 이미 처리되었거나 없는 주문)
+     */
+    public int[] markPaidIfPending(List<Long> orderIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(orderIds.size());
+        orderIds.forEach(orderId -> batchArgs.add(new Object[]{
+                OrderStatus.PAID.name(), now, orderId, OrderStatus.PENDING.name()
+        }));
+
+        return jdbcTemplate.batchUpdate(MARK_PAID_SQL, batchArgs);
+    }
+}
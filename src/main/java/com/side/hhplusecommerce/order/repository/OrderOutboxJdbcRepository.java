@@ -0,0 +1,40 @@
+package com.side.hhplusecommerce.order.repository;
+
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 이벤트 Outbox JDBC 배치 리포지토리
+ * IDENTITY 키 엔티티는 JPA INSERT 배치가 되지 않으므로, 여러 이벤트를 한 번에 기록할 때 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderOutboxJdbcRepository {
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO order_outbox (topic, message_key, event_type, payload, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Outbox 일괄 기록
+     */
+    public void insertAll(List<OrderOutbox> outboxes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(outboxes.size());
+        outboxes.forEach(outbox -> batchArgs.add(new Object[]{
+                outbox.getTopic(), outbox.getMessageKey(), outbox.getEventType(), outbox.getPayload(),
+                outbox.getStatus().name(), now, now
+        }));
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,50 @@
+package com.side.hhplusecommerce.order.repository;
+
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.domain.OrderOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    /**
+     * 지금 가져갈 수 있는 발행 대기 이벤트를 잠금과 함께 조회
+     * 다른 릴레이 인스턴스가 잠근 행은 건너뛰므로 인스턴스 간 중복 발행 없이 병렬로 처리됩니다.
+     * 발행 중(리스)이거나 재시도 대기 중인 행(available_at > now)은 제외합니다.
+     */
+    @Query(value = "SELECT * FROM order_outbox WHERE status = 'PENDING' " +
+            "AND (available_at IS NULL OR available_at <= :now) " +
+            "ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderOutbox> findAvailableForUpdateSkipLocked(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 발행 시도 시작 (시도 횟수 증가 + 리스 만료 시각까지 다른 릴레이가 가져가지 않음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderOutbox o SET o.attemptCount = o.attemptCount + 1, o.availableAt = :leaseUntil " +
+            "WHERE o.outboxId IN :outboxIds")
+    int claim(@Param("outboxIds") List<Long> outboxIds, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 발행 실패 이벤트를 재시도 시각 이후에 다시 가져가도록 변경
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderOutbox o SET o.availableAt = :availableAt WHERE o.outboxId IN :outboxIds")
+    int updateAvailableAt(@Param("outboxIds") List<Long> outboxIds, @Param("availableAt") LocalDateTime availableAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderOutbox o SET o.status = :status, o.publishedAt = :publishedAt WHERE o.outboxId IN :outboxIds")
+    int updateStatus(@Param("outboxIds") List<Long> outboxIds,
+                     @Param("status") OrderOutboxStatus status,
+                     @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutbox o WHERE o.status = :status AND o.publishedAt < :before")
+    int deleteByStatusAndPublishedAtBefore(@Param("status") OrderOutboxStatus status,
+                                           @Param("before") LocalDateTime before);
+}
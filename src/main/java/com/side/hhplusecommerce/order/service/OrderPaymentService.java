@@ -1,12 +1,86 @@
 package com.side.hhplusecommerce.order.service;
 
+import com.side.hhplusecommerce.order.event.OrderCompletedEvent;
+import com.side.hhplusecommerce.order.event.ProcessPaymentEvent;
+import com.side.hhplusecommerce.order.infrastructure.outbox.OrderEventOutbox;
+import com.side.hhplusecommerce.order.repository.OrderJdbcRepository;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository.PointUsage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_ORDER_COMPLETED;
+
+/**
+ * 결제 group commit 서비스
+ * 여러 주문의 결제를 한 트랜잭션에서 처리합니다. (PaymentGroupCommitProcessor가 사용자 샤드 단위로 호출)
+ *
+ * 1. 포인트 조건부 차감 UPDATE 배치 (잔액 부족 주문은 결제 실패로 분류)
+ * 2. 차감된 주문만 PENDING → PAID UPDATE 배치
+ * 3. 포인트 거래 원장 INSERT 배치
+ * 4. OrderCompletedEvent Outbox INSERT 배치 (릴레이가 다음 주기에 한 번에 발행)
+ *
+ * 2번에서 이미 처리된 주문이 발견되면 차감까지 모두 롤백하고 예외를 던집니다. (호출 측이 주문별 경로로 재처리)
+ */
 @Service
 @RequiredArgsConstructor
 public class OrderPaymentService {
-    // OrderPaymentService는 더 이상 사용되지 않음
-    // 포인트 사용은 UserPointService.use()를 직접 호출
-    // 주문 상태 변경은 OrderService.completeOrderPayment()를 사용
+
+    private final UserPointJdbcRepository userPointJdbcRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final OrderEventOutbox orderEventOutbox;
+
+    /**
+     * 결제 일괄 처리
+     *
+     * @param events 결제 이벤트 목록 (결제 대기 주문만, 사용자 ID 순으로 정렬)
+     * @return 결제 완료/실패 주문 ID
+     */
+    @Transactional
+    public PaymentBatchResult completePayments(List<ProcessPaymentEvent> events) {
+        List<PointUsage> usages = events.stream()
+                .map(event -> new PointUsage(event.getUserId(), event.getFinalAmount()))
+                .toList();
+        int[] debited = userPointJdbcRepository.decreasePointsIfEnough(usages);
+
+        List<Long> paidOrderIds = new ArrayList<>(events.size());
+        List<PointUsage> paidUsages = new ArrayList<>(events.size());
+        Set<Long> failedOrderIds = new LinkedHashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (debited[i] > 0) {
+                paidOrderIds.add(events.get(i).getOrderId());
+                paidUsages.add(usages.get(i));
+            } else {
+                failedOrderIds.add(events.get(i).getOrderId());
+            }
+        }
+        if (paidOrderIds.isEmpty()) {
+            return new PaymentBatchResult(Set.of(), failedOrderIds, Set.of());
+        }
+
+        int[] marked = orderJdbcRepository.markPaidIfPending(paidOrderIds);
+        for (int i = 0; i < marked.length; i++) {
+            if (marked[i] == 0) {
+                throw new IllegalStateException("결제 대기 상태가 아닌 주문이 포함되어 있습니다: orderId=" + paidOrderIds.get(i));
+            }
+        }
+
+        userPointJdbcRepository.insertTransactions(paidUsages, PointTransactionType.USE, true);
+
+        Map<String, OrderCompletedEvent> completedEvents = new LinkedHashMap<>();
+        paidOrderIds.forEach(orderId -> completedEvents.put(orderId.toString(), OrderCompletedEvent.of(orderId)));
+        orderEventOutbox.appendAll(TOPIC_ORDER_COMPLETED, completedEvents);
+
+        return new PaymentBatchResult(new LinkedHashSet<>(paidOrderIds), failedOrderIds, Set.of());
+    }
 }
@@ -4,6 +4,12 @@ import com.side.hhplusecommerce.cart.domain.CartItem;
 import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.order.domain.Order;
 import com.side.hhplusecommerce.order.domain.OrderItem;
+import com.side.hhplusecommerce.order.event.CompensateCouponCommand;
+import com.side.hhplusecommerce.order.event.CompensateStockCommand;
+import com.side.hhplusecommerce.order.event.OrderCompletedEvent;
+import com.side.hhplusecommerce.order.event.OrderCreatedEvent;
+import com.side.hhplusecommerce.order.infrastructure.outbox.OrderEventOutbox;
+import com.side.hhplusecommerce.order.infrastructure.redis.OrderEventTracker;
 import com.side.hhplusecommerce.order.repository.OrderItemRepository;
 import com.side.hhplusecommerce.order.repository.OrderRepository;
 import com.side.hhplusecommerce.order.service.dto.OrderCreateResult;
@@ -11,14 +17,26 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.*;
+
+/**
+ * 주문 상태 관리 서비스
+ * 상태 변경과 함께 발행할 이벤트는 같은 트랜잭션에서 Outbox에 기록합니다. (OrderOutboxRelay가 Kafka로 발행)
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderEventOutbox orderEventOutbox;
+    private final OrderEventTracker orderEventTracker;
 
     @Transactional
     public OrderCreateResult createOrder(Long userId, List<CartItem> cartItems, List<Item> items,
@@ -35,6 +53,13 @@ public class OrderService {
 
         List<OrderItem> savedOrderItems = orderItemRepository.saveAll(orderItems);
 
+        // 이벤트 추적 초기화 (커밋 전에 수행하여 릴레이가 이벤트를 발행하기 전에 추적 데이터가 존재하도록 보장)
+        orderEventTracker.initialize(savedOrder.getOrderId(), userCouponId != null);
+
+        // OrderCreatedEvent Outbox 기록 (ItemStockService와 CouponService가 리슨)
+        OrderCreatedEvent event = OrderCreatedEvent.of(savedOrder.getOrderId(), userId, cartItems, items, userCouponId);
+        orderEventOutbox.append(TOPIC_ORDER_CREATED, savedOrder.getOrderId().toString(), event);
+
         // 팩터리 메서드를 사용하여 DTO 생성
         return OrderCreateResult.from(savedOrder, savedOrderItems);
     }
@@ -42,6 +67,7 @@ public class OrderService {
     @Transactional
     public void completeOrderPayment(Order order) {
         order.completePay();
+        appendOrderCompletedEvent(order.getOrderId());
     }
 
     @Transactional
@@ -49,6 +75,7 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
         order.completePay();
+        appendOrderCompletedEvent(orderId);
     }
 
     @Transactional
@@ -65,9 +92,61 @@ public class OrderService {
         order.fail(failReason);
     }
 
+    /**
+     * 주문 실패 처리 + 보상 명령 Outbox 기록
+     *
+     * @param stockCommand 재고 복구 명령 (없으면 null)
+     * @param couponCommand 쿠폰 복구 명령 (없으면 null)
+     */
+    @Transactional
+    public void failOrder(Long orderId, String failReason,
+                          CompensateStockCommand stockCommand, CompensateCouponCommand couponCommand) {
+        failOrder(orderId, failReason);
+
+        if (stockCommand != null) {
+            orderEventOutbox.append(TOPIC_COMPENSATE_STOCK, orderId.toString(), stockCommand);
+        }
+        if (couponCommand != null) {
+            orderEventOutbox.append(TOPIC_COMPENSATE_COUPON, orderId.toString(), couponCommand);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Order findById(Long orderId) {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
     }
+
+    /**
+     * 주문 다건 조회 (배치 리스너에서 poll 단위 IN 조회)
+     *
+     * @return 주문 ID별 주문
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Order> findAllByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+    }
+
+    /**
+     * 주문 상품 다건 조회 (배치 리스너에서 poll 단위 IN 조회)
+     *
+     * @return 주문 ID별 주문 상품 목록
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<OrderItem>> findOrderItemsByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderItemRepository.findByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+    }
+
+    private void appendOrderCompletedEvent(Long orderId) {
+        OrderCompletedEvent event = OrderCompletedEvent.of(orderId);
+        orderEventOutbox.append(TOPIC_ORDER_COMPLETED, orderId.toString(), event);
+    }
 }
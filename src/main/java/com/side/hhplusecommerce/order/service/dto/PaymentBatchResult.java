@@ -0,0 +1,21 @@
+package com.side.hhplusecommerce.order.service.dto;
+
+import java.util.Set;
+
+/**
+ * 결제 group commit 결과
+ *
+ * @param paidOrderIds 결제 완료 주문 (포인트 차감 + PAID + OrderCompletedEvent 기록)
+ * @param failedOrderIds 결제 실패 주문 (잔액 부족 또는 포인트 정보 없음, 주문별 보상 필요)
+ * @param retryOrderIds 배치 처리 실패로 주문별 결제 경로로 다시 처리할 주문
+ */
+public record PaymentBatchResult(Set<Long> paidOrderIds, Set<Long> failedOrderIds, Set<Long> retryOrderIds) {
+
+    public boolean isFailed(Long orderId) {
+        return failedOrderIds.contains(orderId);
+    }
+
+    public boolean needsRetry(Long orderId) {
+        return retryOrderIds.contains(orderId);
+    }
+}
@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,37 +54,64 @@ public class OrderProcessingManager {
      * StockReservedEvent 처리 - 재고 예약 성공 시 Redis 플래그 업데이트
      */
     public void handleStockReservedEvent(StockReservedEvent event) {
-        log.info("StockReservedEvent received: orderId={}", event.getOrderId());
-
-        // Redis에 재고 예약 플래그 업데이트 및 결제 준비 여부 확인
-        boolean isReadyForPayment = orderEventTracker.markStockReserved(event.getOrderId());
-
         // 결제 준비 완료 시 결제 이벤트 발행 (Kafka)
-        if (isReadyForPayment) {
-            Order order = orderService.findById(event.getOrderId());
-            ProcessPaymentEvent paymentEvent = ProcessPaymentEvent.from(order);
-            kafkaProducer.publish(TOPIC_PROCESS_PAYMENT, event.getOrderId().toString(), paymentEvent);
-
-            log.info("재고/쿠폰 모두 완료, ProcessPaymentEvent 발행: orderId={}", event.getOrderId());
+        if (markStockReserved(event)) {
+            publishProcessPaymentEvents(List.of(event.getOrderId()));
         }
     }
 
+    /**
+     * 재고 예약 플래그 업데이트 (결제 이벤트는 발행하지 않음)
+     *
+     * @return 결제 준비 완료 여부 (재고/쿠폰 모두 완료)
+     */
+    public boolean markStockReserved(StockReservedEvent event) {
+        log.info("StockReservedEvent received: orderId={}", event.getOrderId());
+        return orderEventTracker.markStockReserved(event.getOrderId());
+    }
+
     /**
      * CouponUsedEvent 처리 - 쿠폰 사용 성공 시 Redis 플래그 업데이트
      */
     public void handleCouponUsedEvent(CouponUsedEvent event) {
+        // 결제 준비 완료 시 결제 이벤트 발행 (Kafka)
+        if (markCouponUsed(event)) {
+            publishProcessPaymentEvents(List.of(event.getOrderId()));
+        }
+    }
+
+    /**
+     * 쿠폰 사용 플래그 업데이트 (결제 이벤트는 발행하지 않음)
+     *
+     * @return 결제 준비 완료 여부 (재고/쿠폰 모두 완료)
+     */
+    public boolean markCouponUsed(CouponUsedEvent event) {
         log.info("CouponUsedEvent received: orderId={}", event.getOrderId());
+        return orderEventTracker.markCouponUsed(event.getOrderId());
+    }
 
-        // Redis에 쿠폰 사용 플래그 업데이트 및 결제 준비 여부 확인
-        boolean isReadyForPayment = orderEventTracker.markCouponUsed(event.getOrderId());
+    /**
+     * 결제 준비가 완료된 주문들의 ProcessPaymentEvent 발행
+     * 주문은 IN 쿼리 한 번으로 조회합니다.
+     *
+     * @param orderIds 결제 준비 완료 주문 ID 목록
+     */
+    public void publishProcessPaymentEvents(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
 
-        // 결제 준비 완료 시 결제 이벤트 발행 (Kafka)
-        if (isReadyForPayment) {
-            Order order = orderService.findById(event.getOrderId());
+        Map<Long, Order> orders = orderService.findAllByIds(orderIds);
+        for (Long orderId : orderIds) {
+            Order order = orders.get(orderId);
+            if (order == null) {
+                log.error("결제 준비 완료 주문을 찾을 수 없음: orderId={}", orderId);
+                continue;
+            }
             ProcessPaymentEvent paymentEvent = ProcessPaymentEvent.from(order);
-            kafkaProducer.publish(TOPIC_PROCESS_PAYMENT, event.getOrderId().toString(), paymentEvent);
+            kafkaProducer.publish(TOPIC_PROCESS_PAYMENT, orderId.toString(), paymentEvent);
 
-            log.info("재고/쿠폰 모두 완료, ProcessPaymentEvent 발행: orderId={}", event.getOrderId());
+            log.info("재고/쿠폰 모두 완료, ProcessPaymentEvent 발행: orderId={}", orderId);
         }
     }
 
@@ -91,14 +119,23 @@ public class OrderProcessingManager {
      * StockFailedEvent 처리 - 재고 예약 실패 시 보상 트랜잭션 수행
      */
     public void handleStockFailedEvent(StockFailedEvent event) {
-        log.error("StockFailedEvent received: orderId={}, reason={}", event.getOrderId(), event.getReason());
+        handleStockFailedEvent(event, null);
+    }
 
-        // 주문 실패 처리
-        orderService.failOrder(event.getOrderId(), event.getReason());
+    /**
+     * StockFailedEvent 처리 - 미리 조회한 주문 상품 사용
+     *
+     * @param orderItems 주문 상품 목록 (null이면 필요할 때 주문 ID로 조회)
+     */
+    public void handleStockFailedEvent(StockFailedEvent event, List<OrderItem> orderItems) {
+        log.error("StockFailedEvent received: orderId={}, reason={}", event.getOrderId(), event.getReason());
 
-        // 쿠폰 복구 (Redis에서 쿠폰 사용 여부 확인)
+        // 쿠폰 복구 명령 (Redis에서 쿠폰 사용 여부 확인)
+        CompensateCouponCommand couponCommand = null;
         if (orderEventTracker.isCouponUsed(event.getOrderId())) {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(event.getOrderId());
+            if (orderItems == null) {
+                orderItems = orderItemRepository.findByOrderId(event.getOrderId());
+            }
             Long userCouponId = orderItems.stream()
                     .map(OrderItem::getUserCouponId)
                     .filter(Objects::nonNull)
@@ -106,79 +143,99 @@ public class OrderProcessingManager {
                     .orElse(null);
 
             if (userCouponId != null) {
-                CompensateCouponCommand command = CompensateCouponCommand.of(event.getOrderId(), userCouponId);
-                kafkaProducer.publish(TOPIC_COMPENSATE_COUPON, event.getOrderId().toString(), command);
+                couponCommand = CompensateCouponCommand.of(event.getOrderId(), userCouponId);
             }
         }
+
+        // 주문 실패 처리 + 보상 명령 Outbox 기록 (같은 트랜잭션)
+        orderService.failOrder(event.getOrderId(), event.getReason(), null, couponCommand);
     }
 
     /**
      * CouponFailedEvent 처리 - 쿠폰 사용 실패 시 보상 트랜잭션 수행
      */
     public void handleCouponFailedEvent(CouponFailedEvent event) {
-        log.error("CouponFailedEvent received: orderId={}, reason={}", event.getOrderId(), event.getReason());
+        handleCouponFailedEvent(event, null);
+    }
 
-        // 주문 실패 처리
-        orderService.failOrder(event.getOrderId(), event.getReason());
+    /**
+     * CouponFailedEvent 처리 - 미리 조회한 주문 상품 사용
+     *
+     * @param orderItems 주문 상품 목록 (null이면 필요할 때 주문 ID로 조회)
+     */
+    public void handleCouponFailedEvent(CouponFailedEvent event, List<OrderItem> orderItems) {
+        log.error("CouponFailedEvent received: orderId={}, reason={}", event.getOrderId(), event.getReason());
 
-        // 재고 복구 (Redis에서 재고 예약 여부 확인)
+        // 재고 복구 명령 (Redis에서 재고 예약 여부 확인)
+        CompensateStockCommand stockCommand = null;
         if (orderEventTracker.isStockReserved(event.getOrderId())) {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(event.getOrderId());
+            if (orderItems == null) {
+                orderItems = orderItemRepository.findByOrderId(event.getOrderId());
+            }
             Map<Long, Integer> itemQuantities = orderItems.stream()
-                    .collect(Collectors.toMap(OrderItem::getItemId, OrderItem::getQuantity));
+                    .collect(Collectors.toMap(OrderItem::getItemId, OrderItem::getQuantity, Integer::sum));
 
-            CompensateStockCommand command = CompensateStockCommand.of(event.getOrderId(), itemQuantities);
-            kafkaProducer.publish(TOPIC_COMPENSATE_STOCK, event.getOrderId().toString(), command);
+            stockCommand = CompensateStockCommand.of(event.getOrderId(), itemQuantities);
         }
+
+        // 주문 실패 처리 + 보상 명령 Outbox 기록 (같은 트랜잭션)
+        orderService.failOrder(event.getOrderId(), event.getReason(), stockCommand, null);
     }
 
     /**
      * ProcessPaymentEvent 처리 - 결제 처리 (동기)
+     *
+     * 결제 대기(PENDING)가 아닌 주문은 차감하지 않고 건너뜁니다.
+     * (group commit 샤드가 롤백되어 재처리되는 주문 중 다른 컨슈머가 이미 결제한 주문이 있을 수 있음)
      */
     public void handleProcessPaymentEvent(ProcessPaymentEvent event) {
         log.info("ProcessPaymentEvent received: orderId={}", event.getOrderId());
 
+        Order order = orderService.findById(event.getOrderId());
+        if (order.getStatus() != OrderStatus.PENDING) {
+            log.warn("결제 대기 상태가 아닌 주문, 결제 건너뜀: orderId={}, status={}",
+                    event.getOrderId(), order.getStatus());
+            return;
+        }
+
         try {
             // 결제 처리 (동기 - 외부 PG 연동)
             userPointService.use(event.getUserId(), event.getFinalAmount());
 
-            // 결제 성공 처리
+            // 결제 성공 처리 + 주문 완료 이벤트 Outbox 기록 (같은 트랜잭션)
             orderService.completeOrderPayment(event.getOrderId());
 
-            // 주문 완료 이벤트 발행 (Kafka)
-            OrderCompletedEvent completedEvent = OrderCompletedEvent.of(event.getOrderId());
-            kafkaProducer.publish(TOPIC_ORDER_COMPLETED, event.getOrderId().toString(), completedEvent);
-
         } catch (Exception e) {
             log.error("Payment failed: orderId={}", event.getOrderId(), e);
+            failPayment(event);
+        }
+    }
 
-            // 결제 실패 시 보상 트랜잭션
-            orderService.failOrder(event.getOrderId(), "결제 실패");
-
-            // 재고 및 쿠폰 복구
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(event.getOrderId());
+    /**
+     * 결제 실패 처리 - 주문 실패 + 재고/쿠폰 복구 명령 기록
+     */
+    public void failPayment(ProcessPaymentEvent event) {
+        // 재고 및 쿠폰 복구 명령
+        List<OrderItem> orderItems = orderItemRepository.findByOrderId(event.getOrderId());
 
-            // 재고 복구 (Kafka)
-            Map<Long, Integer> itemQuantities = orderItems.stream()
-                    .collect(Collectors.toMap(OrderItem::getItemId, OrderItem::getQuantity));
-            CompensateStockCommand stockCommand = CompensateStockCommand.of(event.getOrderId(), itemQuantities);
-            kafkaProducer.publish(TOPIC_COMPENSATE_STOCK, event.getOrderId().toString(), stockCommand);
+        Map<Long, Integer> itemQuantities = orderItems.stream()
+                .collect(Collectors.toMap(OrderItem::getItemId, OrderItem::getQuantity));
+        CompensateStockCommand stockCommand = CompensateStockCommand.of(event.getOrderId(), itemQuantities);
 
-            // 쿠폰 복구 (Kafka)
-            Long userCouponId = orderItems.stream()
-                    .map(OrderItem::getUserCouponId)
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        Long userCouponId = orderItems.stream()
+                .map(OrderItem::getUserCouponId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        CompensateCouponCommand couponCommand = userCouponId != null
+                ? CompensateCouponCommand.of(event.getOrderId(), userCouponId)
+                : null;
 
-            if (userCouponId != null) {
-                CompensateCouponCommand couponCommand = CompensateCouponCommand.of(event.getOrderId(), userCouponId);
-                kafkaProducer.publish(TOPIC_COMPENSATE_COUPON, event.getOrderId().toString(), couponCommand);
-            }
+        // 결제 실패 처리 + 보상 명령 Outbox 기록 (같은 트랜잭션)
+        orderService.failOrder(event.getOrderId(), "결제 실패", stockCommand, couponCommand);
 
-            // Redis 이벤트 추적 데이터 삭제
-            orderEventTracker.delete(event.getOrderId());
-        }
+        // Redis 이벤트 추적 데이터 삭제
+        orderEventTracker.delete(event.getOrderId());
     }
 
     /**
@@ -187,9 +244,16 @@ public class OrderProcessingManager {
      * 멱등성 보장: 중복 이벤트 처리 시에도 안전하게 동작
      */
     public void handleOrderCompletedEvent(OrderCompletedEvent event) {
-        log.info("OrderCompletedEvent received: orderId={}", event.getOrderId());
+        handleOrderCompletedEvent(event, orderService.findById(event.getOrderId()), null);
+    }
 
-        Order order = orderService.findById(event.getOrderId());
+    /**
+     * OrderCompletedEvent 처리 - 미리 조회한 주문/주문 상품 사용 (배치 리스너에서 poll 단위로 IN 조회)
+     *
+     * @param orderItems 주문 상품 목록 (null이면 주문 ID로 조회)
+     */
+    public void handleOrderCompletedEvent(OrderCompletedEvent event, Order order, List<OrderItem> orderItems) {
+        log.info("OrderCompletedEvent received: orderId={}", event.getOrderId());
 
         // 중복 처리 방지: 이미 PAID 상태면 후처리 작업 스킵
         if (order.getStatus() == OrderStatus.PAID) {
@@ -201,9 +265,11 @@ public class OrderProcessingManager {
         order.completePay();
 
         // 후처리 작업: 인기 상품 점수 증가 (한 번만 실행됨)
-        List<OrderItem> orderItems = orderItemRepository.findByOrderId(event.getOrderId());
-        orderItems.forEach(orderItem ->
-            itemPopularityService.incrementSalesScore(orderItem.getItemId())
+        if (orderItems == null) {
+            orderItems = orderItemRepository.findByOrderId(event.getOrderId());
+        }
+        itemPopularityService.incrementSalesScores(
+                orderItems.stream().map(OrderItem::getItemId).toList()
         );
 
         // 외부 데이터 플랫폼 전송 이벤트 발행 (Kafka) (한 번만 실행됨)
@@ -0,0 +1,154 @@
+package com.side.hhplusecommerce.order.usecase;
+
+import com.side.hhplusecommerce.order.domain.Order;
+import com.side.hhplusecommerce.order.domain.OrderStatus;
+import com.side.hhplusecommerce.order.event.ProcessPaymentEvent;
+import com.side.hhplusecommerce.order.service.OrderPaymentService;
+import com.side.hhplusecommerce.order.service.OrderService;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
+import com.side.hhplusecommerce.point.constants.PointBalanceMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 결제 group commit 처리기
+ * 한 번의 poll로 받은 ProcessPaymentEvent를 모아서 처리합니다.
+ *
+ * - 주문은 IN 쿼리 한 번으로 조회하고, 결제 대기(PENDING)가 아닌 주문은 건너뜀 (재전달 시 중복 차감 방지)
+ * - 사용자 ID 샤드(userId % shard-count)별로 한 트랜잭션에서 포인트 차감 + PAID + OrderCompletedEvent 기록 (OrderPaymentService)
+ * - 샤드 안에서는 사용자 ID 순으로 실행하여 여러 컨슈머가 같은 사용자 행을 잠글 때 교착을 피함
+ * - 샤드 트랜잭션이 실패하면 주문 상태를 다시 조회해 결제 대기가 아닌 주문(조회 이후 다른 컨슈머가 결제)을 빼고 한 번 더 실행
+ * - 다시 실행해도 실패하면 해당 샤드만 주문별 결제 경로로 재처리하도록 결과에 표시 (주문별 경로도 PENDING 주문만 차감)
+ * - 주문 일괄 조회가 실패하면 전체 주문을 주문별 결제 경로로 재처리하도록 결과에 표시
+ *
+ * 포인트를 user_points 조건부 UPDATE로 차감하므로 point.balance.mode = CONDITIONAL_UPDATE일 때만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentGroupCommitProcessor {
+
+    private static final Comparator<ProcessPaymentEvent> LOCK_ORDER =
+            Comparator.comparing(ProcessPaymentEvent::getUserId).thenComparing(ProcessPaymentEvent::getOrderId);
+
+    private final OrderService orderService;
+    private final OrderPaymentService orderPaymentService;
+
+    @Value("${order.payment.group-commit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.payment.group-commit.shard-count:4}")
+    private int shardCount;
+
+    @Value("${point.balance.mode:CONDITIONAL_UPDATE}")
+    private PointBalanceMode pointBalanceMode;
+
+    /**
+     * group commit 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled && pointBalanceMode == PointBalanceMode.CONDITIONAL_UPDATE;
+    }
+
+    /**
+     * 결제 이벤트 일괄 처리
+     *
+     * @param events poll 단위 결제 이벤트 (같은 주문이 중복되어도 한 번만 처리, null은 무시)
+     * @return 결제 완료/실패/재처리 주문 ID
+     */
+    public PaymentBatchResult process(Collection<ProcessPaymentEvent> events) {
+        Map<Long, ProcessPaymentEvent> eventsByOrderId = new LinkedHashMap<>();
+        events.stream()
+                .filter(Objects::nonNull)
+                .forEach(event -> eventsByOrderId.putIfAbsent(event.getOrderId(), event));
+
+        Map<Long, Order> orders;
+        try {
+            orders = orderService.findAllByIds(eventsByOrderId.keySet());
+        } catch (Exception e) {
+            log.warn("결제 대상 주문 조회 실패, 주문별 결제로 재처리: size={}", eventsByOrderId.size(), e);
+            return new PaymentBatchResult(Set.of(), Set.of(), new LinkedHashSet<>(eventsByOrderId.keySet()));
+        }
+
+        Map<Integer, List<ProcessPaymentEvent>> shards = new TreeMap<>();
+        for (ProcessPaymentEvent event : eventsByOrderId.values()) {
+            Order order = orders.get(event.getOrderId());
+            if (order == null || order.getStatus() != OrderStatus.PENDING) {
+                log.warn("결제 대기 상태가 아닌 주문, 결제 건너뜀: orderId={}, status={}",
+                        event.getOrderId(), order != null ? order.getStatus() : null);
+                continue;
+            }
+            shards.computeIfAbsent(Math.floorMod(event.getUserId(), shardCount), shard -> new ArrayList<>())
+                    .add(event);
+        }
+
+        Set<Long> paidOrderIds = new LinkedHashSet<>();
+        Set<Long> failedOrderIds = new LinkedHashSet<>();
+        Set<Long> retryOrderIds = new LinkedHashSet<>();
+        shards.forEach((shard, shardEvents) -> {
+            shardEvents.sort(LOCK_ORDER);
+            try {
+                PaymentBatchResult result = orderPaymentService.completePayments(shardEvents);
+                paidOrderIds.addAll(result.paidOrderIds());
+                failedOrderIds.addAll(result.failedOrderIds());
+            } catch (Exception e) {
+                log.warn("결제 group commit 실패, 결제 대기 주문만 다시 실행: shard={}, size={}", shard, shardEvents.size(), e);
+                List<ProcessPaymentEvent> pendingEvents = retainPending(shardEvents);
+                if (pendingEvents == null) {
+                    shardEvents.forEach(event -> retryOrderIds.add(event.getOrderId()));
+                    return;
+                }
+                if (pendingEvents.isEmpty()) {
+                    return;
+                }
+                try {
+                    PaymentBatchResult result = orderPaymentService.completePayments(pendingEvents);
+                    paidOrderIds.addAll(result.paidOrderIds());
+                    failedOrderIds.addAll(result.failedOrderIds());
+                } catch (Exception retryException) {
+                    log.warn("결제 group commit 재실행 실패, 주문별 결제로 재처리: shard={}, size={}",
+                            shard, pendingEvents.size(), retryException);
+                    pendingEvents.forEach(event -> retryOrderIds.add(event.getOrderId()));
+                }
+            }
+        });
+
+        log.info("결제 group commit 완료: paid={}, failed={}, retry={}",
+                paidOrderIds.size(), failedOrderIds.size(), retryOrderIds.size());
+        return new PaymentBatchResult(paidOrderIds, failedOrderIds, retryOrderIds);
+    }
+
+    /**
+     * 주문 상태를 다시 조회해 결제 대기(PENDING) 주문의 이벤트만 남김
+     *
+     * @return 결제 대기 주문 이벤트 (순서 유지), 조회에 실패하면 null
+     */
+    private List<ProcessPaymentEvent> retainPending(List<ProcessPaymentEvent> shardEvents) {
+        Map<Long, Order> orders;
+        try {
+            orders = orderService.findAllByIds(shardEvents.stream().map(ProcessPaymentEvent::getOrderId).toList());
+        } catch (Exception e) {
+            log.warn("결제 대상 주문 재조회 실패: size={}", shardEvents.size(), e);
+            return null;
+        }
+        return shardEvents.stream()
+                .filter(event -> {
+                    Order order = orders.get(event.getOrderId());
+                    return order != null && order.getStatus() == OrderStatus.PENDING;
+                })
+                .toList();
+    }
+}
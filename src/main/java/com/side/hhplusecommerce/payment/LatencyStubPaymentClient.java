@@ -0,0 +1,61 @@
+package com.side.hhplusecommerce.payment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응답 지연을 흉내 내는 로컬 PG 스텁 (payment.client.type = latency-stub)
+ * 실제 PG 연동 전에 PG 지연/오류 상황에서의 처리량과 bulkhead 동작을 측정하기 위해 사용합니다.
+ *
+ * - 응답 지연: latency-ms + [0, jitter-ms) 무작위
+ * - 오류: failure-rate 확률로 예외 발생 (서킷 브레이커 동작 확인용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.client.type", havingValue = "latency-stub")
+public class LatencyStubPaymentClient implements PaymentClient {
+
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+    private final PaymentBulkhead paymentBulkhead;
+
+    public LatencyStubPaymentClient(@Value("${payment.client.latency-stub.latency-ms:100}") long latencyMillis,
+                                    @Value("${payment.client.latency-stub.jitter-ms:0}") long jitterMillis,
+                                    @Value("${payment.client.latency-stub.failure-rate:0.0}") double failureRate,
+                                    PaymentBulkhead paymentBulkhead) {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+        this.paymentBulkhead = paymentBulkhead;
+        log.info("Latency stub payment client enabled: latencyMs={}, jitterMs={}, failureRate={}",
+                latencyMillis, jitterMillis, failureRate);
+    }
+
+    @Override
+    public PaymentResult pay(Long orderId, Long userId, Integer amount) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMillis + (jitterMillis > 0 ? random.nextLong(jitterMillis) : 0);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 요청 중 인터럽트가 발생했습니다: orderId=" + orderId, e);
+        }
+
+        if (random.nextDouble() < failureRate) {
+            throw new IllegalStateException("결제 대행사 오류 (stub): orderId=" + orderId);
+        }
+        return PaymentResult.success();
+    }
+
+    @Override
+    public CompletableFuture<PaymentResult> payAsync(Long orderId, Long userId, Integer amount) {
+        return paymentBulkhead.execute(() -> pay(orderId, userId, amount));
+    }
+}
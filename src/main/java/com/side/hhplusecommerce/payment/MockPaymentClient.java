@@ -1,12 +1,21 @@
 package com.side.hhplusecommerce.payment;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
+@ConditionalOnProperty(name = "payment.client.type", havingValue = "mock", matchIfMissing = true)
 public class MockPaymentClient implements PaymentClient {
 
     @Override
     public PaymentResult pay(Long orderId, Long userId, Integer amount) {
         return PaymentResult.success();
     }
-}
\ No newline at end of file
+
+    @Override
+    public CompletableFuture<PaymentResult> payAsync(Long orderId, Long userId, Integer amount) {
+        return CompletableFuture.completedFuture(pay(orderId, userId, amount));
+    }
+}
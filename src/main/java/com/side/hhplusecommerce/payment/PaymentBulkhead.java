@@ -0,0 +1,153 @@
+package com.side.hhplusecommerce.payment;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import com.side.hhplusecommerce.payment.exception.PaymentGatewayTimeoutException;
+import com.side.hhplusecommerce.payment.exception.PaymentGatewayUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 결제 대행사(PG) 호출 격리 실행기 (bulkhead)
+ *
+ * 느린 PG 호출이 Kafka 컨슈머 스레드나 공용 @Async 풀을 점유하지 않도록 전용 스레드 풀에서 실행합니다.
+ * (spring.threads.virtual.enabled=true이면 풀 대신 호출마다 가상 스레드를 생성하고, 동시 호출 수는 아래 상한으로만 제한)
+ * - 동시 호출 수 제한: 실행 중 + 대기 중 호출이 max-concurrent-calls를 넘으면 기다리지 않고 즉시 거절
+ * - 타임아웃: timeout-ms 안에 응답이 없으면 실패로 완료하고 실행 중인 호출은 인터럽트
+ * - 서킷 브레이커: 예외/타임아웃 비율이 높으면 일정 시간 호출 자체를 차단 (PaymentCircuitBreaker)
+ *
+ * 거절/타임아웃은 PaymentGatewayUnavailableException / PaymentGatewayTimeoutException으로 완료됩니다.
+ */
+@Slf4j
+@Component
+public class PaymentBulkhead {
+
+    private final AsyncTaskExecutor executor;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final CustomMetrics customMetrics;
+
+    public PaymentBulkhead(@Value("${payment.client.bulkhead.thread-count:32}") int threadCount,
+                           @Value("${payment.client.bulkhead.max-concurrent-calls:200}") int maxConcurrentCalls,
+                           @Value("${payment.client.bulkhead.timeout-ms:3000}") long timeoutMillis,
+                           @Value("${payment.client.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+                           @Value("${payment.client.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                           @Value("${payment.client.circuit-breaker.open-duration-ms:10000}") long openDurationMillis,
+                           @Value("${payment.client.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           CustomMetrics customMetrics) {
+        this.executor = createExecutor(threadCount, virtualThreads);
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.timeoutMillis = timeoutMillis;
+        this.circuitBreaker = new PaymentCircuitBreaker(
+                slidingWindowSize, failureRateThreshold, openDurationMillis, halfOpenCalls);
+        this.customMetrics = customMetrics;
+    }
+
+    /**
+     * PG 호출을 전용 스레드 풀에서 실행
+     *
+     * @param call 블로킹 PG 호출
+     * @return 결제 결과 (거절/타임아웃/PG 예외 시 예외로 완료)
+     */
+    public CompletableFuture<PaymentResult> execute(Supplier<PaymentResult> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            customMetrics.incrementPaymentGatewayRejected("circuit_open");
+            return CompletableFuture.failedFuture(new PaymentGatewayUnavailableException());
+        }
+        if (!permits.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            customMetrics.incrementPaymentGatewayRejected("bulkhead_full");
+            return CompletableFuture.failedFuture(new PaymentGatewayUnavailableException());
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<PaymentResult> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(call.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return result
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((paymentResult, e) -> {
+                    permits.release();
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                    onComplete(paymentResult, cause, startedAt);
+                })
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(
+                        unwrap(e) instanceof TimeoutException ? new PaymentGatewayTimeoutException() : unwrap(e)));
+    }
+
+    /**
+     * 현재 서킷 브레이커 상태
+     */
+    public PaymentCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    private static AsyncTaskExecutor createExecutor(int threadCount, boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("payment-bulkhead-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setThreadNamePrefix("payment-bulkhead-");
+        executor.initialize();
+        return executor;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private void onComplete(PaymentResult paymentResult, Throwable cause, long startedAt) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (cause == null) {
+            circuitBreaker.onSuccess();
+            customMetrics.recordPaymentGatewayCall(paymentResult.isSuccess() ? "success" : "declined", elapsedNanos);
+            return;
+        }
+        circuitBreaker.onFailure();
+        customMetrics.recordPaymentGatewayCall(cause instanceof TimeoutException ? "timeout" : "error", elapsedNanos);
+        log.warn("Payment gateway call failed: elapsedMs={}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), cause);
+    }
+}
@@ -0,0 +1,141 @@
+package com.side.hhplusecommerce.payment;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 결제 대행사 호출 서킷 브레이커 (호출 수 기반 슬라이딩 윈도우)
+ *
+ * - CLOSED: 최근 slidingWindowSize건 중 실패(예외/타임아웃) 비율이 임계치 이상이면 OPEN
+ * - OPEN: openDurationMillis 동안 호출하지 않고 즉시 거절
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 결제 거절(PaymentResult.failure)은 대행사가 정상 응답한 것이므로 실패로 세지 않습니다.
+ */
+@Slf4j
+public class PaymentCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int slidingWindowSize;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] outcomes;   // 최근 호출 결과 (true: 실패)
+    private int recordedCalls;
+    private int nextIndex;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param slidingWindowSize 실패율 계산에 사용할 최근 호출 수
+     * @param failureRateThreshold 실패율 임계치 (%)
+     * @param openDurationMillis OPEN 유지 시간
+     * @param halfOpenCalls HALF_OPEN 시험 호출 수
+     */
+    public PaymentCircuitBreaker(int slidingWindowSize, int failureRateThreshold,
+                                 long openDurationMillis, int halfOpenCalls) {
+        this(slidingWindowSize, failureRateThreshold, openDurationMillis, halfOpenCalls, System::nanoTime);
+    }
+
+    PaymentCircuitBreaker(int slidingWindowSize, int failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls, LongSupplier nanoClock) {
+        this.slidingWindowSize = slidingWindowSize;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess / onFailure로 결과를 기록)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * 허용받은 호출을 실행하지 않은 경우 결과 기록 없이 반환 (HALF_OPEN 시험 호출 수 복구)
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (recordedCalls >= slidingWindowSize && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == slidingWindowSize && outcomes[nextIndex]) {
+            failedCalls--;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % slidingWindowSize;
+        recordedCalls = Math.min(recordedCalls + 1, slidingWindowSize);
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Payment circuit breaker state changed: {} -> {}", state, next);
+        state = next;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            Arrays.fill(outcomes, false);
+            recordedCalls = 0;
+            nextIndex = 0;
+            failedCalls = 0;
+        }
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+    }
+}
@@ -1,5 +1,20 @@
 package com.side.hhplusecommerce.payment;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 대행사(PG) 클라이언트 (payment.client.type으로 구현체 선택)
+ */
 public interface PaymentClient {
+
+    /**
+     * 결제 요청 (블로킹 - 호출 스레드가 PG 응답까지 대기)
+     */
     PaymentResult pay(Long orderId, Long userId, Integer amount);
-}
\ No newline at end of file
+
+    /**
+     * 결제 요청 (논블로킹 - 전용 bulkhead 스레드에서 실행)
+     * 동시 호출 수 초과, 서킷 OPEN, 타임아웃은 예외로 완료됩니다. (PaymentBulkhead 참고)
+     */
+    CompletableFuture<PaymentResult> payAsync(Long orderId, Long userId, Integer amount);
+}
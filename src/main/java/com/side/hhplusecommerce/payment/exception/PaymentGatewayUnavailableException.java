@@ -0,0 +1,10 @@
+package com.side.hhplusecommerce.payment.exception;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+
+public class PaymentGatewayUnavailableException extends CustomException {
+    public PaymentGatewayUnavailableException() {
+        super(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,88 @@
+package com.side.hhplusecommerce.payment.service;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
+import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.exception.InsufficientPointException;
+import com.side.hhplusecommerce.point.infrastructure.redis.PointBalanceCache;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 포인트 서비스 - LEDGER 모드 (point.balance.mode = LEDGER)
+ *
+ * 충전/사용은 point_transactions에 applied = false 행을 INSERT만 하고 user_points 행은 수정하지 않습니다.
+ * - 잔액 = user_points 스냅샷 + 미반영 거래 합계 (PointLedgerCompactionService가 주기적으로 스냅샷에 반영)
+ * - 초과 사용 방지는 Redis 잔액 캐시(PointBalanceCache)의 원자적 차감으로 처리하므로 행 잠금 대기가 없음
+ *
+ * 사용 순서: 캐시 차감 → 원장 INSERT (실패 시 캐시 복구)
+ * 충전 순서: 캐시 초기화 확인 → 원장 INSERT → 캐시 증가
+ * (캐시를 원장보다 먼저 초기화해 두어야 INSERT 이후 초기화가 같은 충전을 두 번 반영하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPointLedgerService {
+
+    private final PointBalanceCache pointBalanceCache;
+    private final UserPointJdbcRepository userPointJdbcRepository;
+
+    /**
+     * 포인트 충전
+     */
+    public void charge(Long userId, Integer amount) {
+        UserPoint.validateAmount(amount);
+        initializeBalanceIfAbsent(userId);
+
+        userPointJdbcRepository.insertTransaction(userId, PointTransactionType.CHARGE, amount, false);
+        pointBalanceCache.increase(userId, amount);
+    }
+
+    /**
+     * 포인트 사용
+     */
+    public void use(Long userId, Integer amount) {
+        UserPoint.validateAmount(amount);
+
+        PointBalanceCache.DecreaseResult result = pointBalanceCache.decrease(userId, amount);
+        if (result == PointBalanceCache.DecreaseResult.NOT_INITIALIZED) {
+            initializeBalanceIfAbsent(userId);
+            result = pointBalanceCache.decrease(userId, amount);
+        }
+        if (result != PointBalanceCache.DecreaseResult.SUCCESS) {
+            throw new InsufficientPointException();
+        }
+
+        try {
+            userPointJdbcRepository.insertTransaction(userId, PointTransactionType.USE, amount, false);
+        } catch (RuntimeException e) {
+            log.warn("Point ledger insert failed, restoring balance cache: userId={}, amount={}", userId, amount);
+            pointBalanceCache.increase(userId, amount);
+            throw e;
+        }
+    }
+
+    /**
+     * 잔액 조회 (캐시, 없으면 MySQL 기준으로 초기화 후 조회)
+     */
+    public long getBalance(Long userId) {
+        Long balance = pointBalanceCache.get(userId);
+        if (balance != null) {
+            return balance;
+        }
+        initializeBalanceIfAbsent(userId);
+        return pointBalanceCache.get(userId);
+    }
+
+    private void initializeBalanceIfAbsent(Long userId) {
+        if (pointBalanceCache.get(userId) != null) {
+            return;
+        }
+        long balance = userPointJdbcRepository.findBalance(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
+        pointBalanceCache.initializeIfAbsent(userId, balance);
+    }
+}
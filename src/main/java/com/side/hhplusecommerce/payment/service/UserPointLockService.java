@@ -0,0 +1,54 @@
+package com.side.hhplusecommerce.payment.service;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.common.lock.distributed.DistributedLock;
+import com.side.hhplusecommerce.point.domain.PointTransaction;
+import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.repository.PointTransactionRepository;
+import com.side.hhplusecommerce.point.repository.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 서비스 - DistributedLock 모드 (point.balance.mode = DISTRIBUTED_LOCK)
+ * 분산락(Order=1)과 트랜잭션을 함께 사용합니다.
+ * 실행 순서: 락 획득 → 트랜잭션 시작 → 조회 → 변경 → 트랜잭션 커밋 → 락 해제
+ * 같은 사용자의 결제/충전이 몰리면 노드 로컬 대기열(coalesce)을 거쳐 분산락을 획득합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserPointLockService {
+
+    private final UserPointRepository userPointRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+
+    /**
+     * 포인트 충전
+     */
+    @Transactional
+    @DistributedLock(keyResolver = "userPointLockKeyResolver", key = "#userId", coalesce = true)
+    public void charge(Long userId, Integer amount) {
+        UserPoint userPoint = userPointRepository.findByUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
+
+        userPoint.charge(amount);
+        userPointRepository.save(userPoint);
+        pointTransactionRepository.save(PointTransaction.charge(userId, amount));
+    }
+
+    /**
+     * 포인트 사용
+     */
+    @Transactional
+    @DistributedLock(keyResolver = "userPointLockKeyResolver", key = "#userId", coalesce = true)
+    public void use(Long userId, Integer amount) {
+        UserPoint userPoint = userPointRepository.findByUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
+
+        userPoint.use(amount);
+        userPointRepository.save(userPoint);
+        pointTransactionRepository.save(PointTransaction.use(userId, amount));
+    }
+}
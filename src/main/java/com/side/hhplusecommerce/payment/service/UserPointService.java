@@ -2,42 +2,73 @@ package com.side.hhplusecommerce.payment.service;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
-import com.side.hhplusecommerce.common.lock.distributed.DistributedLock;
-import com.side.hhplusecommerce.point.domain.UserPoint;
-import com.side.hhplusecommerce.point.repository.UserPointRepository;
+import com.side.hhplusecommerce.point.constants.PointBalanceMode;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 포인트 서비스 (point.balance.mode)
+ *
+ * CONDITIONAL_UPDATE (기본): 조건부 UPDATE 모드 (락 없음)
+ * - 잔액 확인 + 차감을 `UPDATE ... WHERE point >= ?` 한 번으로 처리하고, 같은 트랜잭션에서 거래 원장을 추가
+ * - 같은 사용자의 동시 요청은 MySQL 행 잠금(UPDATE 문 실행 동안)으로만 직렬화
+ *
+ * LEDGER: 거래 원장 INSERT 모드 (UserPointLedgerService)
+ * - user_points 행을 수정하지 않으므로 행 잠금 경합이 없음, 잔액 검증은 Redis 잔액 캐시로 처리
+ * - 스냅샷 반영은 PointLedgerCompactionScheduler가 주기적으로 수행
+ *
+ * DISTRIBUTED_LOCK: 분산락 모드 (기존 방식, fallback)
+ * - 락 획득 → 조회 → 변경 → 저장 (UserPointLockService)
+ *
+ * LEDGER 모드에서 다른 모드로 전환할 때는 미반영 거래가 모두 스냅샷에 반영된 뒤 전환해야 하고,
+ * 다른 모드에서 LEDGER 모드로 전환할 때는 기존 잔액 캐시(point:balance:*)를 비워야 합니다.
+ *
+ * 트랜잭션은 각 모드의 내부 서비스에서 시작합니다. (분산락은 트랜잭션 밖에서 획득해야 하므로 여기서는 트랜잭션을 열지 않음)
+ */
 @Service
 @RequiredArgsConstructor
 public class UserPointService {
 
-    private final UserPointRepository userPointRepository;
+    private final UserPointTransactionService userPointTransactionService;
+    private final UserPointLockService userPointLockService;
+    private final UserPointLedgerService userPointLedgerService;
+    private final UserPointJdbcRepository userPointJdbcRepository;
+
+    @Value("${point.balance.mode:CONDITIONAL_UPDATE}")
+    private PointBalanceMode mode;
 
     /**
      * 포인트 충전
      */
-    @Transactional
-    @DistributedLock(keyResolver = "userPointLockKeyResolver", key = "#userId")
     public void charge(Long userId, Integer amount) {
-        UserPoint userPoint = userPointRepository.findByUserId(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
-
-        userPoint.charge(amount);
-        userPointRepository.save(userPoint);
+        switch (mode) {
+            case LEDGER -> userPointLedgerService.charge(userId, amount);
+            case DISTRIBUTED_LOCK -> userPointLockService.charge(userId, amount);
+            default -> userPointTransactionService.chargePointAtomically(userId, amount);
+        }
     }
 
     /**
      * 포인트 사용
      */
-    @Transactional
-    @DistributedLock(keyResolver = "userPointLockKeyResolver", key = "#userId")
     public void use(Long userId, Integer amount) {
-        UserPoint userPoint = userPointRepository.findByUserId(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
+        switch (mode) {
+            case LEDGER -> userPointLedgerService.use(userId, amount);
+            case DISTRIBUTED_LOCK -> userPointLockService.use(userId, amount);
+            default -> userPointTransactionService.usePointAtomically(userId, amount);
+        }
+    }
 
-        userPoint.use(amount);
-        userPointRepository.save(userPoint);
+    /**
+     * 포인트 잔액 조회 (스냅샷 + 미반영 거래 합계)
+     */
+    public long getBalance(Long userId) {
+        if (mode == PointBalanceMode.LEDGER) {
+            return userPointLedgerService.getBalance(userId);
+        }
+        return userPointJdbcRepository.findBalance(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
     }
 }
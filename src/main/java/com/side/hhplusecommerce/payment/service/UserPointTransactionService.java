@@ -2,7 +2,10 @@ package com.side.hhplusecommerce.payment.service;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
 import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.exception.InsufficientPointException;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
 import com.side.hhplusecommerce.point.repository.UserPointRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserPointTransactionService {
     private final UserPointRepository userPointRepository;
+    private final UserPointJdbcRepository userPointJdbcRepository;
 
     /**
      * 포인트 충전 (트랜잭션 처리)
@@ -38,4 +42,40 @@ public class UserPointTransactionService {
         userPoint.use(amount);
         userPointRepository.save(userPoint);
     }
+
+    /**
+     * 포인트 충전 (조건부 UPDATE, 락 없음)
+     * UPDATE 1회 + 거래 원장 INSERT 1회
+     */
+    @Transactional
+    public void chargePointAtomically(Long userId, Integer amount) {
+        UserPoint.validateAmount(amount);
+
+        if (userPointJdbcRepository.increasePoint(userId, amount) == 0) {
+            throw new CustomException(ErrorCode.USER_POINT_NOT_FOUND);
+        }
+        userPointJdbcRepository.insertTransaction(userId, PointTransactionType.CHARGE, amount, true);
+    }
+
+    /**
+     * 포인트 사용 (조건부 UPDATE, 락 없음)
+     * 잔액 확인과 차감을 `WHERE point >= ?` 조건의 UPDATE 한 번으로 처리하고 거래 원장을 추가합니다.
+     * 차감되지 않은 경우에만 포인트를 조회하여 실패 원인(포인트 정보 없음 / 잔액 부족)을 도메인 규칙으로 판별합니다.
+     */
+    @Transactional
+    public void usePointAtomically(Long userId, Integer amount) {
+        UserPoint.validateAmount(amount);
+
+        if (userPointJdbcRepository.decreasePointIfEnough(userId, amount) == 0) {
+            UserPoint userPoint = userPointRepository.findByUserId(userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_POINT_NOT_FOUND));
+            userPoint.validateUsable(amount);
+
+            // 조회 시점에 잔액이 충분하면 그 사이 충전된 것이므로 한 번 더 시도
+            if (userPointJdbcRepository.decreasePointIfEnough(userId, amount) == 0) {
+                throw new InsufficientPointException();
+            }
+        }
+        userPointJdbcRepository.insertTransaction(userId, PointTransactionType.USE, amount, true);
+    }
 }
@@ -0,0 +1,17 @@
+package com.side.hhplusecommerce.point.constants;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 잔액 변경 방식 (point.balance.mode)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PointBalanceMode {
+    CONDITIONAL_UPDATE("user_points 조건부 UPDATE + 거래 원장 추가 (락 없음)"),
+    LEDGER("거래 원장 INSERT만 수행, 잔액은 Redis 캐시(스냅샷 + 미반영 델타)로 검증하고 주기적으로 스냅샷에 반영"),
+    DISTRIBUTED_LOCK("분산락 + 조회/저장 (fallback)");
+
+    private final String description;
+}
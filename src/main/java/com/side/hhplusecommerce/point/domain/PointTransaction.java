@@ -0,0 +1,83 @@
+package com.side.hhplusecommerce.point.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 거래 원장 (INSERT 전용)
+ * 충전/사용마다 한 행씩 추가되며, 스냅샷(user_points) 반영 여부(applied) 외에는 수정하지 않습니다.
+ *
+ * 잔액 = user_points.point (스냅샷) + applied = false인 거래의 합
+ * - CONDITIONAL_UPDATE / DISTRIBUTED_LOCK 모드: 스냅샷을 바로 변경하므로 applied = true로 기록
+ * - LEDGER 모드: applied = false로 기록하고 PointLedgerCompactionService가 스냅샷에 반영
+ */
+@Getter
+@Entity
+@Table(name = "point_transactions",
+        indexes = {
+                @Index(name = "idx_point_transactions_user_id", columnList = "user_id"),
+                // 스냅샷 미반영 거래 조회 (compaction, 잔액 계산)
+                @Index(name = "idx_point_transactions_applied", columnList = "applied, point_transaction_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_transaction_id")
+    private Long pointTransactionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private PointTransactionType type;
+
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    @Column(name = "applied", nullable = false)
+    private Boolean applied;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private PointTransaction(Long userId, PointTransactionType type, Integer amount, Boolean applied) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.applied = applied;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 스냅샷에 이미 반영된 충전 거래
+     */
+    public static PointTransaction charge(Long userId, Integer amount) {
+        return PointTransaction.builder()
+                .userId(userId)
+                .type(PointTransactionType.CHARGE)
+                .amount(amount)
+                .applied(true)
+                .build();
+    }
+
+    /**
+     * 스냅샷에 이미 반영된 사용 거래
+     */
+    public static PointTransaction use(Long userId, Integer amount) {
+        return PointTransaction.builder()
+                .userId(userId)
+                .type(PointTransactionType.USE)
+                .amount(amount)
+                .applied(true)
+                .build();
+    }
+}
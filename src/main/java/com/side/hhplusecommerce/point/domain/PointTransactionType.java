@@ -0,0 +1,9 @@
+package com.side.hhplusecommerce.point.domain;
+
+/**
+ * 포인트 거래 유형
+ */
+public enum PointTransactionType {
+    CHARGE,
+    USE
+}
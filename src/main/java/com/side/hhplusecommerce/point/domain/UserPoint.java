@@ -47,13 +47,24 @@ public class UserPoint {
     }
 
     public void use(Integer amount) {
-        validateAmount(amount);
-        validateSufficientPoint(amount);
+        validateUsable(amount);
         this.point -= amount;
         this.updatedAt = LocalDateTime.now();
     }
 
-    private void validateAmount(Integer amount) {
+    /**
+     * 포인트 사용 가능 여부 검증 (잔액 변경 없음)
+     * 조건부 UPDATE가 실패했을 때 실패 원인을 도메인 예외로 판별하는 데 사용합니다.
+     */
+    public void validateUsable(Integer amount) {
+        validateAmount(amount);
+        validateSufficientPoint(amount);
+    }
+
+    /**
+     * 충전/사용 금액 검증 (조건부 UPDATE 전 엔티티 조회 없이 검증)
+     */
+    public static void validateAmount(Integer amount) {
         if (amount < 1) {
             throw new InvalidPointAmountException();
         }
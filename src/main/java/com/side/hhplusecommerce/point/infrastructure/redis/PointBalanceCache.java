@@ -0,0 +1,106 @@
+package com.side.hhplusecommerce.point.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 잔액 캐시 (LEDGER 모드)
+ *
+ * Key: point:balance:{userId} (String) : 스냅샷(user_points.point) + 미반영 거래 원장 델타 합계
+ * - 사용: Lua 스크립트로 잔액 확인 + 차감을 원자적으로 처리 (MySQL 행 잠금 없이 초과 사용 방지)
+ * - 충전: 캐시가 있을 때만 증가 (없으면 다음 초기화 시 MySQL 기준으로 계산됨)
+ * - compaction은 합계를 바꾸지 않으므로 캐시를 건드리지 않음
+ *
+ * 캐시가 사라지면 다음 요청에서 MySQL 기준으로 다시 초기화하지만, 그 사이 사용 요청이 캐시보다 먼저 반영될 수 있으므로
+ * TTL을 두지 않고 Redis maxmemory-policy는 noeviction을 전제로 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointBalanceCache {
+
+    public static final String KEY_PREFIX = "point:balance:";
+
+    private static final long RESULT_NOT_INITIALIZED = -1L;
+    private static final long RESULT_INSUFFICIENT = -2L;
+
+    /**
+     * 잔액 차감 스크립트
+     * KEYS[1]: 잔액 키, ARGV[1]: 차감 금액
+     * 반환값: 차감 후 잔액, -1 캐시 미초기화, -2 잔액 부족
+     */
+    private static final RedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>(
+            "local balance = redis.call('GET', KEYS[1]) " +
+            "if not balance then return -1 end " +
+            "if tonumber(balance) < tonumber(ARGV[1]) then return -2 end " +
+            "return redis.call('DECRBY', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
+    /**
+     * 잔액 증가 스크립트 (캐시가 있을 때만)
+     * KEYS[1]: 잔액 키, ARGV[1]: 증가 금액
+     */
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 잔액 차감 결과
+     */
+    public enum DecreaseResult {
+        SUCCESS, NOT_INITIALIZED, INSUFFICIENT
+    }
+
+    /**
+     * 잔액이 충분한 경우에만 차감
+     */
+    public DecreaseResult decrease(Long userId, int amount) {
+        Long result = stringRedisTemplate.execute(DECREASE_SCRIPT, List.of(key(userId)), String.valueOf(amount));
+        if (result == null || result == RESULT_NOT_INITIALIZED) {
+            return DecreaseResult.NOT_INITIALIZED;
+        }
+        if (result == RESULT_INSUFFICIENT) {
+            return DecreaseResult.INSUFFICIENT;
+        }
+        return DecreaseResult.SUCCESS;
+    }
+
+    /**
+     * 잔액 증가 (충전 또는 사용 보상)
+     */
+    public void increase(Long userId, int amount) {
+        stringRedisTemplate.execute(INCREASE_SCRIPT, List.of(key(userId)), String.valueOf(amount));
+    }
+
+    /**
+     * 캐시가 없는 경우에만 MySQL 잔액(스냅샷 + 미반영 델타)으로 초기화
+     *
+     * @return 새로 초기화한 경우 true
+     */
+    public boolean initializeIfAbsent(Long userId, long balance) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(balance)));
+    }
+
+    /**
+     * 캐시 잔액 조회
+     *
+     * @return 캐시 잔액 (초기화되지 않은 경우 null)
+     */
+    public Long get(Long userId) {
+        String balance = stringRedisTemplate.opsForValue().get(key(userId));
+        return balance != null ? Long.valueOf(balance) : null;
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
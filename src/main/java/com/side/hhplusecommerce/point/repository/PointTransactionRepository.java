@@ -0,0 +1,10 @@
+package com.side.hhplusecommerce.point.repository;
+
+import com.side.hhplusecommerce.point.domain.PointTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+    List<PointTransaction> findByUserIdOrderByPointTransactionIdAsc(Long userId);
+}
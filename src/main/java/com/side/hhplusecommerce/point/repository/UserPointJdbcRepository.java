@@ -0,0 +1,190 @@
+package com.side.hhplusecommerce.point.repository;
+
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 포인트 잔액 JDBC 리포지토리
+ * 잔액 조회(SELECT) 없이 조건부 UPDATE 한 번으로 잔액을 변경하고, 같은 트랜잭션에서 거래 원장을 추가합니다.
+ * LEDGER 모드의 거래 원장 추가와 스냅샷 반영(compaction)도 함께 담당합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPointJdbcRepository {
+
+    private static final String DECREASE_POINT_SQL =
+            "UPDATE user_points SET point = point - ?, updated_at = ? WHERE user_id = ? AND point >= ?";
+
+    private static final String INCREASE_POINT_SQL =
+            "UPDATE user_points SET point = point + ?, updated_at = ? WHERE user_id = ?";
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO point_transactions (user_id, type, amount, applied, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    // 스냅샷과 미반영 델타를 한 문장으로 읽어 compaction 중에도 일관된 잔액을 얻음
+    private static final String FIND_BALANCE_SQL =
+            "SELECT up.point + COALESCE((" +
+            "  SELECT SUM(CASE WHEN pt.type = 'CHARGE' THEN pt.amount ELSE -pt.amount END) " +
+            "  FROM point_transactions pt WHERE pt.user_id = up.user_id AND pt.applied = false" +
+            "), 0) FROM user_points up WHERE up.user_id = ?";
+
+    private static final String FIND_UNAPPLIED_SQL =
+            "SELECT point_transaction_id, user_id, type, amount FROM point_transactions " +
+            "WHERE applied = false ORDER BY point_transaction_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건부 포인트 차감
+     * 잔액이 amount 이상인 경우에만 차감합니다.
+     *
+     * @return 영향 받은 행 수 (0이면 잔액 부족 또는 포인트 정보 없음)
+     */
+    public int decreasePointIfEnough(Long userId, int amount) {
+        return jdbcTemplate.update(DECREASE_POINT_SQL,
+                amount, Timestamp.valueOf(LocalDateTime.now()), userId, amount);
+    }
+
+    /**
+     * 포인트 증가
+     *
+     * @return 영향 받은 행 수 (0이면 포인트 정보 없음)
+     */
+    public int increasePoint(Long userId, int amount) {
+        return jdbcTemplate.update(INCREASE_POINT_SQL,
+                amount, Timestamp.valueOf(LocalDateTime.now()), userId);
+    }
+
+    /**
+     * 포인트 거래 원장 추가
+     *
+     * @param applied 스냅샷(user_points)에 이미 반영된 거래인지 여부 (LEDGER 모드는 false)
+     */
+    public void insertTransaction(Long userId, PointTransactionType type, int amount, boolean applied) {
+        jdbcTemplate.update(INSERT_TRANSACTION_SQL,
+                userId, type.name(), amount, applied, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 조건부 포인트 차감 배치 (결제 group commit)
+     * 전달된 순서대로 실행되므로, 같은 사용자의 여러 건은 앞선 차감이 반영된 잔액으로 판단합니다.
+     *
+     * @param usages 차감 목록 (사용자 ID 순으로 정렬하여 행 잠금 순서를 고정)
+     * @return 각 UPDATE의 영향 받은 행 수 (0이면 잔액 부족 또는 포인트 정보 없음)
+     */
+    public int[] decreasePointsIfEnough(List<PointUsage> usages) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(usages.size());
+        usages.forEach(usage ->
+                batchArgs.add(new Object[]{usage.amount(), now, usage.userId(), usage.amount()}));
+
+        return jdbcTemplate.batchUpdate(DECREASE_POINT_SQL, batchArgs);
+    }
+
+    /**
+     * 포인트 거래 원장 추가 배치
+     *
+     * @param applied 스냅샷(user_points)에 이미 반영된 거래인지 여부
+     */
+    public void insertTransactions(List<PointUsage> usages, PointTransactionType type, boolean applied) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(usages.size());
+        usages.forEach(usage ->
+                batchArgs.add(new Object[]{usage.userId(), type.name(), usage.amount(), applied, now}));
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, batchArgs);
+    }
+
+    /**
+     * 잔액 조회 (스냅샷 + 미반영 델타)
+     *
+     * @return 잔액, 포인트 정보가 없으면 empty
+     */
+    public Optional<Long> findBalance(Long userId) {
+        List<Long> balances = jdbcTemplate.queryForList(FIND_BALANCE_SQL, Long.class, userId);
+        return balances.stream().findFirst();
+    }
+
+    /**
+     * 스냅샷 미반영 거래 조회 및 잠금 (오래된 순, FOR UPDATE SKIP LOCKED)
+     * 다른 인스턴스가 잠근 거래는 건너뛰므로 트랜잭션 안에서 호출해야 합니다.
+     */
+    public List<UnappliedTransaction> findUnappliedTransactions(int limit) {
+        return jdbcTemplate.query(FIND_UNAPPLIED_SQL,
+                (rs, rowNum) -> new UnappliedTransaction(
+                        rs.getLong("point_transaction_id"),
+                        rs.getLong("user_id"),
+                        PointTransactionType.valueOf(rs.getString("type")),
+                        rs.getInt("amount")
+                ),
+                limit);
+    }
+
+    /**
+     * 거래를 스냅샷 반영 상태로 변경
+     *
+     * @return 변경된 행 수 (다른 인스턴스가 먼저 반영한 거래는 제외됨)
+     */
+    public int markApplied(List<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(transactionIds.size(), "?"));
+        return jdbcTemplate.update(
+                "UPDATE point_transactions SET applied = true WHERE applied = false AND point_transaction_id IN (" + placeholders + ")",
+                transactionIds.toArray()
+        );
+    }
+
+    /**
+     * 사용자별 델타를 스냅샷에 일괄 반영 (JDBC batch)
+     *
+     * @param deltasByUser 사용자 ID별 잔액 변화량
+     * @throws IllegalStateException 스냅샷(user_points) 행이 없는 사용자가 있는 경우 (호출 트랜잭션 롤백)
+     */
+    public void applyDeltas(Map<Long, Long> deltasByUser) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> userIds = new ArrayList<>(deltasByUser.size());
+        List<Object[]> args = new ArrayList<>(deltasByUser.size());
+        deltasByUser.forEach((userId, delta) -> {
+            userIds.add(userId);
+            args.add(new Object[]{delta, now, userId});
+        });
+
+        int[] updated = jdbcTemplate.batchUpdate(INCREASE_POINT_SQL, args);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new IllegalStateException("포인트 스냅샷이 없는 사용자입니다: userId=" + userIds.get(i));
+            }
+        }
+    }
+
+    /**
+     * 포인트 사용 (배치 차감 단위)
+     */
+    public record PointUsage(Long userId, int amount) {
+    }
+
+    /**
+     * 스냅샷 미반영 거래
+     */
+    public record UnappliedTransaction(Long transactionId, Long userId, PointTransactionType type, int amount) {
+
+        /**
+         * 잔액 변화량 (충전: +, 사용: -)
+         */
+        public long delta() {
+            return type == PointTransactionType.CHARGE ? amount : -amount;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.side.hhplusecommerce.point.service;
+
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository.UnappliedTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 포인트 거래 원장 → 잔액 스냅샷 반영 (compaction)
+ *
+ * 미반영(applied = false) 거래를 오래된 순으로 잠가(FOR UPDATE SKIP LOCKED) 사용자별 델타를 합산하고, 한 트랜잭션에서
+ * 1. 거래를 applied = true로 변경
+ * 2. user_points.point에 사용자별 델타를 일괄 반영 (JDBC batch, 사용자 ID 순서로 잠금)
+ * 합니다. 스냅샷 + 미반영 델타 합계는 반영 전후가 같으므로 잔액 조회와 Redis 잔액 캐시에는 영향이 없습니다.
+ *
+ * 여러 인스턴스가 동시에 실행하면 다른 인스턴스가 잠근 거래는 건너뛰므로 서로 다른 거래를 나눠 반영합니다.
+ * 스냅샷(user_points) 행이 없는 사용자의 거래가 있으면 예외로 롤백하여 거래가 반영된 것으로 표시되지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerCompactionService {
+
+    private final UserPointJdbcRepository userPointJdbcRepository;
+
+    @Value("${point.balance.ledger.compaction-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 미반영 거래를 한 배치만큼 스냅샷에 반영
+     *
+     * @return 반영한 거래 수
+     */
+    @Transactional
+    public int compact() {
+        List<UnappliedTransaction> transactions = userPointJdbcRepository.findUnappliedTransactions(batchSize);
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> transactionIds = transactions.stream()
+                .map(UnappliedTransaction::transactionId)
+                .toList();
+        int applied = userPointJdbcRepository.markApplied(transactionIds);
+        if (applied != transactionIds.size()) {
+            throw new IllegalStateException("이미 반영된 포인트 거래가 포함되어 있습니다.");
+        }
+
+        Map<Long, Long> deltasByUser = new TreeMap<>();
+        transactions.forEach(transaction ->
+                deltasByUser.merge(transaction.userId(), transaction.delta(), Long::sum));
+        deltasByUser.values().removeIf(delta -> delta == 0L);
+        userPointJdbcRepository.applyDeltas(deltasByUser);
+
+        log.debug("포인트 거래 원장 스냅샷 반영: transactions={}, users={}", transactions.size(), deltasByUser.size());
+        return transactions.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.side.hhplusecommerce.scheduler;
+
+import com.side.hhplusecommerce.coupon.service.CouponIssueStatusWaiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStatusWaitScheduler {
+
+    private final CouponIssueStatusWaiter couponIssueStatusWaiter;
+
+    /**
+     * 쿠폰 발급 결과 long-poll 응답
+     * - fixedDelay: coupon.issue.status.wait-check-interval-ms (기본 100ms)
+     * - 대기 중인 요청이 없으면 Redis를 호출하지 않음
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.status.wait-check-interval-ms:100}")
+    public void completeFinishedWaiters() {
+        try {
+            couponIssueStatusWaiter.completeFinishedWaiters();
+        } catch (Exception e) {
+            log.error("쿠폰 발급 결과 대기 응답 실패", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.side.hhplusecommerce.scheduler;
+
+import com.side.hhplusecommerce.item.infrastructure.redis.ItemStockLedger;
+import com.side.hhplusecommerce.item.service.ItemStockLedgerSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemStockLedgerFlushScheduler {
+
+    private final ItemStockLedger itemStockLedger;
+    private final ItemStockLedgerSyncService itemStockLedgerSyncService;
+
+    /**
+     * 재고 원장(Redis)에 누적된 차감량을 MySQL에 반영
+     * - fixedDelay: item.stock.redis-ledger.flush-interval-ms (기본 1초)
+     */
+    @Scheduled(fixedDelayString = "${item.stock.redis-ledger.flush-interval-ms:1000}")
+    public void flushItemStockLedger() {
+        if (!itemStockLedger.isActive()) {
+            return;
+        }
+        itemStockLedgerSyncService.flush();
+    }
+}
@@ -0,0 +1,35 @@
+package com.side.hhplusecommerce.scheduler;
+
+import com.side.hhplusecommerce.item.service.ItemViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemViewFlushScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ItemViewService itemViewService;
+
+    /**
+     * 상품 조회 이력 버퍼 flush
+     * - fixedDelay: item.view.buffer.flush-interval-ms (기본 200ms)
+     * - 배치가 가득 차 있으면 (flush-batch-size) 밀린 이력을 연속으로 반영
+     */
+    @Scheduled(fixedDelayString = "${item.view.buffer.flush-interval-ms:200}")
+    public void flushItemViews() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (itemViewService.flushBufferedViews() < itemViewService.getFlushBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("상품 조회 이력 반영 실패", e);
+        }
+    }
+}
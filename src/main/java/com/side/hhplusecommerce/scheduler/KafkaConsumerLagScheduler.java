@@ -0,0 +1,29 @@
+package com.side.hhplusecommerce.scheduler;
+
+import com.side.hhplusecommerce.common.monitoring.KafkaConsumerLagMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class KafkaConsumerLagScheduler {
+
+    private final KafkaConsumerLagMonitor kafkaConsumerLagMonitor;
+
+    @Value("${kafka.consumer-lag.enabled:true}")
+    private boolean lagMonitorEnabled;
+
+    /**
+     * 워크로드별 Kafka 컨슈머 랙 갱신
+     * - fixedDelay: kafka.consumer-lag.refresh-interval-ms (기본 10초)
+     */
+    @Scheduled(fixedDelayString = "${kafka.consumer-lag.refresh-interval-ms:10000}")
+    public void refreshConsumerLag() {
+        if (!lagMonitorEnabled) {
+            return;
+        }
+        kafkaConsumerLagMonitor.refresh();
+    }
+}
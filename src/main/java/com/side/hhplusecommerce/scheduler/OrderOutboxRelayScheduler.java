@@ -0,0 +1,53 @@
+package com.side.hhplusecommerce.scheduler;
+
+import com.side.hhplusecommerce.order.infrastructure.outbox.OrderOutboxRelay;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxRelayScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OrderOutboxRelay orderOutboxRelay;
+
+    @Value("${order.outbox.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    /**
+     * 주문 이벤트 Outbox 발행
+     * - fixedDelay: order.outbox.relay.interval-ms (기본 100ms)
+     * - 배치가 가득 차 있으면 밀린 이벤트를 연속으로 발행
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval-ms:100}")
+    public void relayOrderOutbox() {
+        if (!relayEnabled) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (orderOutboxRelay.relayBatch() < orderOutboxRelay.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox 이벤트 발행 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 발행 완료된 Outbox 정리 (1일 보관)
+     * - cron: 매 시간 30분에 실행
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgePublishedOrderOutbox() {
+        int deleted = orderOutboxRelay.purgePublished(LocalDateTime.now().minusDays(1));
+        log.info("Published outbox purged: count={}", deleted);
+    }
+}
@@ -0,0 +1,29 @@
+package com.side.hhplusecommerce.scheduler;
+
+import com.side.hhplusecommerce.point.service.PointLedgerCompactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerCompactionScheduler {
+
+    private final PointLedgerCompactionService pointLedgerCompactionService;
+
+    /**
+     * 포인트 거래 원장의 미반영 델타를 잔액 스냅샷(user_points)에 반영
+     * - fixedDelay: point.balance.ledger.compaction-interval-ms (기본 1초)
+     * - 다른 모드로 전환한 뒤에도 남은 미반영 거래는 계속 반영
+     */
+    @Scheduled(fixedDelayString = "${point.balance.ledger.compaction-interval-ms:1000}")
+    public void compactPointLedger() {
+        try {
+            pointLedgerCompactionService.compact();
+        } catch (Exception e) {
+            log.warn("포인트 거래 원장 스냅샷 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
@@ -12,10 +12,13 @@ import com.side.hhplusecommerce.cart.controller.dto.CartItemRequest;
 import com.side.hhplusecommerce.cart.controller.dto.UpdateCartItemRequest;
 import com.side.hhplusecommerce.cart.domain.Cart;
 import com.side.hhplusecommerce.cart.domain.CartItem;
+import com.side.hhplusecommerce.cart.dto.CartLineSnapshot;
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
 import com.side.hhplusecommerce.cart.repository.CartItemRepository;
 import com.side.hhplusecommerce.cart.repository.CartRepository;
 import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,6 +47,9 @@ class CartIntegrationTest extends ContainerTest {
     @Autowired
     private CartItemRepository cartItemRepository;
 
+    @Autowired
+    private CartSnapshotStore cartSnapshotStore;
+
     private Long testCartId;
     private Long testItemId1;
     private Long testItemId2;
@@ -135,4 +141,57 @@ class CartIntegrationTest extends ContainerTest {
                 .andExpect(jsonPath("$.itemId").value(testItemId1))
                 .andExpect(jsonPath("$.quantity").value(quantityToUpdate));
     }
+
+    @Test
+    @DisplayName("[성공] 장바구니 스냅샷 조회 - 추가/수량 수정이 스냅샷에 반영된다")
+    void getCart_success_snapshotUpdatedOnAddAndUpdate() throws Exception {
+        // 첫 조회로 스냅샷 생성
+        mockMvc.perform(get("/api/cart")
+                        .param("userId", String.valueOf(testUserId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary.totalItems").value(1));
+        CartItem existingCartItem = cartItemRepository.findByCartId(testCartId).get(0);
+
+        // 상품 추가 + 수량 수정
+        mockMvc.perform(post("/api/cart/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartItemRequest(testUserId, testItemId2, 2))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(patch("/api/cart/items/{cartItemId}", existingCartItem.getCartItemId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateCartItemRequest(testUserId, 1))))
+                .andExpect(status().isOk());
+
+        // 스냅샷 조회 결과에 반영
+        mockMvc.perform(get("/api/cart")
+                        .param("userId", String.valueOf(testUserId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].itemId").value(testItemId1))
+                .andExpect(jsonPath("$.items[0].quantity").value(1))
+                .andExpect(jsonPath("$.items[1].itemId").value(testItemId2))
+                .andExpect(jsonPath("$.summary.totalQuantity").value(3))
+                .andExpect(jsonPath("$.summary.totalAmount").value(10000 + 20000 * 2));
+    }
+
+    @Test
+    @DisplayName("[성공] 장바구니 스냅샷 조회 - DB 조회 중 상품이 추가되면 오래된 스냅샷을 저장하지 않는다")
+    void getCart_success_staleSnapshotNotStoredWhenCartChanged() throws Exception {
+        // 조회가 DB를 읽기 전 버전을 가져온 뒤, 스냅샷이 없는 상태에서 상품 추가
+        long versionBeforeRead = cartSnapshotStore.currentVersion(testUserId);
+        CartItem existingCartItem = cartItemRepository.findByCartId(testCartId).get(0);
+        Item item1 = itemRepository.findById(testItemId1).orElseThrow();
+        mockMvc.perform(post("/api/cart/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartItemRequest(testUserId, testItemId2, 2))))
+                .andExpect(status().isCreated());
+
+        // 추가 이전 DB 상태로 만든 스냅샷 저장 시도
+        cartSnapshotStore.replace(testUserId, List.of(CartLineSnapshot.of(existingCartItem, item1)), versionBeforeRead);
+
+        // 추가된 상품이 조회에 포함
+        mockMvc.perform(get("/api/cart")
+                        .param("userId", String.valueOf(testUserId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary.totalItems").value(2));
+    }
 }
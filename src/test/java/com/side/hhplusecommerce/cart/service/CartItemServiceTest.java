@@ -1,7 +1,10 @@
 package com.side.hhplusecommerce.cart.service;
 
+import com.side.hhplusecommerce.cart.domain.Cart;
 import com.side.hhplusecommerce.cart.domain.CartItem;
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
 import com.side.hhplusecommerce.cart.repository.CartItemRepository;
+import com.side.hhplusecommerce.cart.repository.CartRepository;
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
 import com.side.hhplusecommerce.item.domain.Item;
@@ -11,10 +14,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CartItemServiceTest {
@@ -22,11 +31,17 @@ class CartItemServiceTest {
     @Mock
     private CartItemRepository cartItemRepository;
 
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartSnapshotStore cartSnapshotStore;
+
     private CartItemService cartItemService;
 
     @BeforeEach
     void setUp() {
-        cartItemService = new CartItemService(cartItemRepository);
+        cartItemService = new CartItemService(cartItemRepository, cartRepository, cartSnapshotStore);
     }
 
     @Test
@@ -110,4 +125,28 @@ class CartItemServiceTest {
         assertThat(totalAmount).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("장바구니 항목 삭제 시 스냅샷은 트랜잭션 커밋 이후에 삭제한다")
+    void deleteCartItemsAsync_evictsSnapshotAfterCommit() {
+        // given
+        Long cartId = 100L;
+        Long userId = 1L;
+        given(cartRepository.findById(cartId)).willReturn(Optional.of(Cart.builder().cartId(cartId).userId(userId).build()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            cartItemService.deleteCartItemsAsync(cartId);
+
+            // then
+            verify(cartItemRepository).deleteByCartId(cartId);
+            verify(cartSnapshotStore, never()).evict(userId);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cartSnapshotStore).evict(userId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.side.hhplusecommerce.common.lock.distributed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DistributedLockMetadataTest {
+
+    @Test
+    @DisplayName("단순 파라미터 키는 SpEL 평가 없이 해당 인자로 락 키를 만든다")
+    void resolveLockKey_simpleParameter() {
+        // given
+        DistributedLockMetadata metadata = DistributedLockMetadata.of("item-stock", "#itemId",
+                new String[]{"quantity", "itemId"});
+
+        // when & then
+        assertThat(metadata.resolveLockKey(new Object[]{3, 42L})).isEqualTo("item-stock:42");
+        assertThat(metadata.resolveLockKey(new Object[]{3, 43L})).isEqualTo("item-stock:43");
+    }
+
+    @Test
+    @DisplayName("중첩 프로퍼티 키는 SpEL로 평가하며, 반복 호출(컴파일 이후)에도 같은 결과를 낸다")
+    void resolveLockKey_nestedProperty() {
+        // given
+        DistributedLockMetadata metadata = DistributedLockMetadata.of("user-point", "#request.userId",
+                new String[]{"request"});
+
+        // when & then
+        for (long userId = 1; userId <= 3; userId++) {
+            assertThat(metadata.resolveLockKey(new Object[]{new Request(userId)})).isEqualTo("user-point:" + userId);
+        }
+    }
+
+    @Test
+    @DisplayName("락 키 값이 null이면 예외를 발생시킨다")
+    void resolveLockKey_fail_nullValue() {
+        // given
+        DistributedLockMetadata metadata = DistributedLockMetadata.of("user-point", "#userId",
+                new String[]{"userId"});
+
+        // when & then
+        assertThatThrownBy(() -> metadata.resolveLockKey(new Object[]{null}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("#userId");
+    }
+
+    public static class Request {
+        private final Long userId;
+
+        public Request(Long userId) {
+            this.userId = userId;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.side.hhplusecommerce.coupon.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import com.side.hhplusecommerce.coupon.domain.Coupon;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CouponMetadataCacheTest {
+
+    private static final long MAX_TTL_SECONDS = 3600L;
+
+    @Mock
+    private CustomMetrics customMetrics;
+
+    private FakeTime fakeTime;
+    private CouponMetadataCache couponMetadataCache;
+
+    @BeforeEach
+    void setUp() {
+        fakeTime = new FakeTime(Instant.parse("2025-01-01T00:00:00Z"));
+        couponMetadataCache = new CouponMetadataCache(customMetrics, 100L, MAX_TTL_SECONDS, fakeTime::read, fakeTime);
+    }
+
+    @Test
+    @DisplayName("만료일시가 max-ttl-seconds보다 가까운 쿠폰은 만료일시에 캐시에서 사라진다")
+    void get_expiresAtCouponExpiry_whenCloserThanMaxTtl() {
+        // given
+        CountingLoader loader = new CountingLoader(coupon(fakeTime.now().plusMinutes(10)));
+        couponMetadataCache.get(1L, loader);
+
+        // when & then
+        fakeTime.advance(Duration.ofMinutes(10).minusSeconds(1));
+        couponMetadataCache.get(1L, loader);
+        assertThat(loader.count()).isEqualTo(1);
+
+        fakeTime.advance(Duration.ofSeconds(2));
+        couponMetadataCache.get(1L, loader);
+        assertThat(loader.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료일시가 max-ttl-seconds보다 먼 쿠폰은 max-ttl-seconds 후 캐시에서 사라진다")
+    void get_expiresAtMaxTtl_whenCouponExpiryIsFarther() {
+        // given
+        CountingLoader loader = new CountingLoader(coupon(fakeTime.now().plusDays(7)));
+        couponMetadataCache.get(1L, loader);
+
+        // when & then
+        fakeTime.advance(Duration.ofSeconds(MAX_TTL_SECONDS - 1));
+        couponMetadataCache.get(1L, loader);
+        assertThat(loader.count()).isEqualTo(1);
+
+        fakeTime.advance(Duration.ofSeconds(2));
+        couponMetadataCache.get(1L, loader);
+        assertThat(loader.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 조회 결과에 따라 hit/miss 수를 기록한다")
+    void get_countsHitAndMiss() {
+        // given
+        CountingLoader loader = new CountingLoader(coupon(fakeTime.now().plusDays(1)));
+
+        // when
+        couponMetadataCache.get(1L, loader);
+        couponMetadataCache.get(1L, loader);
+        couponMetadataCache.get(1L, loader);
+
+        // then
+        verify(customMetrics, times(1)).incrementCouponCacheRequest("miss");
+        verify(customMetrics, times(2)).incrementCouponCacheRequest("hit");
+        assertThat(loader.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 쿠폰은 캐싱하지 않고 매번 loader로 조회한다")
+    void get_neverCachesExpiredCoupon() {
+        // given
+        CountingLoader loader = new CountingLoader(coupon(fakeTime.now().minusSeconds(1)));
+
+        // when
+        Optional<Coupon> first = couponMetadataCache.get(1L, loader);
+        Optional<Coupon> second = couponMetadataCache.get(1L, loader);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(loader.count()).isEqualTo(2);
+        verify(customMetrics, times(2)).incrementCouponCacheRequest("miss");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 캐싱하지 않는다")
+    void get_doesNotCacheMissingCoupon() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Optional<Coupon>> loader = () -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        };
+
+        // when
+        couponMetadataCache.get(1L, loader);
+        couponMetadataCache.get(1L, loader);
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다건 조회는 캐시에 없는 쿠폰만 모아 loader를 한 번 호출하고, 조회한 쿠폰을 캐싱한다")
+    void getAll_loadsOnlyMissingCouponsInOneCall() {
+        // given
+        couponMetadataCache.get(1L, new CountingLoader(coupon(1L, fakeTime.now().plusDays(1))));
+        List<Set<Long>> requestedIds = new ArrayList<>();
+
+        // when
+        Map<Long, Coupon> coupons = couponMetadataCache.getAll(List.of(1L, 2L, 2L, 3L), ids -> {
+            requestedIds.add(Set.copyOf(ids));
+            return List.of(coupon(2L, fakeTime.now().plusDays(1)), coupon(3L, fakeTime.now().minusSeconds(1)));
+        });
+        couponMetadataCache.getAll(List.of(1L, 2L, 3L), ids -> {
+            requestedIds.add(Set.copyOf(ids));
+            return List.of(coupon(3L, fakeTime.now().minusSeconds(1)));
+        });
+
+        // then - 만료된 3번 쿠폰만 다시 조회
+        assertThat(coupons).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(requestedIds).containsExactly(Set.of(2L, 3L), Set.of(3L));
+    }
+
+    private Coupon coupon(LocalDateTime expiresAt) {
+        return coupon(1L, expiresAt);
+    }
+
+    private Coupon coupon(Long couponId, LocalDateTime expiresAt) {
+        return Coupon.builder()
+                .couponId(couponId)
+                .name("테스트 쿠폰")
+                .discountAmount(1000)
+                .totalQuantity(100)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static class CountingLoader implements Supplier<Optional<Coupon>> {
+        private final Coupon coupon;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(Coupon coupon) {
+            this.coupon = coupon;
+        }
+
+        @Override
+        public Optional<Coupon> get() {
+            calls.incrementAndGet();
+            return Optional.of(coupon);
+        }
+
+        private int count() {
+            return calls.get();
+        }
+    }
+
+    /**
+     * Caffeine ticker와 만료 계산용 Clock을 함께 움직이는 가짜 시계
+     */
+    private static class FakeTime extends Clock {
+        private final Instant start;
+        private long elapsedNanos;
+
+        private FakeTime(Instant start) {
+            this.start = start;
+        }
+
+        private long read() {
+            return elapsedNanos;
+        }
+
+        private void advance(Duration duration) {
+            elapsedNanos += duration.toNanos();
+        }
+
+        private LocalDateTime now() {
+            return LocalDateTime.now(this);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return start.plusNanos(elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.side.hhplusecommerce.coupon.infrastructure.kafka;
+
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.TOPIC_COUPON_ISSUE;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.exception.CouponSoldOutException;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
+import com.side.hhplusecommerce.coupon.service.CouponIssueTransactionService;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueConsumerTest {
+
+    @Mock
+    private CouponIssueTransactionService couponIssueTransactionService;
+
+    @Mock
+    private CouponRedisStockService couponRedisStockService;
+
+    @Mock
+    private CouponIssueStatusStore couponIssueStatusStore;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private CouponIssueConsumer couponIssueConsumer;
+
+    @Test
+    @DisplayName("일괄 발급이 재고 부족이면 사용자별로 조건부 UPDATE 경로(issueCoupons)로 1건씩 발급한다")
+    void listen_fallsBackToConditionalUpdatePerUser_whenBatchSoldOut() {
+        // given
+        when(couponIssueTransactionService.issueCoupons(1L, List.of(10L, 11L))).thenThrow(new CouponSoldOutException());
+        when(couponIssueTransactionService.issueCoupons(1L, List.of(10L))).thenReturn(1);
+        when(couponIssueTransactionService.issueCoupons(1L, List.of(11L))).thenThrow(new CouponSoldOutException());
+
+        // when
+        couponIssueConsumer.listen(List.of(
+                record(0L, CouponIssueMessage.of("request-10", 10L, 1L, 0)),
+                record(1L, CouponIssueMessage.of("request-11", 11L, 1L, 0))
+        ), acknowledgment);
+
+        // then
+        verify(couponIssueStatusStore).markAll(List.of("request-10"), CouponIssueStatus.ISSUED, null);
+        verify(couponRedisStockService).cancelReservation(1L, 0, 11L);
+        verify(couponIssueStatusStore).markAll(List.of("request-11"), CouponIssueStatus.FAILED, "COUPON_SOLD_OUT");
+        verify(acknowledgment).acknowledge();
+    }
+
+    private ConsumerRecord<String, CouponIssueMessage> record(long offset, CouponIssueMessage message) {
+        return new ConsumerRecord<>(TOPIC_COUPON_ISSUE, 0, offset, "1", message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.side.hhplusecommerce.coupon.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservation;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservationResult;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueProducerTest {
+
+    @Mock
+    private CouponRedisStockService couponRedisStockService;
+
+    @Mock
+    private CouponIssueStatusStore couponIssueStatusStore;
+
+    @Mock
+    private KafkaTemplate<String, CouponIssueMessage> kafkaTemplate;
+
+    @InjectMocks
+    private CouponIssueProducer couponIssueProducer;
+
+    @Test
+    @DisplayName("PENDING 상태를 기록하지 못하면 예약을 취소하고 메시지를 보내지 않은 채 요청을 실패시킨다")
+    void enqueue_failsRequest_whenPendingStatusCannotBeWritten() {
+        // given
+        when(couponRedisStockService.reserve(1L, 10L, 100))
+                .thenReturn(new CouponReservation(CouponReservationResult.RESERVED, 2));
+        doThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+                .when(couponIssueStatusStore).markPending(anyString(), anyLong(), anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueProducer.enqueue(1L, 10L, 100))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.ISSUE_COUPON_FAIL.getMessage());
+        verify(couponRedisStockService).cancelReservation(1L, 2, 10L);
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
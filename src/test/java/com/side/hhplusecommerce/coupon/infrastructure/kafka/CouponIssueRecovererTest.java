@@ -0,0 +1,98 @@
+package com.side.hhplusecommerce.coupon.infrastructure.kafka;
+
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.TOPIC_COUPON_ISSUE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.coupon.constants.CouponIssueStatus;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
+import com.side.hhplusecommerce.coupon.service.CouponIssueTransactionService;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueRecovererTest {
+
+    @Mock
+    private CouponIssueTransactionService couponIssueTransactionService;
+
+    @Mock
+    private CouponRedisStockService couponRedisStockService;
+
+    @Mock
+    private CouponIssueStatusStore couponIssueStatusStore;
+
+    @InjectMocks
+    private CouponIssueRecoverer couponIssueRecoverer;
+
+    @Test
+    @DisplayName("재시도를 소진한 발급 메시지는 예약된 샤드의 Redis 예약을 취소하고 FAILED로 기록한다")
+    void accept_cancelsReservationAndMarksFailed() {
+        // given
+        CouponIssueMessage message = CouponIssueMessage.of("request-1", 10L, 1L, 2);
+        when(couponIssueTransactionService.isIssued(1L, 10L)).thenReturn(false);
+
+        // when
+        couponIssueRecoverer.accept(record(message), new IllegalStateException("DB 오류"));
+
+        // then
+        verify(couponRedisStockService).cancelReservation(1L, 2, 10L);
+        verify(couponIssueStatusStore).markAll(List.of("request-1"), CouponIssueStatus.FAILED,
+                CouponIssueRecoverer.RETRY_EXHAUSTED);
+    }
+
+    @Test
+    @DisplayName("MySQL에 이미 발급된 사용자는 예약을 유지하고 ISSUED로 기록한다")
+    void accept_keepsReservation_whenAlreadyIssued() {
+        // given
+        CouponIssueMessage message = CouponIssueMessage.of("request-1", 10L, 1L, 0);
+        when(couponIssueTransactionService.isIssued(1L, 10L)).thenReturn(true);
+
+        // when
+        couponIssueRecoverer.accept(record(message), new IllegalStateException("DB 오류"));
+
+        // then
+        verify(couponRedisStockService, never()).cancelReservation(anyLong(), anyInt(), anyLong());
+        verify(couponIssueStatusStore).markAll(List.of("request-1"), CouponIssueStatus.ISSUED, null);
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패한 레코드는 정리할 예약이 없으므로 건너뛴다")
+    void accept_skipsPoisonRecord() {
+        // when
+        couponIssueRecoverer.accept(record(null), new IllegalStateException("역직렬화 실패"));
+
+        // then
+        verifyNoInteractions(couponIssueTransactionService, couponRedisStockService, couponIssueStatusStore);
+    }
+
+    @Test
+    @DisplayName("발급 여부 조회가 실패하면 예외를 던져 레코드를 건너뛰지 않는다")
+    void accept_rethrows_whenIssuedLookupFails() {
+        // given
+        CouponIssueMessage message = CouponIssueMessage.of("request-1", 10L, 1L, 0);
+        when(couponIssueTransactionService.isIssued(1L, 10L)).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueRecoverer.accept(record(message), new IllegalStateException("DB 오류")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(couponRedisStockService, never()).cancelReservation(anyLong(), anyInt(), anyLong());
+    }
+
+    private ConsumerRecord<String, CouponIssueMessage> record(CouponIssueMessage message) {
+        return new ConsumerRecord<>(TOPIC_COUPON_ISSUE, 0, 0L, "1", message);
+    }
+}
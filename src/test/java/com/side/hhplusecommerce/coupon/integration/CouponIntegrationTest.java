@@ -6,9 +6,17 @@ import com.side.hhplusecommerce.coupon.controller.dto.IssueCouponRequest;
 import com.side.hhplusecommerce.coupon.domain.Coupon;
 import com.side.hhplusecommerce.coupon.domain.CouponStock;
 import com.side.hhplusecommerce.coupon.domain.UserCoupon;
+import com.side.hhplusecommerce.coupon.exception.CouponSoldOutException;
+import com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueConsumer;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueStatusStore;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservationResult;
 import com.side.hhplusecommerce.coupon.repository.CouponRepository;
 import com.side.hhplusecommerce.coupon.repository.CouponStockRepository;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
 import com.side.hhplusecommerce.coupon.repository.UserCouponRepository;
+import com.side.hhplusecommerce.coupon.service.CouponIssueTransactionService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,8 +28,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 import static com.side.hhplusecommerce.coupon.infrastructure.redis.CouponIssueQueueConstants.*;
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.TOPIC_COUPON_ISSUE;
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.couponIssuedUsersKey;
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.couponStockKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,6 +63,18 @@ class CouponIntegrationTest extends ContainerTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private CouponRedisStockService couponRedisStockService;
+
+    @Autowired
+    private CouponIssueTransactionService couponIssueTransactionService;
+
+    @Autowired
+    private CouponIssueConsumer couponIssueConsumer;
+
+    @Autowired
+    private CouponIssueStatusStore couponIssueStatusStore;
+
     private Long userWithCouponId;     // 쿠폰을 보유한 사용자 ID
     private Long userWithoutCouponId;  // 쿠폰이 없는 사용자 ID
     private Long issuedCouponId;       // 이미 발급받은 쿠폰 ID
@@ -90,7 +117,12 @@ class CouponIntegrationTest extends ContainerTest {
         couponStockRepository.save(stock2);
 
         // Redis 재고 초기화 (Producer 필터링용)
-        redisTemplate.opsForValue().set(COUPON_STOCK_PREFIX + availableCouponId, 10);
+        // TRUNCATE로 쿠폰 ID가 재사용되므로 이전 테스트의 예약 Set도 함께 삭제
+        redisTemplate.delete(List.of(
+                couponIssuedUsersKey(issuedCouponId),
+                couponIssuedUsersKey(availableCouponId),
+                couponStockKey(issuedCouponId)));
+        redisTemplate.opsForValue().set(couponStockKey(availableCouponId), 10);
     }
 
     @Test
@@ -118,10 +150,183 @@ class CouponIntegrationTest extends ContainerTest {
         mockMvc.perform(post("/api/coupons/{couponId}/issue", availableCouponId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isAccepted());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.requestId").isNotEmpty())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(header().exists("Location"));
 
         // NOTE: Queue 기반 비동기 처리 방식이므로
         // 실제 발급은 Consumer가 처리합니다.
         // 발급 완료 검증은 별도의 통합 테스트에서 수행합니다.
     }
+
+    @Test
+    @DisplayName("[실패] 쿠폰 예약 - 이미 예약한 사용자는 재고를 차감하지 않고 거절됨")
+    void reserve_fail_duplicateUser() {
+        // given
+        couponRedisStockService.reserve(availableCouponId, userWithoutCouponId, 10);
+
+        // when
+        CouponReservationResult result = couponRedisStockService.reserve(availableCouponId, userWithoutCouponId, 10).result();
+
+        // then
+        assertThat(result).isEqualTo(CouponReservationResult.ALREADY_ISSUED);
+        assertThat(couponRedisStockService.getStock(availableCouponId)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("[성공] 쿠폰 예약 - 재고만큼만 예약되고, 예약 취소 시 재고와 사용자가 복구됨")
+    void reserve_limitsToStock_andCancelRestores() {
+        // given
+        redisTemplate.opsForValue().set(couponStockKey(availableCouponId), 2);
+
+        // when
+        CouponReservationResult first = couponRedisStockService.reserve(availableCouponId, 1L, 10).result();
+        CouponReservationResult second = couponRedisStockService.reserve(availableCouponId, 2L, 10).result();
+        CouponReservationResult third = couponRedisStockService.reserve(availableCouponId, 3L, 10).result();
+
+        // then
+        assertThat(first).isEqualTo(CouponReservationResult.RESERVED);
+        assertThat(second).isEqualTo(CouponReservationResult.RESERVED);
+        assertThat(third).isEqualTo(CouponReservationResult.SOLD_OUT);
+        assertThat(couponRedisStockService.getStock(availableCouponId)).isZero();
+
+        // 예약 취소 (Consumer의 MySQL 발급 실패 시나리오)
+        assertThat(couponRedisStockService.cancelReservation(availableCouponId, 0, 1L)).isTrue();
+        assertThat(couponRedisStockService.cancelReservation(availableCouponId, 0, 1L)).isFalse();
+        assertThat(couponRedisStockService.getStock(availableCouponId)).isEqualTo(1);
+        assertThat(couponRedisStockService.isAlreadyIssued(availableCouponId, 1L)).isFalse();
+        assertThat(couponRedisStockService.reserve(availableCouponId, 3L, 10).result())
+                .isEqualTo(CouponReservationResult.RESERVED);
+    }
+
+    @Test
+    @DisplayName("[성공] 쿠폰 예약 - Redis 재고가 없으면 MySQL 남은 재고로 초기화 후 예약")
+    void reserve_initializesMissingStock() {
+        // when
+        CouponReservationResult result = couponRedisStockService.reserve(issuedCouponId, userWithoutCouponId, 10).result();
+
+        // then
+        assertThat(result).isEqualTo(CouponReservationResult.RESERVED);
+        assertThat(couponRedisStockService.getStock(issuedCouponId)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("[성공] 쿠폰 일괄 발급 - 이미 발급된 사용자는 건너뛰고 발급된 수만큼만 재고 차감")
+    void issueCoupons_skipsAlreadyIssuedUsers() {
+        // when
+        int issuedCount = couponIssueTransactionService.issueCoupons(
+                issuedCouponId, List.of(userWithCouponId, 201L, 202L));
+
+        // then
+        assertThat(issuedCount).isEqualTo(2);
+        assertThat(couponStockRepository.findByCouponId(issuedCouponId).orElseThrow().getRemainingQuantity())
+                .isEqualTo(8);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(201L, issuedCouponId)).isPresent();
+        assertThat(userCouponRepository.findByUserIdAndCouponId(202L, issuedCouponId)).isPresent();
+
+        // 같은 배치 재처리 시 재고가 다시 차감되지 않음
+        assertThat(couponIssueTransactionService.issueCoupons(
+                issuedCouponId, List.of(userWithCouponId, 201L, 202L))).isZero();
+        assertThat(couponStockRepository.findByCouponId(issuedCouponId).orElseThrow().getRemainingQuantity())
+                .isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("[실패] 쿠폰 일괄 발급 - 재고보다 많으면 전체 롤백")
+    void issueCoupons_fail_soldOut() {
+        // given
+        couponStockRepository.save(CouponStock.of(availableCouponId, 1));
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueTransactionService.issueCoupons(availableCouponId, List.of(201L, 202L)))
+                .isInstanceOf(CouponSoldOutException.class);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(201L, availableCouponId)).isEmpty();
+        assertThat(couponStockRepository.findByCouponId(availableCouponId).orElseThrow().getRemainingQuantity())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 쿠폰 발급 Consumer - 재고 부족 시 선착순으로 남은 재고만 발급하고 나머지는 예약 취소")
+    void consumer_issuesInOrder_andCancelsRest_whenStockIsShort() {
+        // given
+        couponStockRepository.save(CouponStock.of(availableCouponId, 1));
+        couponRedisStockService.reserve(availableCouponId, 201L, 10);
+        couponRedisStockService.reserve(availableCouponId, 202L, 10);
+
+        List<ConsumerRecord<String, CouponIssueMessage>> records = List.of(
+                new ConsumerRecord<>(TOPIC_COUPON_ISSUE, 0, 0L, availableCouponId.toString(),
+                        CouponIssueMessage.of(201L, availableCouponId)),
+                new ConsumerRecord<>(TOPIC_COUPON_ISSUE, 0, 1L, availableCouponId.toString(),
+                        CouponIssueMessage.of(202L, availableCouponId))
+        );
+
+        // when
+        couponIssueConsumer.listen(records, null);
+
+        // then
+        assertThat(userCouponRepository.findByUserIdAndCouponId(201L, availableCouponId)).isPresent();
+        assertThat(userCouponRepository.findByUserIdAndCouponId(202L, availableCouponId)).isEmpty();
+        assertThat(couponRedisStockService.isAlreadyIssued(availableCouponId, 201L)).isTrue();
+        assertThat(couponRedisStockService.isAlreadyIssued(availableCouponId, 202L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 쿠폰 발급 요청 상태 조회 - Consumer 처리 결과가 요청별로 기록됨")
+    void getIssueStatus_reflectsConsumerResult() throws Exception {
+        // given
+        couponStockRepository.save(CouponStock.of(availableCouponId, 1));
+        couponRedisStockService.reserve(availableCouponId, 201L, 10);
+        couponRedisStockService.reserve(availableCouponId, 202L, 10);
+        String issuedRequestId = UUID.randomUUID().toString();
+        String failedRequestId = UUID.randomUUID().toString();
+        couponIssueStatusStore.markPending(issuedRequestId, availableCouponId, 201L);
+        couponIssueStatusStore.markPending(failedRequestId, availableCouponId, 202L);
+
+        mockMvc.perform(get("/api/coupons/issue-requests/{requestId}", issuedRequestId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        List<ConsumerRecord<String, CouponIssueMessage>> records = List.of(
+                new ConsumerRecord<>(TOPIC_COUPON_ISSUE, 0, 0L, availableCouponId.toString(),
+                        CouponIssueMessage.of(issuedRequestId, 201L, availableCouponId, 0)),
+                new ConsumerRecord<>(TOPIC_COUPON_ISSUE, 0, 1L, availableCouponId.toString(),
+                        CouponIssueMessage.of(failedRequestId, 202L, availableCouponId, 0))
+        );
+
+        // when
+        couponIssueConsumer.listen(records, null);
+
+        // then
+        mockMvc.perform(get("/api/coupons/issue-requests/{requestId}", issuedRequestId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.couponId").value(availableCouponId))
+                .andExpect(jsonPath("$.userId").value(201L))
+                .andExpect(jsonPath("$.status").value("ISSUED"));
+        mockMvc.perform(get("/api/coupons/issue-requests/{requestId}", failedRequestId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.reason").value("COUPON_SOLD_OUT"));
+    }
+
+    @Test
+    @DisplayName("[실패] 쿠폰 발급 요청 상태 조회 - 존재하지 않는 발급 요청")
+    void getIssueStatus_fail_notFound() throws Exception {
+        mockMvc.perform(get("/api/coupons/issue-requests/{requestId}", UUID.randomUUID().toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("[실패] 쿠폰 발급 결과 대기 - 대기 시간이 1ms 미만")
+    void waitIssueStatus_fail_invalidTimeout() throws Exception {
+        // given
+        String requestId = UUID.randomUUID().toString();
+        couponIssueStatusStore.markPending(requestId, availableCouponId, 203L);
+
+        // when & then
+        mockMvc.perform(get("/api/coupons/issue-requests/{requestId}/wait", requestId)
+                        .param("timeoutMs", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COUPON_007"));
+    }
 }
@@ -0,0 +1,203 @@
+package com.side.hhplusecommerce.coupon.integration;
+
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.TOPIC_COUPON_ISSUE;
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.couponIssuedUsersKey;
+import static com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueKafkaConstants.couponStockKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.hhplusecommerce.ContainerTest;
+import com.side.hhplusecommerce.coupon.domain.Coupon;
+import com.side.hhplusecommerce.coupon.domain.CouponStock;
+import com.side.hhplusecommerce.coupon.infrastructure.kafka.CouponIssueConsumer;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponRedisStockService;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservation;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.CouponReservationResult;
+import com.side.hhplusecommerce.coupon.infrastructure.redis.dto.CouponIssueMessage;
+import com.side.hhplusecommerce.coupon.repository.CouponRepository;
+import com.side.hhplusecommerce.coupon.repository.CouponStockRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "coupon.issue.shard-count=4")
+class CouponShardedStockIntegrationTest extends ContainerTest {
+
+    private static final Long COUPON_ID = 9001L;
+
+    @Autowired
+    private CouponRedisStockService couponRedisStockService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private CouponIssueConsumer couponIssueConsumer;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponStockRepository couponStockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = stringRedisTemplate.keys(couponStockKey(COUPON_ID) + "*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        stringRedisTemplate.delete(couponIssuedUsersKey(COUPON_ID));
+    }
+
+    @Test
+    @DisplayName("재고는 샤드 수로 나누어 초기화되고, 나머지는 앞쪽 샤드부터 배분된다")
+    void initializeStock_splitsAcrossShards() {
+        // when
+        couponRedisStockService.initializeStock(COUPON_ID, 10);
+
+        // then
+        assertThat(stringRedisTemplate.opsForValue().get(couponStockKey(COUPON_ID, 0))).isEqualTo("3");
+        assertThat(stringRedisTemplate.opsForValue().get(couponStockKey(COUPON_ID, 1))).isEqualTo("3");
+        assertThat(stringRedisTemplate.opsForValue().get(couponStockKey(COUPON_ID, 2))).isEqualTo("2");
+        assertThat(stringRedisTemplate.opsForValue().get(couponStockKey(COUPON_ID, 3))).isEqualTo("2");
+        assertThat(couponRedisStockService.getStock(COUPON_ID)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("우선 샤드가 소진되면 다른 샤드의 남은 재고로 예약한다")
+    void reserve_borrowsFromOtherShard_whenPreferredShardIsEmpty() {
+        // given - 샤드 0: 1개, 샤드 1: 1개, 샤드 2/3: 0개
+        couponRedisStockService.initializeStock(COUPON_ID, 2);
+
+        // when - userId 4, 8은 모두 샤드 0 우선
+        CouponReservation first = couponRedisStockService.reserve(COUPON_ID, 4L, 2);
+        CouponReservation second = couponRedisStockService.reserve(COUPON_ID, 8L, 2);
+        CouponReservation third = couponRedisStockService.reserve(COUPON_ID, 12L, 2);
+
+        // then
+        assertThat(first.shard()).isZero();
+        assertThat(second.isReserved()).isTrue();
+        assertThat(second.shard()).isEqualTo(1);
+        assertThat(third.result()).isEqualTo(CouponReservationResult.SOLD_OUT);
+
+        // 예약 취소 시 예약된 샤드로 재고가 돌아간다
+        couponRedisStockService.cancelReservation(COUPON_ID, second.shard(), 8L);
+        assertThat(stringRedisTemplate.opsForValue().get(couponStockKey(COUPON_ID, 1))).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("동시에 재고보다 많은 사용자가 예약해도 전체 예약 수는 재고를 넘지 않는다")
+    void reserve_neverOversells_underConcurrency() throws InterruptedException {
+        // given
+        int stock = 50;
+        int users = 200;
+        couponRedisStockService.initializeStock(COUPON_ID, stock);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(users);
+        ConcurrentLinkedQueue<CouponReservation> reservations = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (long userId = 1; userId <= users; userId++) {
+            long requestUserId = userId;
+            executor.submit(() -> {
+                try {
+                    reservations.add(couponRedisStockService.reserve(COUPON_ID, requestUserId, stock));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // then
+        List<CouponReservation> reserved = reservations.stream()
+                .filter(CouponReservation::isReserved)
+                .toList();
+        assertThat(reserved).hasSize(stock);
+        assertThat(couponRedisStockService.getStock(COUPON_ID)).isZero();
+        assertThat(stringRedisTemplate.opsForSet().size(couponIssuedUsersKey(COUPON_ID)))
+                .isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("샤드별 컨슈머가 같은 쿠폰을 동시에 발급하고 배치가 재전달되어도, 발급 수는 MySQL 재고를 넘지 않는다")
+    void consume_neverOversellsMysqlStock_whenShardsIssueConcurrently() throws InterruptedException {
+        // given - MySQL 재고 30개, 샤드 4개 x 사용자 20명 (샤드 0은 같은 배치가 두 스레드에 재전달됨)
+        int stock = 30;
+        int shards = 4;
+        int usersPerShard = 20;
+        Long couponId = couponRepository.save(Coupon.builder()
+                .name("샤딩 동시 발급 쿠폰")
+                .discountAmount(1000)
+                .totalQuantity(stock)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build()).getCouponId();
+        couponStockRepository.save(CouponStock.of(couponId, stock));
+
+        List<List<ConsumerRecord<String, CouponIssueMessage>>> batches = new ArrayList<>();
+        for (int shard = 0; shard < shards; shard++) {
+            batches.add(shardBatch(couponId, shard, usersPerShard));
+        }
+        batches.add(batches.get(0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(batches.size());
+        CountDownLatch ready = new CountDownLatch(batches.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(batches.size());
+
+        // when
+        for (List<ConsumerRecord<String, CouponIssueMessage>> batch : batches) {
+            executor.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    couponIssueConsumer.listen(batch, null);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executor.shutdown();
+
+        // then
+        Integer issuedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE coupon_id = ?", Integer.class, couponId);
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT remaining_quantity FROM coupon_stocks WHERE coupon_id = ?", Integer.class, couponId);
+        assertThat(issuedCount).isLessThanOrEqualTo(stock);
+        assertThat(issuedCount + remaining).isEqualTo(stock);
+        assertThat(remaining).isGreaterThanOrEqualTo(0);
+    }
+
+    private List<ConsumerRecord<String, CouponIssueMessage>> shardBatch(Long couponId, int shard, int users) {
+        List<ConsumerRecord<String, CouponIssueMessage>> records = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            long userId = 10_000L + (long) i * 4 + shard;
+            records.add(new ConsumerRecord<>(TOPIC_COUPON_ISSUE, shard, i, couponId + ":" + shard,
+                    CouponIssueMessage.of(null, userId, couponId, shard)));
+        }
+        return records;
+    }
+}
@@ -2,7 +2,9 @@ package com.side.hhplusecommerce.coupon.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
@@ -11,11 +13,14 @@ import com.side.hhplusecommerce.coupon.domain.Coupon;
 import com.side.hhplusecommerce.coupon.domain.UserCoupon;
 import com.side.hhplusecommerce.coupon.exception.AlreadyUsedCouponException;
 import com.side.hhplusecommerce.coupon.exception.ExpiredCouponException;
+import com.side.hhplusecommerce.coupon.infrastructure.cache.CouponMetadataCache;
 import com.side.hhplusecommerce.coupon.repository.CouponRepository;
 import com.side.hhplusecommerce.coupon.repository.UserCouponRepository;
 import com.side.hhplusecommerce.coupon.service.dto.CouponUseResult;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,9 +37,21 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponMetadataCache couponMetadataCache;
+
     @InjectMocks
     private CouponService couponService;
 
+    @BeforeEach
+    void setUp() {
+        // 캐시 미스 상황: loader(DB 조회) 결과를 그대로 반환
+        lenient().when(couponMetadataCache.get(any(), any())).thenAnswer(invocation -> {
+            Supplier<Optional<Coupon>> loader = invocation.getArgument(1);
+            return loader.get();
+        });
+    }
+
     @Test
     @DisplayName("유효한 쿠폰을 사용한다")
     void useCoupon_success() {
@@ -74,6 +91,37 @@ class CouponServiceTest {
         verify(userCouponRepository).save(userCoupon);
     }
 
+    @Test
+    @DisplayName("주문에 적용할 쿠폰과 할인 금액을 사용자 쿠폰/쿠폰 한 번씩만 조회해 반환한다")
+    void getApplicableCoupon_success() {
+        // given
+        Long userCouponId = 1L;
+        Long couponId = 10L;
+        UserCoupon userCoupon = UserCoupon.createWithId(
+                userCouponId, 1L, couponId, false, null, LocalDateTime.now()
+        );
+        Coupon coupon = Coupon.builder()
+                .couponId(couponId)
+                .name("할인 쿠폰")
+                .discountAmount(3000)
+                .totalQuantity(100)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+
+        given(userCouponRepository.findById(userCouponId)).willReturn(Optional.of(userCoupon));
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+        // when
+        CouponUseResult result = couponService.getApplicableCoupon(userCouponId);
+
+        // then
+        assertThat(result.getCoupon()).isEqualTo(coupon);
+        assertThat(result.getDiscountAmount()).isEqualTo(3000);
+        assertThat(userCoupon.getIsUsed()).isFalse();
+        verify(userCouponRepository).findById(userCouponId);
+        verify(couponRepository).findById(couponId);
+    }
+
     @Test
     @DisplayName("사용자 쿠폰이 존재하지 않으면 예외를 발생시킨다")
     void useCoupon_fail_user_coupon_not_found() {
@@ -3,12 +3,16 @@ package com.side.hhplusecommerce.item.concurrency;
 import com.side.hhplusecommerce.ContainerTest;
 import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
+import com.side.hhplusecommerce.item.exception.InsufficientStockException;
 import com.side.hhplusecommerce.item.service.ItemStockService;
+import com.side.hhplusecommerce.item.service.ItemStockTransactionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
@@ -17,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 class ItemStockConcurrencyTest extends ContainerTest {
@@ -24,6 +29,9 @@ class ItemStockConcurrencyTest extends ContainerTest {
     @Autowired
     private ItemStockService itemStockService;
 
+    @Autowired
+    private ItemStockTransactionService itemStockTransactionService;
+
     @Autowired
     private ItemRepository itemRepository;
 
@@ -186,6 +194,69 @@ class ItemStockConcurrencyTest extends ContainerTest {
         printResult("재고 차감/증가 혼합", totalThreadCount, successCount.get(), failCount.get(), expectedStock, result.getStock());
     }
 
+    @Test
+    @DisplayName("여러 상품을 서로 다른 순서로 담은 주문 40건이 동시에 재고를 일괄 차감해도, 모두 성공하고 최종 재고는 정확히 계산된다")
+    void concurrentBatchDecrease_shouldSucceedAllAndCalculateCorrectly() throws InterruptedException {
+        // given
+        int initialStock = 1000;
+        int decreaseQuantity = 5;
+        int threadCount = 40;
+
+        Long itemIdA = itemRepository.save(Item.builder().name("Batch Item A").price(10000).stock(initialStock).build()).getItemId();
+        Long itemIdB = itemRepository.save(Item.builder().name("Batch Item B").price(20000).stock(initialStock).build()).getItemId();
+        Long itemIdC = itemRepository.save(Item.builder().name("Batch Item C").price(30000).stock(initialStock).build()).getItemId();
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when - 짝수/홀수 스레드가 상품 순서를 반대로 전달
+        executeConcurrently(threadCount, (index) -> {
+            Map<Long, Integer> itemQuantities = new LinkedHashMap<>();
+            if (index % 2 == 0) {
+                itemQuantities.put(itemIdA, decreaseQuantity);
+                itemQuantities.put(itemIdB, decreaseQuantity);
+                itemQuantities.put(itemIdC, decreaseQuantity);
+            } else {
+                itemQuantities.put(itemIdC, decreaseQuantity);
+                itemQuantities.put(itemIdB, decreaseQuantity);
+                itemQuantities.put(itemIdA, decreaseQuantity);
+            }
+            try {
+                itemStockTransactionService.decreaseStocks(itemQuantities);
+                successCount.incrementAndGet();
+            } catch (Exception e) {
+                failCount.incrementAndGet();
+                System.err.println("재고 일괄 차감 실패: " + e.getMessage());
+            }
+        });
+
+        // then
+        int expectedStock = initialStock - (decreaseQuantity * threadCount);
+
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(failCount.get()).isZero();
+        assertThat(itemRepository.findById(itemIdA).orElseThrow().getStock()).isEqualTo(expectedStock);
+        assertThat(itemRepository.findById(itemIdB).orElseThrow().getStock()).isEqualTo(expectedStock);
+        assertThat(itemRepository.findById(itemIdC).orElseThrow().getStock()).isEqualTo(expectedStock);
+    }
+
+    @Test
+    @DisplayName("일괄 차감 중 한 상품이라도 재고가 부족하면, 다른 상품의 재고도 차감되지 않는다")
+    void batchDecrease_shouldRollbackAll_whenAnyItemIsInsufficient() {
+        // given
+        Long enoughItemId = itemRepository.save(Item.builder().name("Enough Item").price(10000).stock(100).build()).getItemId();
+        Long shortItemId = itemRepository.save(Item.builder().name("Short Item").price(10000).stock(1).build()).getItemId();
+
+        Map<Long, Integer> itemQuantities = Map.of(enoughItemId, 10, shortItemId, 2);
+
+        // when & then
+        assertThatThrownBy(() -> itemStockTransactionService.decreaseStocks(itemQuantities))
+                .isInstanceOf(InsufficientStockException.class);
+
+        assertThat(itemRepository.findById(enoughItemId).orElseThrow().getStock()).isEqualTo(100);
+        assertThat(itemRepository.findById(shortItemId).orElseThrow().getStock()).isEqualTo(1);
+    }
+
     private void executeConcurrently(int threadCount, TaskWithIndex task) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CyclicBarrier barrier = new CyclicBarrier(threadCount);
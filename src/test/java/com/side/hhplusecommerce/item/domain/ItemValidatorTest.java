@@ -2,13 +2,21 @@ package com.side.hhplusecommerce.item.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.side.hhplusecommerce.common.exception.CustomException;
 import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.item.dto.ItemDto;
+import com.side.hhplusecommerce.item.infrastructure.cache.ItemNearCache;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,9 +30,21 @@ class ItemValidatorTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemNearCache itemNearCache;
+
     @InjectMocks
     private ItemValidator itemValidator;
 
+    @BeforeEach
+    void setUp() {
+        // 캐시 미스 상황: loader(DB 조회) 결과를 그대로 반환
+        lenient().when(itemNearCache.get(any(), any())).thenAnswer(invocation -> {
+            Supplier<Optional<ItemDto>> loader = invocation.getArgument(1);
+            return loader.get();
+        });
+    }
+
     @Test
     @DisplayName("단일 상품 ID로 검증 시 존재하면 상품을 반환한다")
     void validateExistence_single_success() {
@@ -48,6 +68,50 @@ class ItemValidatorTest {
         assertThat(result.getName()).isEqualTo("Test Item");
     }
 
+    @Test
+    @DisplayName("단일 상품 검증은 캐시를 거치지 않고 DB에서 최신 재고를 조회한다")
+    void validateExistence_single_bypassesCache() {
+        // given
+        Long itemId = 1L;
+        Item item = Item.builder().itemId(itemId).name("Test Item").price(10000).stock(100).build();
+        given(itemRepository.findById(itemId)).willReturn(Optional.of(item));
+
+        // when
+        itemValidator.validateExistence(itemId);
+
+        // then
+        verify(itemNearCache, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 조회용 단일 상품 검증은 캐시 미스 시 DB 조회 결과를 DTO로 반환한다")
+    void validateExistenceCached_success() {
+        // given
+        Long itemId = 1L;
+        Item item = Item.builder().itemId(itemId).name("Test Item").price(10000).stock(100).build();
+        given(itemRepository.findById(itemId)).willReturn(Optional.of(item));
+
+        // when
+        ItemDto result = itemValidator.validateExistenceCached(itemId);
+
+        // then
+        assertThat(result.getItemId()).isEqualTo(itemId);
+        assertThat(result.getStock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("캐시 조회용 단일 상품 검증 시 존재하지 않으면 예외를 발생시킨다")
+    void validateExistenceCached_fail_not_found() {
+        // given
+        Long itemId = 1L;
+        given(itemRepository.findById(itemId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> itemValidator.validateExistenceCached(itemId))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.ITEM_NOT_FOUND.getMessage());
+    }
+
     @Test
     @DisplayName("단일 상품 ID로 검증 시 존재하지 않으면 예외를 발생시킨다")
     void validateExistence_single_fail_not_found() {
@@ -6,6 +6,7 @@ import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.item.domain.ItemView;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import com.side.hhplusecommerce.item.repository.ItemViewRepository;
+import com.side.hhplusecommerce.item.service.ItemViewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +35,9 @@ class ItemIntegrationTest extends ContainerTest {
     @Autowired
     private ItemViewRepository itemViewRepository;
 
+    @Autowired
+    private ItemViewService itemViewService;
+
     @BeforeEach
     void setUp() {
         // 테스트 데이터 준비
@@ -93,6 +98,43 @@ class ItemIntegrationTest extends ContainerTest {
                 .andExpect(jsonPath("$.hasNext").exists());
     }
 
+    @Test
+    @DisplayName("[성공] 상품 목록 조회 - 가격 내림차순 커서 페이징")
+    void getItems_success_sortByPriceDesc() throws Exception {
+        Item expensiveItem = itemRepository.findAll().stream()
+                .filter(item -> item.getPrice() == 20000)
+                .findFirst()
+                .orElseThrow();
+
+        // 첫 페이지 - 가장 비싼 상품
+        mockMvc.perform(get("/api/items")
+                        .param("size", "1")
+                        .param("sort", "PRICE")
+                        .param("direction", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].price").value(20000))
+                .andExpect(jsonPath("$.nextCursor").value(expensiveItem.getItemId()))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        // 다음 페이지 - 커서(마지막 상품 ID) 이후
+        mockMvc.perform(get("/api/items")
+                        .param("cursor", expensiveItem.getItemId().toString())
+                        .param("size", "1")
+                        .param("sort", "PRICE")
+                        .param("direction", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].price").value(10000))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("[실패] 상품 목록 조회 - 조회 개수 범위 초과")
+    void getItems_fail_invalidSize() throws Exception {
+        mockMvc.perform(get("/api/items")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("[성공] 상품 상세 조회")
     void getItem_success() throws Exception {
@@ -106,6 +148,24 @@ class ItemIntegrationTest extends ContainerTest {
                 .andExpect(jsonPath("$.stock").value(100));
     }
 
+    @Test
+    @DisplayName("[성공] 상품 상세 조회 이력은 버퍼에 쌓였다가 flush 시 일괄 저장된다")
+    void getItem_viewIsBufferedAndFlushed() throws Exception {
+        Item item = itemRepository.findAll().get(0);
+        long viewCountBefore = itemViewRepository.count();
+
+        mockMvc.perform(get("/api/items/{itemId}", item.getItemId())
+                        .param("userId", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/items/{itemId}", item.getItemId())
+                        .param("userId", "2"))
+                .andExpect(status().isOk());
+
+        itemViewService.flushBufferedViews();
+
+        assertThat(itemViewRepository.count()).isEqualTo(viewCountBefore + 2);
+    }
+
     @Test
     @DisplayName("[실패] 상품 상세 조회 - 존재하지 않는 상품")
     void getItem_fail_notFound() throws Exception {
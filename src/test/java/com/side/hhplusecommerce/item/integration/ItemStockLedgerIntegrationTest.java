@@ -0,0 +1,130 @@
+package com.side.hhplusecommerce.item.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.side.hhplusecommerce.ContainerTest;
+import com.side.hhplusecommerce.item.domain.Item;
+import com.side.hhplusecommerce.item.exception.InsufficientStockException;
+import com.side.hhplusecommerce.item.infrastructure.redis.ItemStockLedger;
+import com.side.hhplusecommerce.item.infrastructure.redis.PendingLedgerDeltas;
+import com.side.hhplusecommerce.item.repository.ItemRepository;
+import com.side.hhplusecommerce.item.service.ItemStockLedgerSyncService;
+import com.side.hhplusecommerce.item.service.ItemStockTransactionService;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@SpringBootTest(properties = {
+        "item.stock.redis-ledger.enabled=true",
+        "item.stock.redis-ledger.flush-interval-ms=3600000"
+})
+class ItemStockLedgerIntegrationTest extends ContainerTest {
+
+    @Autowired
+    private ItemStockLedger itemStockLedger;
+
+    @Autowired
+    private ItemStockLedgerSyncService itemStockLedgerSyncService;
+
+    @Autowired
+    private ItemStockTransactionService itemStockTransactionService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Long itemIdA;
+    private Long itemIdB;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 초기화
+        Set<String> keys = stringRedisTemplate.keys("item:stock:ledger:*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+
+        itemIdA = itemRepository.save(Item.builder().name("Ledger Item A").price(10000).stock(100).build()).getItemId();
+        itemIdB = itemRepository.save(Item.builder().name("Ledger Item B").price(20000).stock(5).build()).getItemId();
+        itemStockLedgerSyncService.initializeItemStocks(Set.of(itemIdA, itemIdB));
+    }
+
+    @Test
+    @DisplayName("원장에서 여러 상품을 차감하면 남은 재고를 반환하고, MySQL 재고는 반영 전까지 그대로다")
+    void decrease_shouldUpdateLedgerOnly() {
+        // when
+        Map<Long, Integer> remainingStocks = itemStockLedger.decrease(Map.of(itemIdA, 10, itemIdB, 5));
+
+        // then
+        assertThat(remainingStocks).containsEntry(itemIdA, 90).containsEntry(itemIdB, 0);
+        assertThat(itemRepository.findById(itemIdA).orElseThrow().getStock()).isEqualTo(100);
+        assertThat(itemRepository.findById(itemIdB).orElseThrow().getStock()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 원장 재고가 부족하면, 모든 상품의 원장 재고가 차감되지 않는다")
+    void decrease_shouldRejectAll_whenAnyItemIsInsufficient() {
+        // when & then
+        assertThatThrownBy(() -> itemStockLedger.decrease(Map.of(itemIdA, 10, itemIdB, 6)))
+                .isInstanceOf(InsufficientStockException.class);
+
+        assertThat(itemStockLedger.getStock(itemIdA)).isEqualTo(100);
+        assertThat(itemStockLedger.getStock(itemIdB)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("flush하면 원장에 누적된 차감/복구량이 MySQL 재고에 반영된다")
+    void flush_shouldApplyDeltasToMysql() {
+        // given
+        itemStockLedger.decrease(Map.of(itemIdA, 30, itemIdB, 2));
+        itemStockLedger.increase(Map.of(itemIdA, 5));
+
+        // when
+        itemStockLedgerSyncService.flush();
+
+        // then
+        assertThat(itemRepository.findById(itemIdA).orElseThrow().getStock()).isEqualTo(75);
+        assertThat(itemRepository.findById(itemIdB).orElseThrow().getStock()).isEqualTo(3);
+        assertThat(itemStockLedger.getStock(itemIdA)).isEqualTo(75);
+        assertThat(itemStockLedger.getUnflushedDelta(itemIdA)).isZero();
+    }
+
+    @Test
+    @DisplayName("MySQL 반영 커밋 후 flushing 델타를 지우기 전에 중단되어도, 다음 flush에서 같은 델타를 다시 반영하지 않는다")
+    void flush_shouldNotApplySameDeltasTwice_whenCompleteFlushWasMissed() {
+        // given - 반영은 커밋됐지만 completeFlush 전에 중단된 상황
+        itemStockLedger.decrease(Map.of(itemIdA, 30));
+        PendingLedgerDeltas pending = itemStockLedger.drainPendingDeltas();
+        itemStockTransactionService.applyLedgerDeltas(pending.flushId(), pending.itemDeltas());
+
+        // when
+        itemStockLedgerSyncService.flush();
+
+        // then
+        assertThat(itemRepository.findById(itemIdA).orElseThrow().getStock()).isEqualTo(70);
+        assertThat(itemStockLedger.getUnflushedDelta(itemIdA)).isZero();
+    }
+
+    @Test
+    @DisplayName("원장 초기화는 아직 반영되지 않은 차감량을 제외한 재고로 설정되고, 이미 있는 원장은 덮어쓰지 않는다")
+    void initialize_shouldKeepExistingLedgerAndSubtractUnflushedDelta() {
+        // given
+        itemStockLedger.decrease(Map.of(itemIdA, 20));
+        stringRedisTemplate.delete("item:stock:ledger:" + itemIdA);
+
+        // when
+        itemStockLedgerSyncService.initializeItemStocks(Set.of(itemIdA, itemIdB));
+
+        // then
+        assertThat(itemStockLedger.getStock(itemIdA)).isEqualTo(80);
+        assertThat(itemStockLedger.getStock(itemIdB)).isEqualTo(5);
+    }
+}
@@ -1,13 +1,17 @@
 package com.side.hhplusecommerce.item.integration;
 
+import static com.side.hhplusecommerce.item.constants.PopularityConstants.POPULAR_ITEMS_BUCKET_KEY_PREFIX;
 import static com.side.hhplusecommerce.item.constants.PopularityConstants.POPULAR_ITEMS_DAILY_KEY;
 import static com.side.hhplusecommerce.item.constants.PopularityConstants.POPULAR_ITEMS_WEEKLY_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import com.side.hhplusecommerce.ContainerTest;
+import com.side.hhplusecommerce.item.constants.PopularityPeriod;
 import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.item.domain.ItemView;
 import com.side.hhplusecommerce.item.dto.PopularItemsDto;
+import com.side.hhplusecommerce.item.infrastructure.cache.PopularItemsCache;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import com.side.hhplusecommerce.item.repository.ItemViewRepository;
 import com.side.hhplusecommerce.item.service.ItemPopularityService;
@@ -15,6 +19,7 @@ import com.side.hhplusecommerce.order.domain.Order;
 import com.side.hhplusecommerce.order.domain.OrderItem;
 import com.side.hhplusecommerce.order.repository.OrderItemRepository;
 import com.side.hhplusecommerce.order.repository.OrderRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -44,6 +49,9 @@ class PopularItemsIntegrationTest extends ContainerTest {
     @Autowired
     private ItemPopularityService itemPopularityService;
 
+    @Autowired
+    private PopularItemsCache popularItemsCache;
+
 
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
@@ -57,6 +65,10 @@ class PopularItemsIntegrationTest extends ContainerTest {
         // Redis 초기화
         redisTemplate.delete(POPULAR_ITEMS_DAILY_KEY);
         redisTemplate.delete(POPULAR_ITEMS_WEEKLY_KEY);
+        Set<String> bucketKeys = redisTemplate.keys(POPULAR_ITEMS_BUCKET_KEY_PREFIX + "*");
+        if (bucketKeys != null && !bucketKeys.isEmpty()) {
+            redisTemplate.delete(bucketKeys);
+        }
 
         // 테스트 상품 생성
         item1 = Item.builder()
@@ -271,6 +283,127 @@ class PopularItemsIntegrationTest extends ContainerTest {
         assertThat(weeklySize).isEqualTo(0L);
     }
 
+    @Test
+    @DisplayName("주문 라인별 판매 score를 한 번에 증가시키고, 랭킹에 없는 상품은 추가하지 않는다")
+    void incrementSalesScoresInBulk() {
+        // given - 상품1, 상품2만 랭킹에 존재
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_DAILY_KEY, item1.getItemId().toString(), 10);
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_DAILY_KEY, item2.getItemId().toString(), 20);
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_WEEKLY_KEY, item1.getItemId().toString(), 30);
+
+        // when - 상품1 2개 라인, 상품2 1개 라인, 상품3 1개 라인
+        itemPopularityService.incrementSalesScores(List.of(
+                item1.getItemId(), item1.getItemId(), item2.getItemId(), item3.getItemId()));
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_DAILY_KEY, item1.getItemId().toString()))
+                .isEqualTo(10 + 16.0);
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_DAILY_KEY, item2.getItemId().toString()))
+                .isEqualTo(20 + 8.0);
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_WEEKLY_KEY, item1.getItemId().toString()))
+                .isEqualTo(30 + 16.0);
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_WEEKLY_KEY, item2.getItemId().toString())).isNull();
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_DAILY_KEY, item3.getItemId().toString())).isNull();
+    }
+
+    @Test
+    @DisplayName("시간별 버킷에 누적된 조회/판매 score로 DB 집계 없이 일간/주간 랭킹을 갱신한다")
+    void refreshRankingFromBuckets() {
+        // given - 상품1: 조회 3회(6점), 상품2: 판매 1회(8점), 상품3: 조회 1회(2점)
+        itemPopularityService.incrementViewScore(item1.getItemId());
+        itemPopularityService.incrementViewScore(item1.getItemId());
+        itemPopularityService.incrementViewScore(item1.getItemId());
+        itemPopularityService.incrementSalesScore(item2.getItemId());
+        itemPopularityService.incrementViewScore(item3.getItemId());
+
+        // when
+        itemPopularityService.refreshRankingFromBuckets(PopularityPeriod.DAILY);
+        itemPopularityService.refreshRankingFromBuckets(PopularityPeriod.WEEKLY);
+
+        // then
+        Set<Object> dailyRanking = redisTemplate.opsForZSet()
+                .reverseRange(POPULAR_ITEMS_DAILY_KEY, 0, -1);
+        assertThat(dailyRanking).hasSize(3);
+        Object[] items = dailyRanking.toArray();
+        assertThat(items[0].toString()).isEqualTo(item2.getItemId().toString());
+        assertThat(items[1].toString()).isEqualTo(item1.getItemId().toString());
+        assertThat(items[2].toString()).isEqualTo(item3.getItemId().toString());
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_WEEKLY_KEY, item1.getItemId().toString()))
+                .isEqualTo(6.0);
+        assertThat(redisTemplate.hasKey(POPULAR_ITEMS_DAILY_KEY + ":temp")).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷이 비어 있으면 기존 랭킹을 유지한다")
+    void refreshRankingFromBuckets_keepsRankingWhenNoBuckets() {
+        // given
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_DAILY_KEY, item1.getItemId().toString(), 10);
+
+        // when
+        itemPopularityService.refreshRankingFromBuckets(PopularityPeriod.DAILY);
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score(POPULAR_ITEMS_DAILY_KEY, item1.getItemId().toString()))
+                .isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("인기 상품 응답은 랭킹이 갱신될 때만 다시 만든다")
+    void getPopularItems_rebuildsOnlyWhenRankingChanges() {
+        // given - 상품1만 랭킹에 있는 상태로 응답 캐싱
+        itemPopularityService.incrementViewScore(item1.getItemId());
+        itemPopularityService.refreshRankingFromBuckets(PopularityPeriod.DAILY);
+        PopularItemsDto cached = itemPopularityService.getPopularItems(PopularityPeriod.DAILY);
+        assertThat(cached.getItems()).extracting("itemId").containsExactly(item1.getItemId());
+
+        // when - 랭킹 갱신 없이 ZSET만 변경
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_DAILY_KEY, item2.getItemId().toString(), 100);
+
+        // then - 캐시된 응답 유지
+        assertThat(itemPopularityService.getPopularItems(PopularityPeriod.DAILY).getItems())
+                .extracting("itemId").containsExactly(item1.getItemId());
+
+        // when - 랭킹 갱신
+        itemPopularityService.incrementSalesScore(item2.getItemId());
+        itemPopularityService.refreshRankingFromBuckets(PopularityPeriod.DAILY);
+
+        // then - 재구성이 끝날 때까지 이전 응답을 유지하고, 이후 새 랭킹으로 응답
+        assertThat(itemPopularityService.getPopularItems(PopularityPeriod.DAILY).getItems())
+                .extracting("itemId").containsExactly(item1.getItemId());
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(itemPopularityService.getPopularItems(PopularityPeriod.DAILY).getItems())
+                        .extracting("itemId").containsExactly(item2.getItemId(), item1.getItemId()));
+    }
+
+    @Test
+    @DisplayName("인기 상품 응답 재구성이 실패하면 빈 응답을 캐싱하지 않고 이전 응답을 유지한다")
+    void getPopularItems_keepsPreviousSnapshot_whenRebuildFails() {
+        // given - 상품1만 랭킹에 있는 상태로 응답 캐싱
+        itemPopularityService.incrementViewScore(item1.getItemId());
+        itemPopularityService.refreshRankingFromBuckets(PopularityPeriod.DAILY);
+        assertThat(itemPopularityService.getPopularItems(PopularityPeriod.DAILY).getItems())
+                .extracting("itemId").containsExactly(item1.getItemId());
+
+        // when - 읽을 수 없는 랭킹으로 갱신 (재구성 시 상품 ID 변환 실패)
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_DAILY_KEY, "not-an-item-id", 100);
+        popularItemsCache.markRankingChanged(PopularityPeriod.DAILY);
+
+        // then - 재구성이 계속 실패해도 이전 응답 유지
+        await().during(Duration.ofMillis(1500)).atMost(Duration.ofSeconds(3)).untilAsserted(() ->
+                assertThat(itemPopularityService.getPopularItems(PopularityPeriod.DAILY).getItems())
+                        .extracting("itemId").containsExactly(item1.getItemId()));
+
+        // when - 랭킹 복구
+        redisTemplate.opsForZSet().remove(POPULAR_ITEMS_DAILY_KEY, "not-an-item-id");
+        redisTemplate.opsForZSet().add(POPULAR_ITEMS_DAILY_KEY, item2.getItemId().toString(), 100);
+        popularItemsCache.markRankingChanged(PopularityPeriod.DAILY);
+
+        // then - 새 랭킹으로 재구성
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(itemPopularityService.getPopularItems(PopularityPeriod.DAILY).getItems())
+                        .extracting("itemId").containsExactly(item2.getItemId(), item1.getItemId()));
+    }
+
     /**
      * 테스트용 주문 및 주문 아이템 생성
      */
@@ -0,0 +1,70 @@
+package com.side.hhplusecommerce.order.infrastructure.kafka.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.side.hhplusecommerce.order.event.OrderCompletedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+class KafkaBatchRecordsTest {
+
+    @Test
+    @DisplayName("ID 추출 시 역직렬화에 실패한(값이 null인) 레코드는 제외한다")
+    void collect_skipsNullValues() {
+        // given
+        List<ConsumerRecord<String, OrderCompletedEvent>> records = List.of(
+                record(0, OrderCompletedEvent.of(1L)),
+                record(1, null),
+                record(2, OrderCompletedEvent.of(2L)),
+                record(3, OrderCompletedEvent.of(1L))
+        );
+
+        // when
+        List<Long> orderIds = KafkaBatchRecords.collect(records, OrderCompletedEvent::getOrderId);
+
+        // then
+        assertThat(orderIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("레코드 처리 실패 시 실패한 레코드를 담은 BatchListenerFailedException을 던지고 이후 레코드는 처리하지 않는다")
+    void processEach_throwsWithFailedRecord() {
+        // given
+        ConsumerRecord<String, OrderCompletedEvent> poison = record(1, null);
+        List<ConsumerRecord<String, OrderCompletedEvent>> records = List.of(
+                record(0, OrderCompletedEvent.of(1L)),
+                poison,
+                record(2, OrderCompletedEvent.of(2L))
+        );
+        List<Long> handled = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> KafkaBatchRecords.processEach(records, record ->
+                handled.add(record.value().getOrderId())))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(poison));
+        assertThat(handled).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("사전 조회에 실패하면 예외 대신 빈 결과를 반환한다")
+    void prefetch_returnsEmpty_whenLoaderFails() {
+        // when
+        Map<Long, String> result = KafkaBatchRecords.prefetch(() -> {
+            throw new IllegalStateException("DB 오류");
+        });
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private ConsumerRecord<String, OrderCompletedEvent> record(long offset, OrderCompletedEvent event) {
+        return new ConsumerRecord<>("order-completed", 0, offset, "key", event);
+    }
+}
@@ -0,0 +1,91 @@
+package com.side.hhplusecommerce.order.infrastructure.kafka.consumer;
+
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_ORDER_CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.coupon.service.CouponService;
+import com.side.hhplusecommerce.item.service.ItemStockService;
+import com.side.hhplusecommerce.order.event.OrderCreatedEvent;
+import com.side.hhplusecommerce.order.service.OrderService;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCreatedEventConsumerTest {
+
+    @Mock
+    private ItemStockService itemStockService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private OrderCreatedEventConsumer orderCreatedEventConsumer;
+
+    @Test
+    @DisplayName("주문 상품 일괄 조회에 실패하면 레코드별 조회로 재고 예약을 계속하고 배치를 커밋한다")
+    void consumeForStock_fallsBackToPerRecordLookup_whenPrefetchFails() {
+        // given
+        OrderCreatedEvent first = event(1L);
+        OrderCreatedEvent second = event(2L);
+        when(orderService.findOrderItemsByOrderIds(anyCollection())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        orderCreatedEventConsumer.consumeForStock(List.of(record(0, first), record(1, second)), acknowledgment);
+
+        // then
+        verify(itemStockService).handleOrderCreatedEvent(argThat(e -> e == first), isNull());
+        verify(itemStockService).handleOrderCreatedEvent(argThat(e -> e == second), isNull());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패한 레코드가 있어도 사전 조회는 나머지 레코드로 수행하고, 실패 레코드에서만 배치 처리를 중단한다")
+    void consumeForStock_failsOnlyAtPoisonRecord() {
+        // given
+        OrderCreatedEvent first = event(1L);
+        ConsumerRecord<String, OrderCreatedEvent> poison = record(1, null);
+        when(orderService.findOrderItemsByOrderIds(anyCollection())).thenReturn(Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> orderCreatedEventConsumer.consumeForStock(
+                List.of(record(0, first), poison, record(2, event(3L))), acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(poison));
+
+        verify(orderService).findOrderItemsByOrderIds(List.of(1L, 3L));
+        verify(itemStockService).handleOrderCreatedEvent(argThat(e -> e == first), any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private OrderCreatedEvent event(Long orderId) {
+        return new OrderCreatedEvent(orderId, 1L, List.of(), List.of(), null);
+    }
+
+    private ConsumerRecord<String, OrderCreatedEvent> record(long offset, OrderCreatedEvent event) {
+        return new ConsumerRecord<>(TOPIC_ORDER_CREATED, 0, offset, "key", event);
+    }
+}
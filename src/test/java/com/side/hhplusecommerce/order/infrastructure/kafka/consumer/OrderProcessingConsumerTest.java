@@ -0,0 +1,109 @@
+package com.side.hhplusecommerce.order.infrastructure.kafka.consumer;
+
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_ORDER_COMPLETED;
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_PROCESS_PAYMENT;
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_STOCK_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.order.event.OrderCompletedEvent;
+import com.side.hhplusecommerce.order.event.ProcessPaymentEvent;
+import com.side.hhplusecommerce.order.event.StockFailedEvent;
+import com.side.hhplusecommerce.order.service.OrderService;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
+import com.side.hhplusecommerce.order.usecase.OrderProcessingManager;
+import com.side.hhplusecommerce.order.usecase.PaymentGroupCommitProcessor;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+@ExtendWith(MockitoExtension.class)
+class OrderProcessingConsumerTest {
+
+    @Mock
+    private OrderProcessingManager orderProcessingManager;
+
+    @Mock
+    private PaymentGroupCommitProcessor paymentGroupCommitProcessor;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private OrderProcessingConsumer orderProcessingConsumer;
+
+    @Test
+    @DisplayName("보상용 주문 상품 일괄 조회에 실패하면 레코드별 조회로 보상 처리를 계속한다")
+    void consumeOrderFlowEvents_fallsBackToPerRecordLookup_whenPrefetchFails() {
+        // given
+        StockFailedEvent event = StockFailedEvent.of(1L, "재고 부족");
+        when(orderService.findOrderItemsByOrderIds(anyCollection())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        orderProcessingConsumer.consumeOrderFlowEvents(
+                List.of(new ConsumerRecord<>(TOPIC_STOCK_FAILED, 0, 0L, "1", event)), acknowledgment);
+
+        // then
+        verify(orderProcessingManager).handleStockFailedEvent(argThat(e -> e == event), isNull());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("주문 일괄 조회에 실패하면 주문별 조회로 완료 처리하고, 역직렬화 실패 레코드는 건너뛴다")
+    void consumeOrderCompleted_fallsBackToPerRecordLookup_whenPrefetchFails() {
+        // given
+        OrderCompletedEvent event = OrderCompletedEvent.of(1L);
+        when(orderService.findAllByIds(anyCollection())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        orderProcessingConsumer.consumeOrderCompleted(List.of(
+                new ConsumerRecord<>(TOPIC_ORDER_COMPLETED, 0, 0L, "1", event),
+                new ConsumerRecord<>(TOPIC_ORDER_COMPLETED, 0, 1L, "2", null)
+        ), acknowledgment);
+
+        // then
+        verify(orderProcessingManager).handleOrderCompletedEvent(event);
+        verify(orderProcessingManager, never()).handleOrderCompletedEvent(any(), any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("결제 group commit에는 역직렬화 실패 레코드를 제외하고 넘기며, 재처리 대상 주문은 주문별로 결제한다")
+    void consumeProcessPayment_excludesPoisonRecord_andRetriesPerOrder() {
+        // given
+        ProcessPaymentEvent event = new ProcessPaymentEvent(10L, 1L, 3000);
+        ConsumerRecord<String, ProcessPaymentEvent> poison = new ConsumerRecord<>(TOPIC_PROCESS_PAYMENT, 0, 1L, "2", null);
+        when(paymentGroupCommitProcessor.isEnabled()).thenReturn(true);
+        when(paymentGroupCommitProcessor.process(List.of(event)))
+                .thenReturn(new PaymentBatchResult(Set.of(), Set.of(), Set.of(10L)));
+
+        // when & then
+        assertThatThrownBy(() -> orderProcessingConsumer.consumeProcessPayment(List.of(
+                new ConsumerRecord<>(TOPIC_PROCESS_PAYMENT, 0, 0L, "1", event),
+                poison
+        ), acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(poison));
+
+        verify(orderProcessingManager).handleProcessPaymentEvent(event);
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
@@ -0,0 +1,119 @@
+package com.side.hhplusecommerce.order.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.repository.OrderOutboxRepository;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private OrderOutboxTransactionService orderOutboxTransactionService;
+
+    @Mock
+    private KafkaTemplate<String, Object> outboxKafkaTemplate;
+
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxRelay = new OrderOutboxRelay(orderOutboxRepository, orderOutboxTransactionService,
+                outboxKafkaTemplate, new ObjectMapper(), 10, 1000L, 60000L, 1000L, MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("일부 이벤트 발행이 실패해도 성공한 이벤트는 PUBLISHED로 기록하고 실패한 이벤트만 재시도한다")
+    void relayBatch_marksSucceededEventsPublished_whenOthersFail() {
+        // given
+        OrderOutbox first = outbox(1L, "order-1", String.class.getName(), "\"payload-1\"", 0);
+        OrderOutbox second = outbox(2L, "order-2", String.class.getName(), "\"payload-2\"", 0);
+        when(orderOutboxTransactionService.claim(anyInt(), any(), any())).thenReturn(List.of(first, second));
+        when(outboxKafkaTemplate.send("topic", "order-1", "payload-1")).thenReturn(sent());
+        when(outboxKafkaTemplate.send("topic", "order-2", "payload-2"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 오류")));
+
+        // when
+        int published = orderOutboxRelay.relayBatch();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        verify(orderOutboxTransactionService).markPublished(eq(List.of(1L)), any());
+        verify(orderOutboxTransactionService).retryAt(eq(List.of(2L)), any());
+        verify(orderOutboxTransactionService).markDead(List.of());
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 이벤트는 전송하지 않고 DEAD로 격리하며, 나머지 이벤트는 발행한다")
+    void relayBatch_isolatesUndeserializablePayload() {
+        // given
+        OrderOutbox poison = outbox(1L, "order-1", "com.side.hhplusecommerce.NotExistingEvent", "{}", 0);
+        OrderOutbox valid = outbox(2L, "order-2", String.class.getName(), "\"payload-2\"", 0);
+        when(orderOutboxTransactionService.claim(anyInt(), any(), any())).thenReturn(List.of(poison, valid));
+        when(outboxKafkaTemplate.send("topic", "order-2", "payload-2")).thenReturn(sent());
+
+        // when
+        orderOutboxRelay.relayBatch();
+
+        // then
+        verify(orderOutboxTransactionService).markPublished(eq(List.of(2L)), any());
+        verify(orderOutboxTransactionService).markDead(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("최대 발행 시도에 도달한 이벤트가 실패하면 DEAD로 격리한다")
+    void relayBatch_marksDead_whenMaxAttemptsReached() {
+        // given
+        OrderOutbox exhausted = outbox(1L, "order-1", String.class.getName(), "\"payload-1\"", MAX_ATTEMPTS - 1);
+        when(orderOutboxTransactionService.claim(anyInt(), any(), any())).thenReturn(List.of(exhausted));
+        when(outboxKafkaTemplate.send("topic", "order-1", "payload-1"))
+                .thenThrow(new IllegalStateException("전송 실패"));
+
+        // when
+        int published = orderOutboxRelay.relayBatch();
+
+        // then
+        assertThat(published).isZero();
+        verify(orderOutboxTransactionService).retryAt(eq(List.of()), any());
+        verify(orderOutboxTransactionService).markDead(List.of(1L));
+    }
+
+    private OrderOutbox outbox(Long outboxId, String key, String eventType, String payload, int attemptCount) {
+        OrderOutbox outbox = mock(OrderOutbox.class);
+        when(outbox.getOutboxId()).thenReturn(outboxId);
+        when(outbox.getEventType()).thenReturn(eventType);
+        when(outbox.getPayload()).thenReturn(payload);
+        lenient().when(outbox.getTopic()).thenReturn("topic");
+        lenient().when(outbox.getMessageKey()).thenReturn(key);
+        lenient().when(outbox.getAttemptCount()).thenReturn(attemptCount);
+        return outbox;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SendResult<String, Object>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
@@ -0,0 +1,148 @@
+package com.side.hhplusecommerce.order.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.hhplusecommerce.ContainerTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OrderEventTrackerIntegrationTest extends ContainerTest {
+
+    @Autowired
+    private OrderEventTracker orderEventTracker;
+
+    private final List<Long> trackedOrderIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        trackedOrderIds.forEach(orderEventTracker::delete);
+    }
+
+    @Test
+    @DisplayName("재고 예약과 쿠폰 사용이 동시에 표시되어도 결제 준비 완료(true)는 주문당 한 번만 반환된다")
+    void concurrentMarks_returnReadyExactlyOncePerOrder() throws InterruptedException {
+        // given
+        int orderCount = 100;
+        List<Long> orderIds = new ArrayList<>();
+        for (long orderId = 1L; orderId <= orderCount; orderId++) {
+            initialize(orderId, true);
+            orderIds.add(orderId);
+        }
+
+        // when - 주문마다 재고 예약/쿠폰 사용 표시를 두 스레드에서 동시에 실행
+        List<AtomicInteger> readyCounts = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            AtomicInteger readyCount = new AtomicInteger();
+            readyCounts.add(readyCount);
+            runConcurrently(
+                    () -> orderEventTracker.markStockReserved(orderId),
+                    () -> orderEventTracker.markCouponUsed(orderId),
+                    readyCount);
+        }
+
+        // then
+        assertThat(readyCounts).allSatisfy(readyCount -> assertThat(readyCount.get()).isEqualTo(1));
+        assertThat(orderIds).allMatch(orderEventTracker::isReadyForPayment);
+    }
+
+    @Test
+    @DisplayName("같은 이벤트가 중복 전달되어도 남은 이벤트 수가 줄지 않아 결제 준비 완료로 판정되지 않는다")
+    void duplicateMarks_doNotCountDownTwice() {
+        // given
+        Long orderId = 1L;
+        initialize(orderId, true);
+
+        // when
+        boolean firstStock = orderEventTracker.markStockReserved(orderId);
+        boolean duplicateStock = orderEventTracker.markStockReserved(orderId);
+        boolean coupon = orderEventTracker.markCouponUsed(orderId);
+        boolean duplicateCoupon = orderEventTracker.markCouponUsed(orderId);
+
+        // then
+        assertThat(firstStock).isFalse();
+        assertThat(duplicateStock).isFalse();
+        assertThat(coupon).isTrue();
+        assertThat(duplicateCoupon).isFalse();
+    }
+
+    @Test
+    @DisplayName("쿠폰 없는 주문은 재고 예약 표시만으로 결제 준비가 완료되고, 이후 표시는 false를 반환한다")
+    void orderWithoutCoupon_becomesReadyOnStockReserved() {
+        // given
+        Long orderId = 1L;
+        initialize(orderId, false);
+
+        // when
+        boolean stock = orderEventTracker.markStockReserved(orderId);
+        boolean duplicateStock = orderEventTracker.markStockReserved(orderId);
+        boolean coupon = orderEventTracker.markCouponUsed(orderId);
+
+        // then
+        assertThat(stock).isTrue();
+        assertThat(duplicateStock).isFalse();
+        assertThat(coupon).isFalse();
+        assertThat(orderEventTracker.isCouponUsed(orderId)).isTrue();
+        assertThat(orderEventTracker.isReadyForPayment(orderId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("추적 데이터가 없는(만료/삭제된) 주문은 표시해도 결제 준비 완료로 판정되지 않는다")
+    void markWithoutTracker_returnsFalse() {
+        // given
+        Long orderId = 1L;
+        initialize(orderId, false);
+        orderEventTracker.delete(orderId);
+
+        // when & then
+        assertThat(orderEventTracker.markStockReserved(orderId)).isFalse();
+        assertThat(orderEventTracker.isStockReserved(orderId)).isFalse();
+    }
+
+    private void initialize(Long orderId, boolean hasCoupon) {
+        orderEventTracker.delete(orderId);
+        orderEventTracker.initialize(orderId, hasCoupon);
+        trackedOrderIds.add(orderId);
+    }
+
+    private void runConcurrently(BooleanSupplier first, BooleanSupplier second, AtomicInteger readyCount)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        try {
+            for (BooleanSupplier task : List.of(first, second)) {
+                executor.submit(() -> {
+                    try {
+                        barrier.await();
+                        if (task.getAsBoolean()) {
+                            readyCount.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            boolean completed = latch.await(10, TimeUnit.SECONDS);
+            assertThat(completed).withFailMessage("테스트 타임아웃: 10초 내에 완료되지 않음").isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
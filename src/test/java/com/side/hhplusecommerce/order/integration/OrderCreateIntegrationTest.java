@@ -14,6 +14,9 @@ import com.side.hhplusecommerce.coupon.repository.UserCouponRepository;
 import com.side.hhplusecommerce.item.domain.Item;
 import com.side.hhplusecommerce.item.repository.ItemRepository;
 import com.side.hhplusecommerce.order.controller.dto.CreateOrderResponse;
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.domain.OrderOutboxStatus;
+import com.side.hhplusecommerce.order.repository.OrderOutboxRepository;
 import com.side.hhplusecommerce.order.usecase.OrderCreateUseCase;
 import com.side.hhplusecommerce.point.domain.UserPoint;
 import com.side.hhplusecommerce.point.repository.UserPointRepository;
@@ -61,6 +64,9 @@ class OrderCreateIntegrationTest extends ContainerTest {
     @Autowired
     private UserPointRepository userPointRepository;
 
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
     private Long userId;
     private Item item1;
     private Item item2;
@@ -160,4 +166,24 @@ class OrderCreateIntegrationTest extends ContainerTest {
         assertThat(response.getCouponDiscount()).isZero();
         assertThat(response.getFinalAmount()).isEqualTo(40000);
     }
+
+    @Test
+    @DisplayName("[성공] 주문 생성 시 OrderCreatedEvent가 같은 트랜잭션에서 Outbox에 기록된다")
+    void createOrder_shouldAppendOrderCreatedEventToOutbox() {
+        // given
+        List<Long> cartItemIds = cartItemRepository.findByCartId(cart.getCartId())
+                .stream()
+                .map(CartItem::getCartItemId)
+                .toList();
+
+        // when
+        CreateOrderResponse response = orderCreateUseCase.create(userId, cartItemIds, null);
+
+        // then
+        List<OrderOutbox> outboxes = orderOutboxRepository.findAll();
+        assertThat(outboxes).hasSize(1);
+        assertThat(outboxes.get(0).getTopic()).isEqualTo("order-created");
+        assertThat(outboxes.get(0).getMessageKey()).isEqualTo(response.getOrderId().toString());
+        assertThat(outboxes.get(0).getStatus()).isEqualTo(OrderOutboxStatus.PENDING);
+    }
 }
@@ -0,0 +1,143 @@
+package com.side.hhplusecommerce.order.integration;
+
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_ORDER_COMPLETED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.side.hhplusecommerce.ContainerTest;
+import com.side.hhplusecommerce.order.domain.Order;
+import com.side.hhplusecommerce.order.domain.OrderOutbox;
+import com.side.hhplusecommerce.order.domain.OrderStatus;
+import com.side.hhplusecommerce.order.event.ProcessPaymentEvent;
+import com.side.hhplusecommerce.order.repository.OrderOutboxRepository;
+import com.side.hhplusecommerce.order.repository.OrderRepository;
+import com.side.hhplusecommerce.order.service.OrderPaymentService;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
+import com.side.hhplusecommerce.order.usecase.OrderProcessingManager;
+import com.side.hhplusecommerce.order.usecase.PaymentGroupCommitProcessor;
+import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.repository.PointTransactionRepository;
+import com.side.hhplusecommerce.point.repository.UserPointRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "order.payment.group-commit.shard-count=2")
+class PaymentGroupCommitIntegrationTest extends ContainerTest {
+
+    @Autowired
+    private PaymentGroupCommitProcessor paymentGroupCommitProcessor;
+
+    @Autowired
+    private OrderPaymentService orderPaymentService;
+
+    @Autowired
+    private OrderProcessingManager orderProcessingManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Test
+    @DisplayName("poll 단위 결제를 일괄 처리하면 잔액이 충분한 주문만 PAID가 되고, 부족한 주문은 실패로 분류된다")
+    void process_shouldPayOrdersWithEnoughPoint_andReportFailures() {
+        // given - 사용자 1: 10000 포인트, 사용자 2: 3000 포인트
+        savePoint(1L, 10000);
+        savePoint(2L, 3000);
+
+        Order first = orderRepository.save(Order.create(null, 1L, 4000, 0));
+        Order second = orderRepository.save(Order.create(null, 1L, 4000, 0));
+        Order third = orderRepository.save(Order.create(null, 1L, 4000, 0));
+        Order fourth = orderRepository.save(Order.create(null, 2L, 5000, 0));
+
+        // when - 같은 주문 이벤트가 중복 전달되어도 한 번만 처리
+        PaymentBatchResult result = paymentGroupCommitProcessor.process(List.of(
+                ProcessPaymentEvent.from(first),
+                ProcessPaymentEvent.from(second),
+                ProcessPaymentEvent.from(first),
+                ProcessPaymentEvent.from(third),
+                ProcessPaymentEvent.from(fourth)
+        ));
+
+        // then
+        assertThat(result.paidOrderIds()).containsExactlyInAnyOrder(first.getOrderId(), second.getOrderId());
+        assertThat(result.failedOrderIds()).containsExactlyInAnyOrder(third.getOrderId(), fourth.getOrderId());
+        assertThat(result.retryOrderIds()).isEmpty();
+
+        assertThat(orderRepository.findById(first.getOrderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(orderRepository.findById(second.getOrderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(orderRepository.findById(third.getOrderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+
+        assertThat(userPointRepository.findByUserId(1L).orElseThrow().getPoint()).isEqualTo(2000);
+        assertThat(userPointRepository.findByUserId(2L).orElseThrow().getPoint()).isEqualTo(3000);
+        assertThat(pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(1L)).hasSize(2);
+
+        List<String> completedOrderKeys = orderOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getTopic().equals(TOPIC_ORDER_COMPLETED))
+                .map(OrderOutbox::getMessageKey)
+                .toList();
+        assertThat(completedOrderKeys).containsExactlyInAnyOrder(
+                first.getOrderId().toString(), second.getOrderId().toString());
+    }
+
+    @Test
+    @DisplayName("이미 결제 완료된 주문의 이벤트가 다시 전달되면 포인트를 차감하지 않고 건너뛴다")
+    void process_shouldSkipAlreadyPaidOrder() {
+        // given
+        savePoint(1L, 10000);
+        Order order = Order.create(null, 1L, 4000, 0);
+        order.completePay();
+        Order paidOrder = orderRepository.save(order);
+
+        // when
+        PaymentBatchResult result = paymentGroupCommitProcessor.process(List.of(ProcessPaymentEvent.from(paidOrder)));
+
+        // then
+        assertThat(result.paidOrderIds()).isEmpty();
+        assertThat(result.failedOrderIds()).isEmpty();
+        assertThat(result.retryOrderIds()).isEmpty();
+        assertThat(userPointRepository.findByUserId(1L).orElseThrow().getPoint()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("다른 컨슈머가 먼저 결제해 샤드가 롤백된 뒤 주문별 결제로 재처리되어도 이미 결제된 주문은 다시 차감하지 않는다")
+    void retryAfterShardRollback_shouldNotDebitAlreadyPaidOrderTwice() {
+        // given - 샤드가 PENDING으로 조회한 뒤 다른 컨슈머가 first를 먼저 결제
+        savePoint(1L, 10000);
+        Order first = orderRepository.save(Order.create(null, 1L, 4000, 0));
+        Order second = orderRepository.save(Order.create(null, 1L, 3000, 0));
+        orderPaymentService.completePayments(List.of(ProcessPaymentEvent.from(first)));
+
+        // 샤드 트랜잭션은 first의 PENDING → PAID 갱신이 0건이라 차감까지 롤백됨
+        assertThatThrownBy(() -> orderPaymentService.completePayments(List.of(
+                ProcessPaymentEvent.from(first), ProcessPaymentEvent.from(second))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(userPointRepository.findByUserId(1L).orElseThrow().getPoint()).isEqualTo(6000);
+
+        // when - 샤드의 모든 주문이 주문별 결제 경로로 재처리됨
+        orderProcessingManager.handleProcessPaymentEvent(ProcessPaymentEvent.from(first));
+        orderProcessingManager.handleProcessPaymentEvent(ProcessPaymentEvent.from(second));
+
+        // then - first는 건너뛰고 second만 차감
+        assertThat(userPointRepository.findByUserId(1L).orElseThrow().getPoint()).isEqualTo(3000);
+        assertThat(orderRepository.findById(first.getOrderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(orderRepository.findById(second.getOrderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(1L)).hasSize(2);
+    }
+
+    private void savePoint(Long userId, int point) {
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(point);
+        userPointRepository.save(userPoint);
+    }
+}
@@ -1,19 +1,105 @@
 package com.side.hhplusecommerce.order.service;
 
+import static com.side.hhplusecommerce.order.infrastructure.kafka.OrderEventKafkaConstants.TOPIC_ORDER_COMPLETED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.order.event.ProcessPaymentEvent;
+import com.side.hhplusecommerce.order.infrastructure.outbox.OrderEventOutbox;
+import com.side.hhplusecommerce.order.repository.OrderJdbcRepository;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository.PointUsage;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
-/**
- * OrderPaymentService는 더 이상 사용되지 않음
- * - 포인트 사용은 UserPointService를 직접 사용
- * - 주문 상태 변경은 OrderService.completeOrderPayment() 사용
- */
-@DisplayName("OrderPaymentService 테스트 (Deprecated)")
+@ExtendWith(MockitoExtension.class)
 class OrderPaymentServiceTest {
 
+    @Mock
+    private UserPointJdbcRepository userPointJdbcRepository;
+
+    @Mock
+    private OrderJdbcRepository orderJdbcRepository;
+
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @InjectMocks
+    private OrderPaymentService orderPaymentService;
+
+    private final List<ProcessPaymentEvent> events = List.of(
+            new ProcessPaymentEvent(10L, 1L, 3000),
+            new ProcessPaymentEvent(11L, 1L, 5000),
+            new ProcessPaymentEvent(12L, 2L, 1000)
+    );
+
     @Test
-    @DisplayName("이 테스트는 더 이상 사용되지 않습니다")
-    void deprecated() {
-        // OrderPaymentService는 더 이상 사용되지 않음
+    @DisplayName("포인트가 차감된 주문만 PAID로 변경하고, 거래 원장과 주문 완료 이벤트를 일괄 기록한다")
+    void completePayments_success() {
+        // given
+        when(userPointJdbcRepository.decreasePointsIfEnough(anyList())).thenReturn(new int[]{1, 0, 1});
+        when(orderJdbcRepository.markPaidIfPending(List.of(10L, 12L))).thenReturn(new int[]{1, 1});
+
+        // when
+        PaymentBatchResult result = orderPaymentService.completePayments(events);
+
+        // then
+        assertThat(result.paidOrderIds()).containsExactly(10L, 12L);
+        assertThat(result.failedOrderIds()).containsExactly(11L);
+        assertThat(result.retryOrderIds()).isEmpty();
+
+        verify(userPointJdbcRepository).insertTransactions(
+                List.of(new PointUsage(1L, 3000), new PointUsage(2L, 1000)), PointTransactionType.USE, true);
+        verify(orderEventOutbox).appendAll(eq(TOPIC_ORDER_COMPLETED),
+                argThat(completedEvents -> completedEvents.keySet().equals(Set.of("10", "12"))));
+    }
+
+    @Test
+    @DisplayName("모든 주문의 포인트 차감이 실패하면 주문 상태를 변경하지 않고 실패 주문으로 반환한다")
+    void completePayments_allInsufficient() {
+        // given
+        when(userPointJdbcRepository.decreasePointsIfEnough(anyList())).thenReturn(new int[]{0, 0, 0});
+
+        // when
+        PaymentBatchResult result = orderPaymentService.completePayments(events);
+
+        // then
+        assertThat(result.paidOrderIds()).isEmpty();
+        assertThat(result.failedOrderIds()).containsExactly(10L, 11L, 12L);
+        verify(orderJdbcRepository, never()).markPaidIfPending(anyList());
+        verify(orderEventOutbox, never()).appendAll(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("결제 대기 상태가 아닌 주문이 있으면 예외를 발생시켜 배치 전체를 롤백한다")
+    void completePayments_fail_notPendingOrder() {
+        // given
+        when(userPointJdbcRepository.decreasePointsIfEnough(anyList())).thenReturn(new int[]{1, 1, 1});
+        when(orderJdbcRepository.markPaidIfPending(List.of(10L, 11L, 12L))).thenReturn(new int[]{1, 0, 1});
+
+        // when & then
+        assertThatThrownBy(() -> orderPaymentService.completePayments(events))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(userPointJdbcRepository, never()).insertTransactions(anyList(), any(), anyBoolean());
+        verify(orderEventOutbox, never()).appendAll(anyString(), anyMap());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.side.hhplusecommerce.order.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.order.event.ProcessPaymentEvent;
+import com.side.hhplusecommerce.order.service.OrderPaymentService;
+import com.side.hhplusecommerce.order.service.OrderService;
+import com.side.hhplusecommerce.order.service.dto.PaymentBatchResult;
+import java.util.Arrays;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentGroupCommitProcessorTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderPaymentService orderPaymentService;
+
+    @InjectMocks
+    private PaymentGroupCommitProcessor paymentGroupCommitProcessor;
+
+    @Test
+    @DisplayName("주문 일괄 조회에 실패하면 null 이벤트를 제외한 모든 주문을 주문별 결제 재처리 대상으로 반환한다")
+    void process_marksAllForRetry_whenOrderLookupFails() {
+        // given
+        when(orderService.findAllByIds(anyCollection())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        PaymentBatchResult result = paymentGroupCommitProcessor.process(Arrays.asList(
+                new ProcessPaymentEvent(10L, 1L, 3000),
+                null,
+                new ProcessPaymentEvent(11L, 2L, 5000)
+        ));
+
+        // then
+        assertThat(result.paidOrderIds()).isEmpty();
+        assertThat(result.failedOrderIds()).isEmpty();
+        assertThat(result.retryOrderIds()).isEqualTo(Set.of(10L, 11L));
+        verify(orderPaymentService, never()).completePayments(anyList());
+    }
+}
@@ -0,0 +1,146 @@
+package com.side.hhplusecommerce.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.side.hhplusecommerce.common.monitoring.CustomMetrics;
+import com.side.hhplusecommerce.payment.exception.PaymentGatewayTimeoutException;
+import com.side.hhplusecommerce.payment.exception.PaymentGatewayUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentBulkheadTest {
+
+    private PaymentBulkhead paymentBulkhead;
+
+    @AfterEach
+    void tearDown() {
+        if (paymentBulkhead != null) {
+            paymentBulkhead.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("PG 호출은 호출 스레드가 아닌 bulkhead 전용 스레드에서 실행된다")
+    void execute_runsOnBulkheadThread() throws Exception {
+        // given
+        paymentBulkhead = bulkhead(2, 10, 1000L, 10);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        // when
+        PaymentResult result = paymentBulkhead.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            return PaymentResult.success();
+        }).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(threadName.get()).startsWith("payment-bulkhead-");
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 PG 호출을 호출마다 생성한 가상 스레드에서 실행한다")
+    void execute_runsOnVirtualThread_whenVirtualThreadsEnabled() throws Exception {
+        // given
+        paymentBulkhead = new PaymentBulkhead(2, 10, 1000L, 10, 50, 60_000L, 1, true,
+                new CustomMetrics(new SimpleMeterRegistry()));
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        // when
+        PaymentResult result = paymentBulkhead.execute(() -> {
+            thread.set(Thread.currentThread());
+            return PaymentResult.success();
+        }).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(thread.get().isVirtual()).isTrue();
+        assertThat(thread.get().getName()).startsWith("payment-bulkhead-");
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃보다 늦으면 PaymentGatewayTimeoutException으로 완료된다")
+    void execute_timesOut() {
+        // given
+        paymentBulkhead = bulkhead(1, 10, 50L, 10);
+
+        // when
+        CompletableFuture<PaymentResult> future = paymentBulkhead.execute(() -> sleepAndSucceed(1000L));
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PaymentGatewayTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수 상한을 넘으면 기다리지 않고 즉시 거절한다")
+    void execute_rejectsWhenBulkheadIsFull() throws Exception {
+        // given
+        paymentBulkhead = bulkhead(1, 1, 1000L, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<PaymentResult> running = paymentBulkhead.execute(() -> {
+            await(release);
+            return PaymentResult.success();
+        });
+
+        // when
+        CompletableFuture<PaymentResult> rejected = paymentBulkhead.execute(PaymentResult::success);
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(PaymentGatewayUnavailableException.class);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("PG 오류가 반복되면 서킷이 열려 이후 호출은 PG를 호출하지 않고 거절된다")
+    void execute_opensCircuitAfterFailures() {
+        // given
+        paymentBulkhead = bulkhead(2, 10, 1000L, 2);
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<PaymentResult> failed = paymentBulkhead.execute(() -> {
+                throw new IllegalStateException("PG 오류");
+            });
+            assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        // when
+        CompletableFuture<PaymentResult> rejected = paymentBulkhead.execute(PaymentResult::success);
+
+        // then
+        assertThat(paymentBulkhead.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    private PaymentBulkhead bulkhead(int threadCount, int maxConcurrentCalls, long timeoutMillis, int slidingWindowSize) {
+        return new PaymentBulkhead(threadCount, maxConcurrentCalls, timeoutMillis,
+                slidingWindowSize, 50, 60_000L, 1, false, new CustomMetrics(new SimpleMeterRegistry()));
+    }
+
+    private PaymentResult sleepAndSucceed(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return PaymentResult.success();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
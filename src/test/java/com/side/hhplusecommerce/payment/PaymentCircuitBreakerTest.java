@@ -0,0 +1,86 @@
+package com.side.hhplusecommerce.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(4, 50, 1000L, 2, now::get);
+
+    @Test
+    @DisplayName("최근 호출의 실패율이 임계치 이상이면 OPEN되어 호출을 거절한다")
+    void open_whenFailureRateExceedsThreshold() {
+        // given
+        record(true, false, true, false);
+
+        // when & then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우가 채워지기 전에는 실패가 있어도 CLOSED를 유지한다")
+    void stayClosed_untilWindowIsFilled() {
+        // given
+        record(true, true, true);
+
+        // when & then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 시험 호출 수만큼만 허용하고, 모두 성공하면 CLOSED로 돌아간다")
+    void halfOpen_closesAfterSuccessfulTrialCalls() {
+        // given
+        record(true, true, true, true);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        // when
+        boolean first = circuitBreaker.tryAcquirePermission();
+        boolean second = circuitBreaker.tryAcquirePermission();
+        boolean third = circuitBreaker.tryAcquirePermission();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 하나라도 실패하면 다시 OPEN된다")
+    void halfOpen_reopensOnFailure() {
+        // given
+        record(true, true, true, true);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failed : failures) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            if (failed) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.side.hhplusecommerce.payment.concurrency;
 
 import com.side.hhplusecommerce.ContainerTest;
 import com.side.hhplusecommerce.payment.service.UserPointService;
+import com.side.hhplusecommerce.point.domain.PointTransaction;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
 import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.exception.InsufficientPointException;
+import com.side.hhplusecommerce.point.repository.PointTransactionRepository;
 import com.side.hhplusecommerce.point.repository.UserPointRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
@@ -27,6 +32,9 @@ class UserPointConcurrencyTest extends ContainerTest {
     @Autowired
     private UserPointRepository userPointRepository;
 
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
     @Test
     @DisplayName("동일한 사용자에 대해 50번의 포인트 충전을 동시에 시도하면, 모두 성공하고 최종 포인트는 정확히 계산된다")
     void concurrentCharge_shouldSucceedAllAndCalculateCorrectly() throws InterruptedException {
@@ -177,7 +185,47 @@ class UserPointConcurrencyTest extends ContainerTest {
 
         printResult("포인트 충전/사용 혼합", totalThreadCount, successCount.get(), failCount.get(), expectedPoint, result.getPoint());
     }
-    
+
+    @Test
+    @DisplayName("잔액보다 많은 포인트 사용을 동시에 시도하면, 잔액만큼만 성공하고 성공한 건만 거래 원장에 기록된다")
+    void concurrentUse_shouldNeverOverdraw_andAppendLedgerForSuccessOnly() throws InterruptedException {
+        // given
+        Long userId = 4L;
+        int initialPoint = 10000;
+        int useAmount = 1000;
+        int threadCount = 30;
+
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(initialPoint);
+        userPointRepository.save(userPoint);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        // when
+        executeConcurrently(threadCount, (index) -> {
+            try {
+                userPointService.use(userId, useAmount);
+                successCount.incrementAndGet();
+            } catch (InsufficientPointException e) {
+                insufficientCount.incrementAndGet();
+            }
+        });
+
+        // then
+        UserPoint result = userPointRepository.findByUserId(userId).orElseThrow();
+        List<PointTransaction> transactions = pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(userId);
+
+        assertThat(successCount.get()).isEqualTo(initialPoint / useAmount);
+        assertThat(insufficientCount.get()).isEqualTo(threadCount - initialPoint / useAmount);
+        assertThat(result.getPoint()).isZero();
+        assertThat(transactions).hasSize(successCount.get())
+                .allMatch(transaction -> transaction.getType() == PointTransactionType.USE
+                        && transaction.getAmount() == useAmount);
+
+        printResult("포인트 초과 사용", threadCount, successCount.get(), insufficientCount.get(), 0, result.getPoint());
+    }
+
     private void executeConcurrently(int threadCount, TaskWithIndex task) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CyclicBarrier barrier = new CyclicBarrier(threadCount);
@@ -0,0 +1,207 @@
+package com.side.hhplusecommerce.payment.concurrency;
+
+import com.side.hhplusecommerce.ContainerTest;
+import com.side.hhplusecommerce.payment.service.UserPointService;
+import com.side.hhplusecommerce.point.domain.PointTransaction;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
+import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.exception.InsufficientPointException;
+import com.side.hhplusecommerce.point.repository.PointTransactionRepository;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
+import com.side.hhplusecommerce.point.repository.UserPointRepository;
+import com.side.hhplusecommerce.point.service.PointLedgerCompactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "point.balance.mode=LEDGER",
+        "point.balance.ledger.compaction-interval-ms=3600000"
+})
+class UserPointLedgerConcurrencyTest extends ContainerTest {
+
+    @Autowired
+    private UserPointService userPointService;
+
+    @Autowired
+    private PointLedgerCompactionService pointLedgerCompactionService;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private UserPointJdbcRepository userPointJdbcRepository;
+
+    @Test
+    @DisplayName("LEDGER 모드에서 잔액보다 많은 사용을 동시에 시도하면, 잔액만큼만 성공하고 스냅샷은 반영 전까지 그대로다")
+    void concurrentUse_shouldNeverOverdraw_andKeepSnapshotUntilCompaction() throws InterruptedException {
+        // given
+        Long userId = 1L;
+        int initialPoint = 10000;
+        int useAmount = 1000;
+        int threadCount = 30;
+
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(initialPoint);
+        userPointRepository.save(userPoint);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        // when
+        executeConcurrently(threadCount, () -> {
+            try {
+                userPointService.use(userId, useAmount);
+                successCount.incrementAndGet();
+            } catch (InsufficientPointException e) {
+                insufficientCount.incrementAndGet();
+            }
+        });
+
+        // then
+        List<PointTransaction> transactions = pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(userId);
+
+        assertThat(successCount.get()).isEqualTo(initialPoint / useAmount);
+        assertThat(insufficientCount.get()).isEqualTo(threadCount - initialPoint / useAmount);
+        assertThat(transactions).hasSize(successCount.get())
+                .noneMatch(PointTransaction::getApplied);
+        assertThat(userPointService.getBalance(userId)).isZero();
+        assertThat(userPointRepository.findByUserId(userId).orElseThrow().getPoint()).isEqualTo(initialPoint);
+    }
+
+    @Test
+    @DisplayName("LEDGER 모드에서 충전과 사용을 동시에 시도한 뒤 스냅샷에 반영하면, 잔액은 반영 전후가 같고 모든 거래가 반영된다")
+    void concurrentChargeAndUse_thenCompact_shouldKeepBalance() throws InterruptedException {
+        // given
+        Long userId = 2L;
+        int initialPoint = 50000;
+        int chargeAmount = 2000;
+        int useAmount = 1000;
+        int threadCount = 40;
+
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(initialPoint);
+        userPointRepository.save(userPoint);
+
+        AtomicInteger index = new AtomicInteger(0);
+
+        // when - 절반은 충전, 절반은 사용
+        executeConcurrently(threadCount, () -> {
+            if (index.getAndIncrement() % 2 == 0) {
+                userPointService.charge(userId, chargeAmount);
+            } else {
+                userPointService.use(userId, useAmount);
+            }
+        });
+
+        long expectedPoint = initialPoint + (long) chargeAmount * threadCount / 2 - (long) useAmount * threadCount / 2;
+        long balanceBeforeCompaction = userPointService.getBalance(userId);
+        int compacted = pointLedgerCompactionService.compact();
+
+        // then
+        assertThat(balanceBeforeCompaction).isEqualTo(expectedPoint);
+        assertThat(compacted).isEqualTo(threadCount);
+        assertThat(userPointRepository.findByUserId(userId).orElseThrow().getPoint()).isEqualTo((int) expectedPoint);
+        assertThat(userPointService.getBalance(userId)).isEqualTo(expectedPoint);
+        assertThat(pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(userId))
+                .hasSize(threadCount)
+                .allMatch(PointTransaction::getApplied);
+        assertThat(pointLedgerCompactionService.compact()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 스냅샷 반영을 실행해도 잠긴 거래를 건너뛰어 실패 없이 모든 거래를 한 번씩 반영한다")
+    void concurrentCompaction_shouldApplyEachTransactionOnce() throws InterruptedException {
+        // given
+        Long userId = 3L;
+        int initialPoint = 10000;
+        int chargeAmount = 100;
+        int transactionCount = 30;
+
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(initialPoint);
+        userPointRepository.save(userPoint);
+        for (int i = 0; i < transactionCount; i++) {
+            userPointService.charge(userId, chargeAmount);
+        }
+
+        AtomicInteger compactedCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        executeConcurrently(4, () -> {
+            try {
+                int compacted;
+                while ((compacted = pointLedgerCompactionService.compact()) > 0) {
+                    compactedCount.addAndGet(compacted);
+                }
+            } catch (Exception e) {
+                failCount.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(failCount.get()).isZero();
+        assertThat(compactedCount.get()).isEqualTo(transactionCount);
+        assertThat(userPointRepository.findByUserId(userId).orElseThrow().getPoint())
+                .isEqualTo(initialPoint + chargeAmount * transactionCount);
+        assertThat(pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(userId))
+                .allMatch(PointTransaction::getApplied);
+    }
+
+    @Test
+    @DisplayName("스냅샷 행이 없는 사용자의 거래가 있으면 반영을 롤백하고 거래를 미반영 상태로 남긴다")
+    void compact_shouldFailLoudly_whenSnapshotRowIsMissing() {
+        // given - user_points 행 없이 거래만 존재
+        Long userId = 4L;
+        userPointJdbcRepository.insertTransaction(userId, PointTransactionType.CHARGE, 1000, false);
+
+        // when & then
+        assertThatThrownBy(() -> pointLedgerCompactionService.compact())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(userId))
+                .hasSize(1)
+                .noneMatch(PointTransaction::getApplied);
+    }
+
+    private void executeConcurrently(int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        barrier.await();
+                        task.run();
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            boolean completed = latch.await(60, TimeUnit.SECONDS);
+            assertThat(completed).withFailMessage("테스트 타임아웃: 60초 내에 완료되지 않음").isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.side.hhplusecommerce.payment.concurrency;
+
+import com.side.hhplusecommerce.ContainerTest;
+import com.side.hhplusecommerce.common.lock.LockKeyType;
+import com.side.hhplusecommerce.payment.service.UserPointService;
+import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.repository.PointTransactionRepository;
+import com.side.hhplusecommerce.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "point.balance.mode=DISTRIBUTED_LOCK")
+class UserPointLockConcurrencyTest extends ContainerTest {
+
+    @Autowired
+    private UserPointService userPointService;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("DISTRIBUTED_LOCK 모드 - 같은 사용자의 대기자에게 Redis 반납 없이 락을 넘기고, 모두 끝나면 Redis 락이 해제된다")
+    void coalescedLock_handsOffLocally_andReleasesRedisLock() throws InterruptedException {
+        // given
+        Long userId = 1L;
+        int threadCount = 50;
+        int useAmount = 100;
+
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(threadCount * useAmount);
+        userPointRepository.save(userPoint);
+        double handoffsBefore = handoffCount();
+
+        // when
+        executeConcurrently(threadCount, () -> userPointService.use(userId, useAmount));
+
+        // then
+        assertThat(userPointRepository.findByUserId(userId).orElseThrow().getPoint()).isZero();
+        assertThat(pointTransactionRepository.findByUserIdOrderByPointTransactionIdAsc(userId)).hasSize(threadCount);
+        assertThat(handoffCount()).isGreaterThan(handoffsBefore);
+        assertThat(redissonClient.getLock(LockKeyType.USER_POINT.getPrefix() + ":" + userId).isLocked()).isFalse();
+    }
+
+    private double handoffCount() {
+        Counter counter = meterRegistry.find("lock.handoffs")
+                .tag("key_prefix", LockKeyType.USER_POINT.getPrefix())
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private void executeConcurrently(int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        barrier.await();
+                        task.run();
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            boolean completed = latch.await(60, TimeUnit.SECONDS);
+            assertThat(completed).withFailMessage("테스트 타임아웃: 60초 내에 완료되지 않음").isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
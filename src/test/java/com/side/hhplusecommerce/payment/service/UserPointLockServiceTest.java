@@ -10,6 +10,7 @@ import com.side.hhplusecommerce.common.exception.ErrorCode;
 import com.side.hhplusecommerce.point.domain.UserPoint;
 import com.side.hhplusecommerce.point.exception.InsufficientPointException;
 import com.side.hhplusecommerce.point.exception.InvalidPointAmountException;
+import com.side.hhplusecommerce.point.repository.PointTransactionRepository;
 import com.side.hhplusecommerce.point.repository.UserPointRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -22,13 +23,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
-class UserPointServiceTest {
+class UserPointLockServiceTest {
 
     @Mock
     private UserPointRepository userPointRepository;
 
+    @Mock
+    private PointTransactionRepository pointTransactionRepository;
+
     @InjectMocks
-    private UserPointService userPointService;
+    private UserPointLockService userPointService;
 
     @Test
     @DisplayName("사용자 포인트를 차감한다")
@@ -0,0 +1,132 @@
+package com.side.hhplusecommerce.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.side.hhplusecommerce.common.exception.CustomException;
+import com.side.hhplusecommerce.common.exception.ErrorCode;
+import com.side.hhplusecommerce.point.domain.PointTransactionType;
+import com.side.hhplusecommerce.point.domain.UserPoint;
+import com.side.hhplusecommerce.point.exception.InsufficientPointException;
+import com.side.hhplusecommerce.point.exception.InvalidPointAmountException;
+import com.side.hhplusecommerce.point.repository.UserPointJdbcRepository;
+import com.side.hhplusecommerce.point.repository.UserPointRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserPointTransactionServiceTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private UserPointJdbcRepository userPointJdbcRepository;
+
+    @InjectMocks
+    private UserPointTransactionService userPointTransactionService;
+
+    @Test
+    @DisplayName("조건부 UPDATE로 포인트를 차감하고 거래 원장을 추가한다 (포인트 조회 없음)")
+    void usePointAtomically_success() {
+        // given
+        Long userId = 1L;
+        Integer amount = 10000;
+        when(userPointJdbcRepository.decreasePointIfEnough(userId, amount)).thenReturn(1);
+
+        // when
+        userPointTransactionService.usePointAtomically(userId, amount);
+
+        // then
+        verify(userPointJdbcRepository).insertTransaction(userId, PointTransactionType.USE, amount, true);
+        verify(userPointRepository, never()).findByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 실패하고 잔액이 부족하면 예외를 발생시키고 거래 원장을 추가하지 않는다")
+    void usePointAtomically_fail_insufficient_point() {
+        // given
+        Long userId = 1L;
+        Integer amount = 10000;
+        UserPoint userPoint = UserPoint.initialize(userId);
+        userPoint.charge(5000);
+
+        when(userPointJdbcRepository.decreasePointIfEnough(userId, amount)).thenReturn(0);
+        when(userPointRepository.findByUserId(userId)).thenReturn(Optional.of(userPoint));
+
+        // when & then
+        assertThatThrownBy(() -> userPointTransactionService.usePointAtomically(userId, amount))
+                .isInstanceOf(InsufficientPointException.class);
+
+        verify(userPointJdbcRepository, never()).insertTransaction(anyLong(), any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 실패하고 사용자 포인트가 없으면 예외를 발생시킨다")
+    void usePointAtomically_fail_user_point_not_found() {
+        // given
+        Long userId = 1L;
+        Integer amount = 10000;
+
+        when(userPointJdbcRepository.decreasePointIfEnough(userId, amount)).thenReturn(0);
+        when(userPointRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userPointTransactionService.usePointAtomically(userId, amount))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.USER_POINT_NOT_FOUND.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, -100, -1000})
+    @DisplayName("차감 금액이 0 이하면 UPDATE 없이 예외를 발생시킨다")
+    void usePointAtomically_fail_invalid_amount(Integer amount) {
+        assertThatThrownBy(() -> userPointTransactionService.usePointAtomically(1L, amount))
+                .isInstanceOf(InvalidPointAmountException.class);
+
+        verifyNoInteractions(userPointJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 포인트를 충전하고 거래 원장을 추가한다")
+    void chargePointAtomically_success() {
+        // given
+        Long userId = 1L;
+        Integer amount = 10000;
+        when(userPointJdbcRepository.increasePoint(userId, amount)).thenReturn(1);
+
+        // when
+        userPointTransactionService.chargePointAtomically(userId, amount);
+
+        // then
+        verify(userPointJdbcRepository).insertTransaction(userId, PointTransactionType.CHARGE, amount, true);
+    }
+
+    @Test
+    @DisplayName("충전 시 사용자 포인트가 없으면 예외를 발생시킨다")
+    void chargePointAtomically_fail_user_point_not_found() {
+        // given
+        Long userId = 1L;
+        Integer amount = 10000;
+        when(userPointJdbcRepository.increasePoint(userId, amount)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> userPointTransactionService.chargePointAtomically(userId, amount))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.USER_POINT_NOT_FOUND.getMessage());
+    }
+}
@@ -1,13 +1,22 @@
 package com.side.hhplusecommerce.support;
 
+import com.side.hhplusecommerce.cart.infrastructure.redis.CartSnapshotStore;
+import com.side.hhplusecommerce.coupon.infrastructure.cache.CouponMetadataCache;
+import com.side.hhplusecommerce.item.infrastructure.cache.ItemNearCache;
+import com.side.hhplusecommerce.item.infrastructure.cache.PopularItemsCache;
+import com.side.hhplusecommerce.item.service.ItemCatalogService;
+import com.side.hhplusecommerce.point.infrastructure.redis.PointBalanceCache;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class DatabaseCleaner {
@@ -17,6 +26,21 @@ public class DatabaseCleaner {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private ItemNearCache itemNearCache;
+
+    @Autowired
+    private PopularItemsCache popularItemsCache;
+
+    @Autowired
+    private ItemCatalogService itemCatalogService;
+
+    @Autowired
+    private CouponMetadataCache couponMetadataCache;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @SuppressWarnings("unchecked")
     @PostConstruct
     private void findDatabaseTableNames() {
@@ -41,5 +65,20 @@ public class DatabaseCleaner {
     public void clear() {
         entityManager.clear();
         truncate();
+        // TRUNCATE로 ID가 재사용되므로 상품 캐시도 함께 비움
+        itemNearCache.clear();
+        popularItemsCache.clear();
+        itemCatalogService.clearFirstPageCache();
+        couponMetadataCache.clear();
+        // 장바구니 스냅샷도 userId/cartItemId 재사용으로 이전 테스트 데이터가 보일 수 있어 삭제
+        Set<String> cartSnapshotKeys = stringRedisTemplate.keys(CartSnapshotStore.KEY_PREFIX + "*");
+        if (cartSnapshotKeys != null && !cartSnapshotKeys.isEmpty()) {
+            stringRedisTemplate.delete(cartSnapshotKeys);
+        }
+        // 포인트 잔액 캐시도 userId 재사용으로 이전 테스트 잔액이 남지 않도록 삭제
+        Set<String> pointBalanceKeys = stringRedisTemplate.keys(PointBalanceCache.KEY_PREFIX + "*");
+        if (pointBalanceKeys != null && !pointBalanceKeys.isEmpty()) {
+            stringRedisTemplate.delete(pointBalanceKeys);
+        }
     }
 }
\ No newline at end of file